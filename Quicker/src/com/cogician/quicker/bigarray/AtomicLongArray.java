@@ -0,0 +1,574 @@
+package com.cogician.quicker.bigarray;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+import com.cogician.quicker.Checker;
+
+/**
+ * <p>
+ * Atomic long array is type of {@linkplain BigArray} of a long length, of which elements may be updated atomically by
+ * concurrent threads, like {@linkplain java.util.concurrent.atomic.AtomicLongArray} but accessed by index of
+ * <b>long</b> type. For example:
+ *
+ * <pre>
+ * AtomicLongArray counters = new AtomicLongArray(1024 * 1024 * 1024);
+ * counters.incrementAndGet(0L);
+ * counters.get(0L);
+ * ...
+ * </pre>
+ * </p>
+ * <p>
+ * Elements are stored in blocks of which size is power of 2. A lazy atomic array allocates a block when one of its
+ * elements is updated at first time, the block is published by compare-and-set so that concurrent threads always
+ * update a same block and no update will be lost. Blocks are published independently, there is no lock shared by the
+ * whole array.
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T13:20:42+08:00
+ * @since 0.0.0, 2026-10-16T13:20:42+08:00
+ * @see BigArray
+ * @see java.util.concurrent.atomic.AtomicLongArray
+ */
+public class AtomicLongArray extends BigArray {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long length;
+
+    private final int blockShift;
+
+    private final long initial;
+
+    private final AtomicReferenceArray<Block> blocks;
+
+    /**
+     * <p>
+     * Constructs with specified length.
+     * </p>
+     *
+     * @param length
+     *            specified length
+     * @throws IllegalArgumentException
+     *             if specified length < 0
+     * @since 0.0.0
+     */
+    public AtomicLongArray(long length) throws IllegalArgumentException {
+        this(length, 0L);
+    }
+
+    /**
+     * <p>
+     * Constructs with specified length and initial value.
+     * </p>
+     *
+     * @param length
+     *            specified length
+     * @param initial
+     *            initial value
+     * @throws IllegalArgumentException
+     *             if specified length < 0
+     * @since 0.0.0
+     */
+    public AtomicLongArray(long length, long initial) throws IllegalArgumentException {
+        this(length, BigArray.BLOCK_SIZE, initial, true);
+    }
+
+    /**
+     * <p>
+     * Constructs with specified length, specified block size, initial value and whether this instance is lazy.
+     * Specified block size is rounded down to power of 2.
+     * </p>
+     *
+     * @param length
+     *            specified length
+     * @param blockSize
+     *            specified block size
+     * @param initial
+     *            initial value
+     * @param lazy
+     *            whether this instance is lazy
+     * @throws IllegalArgumentException
+     *             if specified length < 0 or specified block size <= 0
+     * @since 0.0.0
+     */
+    public AtomicLongArray(long length, int blockSize, long initial, boolean lazy) throws IllegalArgumentException {
+        Checker.checkLength(length);
+        Checker.checkPositive(blockSize);
+        this.length = length;
+        this.blockShift = BigArrayUtil.blockShift(length, blockSize);
+        this.initial = initial;
+        this.blocks = new AtomicReferenceArray<>((int)((length + (1L << blockShift) - 1) >>> blockShift));
+        if (!lazy) {
+            for (int b = 0; b < blocks.length(); b++) {
+                blocks.set(b, newBlock(b));
+            }
+        }
+    }
+
+    private AtomicLongArray(AtomicLongArray copyFrom) {
+        this.length = copyFrom.length;
+        this.blockShift = copyFrom.blockShift;
+        this.initial = copyFrom.initial;
+        this.blocks = new AtomicReferenceArray<>(copyFrom.blocks.length());
+        for (int b = 0; b < blocks.length(); b++) {
+            Block block = copyFrom.blocks.get(b);
+            if (null != block) {
+                Block copy = new Block(block.length());
+                for (int i = 0; i < block.length(); i++) {
+                    copy.set(i, block.get(i));
+                }
+                blocks.set(b, copy);
+            }
+        }
+    }
+
+    private Block newBlock(int b) {
+        Block block = new Block((int)Math.min(1L << blockShift, length - ((long)b << blockShift)));
+        if (0 != initial) {
+            for (int i = 0; i < block.length(); i++) {
+                block.set(i, initial);
+            }
+        }
+        return block;
+    }
+
+    private Block block(long index) {
+        Checker.checkIndex(index, length);
+        return blocks.get((int)(index >>> blockShift));
+    }
+
+    private Block allocate(long index) {
+        Checker.checkIndex(index, length);
+        int b = (int)(index >>> blockShift);
+        Block block = blocks.get(b);
+        if (null == block) {
+            block = newBlock(b);
+            if (!blocks.compareAndSet(b, null, block)) {
+                // Another thread has published this block.
+                block = blocks.get(b);
+            }
+        }
+        return block;
+    }
+
+    private int offset(long index) {
+        return (int)index & ((1 << blockShift) - 1);
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    /**
+     * <p>
+     * Returns current value at specified index.
+     * </p>
+     *
+     * @param index
+     *            specified index
+     * @return current value at specified index
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public long get(long index) throws IndexOutOfBoundsException {
+        Block block = block(index);
+        return null == block ? initial : block.get(offset(index));
+    }
+
+    /**
+     * <p>
+     * Sets value at specified index.
+     * </p>
+     *
+     * @param index
+     *            specified index
+     * @param value
+     *            new value
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public void set(long index, long value) throws IndexOutOfBoundsException {
+        Block block = block(index);
+        if (null == block) {
+            if (value == initial) {
+                return;
+            }
+            block = allocate(index);
+        }
+        block.set(offset(index), value);
+    }
+
+    /**
+     * <p>
+     * Eventually sets value at specified index, see {@linkplain
+     * java.util.concurrent.atomic.AtomicLongArray#lazySet(int, long)}.
+     * </p>
+     *
+     * @param index
+     *            specified index
+     * @param value
+     *            new value
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public void lazySet(long index, long value) throws IndexOutOfBoundsException {
+        Block block = block(index);
+        if (null == block) {
+            if (value == initial) {
+                return;
+            }
+            block = allocate(index);
+        }
+        block.lazySet(offset(index), value);
+    }
+
+    /**
+     * <p>
+     * Atomically sets value at specified index and returns old value.
+     * </p>
+     *
+     * @param index
+     *            specified index
+     * @param value
+     *            new value
+     * @return old value
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public long getAndSet(long index, long value) throws IndexOutOfBoundsException {
+        return allocate(index).getAndSet(offset(index), value);
+    }
+
+    /**
+     * <p>
+     * Atomically sets value at specified index to given updated value if current value equals to expected value.
+     * </p>
+     *
+     * @param index
+     *            specified index
+     * @param expect
+     *            expected value
+     * @param update
+     *            updated value
+     * @return true if successful, false indicates that current value was not equal to expected value
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public boolean compareAndSet(long index, long expect, long update) throws IndexOutOfBoundsException {
+        Block block = block(index);
+        if (null == block) {
+            if (expect != initial) {
+                return false;
+            }
+            if (update == initial) {
+                return true;
+            }
+            block = allocate(index);
+        }
+        return block.compareAndSet(offset(index), expect, update);
+    }
+
+    /**
+     * <p>
+     * Atomically increments value at specified index by one and returns old value.
+     * </p>
+     *
+     * @param index
+     *            specified index
+     * @return old value
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public long getAndIncrement(long index) throws IndexOutOfBoundsException {
+        return allocate(index).getAndIncrement(offset(index));
+    }
+
+    /**
+     * <p>
+     * Atomically decrements value at specified index by one and returns old value.
+     * </p>
+     *
+     * @param index
+     *            specified index
+     * @return old value
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public long getAndDecrement(long index) throws IndexOutOfBoundsException {
+        return allocate(index).getAndDecrement(offset(index));
+    }
+
+    /**
+     * <p>
+     * Atomically adds given delta to value at specified index and returns old value.
+     * </p>
+     *
+     * @param index
+     *            specified index
+     * @param delta
+     *            given delta
+     * @return old value
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public long getAndAdd(long index, long delta) throws IndexOutOfBoundsException {
+        return allocate(index).getAndAdd(offset(index), delta);
+    }
+
+    /**
+     * <p>
+     * Atomically increments value at specified index by one and returns updated value.
+     * </p>
+     *
+     * @param index
+     *            specified index
+     * @return updated value
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public long incrementAndGet(long index) throws IndexOutOfBoundsException {
+        return allocate(index).incrementAndGet(offset(index));
+    }
+
+    /**
+     * <p>
+     * Atomically decrements value at specified index by one and returns updated value.
+     * </p>
+     *
+     * @param index
+     *            specified index
+     * @return updated value
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public long decrementAndGet(long index) throws IndexOutOfBoundsException {
+        return allocate(index).decrementAndGet(offset(index));
+    }
+
+    /**
+     * <p>
+     * Atomically adds given delta to value at specified index and returns updated value.
+     * </p>
+     *
+     * @param index
+     *            specified index
+     * @param delta
+     *            given delta
+     * @return updated value
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public long addAndGet(long index, long delta) throws IndexOutOfBoundsException {
+        return allocate(index).addAndGet(offset(index), delta);
+    }
+
+    /**
+     * <p>
+     * Atomically updates value at specified index with results of given function and returns old value. The function
+     * may be re-applied when attempted update fails due to contention among threads, so it should be side-effect-free.
+     * </p>
+     *
+     * @param index
+     *            specified index
+     * @param function
+     *            given function, not null
+     * @return old value
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public long getAndUpdate(long index, LongUnaryOperator function) throws IndexOutOfBoundsException {
+        return allocate(index).getAndUpdate(offset(index), function);
+    }
+
+    /**
+     * <p>
+     * Atomically updates value at specified index with results of given function and returns updated value. The
+     * function may be re-applied when attempted update fails due to contention among threads, so it should be
+     * side-effect-free.
+     * </p>
+     *
+     * @param index
+     *            specified index
+     * @param function
+     *            given function, not null
+     * @return updated value
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public long updateAndGet(long index, LongUnaryOperator function) throws IndexOutOfBoundsException {
+        return allocate(index).updateAndGet(offset(index), function);
+    }
+
+    /**
+     * <p>
+     * Atomically updates value at specified index with results of applying given function to current value and given
+     * value, and returns old value. The function may be re-applied when attempted update fails due to contention among
+     * threads, so it should be side-effect-free.
+     * </p>
+     *
+     * @param index
+     *            specified index
+     * @param x
+     *            given value
+     * @param function
+     *            given function of two arguments, the first is current value, not null
+     * @return old value
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public long getAndAccumulate(long index, long x, LongBinaryOperator function) throws IndexOutOfBoundsException {
+        return allocate(index).getAndAccumulate(offset(index), x, function);
+    }
+
+    /**
+     * <p>
+     * Atomically updates value at specified index with results of applying given function to current value and given
+     * value, and returns updated value. The function may be re-applied when attempted update fails due to contention
+     * among threads, so it should be side-effect-free.
+     * </p>
+     *
+     * @param index
+     *            specified index
+     * @param x
+     *            given value
+     * @param function
+     *            given function of two arguments, the first is current value, not null
+     * @return updated value
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public long accumulateAndGet(long index, long x, LongBinaryOperator function) throws IndexOutOfBoundsException {
+        return allocate(index).accumulateAndGet(offset(index), x, function);
+    }
+
+    /**
+     * <p>
+     * Copies current values of this array into a new {@linkplain LongArray}. Elements are read one by one, so the
+     * result is not an atomic snapshot if this array is updated concurrently.
+     * </p>
+     *
+     * @return a new long array of current values
+     * @since 0.0.0
+     */
+    public LongArray toLongArray() {
+        LongArray array = new LongArray(length, BigArray.BLOCK_SIZE, initial, true);
+        for (int b = 0; b < blocks.length(); b++) {
+            Block block = blocks.get(b);
+            if (null != block) {
+                long start = (long)b << blockShift;
+                for (int i = 0; i < block.length(); i++) {
+                    array.set(start + i, block.get(i));
+                }
+            }
+        }
+        return array;
+    }
+
+    /**
+     * <p>
+     * Returns bytes of memory allocated for elements of this array, not including headers of objects. For a lazy
+     * array, only allocated blocks are counted.
+     * </p>
+     *
+     * @return bytes of memory allocated for elements of this array
+     * @see #logicalBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long allocatedBytes() {
+        long bytes = 0;
+        for (int b = 0; b < blocks.length(); b++) {
+            Block block = blocks.get(b);
+            if (null != block) {
+                bytes += block.length();
+            }
+        }
+        return bytes * Long.BYTES;
+    }
+
+    /**
+     * <p>
+     * Returns bytes of all elements of this array, that is, length of this array multiplied by bytes of each element.
+     * </p>
+     *
+     * @return bytes of all elements of this array
+     * @see #allocatedBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long logicalBytes() {
+        return length * Long.BYTES;
+    }
+
+    /**
+     * <p>
+     * Returns number of blocks allocated for elements of this array. For a lazy array, blocks which have never been
+     * written are not allocated.
+     * </p>
+     *
+     * @return number of blocks allocated for elements of this array
+     * @see #allocatedBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long allocatedBlocks() {
+        long count = 0;
+        for (int b = 0; b < blocks.length(); b++) {
+            if (null != blocks.get(b)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * <p>
+     * Clones this array, all settings and options inherited. Elements are read one by one, so the clone is not an
+     * atomic snapshot if this array is updated concurrently.
+     * </p>
+     *
+     * @return duplication of this array
+     * @since 0.0.0
+     */
+    @Override
+    public AtomicLongArray clone() {
+        return new AtomicLongArray(this);
+    }
+
+    /**
+     * <p>
+     * Block of atomic array.
+     * </p>
+     *
+     * @author Fred Suvn
+     * @version 0.0.0, 2026-10-16T13:20:42+08:00
+     * @since 0.0.0, 2026-10-16T13:20:42+08:00
+     */
+    private static class Block extends java.util.concurrent.atomic.AtomicLongArray {
+
+        private static final long serialVersionUID = 1L;
+
+        private Block(int length) {
+            super(length);
+        }
+    }
+}
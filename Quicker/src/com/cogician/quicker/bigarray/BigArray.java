@@ -19,18 +19,55 @@ import com.cogician.quicker.QuickerProperties;
  * <p>
  * The theoretical length of big array can reach to the {@linkplain Long#MAX_VALUE}.
  * </p>
- * <h2>Backed by multidimensional array</h2>
+ * <h2>Backed by blocks</h2>
  * <p>
- * Big array is backed by array or multidimensional array. A big array backed by byte[4][5][6] is equivalent to an
- * traditional array byte[120]. The size of each dimension called block size is limited to {@linkplain #BLOCK_SIZE}, and
- * it also can be specified. Actual backed array will be resized according to the length. Note that the max dimensions
- * value of an array is 255 so enough block size specifying is necessary.
+ * Big array stores its elements in blocks, of which size is {@linkplain #BLOCK_SIZE} by default and also can be
+ * specified. The layout is chosen by length:
+ * <ul>
+ * <li>If the length is not greater than block size, elements are backed by a traditional array;</li>
+ * <li>If the length is not greater than square of block size, elements are backed by a two-dimensional array, for
+ * example, a big array backed by byte[4][5] is equivalent to a traditional array byte[20];</li>
+ * <li>Otherwise elements are backed by a page table of two levels: blocks are referenced by pages, and pages by a
+ * root array. In this layout block size is rounded down to power of 2, and page size is same as block size or enlarged
+ * to a power of 2 which keeps number of pages in an array, so an index is mapped to its page, block and offset by
+ * shifting and masking only.</li>
+ * </ul>
  * </p>
  * <h2>Lazy allocating</h2>
  * <p>
- * An one-dimensional backed big array allocates all space when initializes, but multidimensional only allocates its
- * first dimension by default -- it is lazy. It allocates required space when needed. It can also allocate all space
- * like an one-dimensional if specified non-lazy.
+ * A big array backed by a traditional array allocates all space when initializes, but the others only allocate their
+ * first level by default -- they are lazy. Blocks, and pages of a page table, are allocated when they are written
+ * first. They can also allocate all space when initialize if specified non-lazy.
+ * </p>
+ * <h2>Sparse</h2>
+ * <p>
+ * Big arrays of numeric types can be created in sparse mode by their {@code sparse} factory methods. A sparse array
+ * counts elements which are not equal to its default value in each block, and frees a block as soon as all of its
+ * elements return to the default value, so that its memory tracks actual density. Their {@code allocatedBytes} and
+ * {@code logicalBytes} report memory usage, and {@code forEachNonDefault} only traverses populated blocks.
+ * </p>
+ * <h2>Off-heap</h2>
+ * <p>
+ * Big arrays of numeric types can store their elements off-heap in direct buffers, created by their {@code offHeap}
+ * factory methods. Garbage collector neither scans nor copies off-heap elements so that huge arrays don't lengthen its
+ * pause time. Off-heap memory should be released by {@linkplain #close()} when the array is no longer used.
+ * </p>
+ * <p>
+ * Their {@code map} factory methods create off-heap arrays of which blocks are mapped from a file, so that an array
+ * larger than physical memory can be randomly accessed and persisted without loading. Changes of them are written to
+ * storage device by {@linkplain #force()}.
+ * </p>
+ * <h2>Binary views</h2>
+ * <p>
+ * Big arrays of numeric types can be viewed as a {@linkplain com.cogician.quicker.binary.Binary} of specified byte
+ * order by {@code asBinary}, and a byte buffer or a binary backed by byte array or mapped file can be viewed as a big
+ * array by {@code wrap} or {@code Binary.asXxxArray}. Neither of them copies elements.
+ * </p>
+ * <h2>Streaming</h2>
+ * <p>
+ * Big arrays of numeric types can be written into an {@linkplain com.cogician.quicker.binary.Outputer} by
+ * {@code writeTo} and read back by {@code readFrom}. Elements are written block by block in bulk, with a header of
+ * type, byte order, length, block size and filler, blocks which are not allocated by a lazy array are skipped.
  * </p>
  * <h2>Access by index of int type</h2>
  * <p>
@@ -47,17 +84,61 @@ import com.cogician.quicker.QuickerProperties;
  * <p>
  * Big array is cloneable, its clone-behavior is same as traditional java array.
  * </p>
+ * <h2>Parallel</h2>
+ * <p>
+ * Big arrays can be filled, copied and cloned in parallel by their {@code parallelFill}, {@code parallelCopy} and
+ * {@code parallelClone} methods, either in {@linkplain java.util.concurrent.ForkJoinPool#commonPool()} or in a
+ * specified executor. Elements are divided into tasks of whole blocks, see {@linkplain #PARALLEL_TASK_SIZE}, so
+ * concurrent tasks never touch a same block.
+ * </p>
+ * <h2>Bulk arithmetic</h2>
+ * <p>
+ * {@linkplain IntArray}, {@linkplain FloatArray} and {@linkplain DoubleArray} provide reductions {@code sum},
+ * {@code min}, {@code max} and {@code dot}, and element-wise {@code axpy}, {@code map} and {@code zipWith}. They run
+ * block by block in tight loops over backing arrays instead of accessing by index, and each of them has a parallel
+ * version as above.
+ * </p>
+ * <h2>Records</h2>
+ * <p>
+ * {@linkplain RecordArray} holds records of byte, int, long and double fields in one big array per field, so that
+ * records need no object. It is built by {@linkplain RecordArrayBuilder} and accessed through a reusable cursor.
+ * </p>
+ * <h2>Hash tables</h2>
+ * <p>
+ * {@linkplain LongIntMap}, {@linkplain LongLongMap}, {@linkplain IntObjectMap} and {@linkplain LongSet} are
+ * open-addressing hash tables whose slots are big arrays, see {@linkplain BigHashTable}.
+ * </p>
+ * <h2>Packed</h2>
+ * <p>
+ * {@linkplain PackedIntArray} and {@linkplain PackedLongArray} are read-only copies of int and long arrays, packed by
+ * frame-of-reference and bit-packing, optionally with delta encoding, for columns of small or increasing values.
+ * </p>
+ * <h2>Memory accounting</h2>
+ * <p>
+ * {@linkplain #allocatedBytes()} and {@linkplain #allocatedBlocks()} return memory actually allocated by a big array,
+ * while {@linkplain #logicalBytes()} returns memory it would take if fully allocated. Big arrays registered into a
+ * {@linkplain BigArrayRegistry} are summed by type while they are alive, and the registry can be exposed as an MXBean.
+ * </p>
+ * <h2>Growable</h2>
+ * <p>
+ * Big array has a fixed length. Use {@linkplain BigList} such as {@linkplain IntBigList} to append elements, it
+ * allocates new blocks without copying existing ones, and can be viewed as a big array without copying.
+ * </p>
  * <h2>Thread-safe</h2>
  * <p>
  * Read operation for big array is thread-safe but write operation is not, that is, using read-write lock can ensure
  * thread-safe for big array.
  * </p>
+ * <p>
+ * {@linkplain AtomicIntArray} and {@linkplain AtomicLongArray} are big arrays of which elements can be updated
+ * atomically by concurrent threads without lock, such as shared counters and histograms.
+ * </p>
  *
  * @author Fred Suvn
  * @version 0.0.0, 2016-03-17T10:29:47+08:00
  * @since 0.0.0, 2016-03-17T10:29:47+08:00
  */
-public abstract class BigArray implements Cloneable, Serializable {
+public abstract class BigArray implements Cloneable, Serializable, AutoCloseable {
 
     private static final long serialVersionUID = 1L;
 
@@ -80,6 +161,25 @@ public abstract class BigArray implements Cloneable, Serializable {
      */
     public static final int UNSPLITERATED_SIZE = QuickerProperties.get("bigArray.unspliterated.size").asInt();
 
+    /**
+     * <p>
+     * Default block size of sparse big array.
+     * </p>
+     * 
+     * @since 0.0.0
+     */
+    public static final int SPARSE_BLOCK_SIZE = QuickerProperties.get("bigArray.sparse.block.size").asInt();
+
+    /**
+     * <p>
+     * Number of elements processed by each task of parallel operations such as {@code parallelFill}, rounded to whole
+     * blocks. An array of which length is not greater than this size is processed in current thread.
+     * </p>
+     * 
+     * @since 0.0.0
+     */
+    public static final int PARALLEL_TASK_SIZE = QuickerProperties.get("bigArray.parallel.task.size").asInt();
+
     /**
      * <p>
      * Returns length of this array.
@@ -90,6 +190,39 @@ public abstract class BigArray implements Cloneable, Serializable {
      */
     public abstract long length();
 
+    /**
+     * <p>
+     * Returns bytes of memory actually allocated for elements of this array, not including headers of objects. Blocks
+     * of a lazy or sparse array which have never been written are not counted, so it may be far less than
+     * {@linkplain #logicalBytes()}.
+     * </p>
+     * 
+     * @return bytes of memory actually allocated for elements of this array
+     * @since 0.0.0
+     */
+    public abstract long allocatedBytes();
+
+    /**
+     * <p>
+     * Returns number of blocks actually allocated for elements of this array.
+     * </p>
+     * 
+     * @return number of blocks actually allocated for elements of this array
+     * @since 0.0.0
+     */
+    public abstract long allocatedBlocks();
+
+    /**
+     * <p>
+     * Returns bytes of all elements of this array as if they were all allocated, that is, length of this array
+     * multiplied by bytes of each element.
+     * </p>
+     * 
+     * @return bytes of all elements of this array as if they were all allocated
+     * @since 0.0.0
+     */
+    public abstract long logicalBytes();
+
     /**
      * <p>
      * Deep copy this array, all settings and options inherited.
@@ -100,4 +233,41 @@ public abstract class BigArray implements Cloneable, Serializable {
      */
     @Override
     public abstract BigArray clone();
-}
+
+    /**
+     * <p>
+     * Returns whether elements of this array are stored off-heap.
+     * </p>
+     * 
+     * @return whether elements of this array are stored off-heap
+     * @since 0.0.0
+     */
+    public boolean isOffHeap() {
+        return false;
+    }
+
+    /**
+     * <p>
+     * Forces any changes of this array to be written to the storage device if it is mapped from a file. It does nothing
+     * if this array is not mapped from a file.
+     * </p>
+     * 
+     * @throws IllegalStateException
+     *             if this array has been closed
+     * @since 0.0.0
+     */
+    public void force() throws IllegalStateException {
+    }
+
+    /**
+     * <p>
+     * Releases off-heap memory of this array, after that this array cannot be accessed any more. It does nothing if
+     * this array is on-heap.
+     * </p>
+     * 
+     * @since 0.0.0
+     */
+    @Override
+    public void close() {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.cogician.quicker.bigarray;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.function.ToLongFunction;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.cogician.quicker.Checker;
+import com.cogician.quicker.WrappedException;
+
+/**
+ * <p>
+ * Big array registry sums memory footprint of big arrays registered into it, by type. Big arrays are held by weak
+ * references, so that registering does not keep them alive and garbage collected arrays drop out by themselves. For
+ * example:
+ *
+ * <pre>
+ * BigArrayRegistry registry = BigArrayRegistry.getDefault();
+ * IntArray array = registry.register(new IntArray(length));
+ * registry.getAllocatedBytesByType();
+ * ...
+ * </pre>
+ * </p>
+ * <p>
+ * Registering is optional and explicit. Note that a big array built on other big arrays, such as
+ * {@linkplain RecordArray}, already counts memory of its inner arrays, which should not be registered again.
+ * </p>
+ * <p>
+ * Footprint is computed from live arrays when asked, it is not a snapshot if the arrays are written concurrently. A
+ * registry can be exposed to JMX by {@linkplain #registerMBean(String)}, for example under
+ * {@linkplain #OBJECT_NAME}.
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T18:52:47+08:00
+ * @since 0.0.0, 2026-10-16T18:52:47+08:00
+ * @see BigArray#allocatedBytes()
+ */
+public class BigArrayRegistry implements BigArrayRegistryMXBean {
+
+    /**
+     * <p>
+     * Default object name of MXBean of big array registry.
+     * </p>
+     *
+     * @since 0.0.0
+     */
+    public static final String OBJECT_NAME = "com.cogician.quicker.bigarray:type=BigArrayRegistry";
+
+    private static final BigArrayRegistry DEFAULT = new BigArrayRegistry();
+
+    private final Map<BigArray, Boolean> arrays = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * <p>
+     * Returns default global registry.
+     * </p>
+     *
+     * @return default global registry
+     * @since 0.0.0
+     */
+    public static BigArrayRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * <p>
+     * Registers specified big array and returns it.
+     * </p>
+     *
+     * @param array
+     *            specified big array
+     * @param <T>
+     *            type of big array
+     * @return specified big array
+     * @throws NullPointerException
+     *             if specified big array is null
+     * @since 0.0.0
+     */
+    public <T extends BigArray> T register(T array) throws NullPointerException {
+        Checker.checkNull(array);
+        arrays.put(array, Boolean.TRUE);
+        return array;
+    }
+
+    /**
+     * <p>
+     * Unregisters specified big array. It does nothing if specified big array was not registered.
+     * </p>
+     *
+     * @param array
+     *            specified big array
+     * @since 0.0.0
+     */
+    public void unregister(BigArray array) {
+        arrays.remove(array);
+    }
+
+    private List<BigArray> liveArrays() {
+        synchronized (arrays) {
+            return new ArrayList<>(arrays.keySet());
+        }
+    }
+
+    private Map<String, Long> sumByType(ToLongFunction<BigArray> bytes) {
+        Map<String, Long> sums = new TreeMap<>();
+        for (BigArray array : liveArrays()) {
+            sums.merge(array.getClass().getSimpleName(), bytes.applyAsLong(array), Long::sum);
+        }
+        return sums;
+    }
+
+    @Override
+    public int getArrayCount() {
+        return arrays.size();
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+        return liveArrays().stream().mapToLong(BigArray::allocatedBytes).sum();
+    }
+
+    @Override
+    public long getAllocatedBlocks() {
+        return liveArrays().stream().mapToLong(BigArray::allocatedBlocks).sum();
+    }
+
+    @Override
+    public long getLogicalBytes() {
+        return liveArrays().stream().mapToLong(BigArray::logicalBytes).sum();
+    }
+
+    @Override
+    public Map<String, Long> getAllocatedBytesByType() {
+        return sumByType(BigArray::allocatedBytes);
+    }
+
+    @Override
+    public Map<String, Long> getLogicalBytesByType() {
+        return sumByType(BigArray::logicalBytes);
+    }
+
+    /**
+     * <p>
+     * Registers this registry as an MXBean of specified object name into platform MBean server.
+     * </p>
+     *
+     * @param objectName
+     *            specified object name, such as {@linkplain #OBJECT_NAME}
+     * @throws NullPointerException
+     *             if specified object name is null
+     * @throws WrappedException
+     *             if failed to register, wrapping the cause
+     * @since 0.0.0
+     */
+    public void registerMBean(String objectName) throws NullPointerException, WrappedException {
+        Checker.checkNull(objectName);
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(objectName));
+        } catch (JMException e) {
+            throw new WrappedException(e);
+        }
+    }
+
+    /**
+     * <p>
+     * Unregisters MXBean of specified object name from platform MBean server.
+     * </p>
+     *
+     * @param objectName
+     *            specified object name, such as {@linkplain #OBJECT_NAME}
+     * @throws NullPointerException
+     *             if specified object name is null
+     * @throws WrappedException
+     *             if failed to unregister, wrapping the cause
+     * @since 0.0.0
+     */
+    public void unregisterMBean(String objectName) throws NullPointerException, WrappedException {
+        Checker.checkNull(objectName);
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(objectName));
+        } catch (JMException e) {
+            throw new WrappedException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.cogician.quicker.bigarray;
+
+import java.util.Map;
+
+/**
+ * <p>
+ * Management interface of {@linkplain BigArrayRegistry}, it reports memory footprint of live big arrays registered
+ * into the registry.
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T18:52:47+08:00
+ * @since 0.0.0, 2026-10-16T18:52:47+08:00
+ * @see BigArrayRegistry
+ */
+public interface BigArrayRegistryMXBean {
+
+    /**
+     * <p>
+     * Returns number of live big arrays registered.
+     * </p>
+     *
+     * @return number of live big arrays registered
+     * @since 0.0.0
+     */
+    int getArrayCount();
+
+    /**
+     * <p>
+     * Returns sum of {@linkplain BigArray#allocatedBytes()} of live big arrays registered.
+     * </p>
+     *
+     * @return sum of allocated bytes
+     * @since 0.0.0
+     */
+    long getAllocatedBytes();
+
+    /**
+     * <p>
+     * Returns sum of {@linkplain BigArray#allocatedBlocks()} of live big arrays registered.
+     * </p>
+     *
+     * @return sum of allocated blocks
+     * @since 0.0.0
+     */
+    long getAllocatedBlocks();
+
+    /**
+     * <p>
+     * Returns sum of {@linkplain BigArray#logicalBytes()} of live big arrays registered.
+     * </p>
+     *
+     * @return sum of logical bytes
+     * @since 0.0.0
+     */
+    long getLogicalBytes();
+
+    /**
+     * <p>
+     * Returns sums of {@linkplain BigArray#allocatedBytes()} of live big arrays registered, keyed by simple name of
+     * type of big arrays.
+     * </p>
+     *
+     * @return sums of allocated bytes by type
+     * @since 0.0.0
+     */
+    Map<String, Long> getAllocatedBytesByType();
+
+    /**
+     * <p>
+     * Returns sums of {@linkplain BigArray#logicalBytes()} of live big arrays registered, keyed by simple name of type
+     * of big arrays.
+     * </p>
+     *
+     * @return sums of logical bytes by type
+     * @since 0.0.0
+     */
+    Map<String, Long> getLogicalBytesByType();
+}
@@ -1,8 +1,31 @@
 package com.cogician.quicker.bigarray;
 
-import java.lang.reflect.Array;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BinaryOperator;
 
+import javax.annotation.Nullable;
+
+import com.cogician.quicker.Checker;
 import com.cogician.quicker.OutOfBoundsException;
+import com.cogician.quicker.ReadException;
+import com.cogician.quicker.binary.BytesUtil;
+import com.cogician.quicker.binary.Inputer;
 import com.cogician.quicker.util.MathQuicker;
 
 /**
@@ -16,6 +39,36 @@ import com.cogician.quicker.util.MathQuicker;
  */
 class BigArrayUtil {
 
+    /**
+     * <p>
+     * Size of temporary array used to copy elements between big arrays which are not backed by arrays.
+     * </p>
+     * 
+     * @since 0.0.0
+     */
+    static final int COPY_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * <p>
+     * Bytes of each element of object array, that is, 4 if references are compressed by virtual machine, or else 8.
+     * </p>
+     * 
+     * @since 0.0.0
+     */
+    static final int REFERENCE_BYTES = referenceBytes();
+
+    private static int referenceBytes() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Method arrayIndexScale = unsafeClass.getMethod("arrayIndexScale", Class.class);
+            return (Integer)arrayIndexScale.invoke(theUnsafe.get(null), Object[].class);
+        } catch (Exception e) {
+            return Long.BYTES;
+        }
+    }
+
     /**
      * <p>
      * Caculates needed dimensions of multidimensional array to store elements of specified length.
@@ -36,146 +89,619 @@ class BigArrayUtil {
 
     /**
      * <p>
-     * Maps given direct index of a big array into multi-indexes of backed multidimensional array. The dimension value
-     * should >= 3. {@code dimensions}'s length should == {@code multiIndexes}'s.
+     * Returns shift of block of paged big array, that is, given block size rounded down to power of 2 is
+     * {@code 1 << shift}.
+     * </p>
+     * 
+     * @param blockSize
+     *            given block size, > 0
+     * @return shift of block
+     * @since 0.0.0
+     */
+    static int blockShift(int blockSize) {
+        return 31 - Integer.numberOfLeadingZeros(blockSize);
+    }
+
+    /**
+     * <p>
+     * Returns shift of page of paged big array, that is, each page references {@code 1 << shift} blocks. The page size
+     * is same as block size if number of pages can be stored in an array, or else it will be enlarged.
      * </p>
      * 
-     * @param index
-     *            given direct index of a big array in bounds
-     * @param dimensions
-     *            dimension values of backed multidimensional array (length >= 3), each element of which representing
-     *            size of corresponding dimension, not null
-     * @param indexes
-     *            output param; multi-indexes of backed multidimensional array (dimension >= 3), not null
+     * @param blocks
+     *            number of blocks, > 0
+     * @param blockShift
+     *            shift of block
+     * @return shift of page
+     * @throws OutOfBoundsException
+     *             if number of blocks is too large
      * @since 0.0.0
      */
-    static void mapMultiIndexes(long index, int[] dimensions, int[] indexes) {
-        indexes[indexes.length - 1] = (int)(index % dimensions[dimensions.length - 1]);
-        for (int i = dimensions.length - 2; i > 0; i--) {
-            long mod = (int)(index % multiplyFrom(dimensions, i));
-            indexes[i] = (int)(mod / multiplyFrom(dimensions, i + 1));
+    static int pageShift(long blocks, int blockShift) throws OutOfBoundsException {
+        int shift = blockShift;
+        while (((blocks - 1) >>> shift) >= Integer.MAX_VALUE) {
+            shift++;
+        }
+        if (shift > 30) {
+            throw new OutOfBoundsException();
         }
-        indexes[0] = (int)(index / multiplyFrom(dimensions, 1));
+        return shift;
     }
 
     /**
      * <p>
-     * Multiplies from array[index] to end.
+     * Returns split index of a spliterator of big array traversing from {@code from} inclusive to {@code to} exclusive,
+     * or -1 if the range should not be split. If the range is not greater than {@linkplain BigArray#UNSPLITERATED_SIZE}
+     * it will not be split. If the range covers more than one block, split index is aligned to a block boundary so that
+     * each split traverses whole blocks.
+     * </p>
+     *
+     * @param from
+     *            from index inclusive
+     * @param to
+     *            to index exclusive
+     * @param blockSize
+     *            block size of big array, > 0
+     * @return split index in (from, to), or -1 if the range should not be split
+     * @since 0.0.0
+     */
+    static long splitIndex(long from, long to, int blockSize) {
+        long size = to - from;
+        if (size <= BigArray.UNSPLITERATED_SIZE) {
+            return -1;
+        }
+        long mid = from + (size >>> 1);
+        if (size > blockSize) {
+            mid -= mid % blockSize;
+            if (mid <= from) {
+                mid += blockSize;
+            }
+        }
+        return mid;
+    }
+
+    /**
+     * <p>
+     * Returns task size of parallel operations of big array, that is, {@linkplain BigArray#PARALLEL_TASK_SIZE} rounded
+     * down to multiple of given task unit, or the task unit itself if it is larger. A task unit less than 1, such as
+     * block size of an empty big array, is treated as 1.
+     * </p>
+     * 
+     * @param taskUnit
+     *            unit of task size, usually block size of big array
+     * @return task size
+     * @since 0.0.0
+     */
+    static long taskSize(int taskUnit) {
+        taskUnit = Math.max(taskUnit, 1);
+        return taskUnit >= BigArray.PARALLEL_TASK_SIZE ? taskUnit
+                : (long)taskUnit * Math.max(BigArray.PARALLEL_TASK_SIZE / taskUnit, 1);
+    }
+
+    /**
+     * <p>
+     * Splits range from {@code from} inclusive to {@code to} exclusive at multiples of given task size. Returned array
+     * starts with {@code from}, ends with {@code to} and each two adjacent elements of it bound a task, so it is empty
+     * of tasks if the range is empty.
      * </p>
      * 
-     * @param array
-     *            given array, not null
-     * @param index
-     *            given start index in bounds
-     * @return the result
+     * @param from
+     *            from index inclusive
+     * @param to
+     *            to index exclusive
+     * @param taskSize
+     *            given task size, > 0
+     * @return bounds of tasks
      * @since 0.0.0
      */
-    static long multiplyFrom(int[] array, int index) {
-        long r = 1;
-        for (; index < array.length; index++) {
-            r *= array[index];
+    static long[] split(long from, long to, long taskSize) {
+        if (from >= to) {
+            return new long[] { from };
+        }
+        long first = from - from % taskSize + taskSize;
+        int tasks = first >= to ? 1 : (int)((to - first + taskSize - 1) / taskSize) + 1;
+        long[] bounds = new long[tasks + 1];
+        bounds[0] = from;
+        for (int i = 1; i < tasks; i++) {
+            bounds[i] = first + (i - 1) * taskSize;
         }
-        return r;
+        bounds[tasks] = to;
+        return bounds;
     }
 
     /**
      * <p>
-     * Maps given direct index of a big array into multi-indexes of backed multidimensional array. {@code dimensions}'s
-     * length should == {@code multiIndexes}'s.
+     * Executes given tasks by given executor and returns after all of them complete. If executor is null or there is
+     * only one task, tasks are run in current thread. Runtime exception or error thrown by a task is rethrown.
      * </p>
      * 
-     * @param index
-     *            given direct index of a big array in bounds
-     * @param dimensions
-     *            dimension values of backed multidimensional array, each element of which representing size of
-     *            corresponding dimension, not null
-     * @param inedxes
-     *            output param; multi-indexes of backed multidimensional array, not null
+     * @param tasks
+     *            given tasks
+     * @param executor
+     *            given executor, may be null
      * @since 0.0.0
      */
-    static void mapIndexes(long index, int[] dimensions, int[] inedxes) {
-        if (dimensions.length == 1) {
-            inedxes[0] = (int)index;
-        } else if (dimensions.length == 2) {
-            inedxes[0] = (int)(index / dimensions[1]);
-            inedxes[1] = (int)(index % dimensions[1]);
-        } else {
-            mapMultiIndexes(index, dimensions, inedxes);
+    static void execute(List<Runnable> tasks, @Nullable Executor executor) {
+        if (null == executor || tasks.size() <= 1) {
+            for (Runnable task : tasks) {
+                task.run();
+            }
+            return;
+        }
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks.size()];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = CompletableFuture.runAsync(tasks.get(i), executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw e;
         }
     }
 
     /**
      * <p>
-     * Allocates spaces of multidimensional array (dimensions >= 2) according to given multi-indexes if those spaces is
-     * not allocated. The array of last dimension will be returned. If those spaces is allocated, returned directly.
+     * Performs given action on range from {@code from} inclusive to {@code to} exclusive in parallel. The range is
+     * split into tasks aligned to multiples of {@linkplain #taskSize(int)}, and tasks are executed as
+     * {@linkplain #execute(List, Executor)}.
      * </p>
      * 
-     * @param array
-     *            the multidimensional array, not null
-     * @param type
-     *            component type of multidimensional array
-     * @param dimensions
-     *            dimension values of backed multidimensional array, each element of which representing size of
-     *            corresponding dimension, not null
-     * @param indexes
-     *            given multi-indexes, not null
-     * @return array of last dimension according to given multi-indexes as Object, not null
-     * @since 0.0.0
-     */
-    static Object alloc(Object array, Class<?> type, int[] dimensions, int[] indexes) {
-        Object parent = array;
-        int i = 0;
-        for (; i < dimensions.length - 2; i++) {
-            array = Array.get(parent, indexes[i]);
-            if (array == null) {
-                array = Array.newInstance(Object.class, dimensions[i + 1]);
-                Array.set(parent, indexes[i], array);
+     * @param from
+     *            from index inclusive
+     * @param to
+     *            to index exclusive
+     * @param taskUnit
+     *            unit of task size, usually block size of big array, > 0
+     * @param executor
+     *            given executor, may be null
+     * @param action
+     *            given action
+     * @since 0.0.0
+     */
+    static void parallel(long from, long to, int taskUnit, @Nullable Executor executor, RangeAction action) {
+        long[] bounds = split(from, to, taskSize(taskUnit));
+        List<Runnable> tasks = new ArrayList<>(bounds.length - 1);
+        for (int i = 0; i < bounds.length - 1; i++) {
+            long start = bounds[i];
+            long end = bounds[i + 1];
+            tasks.add(() -> action.perform(start, end));
+        }
+        execute(tasks, executor);
+    }
+
+    /**
+     * <p>
+     * Computes results of given function on range from {@code from} inclusive to {@code to} exclusive in parallel, and
+     * combines them by given combiner in order of subranges. The range is split as {@linkplain #parallel(long, long,
+     * int, Executor, RangeAction)}. If executor is null or the range is not large enough to be split, returns result of
+     * the function on the whole range computed in current thread.
+     * </p>
+     * 
+     * @param from
+     *            from index inclusive
+     * @param to
+     *            to index exclusive
+     * @param taskUnit
+     *            unit of task size, usually block size of big array, > 0
+     * @param executor
+     *            given executor, may be null
+     * @param function
+     *            given function
+     * @param combiner
+     *            given combiner
+     * @return combined result
+     * @since 0.0.0
+     */
+    static <R> R reduce(long from, long to, int taskUnit, @Nullable Executor executor, RangeFunction<R> function,
+            BinaryOperator<R> combiner) {
+        long[] bounds = split(from, to, taskSize(taskUnit));
+        if (null == executor || bounds.length <= 2) {
+            return function.apply(from, to);
+        }
+        AtomicReferenceArray<R> results = new AtomicReferenceArray<>(bounds.length - 1);
+        List<Runnable> tasks = new ArrayList<>(bounds.length - 1);
+        for (int i = 0; i < bounds.length - 1; i++) {
+            int index = i;
+            long start = bounds[i];
+            long end = bounds[i + 1];
+            tasks.add(() -> results.set(index, function.apply(start, end)));
+        }
+        execute(tasks, executor);
+        R result = results.get(0);
+        for (int i = 1; i < results.length(); i++) {
+            result = combiner.apply(result, results.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * <p>
+     * Returns shift of block of off-heap big array. Given block size is rounded down to power of 2 and limited so that
+     * bytes of each block can be stored in a direct buffer.
+     * </p>
+     * 
+     * @param length
+     *            length of big array, >= 0
+     * @param blockSize
+     *            given block size, > 0
+     * @param bytes
+     *            bytes of each element
+     * @return shift of block
+     * @throws OutOfBoundsException
+     *             if given length is too long
+     * @since 0.0.0
+     */
+    static int offHeapBlockShift(long length, int blockSize, int bytes) throws OutOfBoundsException {
+        int shift = Math.min(blockShift(blockSize), blockShift(Integer.MAX_VALUE / bytes));
+        if (length > 0 && ((length - 1) >>> shift) >= Integer.MAX_VALUE) {
+            throw new OutOfBoundsException();
+        }
+        return shift;
+    }
+
+    /**
+     * <p>
+     * Returns shift of block of bit-packed big array. Given block size is rounded down to power of 2, and it is not
+     * less than 64 so that each block consists of whole longs.
+     * </p>
+     * 
+     * @param length
+     *            length of big array, >= 0
+     * @param blockSize
+     *            given block size, > 0
+     * @return shift of block
+     * @throws OutOfBoundsException
+     *             if given length is too long
+     * @since 0.0.0
+     */
+    static int bitsBlockShift(long length, int blockSize) throws OutOfBoundsException {
+        int shift = Math.max(blockShift(blockSize), 6);
+        if (length > 0 && ((length - 1) >>> shift) >= Integer.MAX_VALUE) {
+            throw new OutOfBoundsException();
+        }
+        return shift;
+    }
+
+    /**
+     * <p>
+     * Returns shift of block of big array of which blocks are referenced by an array, such as atomic or sparse big
+     * array. Given block size is rounded down to power of 2 and enlarged if number of blocks cannot be stored in an
+     * array.
+     * </p>
+     * 
+     * @param length
+     *            length of big array, >= 0
+     * @param blockSize
+     *            given block size, > 0
+     * @return shift of block
+     * @throws OutOfBoundsException
+     *             if given length is too long
+     * @since 0.0.0
+     */
+    static int blockShift(long length, int blockSize) throws OutOfBoundsException {
+        int shift = blockShift(blockSize);
+        while (length > 0 && ((length - 1) >>> shift) >= Integer.MAX_VALUE) {
+            shift++;
+        }
+        if (shift > 30) {
+            throw new OutOfBoundsException();
+        }
+        return shift;
+    }
+
+    /**
+     * <p>
+     * Releases memory of given direct buffer immediately. If it fails, the memory will be released when the buffer is
+     * garbage collected. Given buffer cannot be accessed after calling this method.
+     * </p>
+     * 
+     * @param buffer
+     *            given buffer, it must not be a view or slice of another buffer
+     * @since 0.0.0
+     */
+    static void free(ByteBuffer buffer) {
+        BytesUtil.free(buffer);
+    }
+
+    /**
+     * <p>
+     * Returns slices of remaining bytes of given buffers in byte orders of the buffers, each slice is a block of
+     * big array wrapping given buffers. Each buffer except the last one must have same number of remaining bytes, which
+     * is power of 2 and not less than given bytes of each element, and the last one must not have more.
+     * </p>
+     *
+     * @param buffers
+     *            given buffers
+     * @param bytes
+     *            bytes of each element
+     * @return slices of given buffers
+     * @throws NullPointerException
+     *             if given buffers or any of them is null
+     * @throws IllegalArgumentException
+     *             if remaining bytes of given buffers cannot be blocks of big array
+     * @since 0.0.0
+     */
+    static ByteBuffer[] wrapBlocks(ByteBuffer[] buffers, int bytes)
+            throws NullPointerException, IllegalArgumentException {
+        Checker.checkNull(buffers);
+        ByteBuffer[] blocks = new ByteBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            Checker.checkNull(buffers[i]);
+            blocks[i] = buffers[i].slice().order(buffers[i].order());
+        }
+        if (blocks.length > 1) {
+            int blockBytes = blocks[0].remaining();
+            Checker.check(blockBytes >= bytes && Integer.bitCount(blockBytes) == 1,
+                    "Illegal block bytes: " + blockBytes);
+            for (int i = 1; i < blocks.length; i++) {
+                int remaining = blocks[i].remaining();
+                Checker.check(i == blocks.length - 1 ? remaining <= blockBytes : remaining == blockBytes,
+                        "Illegal remaining bytes of buffer " + i + ": " + remaining);
             }
-            parent = array;
         }
-        array = Array.newInstance(type, dimensions[i + 1]);
-        Array.set(parent, indexes[i], array);
-        return array;
+        return blocks;
+    }
+
+    /**
+     * <p>
+     * Returns shift of block of big array wrapping given blocks returned by
+     * {@linkplain #wrapBlocks(ByteBuffer[], int)}.
+     * </p>
+     *
+     * @param blocks
+     *            given blocks
+     * @param bytes
+     *            bytes of each element
+     * @return shift of block
+     * @since 0.0.0
+     */
+    static int wrapBlockShift(ByteBuffer[] blocks, int bytes) {
+        // A single block covers the whole buffer.
+        return blocks.length > 1 ? Integer.numberOfTrailingZeros(blocks[0].remaining() / bytes)
+                : blockShift(Integer.MAX_VALUE / bytes) + 1;
+    }
+
+    /**
+     * <p>
+     * Returns length of big array wrapping given blocks returned by {@linkplain #wrapBlocks(ByteBuffer[], int)}, the
+     * rest bytes of the last block are ignored.
+     * </p>
+     *
+     * @param blocks
+     *            given blocks
+     * @param bytes
+     *            bytes of each element
+     * @return length of big array
+     * @since 0.0.0
+     */
+    static long wrapLength(ByteBuffer[] blocks, int bytes) {
+        if (blocks.length == 0) {
+            return 0;
+        }
+        int last = blocks.length - 1;
+        return ((long)last * blocks[0].remaining() + blocks[last].remaining()) / bytes;
     }
 
     /**
      * <p>
-     * Returns array of last dimension of multidimensional array according to given multi-indexes, maybe null.
+     * Maps regions of given file into buffers in given byte order, each buffer is a block of file-mapped big array.
      * </p>
      * 
-     * @param array
-     *            the multidimensional array, not null
-     * @param indexes
-     *            given multi-indexes, not null
-     * @return array of last dimension of multidimensional array according to given multi-indexes, maybe null
+     * @param file
+     *            given file
+     * @param length
+     *            length of big array, >= 0
+     * @param blockShift
+     *            shift of block
+     * @param bytes
+     *            bytes of each element
+     * @param readOnly
+     *            whether maps in read-only mode
+     * @param order
+     *            given byte order
+     * @return mapped buffers
+     * @throws IllegalArgumentException
+     *             if file is not long enough in read-only mode
+     * @throws OutOfBoundsException
+     *             if given length is too long
+     * @throws ReadException
+     *             if file cannot be opened or mapped
      * @since 0.0.0
      */
-    static Object getLastDimension(Object array, int[] indexes) {
-        for (int i = 0; i < indexes.length - 1; i++) {
-            array = Array.get(array, indexes[i]);
-            if (array == null) {
-                return null;
+    static ByteBuffer[] map(File file, long length, int blockShift, int bytes, boolean readOnly, ByteOrder order)
+            throws IllegalArgumentException, OutOfBoundsException, ReadException {
+        if (length > Long.MAX_VALUE / bytes) {
+            throw new OutOfBoundsException();
+        }
+        ByteBuffer[] memory = new ByteBuffer[(int)((length + (1L << blockShift) - 1) >>> blockShift)];
+        try (RandomAccessFile raf = new RandomAccessFile(file, readOnly ? "r" : "rw")) {
+            Checker.check(!readOnly || raf.length() >= length * bytes, "File is not long enough: " + file);
+            FileChannel channel = raf.getChannel();
+            MapMode mode = readOnly ? MapMode.READ_ONLY : MapMode.READ_WRITE;
+            for (int b = 0; b < memory.length; b++) {
+                long start = (long)b << blockShift;
+                long size = Math.min(1L << blockShift, length - start);
+                memory[b] = channel.map(mode, start * bytes, size * bytes).order(order);
+            }
+            return memory;
+        } catch (IOException e) {
+            for (ByteBuffer m : memory) {
+                if (null != m) {
+                    free(m);
+                }
             }
+            throw new ReadException(e);
+        }
+    }
+
+    /**
+     * <p>
+     * Size of header of streaming format after type and byte order: length and block size.
+     * </p>
+     * 
+     * @since 0.0.0
+     */
+    static final int HEADER_SIZE = Long.BYTES + Integer.BYTES;
+
+    /**
+     * <p>
+     * Returns a heap buffer of header of streaming format, whose type and byte order have been put. Length, block size
+     * and filler of given bytes are left to caller to put in that order.
+     * </p>
+     * 
+     * @param type
+     *            type code of element
+     * @param bytes
+     *            bytes of each element
+     * @param order
+     *            byte order of stream
+     * @return a heap buffer of header in given byte order
+     * @since 0.0.0
+     */
+    static ByteBuffer header(char type, int bytes, ByteOrder order) {
+        ByteBuffer header = ByteBuffer.allocate(2 + HEADER_SIZE + bytes).order(order);
+        header.put((byte)type).put((byte)(ByteOrder.BIG_ENDIAN.equals(order) ? 0 : 1));
+        return header;
+    }
+
+    /**
+     * <p>
+     * Reads header of streaming format from given inputer, returns a heap buffer positioned at length in byte order of
+     * the stream.
+     * </p>
+     * 
+     * @param in
+     *            given inputer
+     * @param type
+     *            expected type code of element
+     * @param bytes
+     *            bytes of each element
+     * @return a heap buffer positioned at length in byte order of the stream
+     * @throws StreamCorruptedException
+     *             if type or byte order of header is invalid
+     * @throws EOFException
+     *             if reaches to end of stream before reading the whole header
+     * @throws IOException
+     *             if an I/O error occurs
+     * @since 0.0.0
+     */
+    static ByteBuffer readHeader(Inputer in, char type, int bytes)
+            throws StreamCorruptedException, EOFException, IOException {
+        byte[] header = new byte[2 + HEADER_SIZE + bytes];
+        in.readFully(header, 0, 2);
+        if (type != header[0]) {
+            throw new StreamCorruptedException("Not a big array of " + type + ": " + (char)header[0]);
+        }
+        if (0 != header[1] && 1 != header[1]) {
+            throw new StreamCorruptedException("Invalid byte order: " + header[1]);
         }
-        return array;
+        in.readFully(header, 2, header.length - 2);
+        ByteOrder order = 0 == header[1] ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+        ByteBuffer buffer = ByteBuffer.wrap(header).order(order);
+        buffer.position(2);
+        return buffer;
     }
 
     /**
      * <p>
-     * Returns whether given array is penultimate dimension.
+     * Checks length and block size read from header of streaming format.
      * </p>
      * 
-     * @param array
-     *            given array, not null
-     * @return whether given array is penultimate dimension
+     * @param length
+     *            length read from header
+     * @param blockSize
+     *            block size read from header
+     * @throws StreamCorruptedException
+     *             if length is negative or block size is not positive
+     * @since 0.0.0
+     */
+    static void checkHeader(long length, int blockSize) throws StreamCorruptedException {
+        if (length < 0 || blockSize <= 0) {
+            throw new StreamCorruptedException("Invalid header, length: " + length + ", block size: " + blockSize);
+        }
+    }
+
+    /**
+     * <p>
+     * Reads flag of a block in streaming format, returns whether the block is written.
+     * </p>
+     * 
+     * @param in
+     *            given inputer
+     * @return whether the block is written
+     * @throws StreamCorruptedException
+     *             if flag is invalid
+     * @throws EOFException
+     *             if reaches to end of stream
+     * @throws IOException
+     *             if an I/O error occurs
      * @since 0.0.0
      */
-    @Deprecated
-    static boolean isPenultimateDimension(Object array) {
-        Class<?> component = array.getClass().getComponentType();
-        if (component != null) {
-            return component.getClass().isArray() && !component.getComponentType().isArray();
+    static boolean readFlag(Inputer in) throws StreamCorruptedException, EOFException, IOException {
+        byte flag = in.readByte();
+        if (0 != flag && 1 != flag) {
+            throw new StreamCorruptedException("Invalid block flag: " + flag);
         }
-        return false;
+        return 1 == flag;
+    }
+
+    /**
+     * <p>
+     * Action performed on a range of big array.
+     * </p>
+     *
+     * @author Fred Suvn
+     * @version 0.0.0, 2026-10-16T12:03:15+08:00
+     * @since 0.0.0, 2026-10-16T12:03:15+08:00
+     */
+    @FunctionalInterface
+    static interface RangeAction {
+
+        /**
+         * <p>
+         * Performs this action on range from {@code from} inclusive to {@code to} exclusive.
+         * </p>
+         * 
+         * @param from
+         *            from index inclusive
+         * @param to
+         *            to index exclusive
+         * @since 0.0.0
+         */
+        void perform(long from, long to);
+    }
+
+    /**
+     * <p>
+     * Function computing a result on a range of big array.
+     * </p>
+     *
+     * @author Fred Suvn
+     * @version 0.0.0, 2026-10-16T16:02:37+08:00
+     * @since 0.0.0, 2026-10-16T16:02:37+08:00
+     */
+    @FunctionalInterface
+    static interface RangeFunction<R> {
+
+        /**
+         * <p>
+         * Computes result on range from {@code from} inclusive to {@code to} exclusive.
+         * </p>
+         * 
+         * @param from
+         *            from index inclusive
+         * @param to
+         *            to index exclusive
+         * @return result on the range
+         * @since 0.0.0
+         */
+        R apply(long from, long to);
     }
 }
@@ -0,0 +1,196 @@
+package com.cogician.quicker.bigarray;
+
+import java.io.Serializable;
+
+import com.cogician.quicker.Checker;
+import com.cogician.quicker.OutOfBoundsException;
+
+/**
+ * <p>
+ * Big hash table is an open-addressing hash table of primitive keys, whose slots are stored in big arrays so that it
+ * can grow past {@linkplain Integer#MAX_VALUE} slots. Keys and values are neither boxed nor wrapped in entries. For
+ * example:
+ *
+ * <pre>
+ * LongIntMap map = new LongIntMap();
+ * map.put(1L, 2);
+ * map.get(1L);
+ * map.forEach((key, value) -&gt; ...);
+ * ...
+ * </pre>
+ * </p>
+ * <h2>Linear probing</h2>
+ * <p>
+ * Number of slots is power of 2, a key is put into the first free slot from its mixed hash. Key 0 marks a free slot,
+ * so that the key 0 itself is kept out of the table. Removal shifts following keys back instead of leaving tombstones.
+ * When number of entries reaches load factor of slots, slots are doubled and all entries are rehashed.
+ * </p>
+ * <h2>For-each without iterator</h2>
+ * <p>
+ * Entries are traversed by {@code forEach} of each table, which calls the action on each occupied slot without
+ * creating iterator or entry.
+ * </p>
+ * <h2>Thread-safe</h2>
+ * <p>
+ * Read operation for big hash table is thread-safe but write operation is not.
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T17:52:09+08:00
+ * @since 0.0.0, 2026-10-16T17:52:09+08:00
+ * @see BigArray
+ */
+public abstract class BigHashTable implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * <p>
+     * Default load factor of big hash table.
+     * </p>
+     *
+     * @since 0.0.0
+     */
+    public static final float DEFAULT_LOAD_FACTOR = 0.75f;
+
+    /**
+     * <p>
+     * Default expected number of entries of big hash table.
+     * </p>
+     *
+     * @since 0.0.0
+     */
+    public static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    private static final long MAX_CAPACITY = 1L << 62;
+
+    /**
+     * <p>
+     * Returns number of entries of this table.
+     * </p>
+     *
+     * @return number of entries of this table
+     * @since 0.0.0
+     */
+    public abstract long size();
+
+    /**
+     * <p>
+     * Returns whether this table is empty.
+     * </p>
+     *
+     * @return whether this table is empty
+     * @since 0.0.0
+     */
+    public boolean isEmpty() {
+        return 0 == size();
+    }
+
+    /**
+     * <p>
+     * Returns number of slots of this table.
+     * </p>
+     *
+     * @return number of slots of this table
+     * @since 0.0.0
+     */
+    public abstract long capacity();
+
+    /**
+     * <p>
+     * Removes all entries of this table. Slots are kept for reuse.
+     * </p>
+     *
+     * @since 0.0.0
+     */
+    public abstract void clear();
+
+    /**
+     * <p>
+     * Checks given load factor.
+     * </p>
+     *
+     * @param loadFactor
+     *            given load factor
+     * @throws IllegalArgumentException
+     *             if given load factor is not in (0, 1)
+     * @since 0.0.0
+     */
+    static void checkLoadFactor(float loadFactor) throws IllegalArgumentException {
+        Checker.check(loadFactor > 0 && loadFactor < 1, "Load factor must be in (0, 1): " + loadFactor);
+    }
+
+    /**
+     * <p>
+     * Returns number of slots for given expected number of entries and load factor, which is power of 2.
+     * </p>
+     *
+     * @param expected
+     *            expected number of entries, >= 0
+     * @param loadFactor
+     *            load factor in (0, 1)
+     * @return number of slots
+     * @throws OutOfBoundsException
+     *             if number of slots exceeds 2 ^ 62
+     * @since 0.0.0
+     */
+    static long capacity(long expected, float loadFactor) throws OutOfBoundsException {
+        double needed = Math.ceil(expected / (double)loadFactor);
+        if (needed > MAX_CAPACITY) {
+            throw new OutOfBoundsException(expected);
+        }
+        long capacity = Math.max((long)needed, 2L);
+        return Long.highestOneBit(capacity - 1) << 1;
+    }
+
+    /**
+     * <p>
+     * Returns maximum number of entries before rehash for given number of slots and load factor.
+     * </p>
+     *
+     * @param capacity
+     *            number of slots
+     * @param loadFactor
+     *            load factor in (0, 1)
+     * @return maximum number of entries before rehash
+     * @since 0.0.0
+     */
+    static long maxFill(long capacity, float loadFactor) {
+        return Math.min((long)Math.ceil(capacity * (double)loadFactor), capacity - 1);
+    }
+
+    /**
+     * <p>
+     * Returns doubled number of slots.
+     * </p>
+     *
+     * @param capacity
+     *            current number of slots
+     * @return doubled number of slots
+     * @throws OutOfBoundsException
+     *             if number of slots exceeds 2 ^ 62
+     * @since 0.0.0
+     */
+    static long grow(long capacity) throws OutOfBoundsException {
+        if (capacity >= MAX_CAPACITY) {
+            throw new OutOfBoundsException(capacity);
+        }
+        return capacity << 1;
+    }
+
+    /**
+     * <p>
+     * Mixes bits of given key so that keys of regular pattern are spread over slots.
+     * </p>
+     *
+     * @param key
+     *            given key
+     * @return mixed hash
+     * @since 0.0.0
+     */
+    static long mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,105 @@
+package com.cogician.quicker.bigarray;
+
+import java.io.Serializable;
+
+import com.cogician.quicker.QuickerProperties;
+
+/**
+ * <p>
+ * Big list is a growable list of a long size, accessed by index of <b>long</b> type. Unlike big array which has a fixed
+ * length, elements can be appended to a big list. For example:
+ * 
+ * <pre>
+ * IntBigList list = new IntBigList();
+ * list.add(1);
+ * list.get(0L);
+ * IntArray array = list.toIntArray();
+ * ...
+ * </pre>
+ * </p>
+ * <h2>Growth without copying</h2>
+ * <p>
+ * Elements of big list are stored in blocks of which size is power of 2, see {@linkplain #BLOCK_SIZE}. When the last
+ * block is full, appending allocates a new block and existing blocks are never copied, only references of blocks are
+ * copied when the table of blocks grows. The first block grows like an array list until it reaches the block size, so
+ * that a small list does not occupy a whole block.
+ * </p>
+ * <h2>Zero-copy view</h2>
+ * <p>
+ * Big list can be viewed as a big array of current size, such as {@linkplain IntBigList#toIntArray()}. The view shares
+ * blocks with the list so that no element is copied.
+ * </p>
+ * <h2>Thread-safe</h2>
+ * <p>
+ * Read operation for big list is thread-safe but write operation is not.
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T14:06:31+08:00
+ * @since 0.0.0, 2026-10-16T14:06:31+08:00
+ * @see BigArray
+ */
+public abstract class BigList implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * <p>
+     * Default block size of big list.
+     * </p>
+     * 
+     * @since 0.0.0
+     */
+    public static final int BLOCK_SIZE = QuickerProperties.get("bigList.block.size").asInt();
+
+    /**
+     * <p>
+     * Returns size of this list.
+     * </p>
+     * 
+     * @return size of this list
+     * @since 0.0.0
+     */
+    public abstract long size();
+
+    /**
+     * <p>
+     * Returns whether this list is empty.
+     * </p>
+     * 
+     * @return whether this list is empty
+     * @since 0.0.0
+     */
+    public boolean isEmpty() {
+        return 0 == size();
+    }
+
+    /**
+     * <p>
+     * Returns number of elements this list can hold without allocating any block.
+     * </p>
+     * 
+     * @return number of elements this list can hold without allocating any block
+     * @since 0.0.0
+     */
+    public abstract long capacity();
+
+    /**
+     * <p>
+     * Removes all elements of this list. Allocated blocks are kept for reuse, call {@linkplain #trimToSize()} to
+     * release them.
+     * </p>
+     * 
+     * @since 0.0.0
+     */
+    public abstract void clear();
+
+    /**
+     * <p>
+     * Releases unused capacity of this list: blocks beyond the size are dropped and the last block is shrunk to fit.
+     * </p>
+     * 
+     * @since 0.0.0
+     */
+    public abstract void trimToSize();
+}
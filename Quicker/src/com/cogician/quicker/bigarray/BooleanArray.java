@@ -6,12 +6,16 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.function.LongBinaryOperator;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import com.cogician.quicker.Checker;
 import com.cogician.quicker.Quicker;
+import com.cogician.quicker.util.BitsQuicker;
 
 /**
  * <p>
@@ -35,13 +39,14 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
 
     private static final long serialVersionUID = 1L;
 
-    private static Data createData(long length, int[] dimensions, boolean initial, boolean lazy) {
+    private static Data createData(long length, int blockSize, boolean initial, boolean lazy) {
+        int[] dimensions = BigArrayUtil.caculateDimensions(length, blockSize);
         if (1 == dimensions.length) {
             return new OfOneDimension((int)length, initial);
         } else if (2 == dimensions.length) {
             return new OfTwoDimensions(length, dimensions, initial, lazy);
         } else {
-            return new OfMultiDimensions(length, dimensions, initial, lazy);
+            return new OfPages(length, blockSize, initial, lazy);
         }
     }
 
@@ -101,7 +106,7 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
     public BooleanArray(long length, int blockSize, boolean initial, boolean lazy) throws IllegalArgumentException {
         Checker.checkLength(length);
         Checker.checkPositive(blockSize);
-        this.data = createData(length, BigArrayUtil.caculateDimensions(length, blockSize), initial, lazy);
+        this.data = createData(length, blockSize, initial, lazy);
     }
 
     /**
@@ -146,6 +151,53 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
         this.data = new ArrayWrapper(array, from, to);
     }
 
+    /**
+     * <p>
+     * Returns a new bit-packed big array with specified length.
+     * </p>
+     * 
+     * @param length
+     *            specified length
+     * @return a new bit-packed big array
+     * @throws IllegalArgumentException
+     *             if specified length < 0
+     * @see #bitPacked(long, int, boolean, boolean)
+     * @since 0.0.0
+     */
+    public static BooleanArray bitPacked(long length) throws IllegalArgumentException {
+        return bitPacked(length, BigArray.BLOCK_SIZE, false, true);
+    }
+
+    /**
+     * <p>
+     * Returns a new bit-packed big array with specified length, specified block size, initial value and whether it is
+     * lazy. Bit-packed array stores 64 elements in each long, it takes 1/8 memory of common boolean array, and its
+     * {@linkplain #fill(boolean)}, {@linkplain #copy(long, BooleanArray, long, long)}, {@linkplain #cardinality()},
+     * {@linkplain #nextSetBit(long)}, {@linkplain #nextClearBit(long)} and bitwise operations such as
+     * {@linkplain #and(BooleanArray)} are processed a long at a time. Specified block size is number of elements in
+     * each block, it is rounded down to power of 2 and not less than 64.
+     * </p>
+     * 
+     * @param length
+     *            specified length
+     * @param blockSize
+     *            specified block size
+     * @param initial
+     *            initial value
+     * @param lazy
+     *            whether the array is lazy
+     * @return a new bit-packed big array
+     * @throws IllegalArgumentException
+     *             if specified length < 0 or specified block size <= 0
+     * @since 0.0.0
+     */
+    public static BooleanArray bitPacked(long length, int blockSize, boolean initial, boolean lazy)
+            throws IllegalArgumentException {
+        Checker.checkLength(length);
+        Checker.checkPositive(blockSize);
+        return new BooleanArray(new OfBits(length, blockSize, initial, lazy));
+    }
+
     private final Data data;
 
     @Override
@@ -219,6 +271,69 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
         data.set(index, value);
     }
 
+    /**
+     * <p>
+     * Reads elements of this array from specified index into specified array. Elements are copied in bulk block by
+     * block, so a hot loop can pull a window of this array into a reusable buffer instead of calling
+     * {@linkplain #get(long)} for each element.
+     * </p>
+     * 
+     * @param index
+     *            specified start index of this array
+     * @param dest
+     *            specified destination array, not null
+     * @param offset
+     *            start offset of destination array
+     * @param length
+     *            number of elements, >= 0
+     * @throws NullPointerException
+     *             if destination array is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @since 0.0.0
+     */
+    public void get(long index, boolean[] dest, int offset, int length)
+            throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException {
+        Checker.checkNull(dest);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(index, index + length, length());
+        Checker.checkRangeIndexes(offset, offset + length, dest.length);
+        data.read(index, dest, offset, length);
+    }
+
+    /**
+     * <p>
+     * Writes elements of specified array into this array from specified index. Elements are copied in bulk block by
+     * block, see {@linkplain #get(long, boolean[], int, int)}.
+     * </p>
+     * 
+     * @param index
+     *            specified start index of this array
+     * @param src
+     *            specified source array, not null
+     * @param offset
+     *            start offset of source array
+     * @param length
+     *            number of elements, >= 0
+     * @throws NullPointerException
+     *             if source array is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @since 0.0.0
+     */
+    public void set(long index, boolean[] src, int offset, int length)
+            throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException {
+        Checker.checkNull(src);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(index, index + length, length());
+        Checker.checkRangeIndexes(offset, offset + length, src.length);
+        data.write(index, src, offset, length);
+    }
+
     /**
      * <p>
      * Fills elements of this array with specified value.
@@ -271,12 +386,274 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
      */
     public void copy(long srcPos, BooleanArray dest, long destPos, long length)
             throws NullPointerException, IndexOutOfBoundsException {
-        Checker.checkIndex(srcPos, length());
-        Checker.checkIndex(destPos, length());
+        Checker.checkNull(dest);
         Checker.checkLength(length);
+        Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+        Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
         data.copy(srcPos, dest.data, destPos, length);
     }
 
+    /**
+     * <p>
+     * Fills elements of this array with specified value in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @param value
+     *            specified value
+     * @see #parallelFill(boolean, Executor)
+     * @since 0.0.0
+     */
+    public void parallelFill(boolean value) {
+        parallelFill(value, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Fills elements of this array with specified value in parallel, tasks are executed in specified executor. Elements
+     * are divided into tasks of whole blocks, see {@linkplain BigArray#PARALLEL_TASK_SIZE}. If this array is not large
+     * enough to be divided, it is filled in current thread.
+     * </p>
+     * 
+     * @param value
+     *            specified value
+     * @param executor
+     *            specified executor, not null
+     * @throws NullPointerException
+     *             if specified executor is null
+     * @since 0.0.0
+     */
+    public void parallelFill(boolean value, Executor executor) throws NullPointerException {
+        Checker.checkNull(executor);
+        data.fill(value, executor);
+    }
+
+    /**
+     * <p>
+     * Copies data of this array into destination array in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     *
+     * @param srcPos
+     *            source start index in bounds
+     * @param dest
+     *            destination array, not null
+     * @param destPos
+     *            destination start index in bounds
+     * @param length
+     *            specified length, >= 0
+     * @throws NullPointerException
+     *             if destination array is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @see #parallelCopy(long, BooleanArray, long, long, Executor)
+     * @since 0.0.0
+     */
+    public void parallelCopy(long srcPos, BooleanArray dest, long destPos, long length)
+            throws NullPointerException, IndexOutOfBoundsException {
+        parallelCopy(srcPos, dest, destPos, length, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Copies data of this array into destination array in parallel, tasks are executed in specified executor. Copied
+     * range is divided into tasks of whole blocks of destination array, see {@linkplain BigArray#PARALLEL_TASK_SIZE}.
+     * If the range is not large enough to be divided, or destination array is this array and the source and destination
+     * ranges overlap, it is copied in current thread.
+     * </p>
+     *
+     * @param srcPos
+     *            source start index in bounds
+     * @param dest
+     *            destination array, not null
+     * @param destPos
+     *            destination start index in bounds
+     * @param length
+     *            specified length, >= 0
+     * @param executor
+     *            specified executor, not null
+     * @throws NullPointerException
+     *             if destination array or specified executor is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @since 0.0.0
+     */
+    public void parallelCopy(long srcPos, BooleanArray dest, long destPos, long length, Executor executor)
+            throws NullPointerException, IndexOutOfBoundsException {
+        Checker.checkNull(dest);
+        Checker.checkNull(executor);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+        Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+        data.copy(srcPos, dest.data, destPos, length, executor);
+    }
+
+    /**
+     * <p>
+     * Returns number of elements which are true in this array.
+     * </p>
+     * 
+     * @return number of elements which are true
+     * @since 0.0.0
+     */
+    public long cardinality() {
+        return data.cardinality(0, length());
+    }
+
+    /**
+     * <p>
+     * Returns index of first element which is true from specified index inclusive, or -1 if there is no such element.
+     * </p>
+     * 
+     * @param from
+     *            specified index inclusive, >= 0
+     * @return index of first true element from specified index, or -1 if not found
+     * @throws IllegalArgumentException
+     *             if specified index is negative
+     * @since 0.0.0
+     */
+    public long nextSetBit(long from) throws IllegalArgumentException {
+        Checker.checkPositiveOr0(from);
+        return from >= length() ? -1 : data.next(from, true);
+    }
+
+    /**
+     * <p>
+     * Returns index of first element which is false from specified index inclusive, or -1 if there is no such element.
+     * </p>
+     * 
+     * @param from
+     *            specified index inclusive, >= 0
+     * @return index of first false element from specified index, or -1 if not found
+     * @throws IllegalArgumentException
+     *             if specified index is negative
+     * @since 0.0.0
+     */
+    public long nextClearBit(long from) throws IllegalArgumentException {
+        Checker.checkPositiveOr0(from);
+        return from >= length() ? -1 : data.next(from, false);
+    }
+
+    /**
+     * <p>
+     * Performs logical AND of this array and specified array, result is stored in this array. If specified array is
+     * shorter than this array, elements of this array out of its length are set to false.
+     * </p>
+     * 
+     * @param other
+     *            specified array
+     * @throws NullPointerException
+     *             if specified array is null
+     * @since 0.0.0
+     */
+    public void and(BooleanArray other) throws NullPointerException {
+        Checker.checkNull(other);
+        data.bitwise(other.data, Math.min(length(), other.length()), (a, b) -> a & b);
+        if (other.length() < length()) {
+            data.fill(other.length(), length(), false);
+        }
+    }
+
+    /**
+     * <p>
+     * Performs logical OR of this array and specified array, result is stored in this array. If specified array is
+     * shorter than this array, elements of this array out of its length are unchanged.
+     * </p>
+     * 
+     * @param other
+     *            specified array
+     * @throws NullPointerException
+     *             if specified array is null
+     * @since 0.0.0
+     */
+    public void or(BooleanArray other) throws NullPointerException {
+        Checker.checkNull(other);
+        data.bitwise(other.data, Math.min(length(), other.length()), (a, b) -> a | b);
+    }
+
+    /**
+     * <p>
+     * Performs logical XOR of this array and specified array, result is stored in this array. If specified array is
+     * shorter than this array, elements of this array out of its length are unchanged.
+     * </p>
+     * 
+     * @param other
+     *            specified array
+     * @throws NullPointerException
+     *             if specified array is null
+     * @since 0.0.0
+     */
+    public void xor(BooleanArray other) throws NullPointerException {
+        Checker.checkNull(other);
+        data.bitwise(other.data, Math.min(length(), other.length()), (a, b) -> a ^ b);
+    }
+
+    /**
+     * <p>
+     * Clears elements of this array of which corresponding elements in specified array are true. If specified array is
+     * shorter than this array, elements of this array out of its length are unchanged.
+     * </p>
+     * 
+     * @param other
+     *            specified array
+     * @throws NullPointerException
+     *             if specified array is null
+     * @since 0.0.0
+     */
+    public void andNot(BooleanArray other) throws NullPointerException {
+        Checker.checkNull(other);
+        data.bitwise(other.data, Math.min(length(), other.length()), (a, b) -> a & ~b);
+    }
+
+    /**
+     * <p>
+     * Returns bytes of memory allocated for elements of this array, not including headers of objects. For a lazy array,
+     * only allocated blocks are counted.
+     * </p>
+     * 
+     * @return bytes of memory allocated for elements of this array
+     * @see #logicalBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long allocatedBytes() {
+        return data.allocatedBytes();
+    }
+
+    /**
+     * <p>
+     * Returns bytes of all elements of this array, that is, length of this array multiplied by one byte of each
+     * element.
+     * </p>
+     * 
+     * @return bytes of all elements of this array
+     * @see #allocatedBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long logicalBytes() {
+        return length();
+    }
+
+    /**
+     * <p>
+     * Returns number of blocks allocated for elements of this array. For a lazy array, blocks which have never been
+     * written are not allocated.
+     * </p>
+     * 
+     * @return number of blocks allocated for elements of this array
+     * @see #allocatedBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long allocatedBlocks() {
+        return data.allocatedBlocks();
+    }
+
     /**
      * <p>
      * Clones this array, all settings and options inherited.
@@ -290,6 +667,38 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
         return new BooleanArray(data.clone());
     }
 
+    /**
+     * <p>
+     * Clones this array in parallel, all settings and options inherited. Tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @return duplication of this array
+     * @see #parallelClone(Executor)
+     * @since 0.0.0
+     */
+    public BooleanArray parallelClone() {
+        return parallelClone(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Clones this array in parallel, all settings and options inherited. Tasks are executed in specified executor,
+     * elements are divided into tasks of whole blocks, see {@linkplain BigArray#PARALLEL_TASK_SIZE}.
+     * </p>
+     * 
+     * @param executor
+     *            specified executor, not null
+     * @return duplication of this array
+     * @throws NullPointerException
+     *             if specified executor is null
+     * @since 0.0.0
+     */
+    public BooleanArray parallelClone(Executor executor) throws NullPointerException {
+        Checker.checkNull(executor);
+        return new BooleanArray(data.clone(executor));
+    }
+
     /**
      * <p>
      * COnverts this array to an object array. If length of this array is greater than {@linkplain Integer#MAX_VALUE},
@@ -380,21 +789,32 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
 
         @Override
         public boolean tryAdvance(Consumer<? super Boolean> action) {
-            if (cur >= array.length()) {
+            if (cur >= end) {
                 return false;
             }
             Quicker.require(action).accept(array.get(cur++));
             return true;
         }
 
+        @Override
+        public void forEachRemaining(Consumer<? super Boolean> action) {
+            Quicker.require(action);
+            if (cur < end) {
+                long from = cur;
+                cur = end;
+                array.data.forEach(from, end, action);
+            }
+        }
+
         @Override
         public Spliterator<Boolean> trySplit() {
-            if (end - cur > BigArray.UNSPLITERATED_SIZE) {
+            long mid = BigArrayUtil.splitIndex(cur, end, array.data.blockSize());
+            if (mid < 0) {
                 return null;
             }
-            long newStart = (end - cur) / 2;
-            this.cur = newStart;
-            return new BooleanArraySpliterator(array, cur, newStart);
+            BooleanArraySpliterator prefix = new BooleanArraySpliterator(array, cur, mid);
+            this.cur = mid;
+            return prefix;
         }
 
         @Override
@@ -404,16 +824,26 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
 
         @Override
         public int characteristics() {
-            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+                    | Spliterator.NONNULL;
         }
-
     }
 
     private static abstract class Data implements Serializable, Cloneable {
 
         private static final long serialVersionUID = 1L;
 
-        public abstract int[] getDimensions();
+        public abstract int blockSize();
+
+        public abstract boolean[] block(long index);
+
+        public abstract boolean[] allocate(long index);
+
+        public abstract int offset(long index);
+
+        public abstract int remaining(long index);
+
+        public abstract boolean filler();
 
         public abstract long length();
 
@@ -431,6 +861,50 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
 
         public abstract void fill(boolean value);
 
+        public int taskUnit() {
+            return blockSize();
+        }
+
+        public void fill(boolean value, Executor executor) {
+            BigArrayUtil.parallel(0, length(), taskUnit(), executor, (from, to) -> fill(from, to, value));
+        }
+
+        public void forEach(long from, long to, Consumer<? super Boolean> action) {
+            for (long i = from; i < to;) {
+                int offset = offset(i);
+                int end = offset + (int)Math.min((long)remaining(i), to - i);
+                boolean[] block = block(i);
+                if (null == block) {
+                    boolean filler = filler();
+                    for (int j = offset; j < end; j++) {
+                        action.accept(filler);
+                    }
+                } else {
+                    for (int j = offset; j < end; j++) {
+                        action.accept(block[j]);
+                    }
+                }
+                i += end - offset;
+            }
+        }
+
+        public void fill(long from, long to, boolean value) {
+            for (long i = from; i < to;) {
+                int offset = offset(i);
+                int n = (int)Math.min((long)remaining(i), to - i);
+                boolean[] block = block(i);
+                if (null == block) {
+                    if (value == filler()) {
+                        i += n;
+                        continue;
+                    }
+                    block = allocate(i);
+                }
+                Arrays.fill(block, offset, offset + n, value);
+                i += n;
+            }
+        }
+
         public void copy(long srcPos, Data dest, long destPos, long length)
                 throws NullPointerException, IndexOutOfBoundsException {
             if (length == 0) {
@@ -438,38 +912,149 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
             }
             Checker.checkRangeIndexes(srcPos, srcPos + length, length());
             Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
-            int[] dimensions = getDimensions();
-            int[] destDimensions = dest.getDimensions();
-            int[] srcMultiIndexes = new int[dimensions.length];
-            int[] destMultiIndexes = new int[destDimensions.length];
-            int sWide = dimensions[dimensions.length - 1];
-            int dWide = destDimensions[destDimensions.length - 1];
-            for (long i = 0; i < length;) {
-                BigArrayUtil.mapIndexes(srcPos + i, dimensions, srcMultiIndexes);
-                boolean[] sr = (boolean[])BigArrayUtil.getLastDimension(getBackedArray(), srcMultiIndexes);
-                int ys = (int)((srcPos + i) % sWide);
-                BigArrayUtil.mapIndexes(destPos + i, destDimensions, destMultiIndexes);
-                boolean[] dr = (boolean[])BigArrayUtil.getLastDimension(dest.getBackedArray(), destMultiIndexes);
-                int yd = (int)((destPos + i) % dWide);
-                int copyLength = Math.min(sWide - ys, dWide - yd);
-                copyLength = (int)Math.min((long)copyLength, length - i);
-                if (sr != null) {
-                    if (dr == null) {
-                        // One-dimensional backed array is never null.
-                        dr = (boolean[])BigArrayUtil.alloc(dest.getBackedArray(), boolean.class, destDimensions,
-                                destMultiIndexes);
+            if (dest == this && srcPos < destPos && destPos < srcPos + length) {
+                // Overlapped, copies backward.
+                int blockSize = blockSize();
+                for (long i = length; i > 0;) {
+                    long s = srcPos + i - 1;
+                    long d = destPos + i - 1;
+                    int n = (int)Math.min((long)(blockSize - Math.max(remaining(s), remaining(d)) + 1), i);
+                    copyBlock(s - n + 1, dest, d - n + 1, n);
+                    i -= n;
+                }
+            } else {
+                for (long i = 0; i < length;) {
+                    long s = srcPos + i;
+                    long d = destPos + i;
+                    int n = (int)Math.min((long)Math.min(remaining(s), dest.remaining(d)), length - i);
+                    copyBlock(s, dest, d, n);
+                    i += n;
+                }
+            }
+        }
+
+        public void copy(long srcPos, Data dest, long destPos, long length, Executor executor)
+                throws NullPointerException, IndexOutOfBoundsException {
+            if (dest == this && srcPos < destPos + length && destPos < srcPos + length) {
+                // Overlapped, copies in current thread.
+                copy(srcPos, dest, destPos, length);
+                return;
+            }
+            long offset = srcPos - destPos;
+            BigArrayUtil.parallel(destPos, destPos + length, dest.taskUnit(), executor,
+                    (from, to) -> copy(from + offset, dest, from, to - from));
+        }
+
+        private void copyBlock(long srcPos, Data dest, long destPos, int length) {
+            boolean[] sr = block(srcPos);
+            if (null == sr) {
+                dest.fill(destPos, destPos + length, filler());
+            } else {
+                dest.write(destPos, sr, offset(srcPos), length);
+            }
+        }
+
+        public void read(long index, boolean[] dest, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long s = index + i;
+                int n = Math.min(remaining(s), length - i);
+                boolean[] block = block(s);
+                if (null == block) {
+                    Arrays.fill(dest, offset + i, offset + i + n, filler());
+                } else {
+                    System.arraycopy(block, offset(s), dest, offset + i, n);
+                }
+                i += n;
+            }
+        }
+
+        public void write(long index, boolean[] src, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long d = index + i;
+                int n = Math.min(remaining(d), length - i);
+                System.arraycopy(src, offset + i, allocate(d), offset(d), n);
+                i += n;
+            }
+        }
+
+        public long cardinality(long from, long to) {
+            long count = 0;
+            for (long i = from; i < to;) {
+                int offset = offset(i);
+                int end = offset + (int)Math.min((long)remaining(i), to - i);
+                boolean[] block = block(i);
+                if (null == block) {
+                    if (filler()) {
+                        count += end - offset;
+                    }
+                } else {
+                    for (int j = offset; j < end; j++) {
+                        if (block[j]) {
+                            count++;
+                        }
+                    }
+                }
+                i += end - offset;
+            }
+            return count;
+        }
+
+        public long next(long from, boolean value) {
+            for (long i = from, length = length(); i < length;) {
+                int offset = offset(i);
+                int end = offset + (int)Math.min((long)remaining(i), length - i);
+                boolean[] block = block(i);
+                if (null == block) {
+                    if (filler() == value) {
+                        return i;
+                    }
+                } else {
+                    for (int j = offset; j < end; j++) {
+                        if (block[j] == value) {
+                            return i + j - offset;
+                        }
                     }
-                    System.arraycopy(sr, ys, dr, yd, copyLength);
                 }
-                i += copyLength;
+                i += end - offset;
+            }
+            return -1;
+        }
+
+        public void bitwise(Data other, long length, LongBinaryOperator op) {
+            for (long i = 0; i < length; i++) {
+                set(i, 0 != op.applyAsLong(get(i) ? -1L : 0L, other.get(i) ? -1L : 0L));
+            }
+        }
+
+        public boolean allocated(long index) {
+            return null != block(index);
+        }
+
+        public long allocatedBlocks() {
+            long blocks = 0;
+            for (long i = 0; i < length(); i += remaining(i)) {
+                if (allocated(i)) {
+                    blocks++;
+                }
             }
+            return blocks;
+        }
+
+        public long allocatedBytes() {
+            return allocatedBlocks() * blockSize();
         }
 
         public abstract Data clone();
 
-        public abstract boolean[] toArray();
+        public Data clone(Executor executor) {
+            Data clone = blank();
+            copy(0, clone, 0, length(), executor);
+            return clone;
+        }
 
-        public abstract Object getBackedArray();
+        public abstract Data blank();
+
+        public abstract boolean[] toArray();
     }
 
     private static class ArrayWrapper extends Data {
@@ -489,8 +1074,38 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
         }
 
         @Override
-        public int[] getDimensions() {
-            return null;
+        public int blockSize() {
+            return length;
+        }
+
+        @Override
+        public int taskUnit() {
+            return 1;
+        }
+
+        @Override
+        public boolean[] block(long index) {
+            return source;
+        }
+
+        @Override
+        public boolean[] allocate(long index) {
+            return source;
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index + from;
+        }
+
+        @Override
+        public int remaining(long index) {
+            return length - (int)index;
+        }
+
+        @Override
+        public boolean filler() {
+            return false;
         }
 
         @Override
@@ -546,22 +1161,29 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
             }
         }
 
+        @Override
+        public void forEach(long from, long to, Consumer<? super Boolean> action) {
+            for (int i = (int)from + this.from, end = (int)to + this.from; i < end; i++) {
+                action.accept(source[i]);
+            }
+        }
+
         @Override
         public Data clone() {
             return new OfOneDimension(this);
         }
 
+        @Override
+        public Data blank() {
+            return new OfOneDimension((int)length(), false);
+        }
+
         @Override
         public boolean[] toArray() {
             boolean[] ar = (boolean[])Array.newInstance(boolean.class, length);
             System.arraycopy(source, from, ar, 0, length);
             return ar;
         }
-
-        @Override
-        public Object getBackedArray() {
-            return source;
-        }
     }
 
     /**
@@ -579,19 +1201,15 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
 
         private final boolean[] source;
 
-        private final int[] dimensions;
-
         public OfOneDimension(int length, boolean initial) {
             source = new boolean[length];
-            if (!initial) {
+            if (initial) {
                 Arrays.fill(source, initial);
             }
-            this.dimensions = new int[]{(int)source.length};
         }
 
         public OfOneDimension(OfOneDimension copyFrom) {
             this.source = copyFrom.source.clone();
-            this.dimensions = new int[]{(int)source.length};
         }
 
         public OfOneDimension(Data copyFrom) {
@@ -600,8 +1218,38 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
         }
 
         @Override
-        public int[] getDimensions() {
-            return dimensions;
+        public int blockSize() {
+            return source.length;
+        }
+
+        @Override
+        public int taskUnit() {
+            return 1;
+        }
+
+        @Override
+        public boolean[] block(long index) {
+            return source;
+        }
+
+        @Override
+        public boolean[] allocate(long index) {
+            return source;
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index;
+        }
+
+        @Override
+        public int remaining(long index) {
+            return source.length - (int)index;
+        }
+
+        @Override
+        public boolean filler() {
+            return false;
         }
 
         @Override
@@ -657,22 +1305,29 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
             }
         }
 
+        @Override
+        public void forEach(long from, long to, Consumer<? super Boolean> action) {
+            for (int i = (int)from, end = (int)to; i < end; i++) {
+                action.accept(source[i]);
+            }
+        }
+
         @Override
         public Data clone() {
             return new OfOneDimension(this);
         }
 
+        @Override
+        public Data blank() {
+            return new OfOneDimension((int)length(), false);
+        }
+
         @Override
         public boolean[] toArray() {
             boolean[] ar = (boolean[])Array.newInstance(boolean.class, source.length);
             System.arraycopy(source, 0, ar, 0, source.length);
             return ar;
         }
-
-        @Override
-        public Object getBackedArray() {
-            return source;
-        }
     }
 
     /**
@@ -716,8 +1371,40 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
         }
 
         @Override
-        public int[] getDimensions() {
-            return dimensions;
+        public int blockSize() {
+            return dimensions[1];
+        }
+
+        @Override
+        public boolean[] block(long index) {
+            return source[(int)(index / dimensions[1])];
+        }
+
+        @Override
+        public boolean[] allocate(long index) {
+            int x = (int)(index / dimensions[1]);
+            if (null == source[x]) {
+                source[x] = new boolean[dimensions[1]];
+                if (filler) {
+                    Arrays.fill(source[x], filler);
+                }
+            }
+            return source[x];
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)(index % dimensions[1]);
+        }
+
+        @Override
+        public int remaining(long index) {
+            return dimensions[1] - (int)(index % dimensions[1]);
+        }
+
+        @Override
+        public boolean filler() {
+            return filler;
         }
 
         @Override
@@ -741,7 +1428,7 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
                     return;
                 } else {
                     source[x] = new boolean[dimensions[1]];
-                    if (!filler) {
+                    if (filler) {
                         Arrays.fill(source[x], filler);
                     }
                 }
@@ -769,32 +1456,22 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
         }
 
         @Override
-        public void copy(long srcPos, Data dest, long destPos, long length)
-                throws NullPointerException, IndexOutOfBoundsException {
-            if (dest instanceof OfTwoDimensions) {
-                if (length == 0) {
-                    return;
-                }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
-                OfTwoDimensions d = (OfTwoDimensions)dest;
-                for (long i = 0; i < length;) {
-                    int xs = (int)((srcPos + i) / dimensions[1]);
-                    int ys = (int)((srcPos + i) % dimensions[1]);
-                    int xd = (int)((destPos + i) / d.dimensions[1]);
-                    int yd = (int)((destPos + i) % d.dimensions[1]);
-                    int copyLength = Math.min(dimensions[1] - ys, d.dimensions[1] - yd);
-                    copyLength = (int)Math.min((long)copyLength, length - i);
-                    if (source[xs] != null) {
-                        if (d.source[xd] == null) {
-                            d.source[xd] = new boolean[d.dimensions[1]];
-                        }
-                        System.arraycopy(source[xs], ys, d.source[xd], yd, copyLength);
+        public void forEach(long from, long to, Consumer<? super Boolean> action) {
+            for (long i = from; i < to;) {
+                int x = (int)(i / dimensions[1]);
+                int y = (int)(i % dimensions[1]);
+                int end = (int)Math.min((long)dimensions[1], y + (to - i));
+                boolean[] block = source[x];
+                if (null == block) {
+                    for (int j = y; j < end; j++) {
+                        action.accept(filler);
+                    }
+                } else {
+                    for (int j = y; j < end; j++) {
+                        action.accept(block[j]);
                     }
-                    i += copyLength;
                 }
-            } else {
-                super.copy(srcPos, dest, destPos, length);
+                i += end - y;
             }
         }
 
@@ -803,60 +1480,349 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
             return new OfTwoDimensions(this);
         }
 
+        @Override
+        public void fill(boolean value, Executor executor) {
+            this.filler = value;
+            super.fill(value, executor);
+        }
+
+        @Override
+        public Data blank() {
+            OfTwoDimensions blank = new OfTwoDimensions(length, dimensions, filler, true);
+            blank.lazy = lazy;
+            return blank;
+        }
+
         @Override
         public boolean[] toArray() {
             return new OfOneDimension(this).toArray();
         }
+    }
+
+    /**
+     * <p>
+     * Paged implementation for length which exceeds capacity of two dimensions. Elements are stored in blocks of which
+     * size is power of 2, and blocks are referenced by pages of which size is also power of 2, so any index is mapped
+     * to its page, block and offset by shifting and masking, without allocation or reflection. Specified block size is
+     * rounded down to power of 2.
+     * </p>
+     *
+     * @author Fred Suvn
+     * @version 0.0.0, 2026-10-16T10:12:08+08:00
+     * @since 0.0.0, 2026-10-16T10:12:08+08:00
+     */
+    private static class OfPages extends Data {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long length;
+
+        private final int blockShift;
+
+        private final int pageShift;
+
+        private final boolean[][][] source;
+
+        private boolean filler;
+
+        private boolean lazy;
+
+        public OfPages(long length, int blockSize, boolean initial, boolean lazy) {
+            this.length = length;
+            this.blockShift = BigArrayUtil.blockShift(blockSize);
+            long blocks = ((length - 1) >>> blockShift) + 1;
+            this.pageShift = BigArrayUtil.pageShift(blocks, blockShift);
+            this.lazy = lazy;
+            source = new boolean[(int)(((blocks - 1) >>> pageShift) + 1)][][];
+            if (!lazy) {
+                for (long b = 0; b < blocks; b++) {
+                    allocate(b << blockShift);
+                }
+            }
+            fill(initial);
+        }
+
+        public OfPages(OfPages copyFrom) {
+            this(copyFrom.length, 1 << copyFrom.blockShift, copyFrom.filler, copyFrom.lazy);
+            copyFrom.copy(0, this, 0, length);
+        }
 
         @Override
-        public Object getBackedArray() {
-            return source;
+        public int blockSize() {
+            return 1 << blockShift;
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public boolean[] block(long index) {
+            long b = index >>> blockShift;
+            boolean[][] page = source[(int)(b >>> pageShift)];
+            return null == page ? null : page[(int)b & ((1 << pageShift) - 1)];
+        }
+
+        @Override
+        public boolean[] allocate(long index) {
+            long b = index >>> blockShift;
+            int p = (int)(b >>> pageShift);
+            if (null == source[p]) {
+                allocatePage(p);
+            }
+            int x = (int)b & ((1 << pageShift) - 1);
+            if (null == source[p][x]) {
+                source[p][x] = new boolean[1 << blockShift];
+                if (filler) {
+                    Arrays.fill(source[p][x], filler);
+                }
+            }
+            return source[p][x];
+        }
+
+        private synchronized void allocatePage(int page) {
+            // Blocks of a same page may be allocated by concurrent tasks of parallel operations.
+            if (null == source[page]) {
+                source[page] = new boolean[1 << pageShift][];
+            }
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index & ((1 << blockShift) - 1);
+        }
+
+        @Override
+        public int remaining(long index) {
+            return (1 << blockShift) - ((int)index & ((1 << blockShift) - 1));
+        }
+
+        @Override
+        public boolean filler() {
+            return filler;
+        }
+
+        @Override
+        public boolean get(long index) throws IndexOutOfBoundsException {
+            Checker.checkIndex(index, length);
+            boolean[] block = block(index);
+            return null == block ? filler : block[(int)index & ((1 << blockShift) - 1)];
+        }
+
+        @Override
+        public void set(long index, boolean value) throws IndexOutOfBoundsException {
+            Checker.checkIndex(index, length);
+            boolean[] block = block(index);
+            if (null == block) {
+                if (value == filler) {
+                    return;
+                }
+                block = allocate(index);
+            }
+            block[(int)index & ((1 << blockShift) - 1)] = value;
+        }
+
+        @Override
+        public void fill(boolean value) {
+            this.filler = value;
+            for (boolean[][] page : source) {
+                if (null == page) {
+                    continue;
+                }
+                for (boolean[] block : page) {
+                    if (null != block) {
+                        Arrays.fill(block, value);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public Data clone() {
+            return new OfPages(this);
+        }
+
+        @Override
+        public void fill(boolean value, Executor executor) {
+            this.filler = value;
+            super.fill(value, executor);
+        }
+
+        @Override
+        public Data blank() {
+            OfPages blank = new OfPages(length, 1 << blockShift, filler, true);
+            blank.lazy = lazy;
+            return blank;
+        }
+
+        @Override
+        public boolean[] toArray() {
+            return new OfOneDimension(this).toArray();
         }
     }
 
     /**
      * <p>
-     * Multi-dimensions implementation.
+     * Bit-packed implementation. Each long stores 64 elements from its highest bit, and longs are grouped into blocks
+     * of which number of elements is power of 2. Bulk operations process a long at a time by {@linkplain BitsQuicker}.
      * </p>
      *
      * @author Fred Suvn
-     * @version 0.0.0, 2016-03-18T15:52:54+08:00
-     * @since 0.0.0, 2016-03-18T15:52:54+08:00
+     * @version 0.0.0, 2026-10-16T13:26:50+08:00
+     * @since 0.0.0, 2026-10-16T13:26:50+08:00
      */
-    private static class OfMultiDimensions extends Data {
+    private static class OfBits extends Data {
 
         private static final long serialVersionUID = 1L;
 
         private final long length;
 
-        private final int[] dimensions;
+        private final int blockShift;
 
-        private final Object source;
+        private final long[][] source;
 
         private boolean filler;
 
         private boolean lazy;
 
-        public OfMultiDimensions(long length, int[] dimensions, boolean initial, boolean lazy) {
+        public OfBits(long length, int blockSize, boolean initial, boolean lazy) {
             this.length = length;
-            this.dimensions = dimensions;
+            this.blockShift = BigArrayUtil.bitsBlockShift(length, blockSize);
+            int blocks = (int)((length + (1L << blockShift) - 1) >>> blockShift);
+            this.source = new long[blocks][];
             this.lazy = lazy;
-            if (lazy) {
-                source = new Object[dimensions[0]];
-            } else {
-                source = Array.newInstance(boolean.class, dimensions);
+            if (!lazy) {
+                for (long b = 0; b < blocks; b++) {
+                    allocateWords(b << blockShift);
+                }
             }
             fill(initial);
         }
 
-        public OfMultiDimensions(OfMultiDimensions copyFrom) {
-            this(copyFrom.length, copyFrom.dimensions, copyFrom.filler, copyFrom.lazy);
+        public OfBits(OfBits copyFrom) {
+            this(copyFrom.length, 1 << copyFrom.blockShift, copyFrom.filler, copyFrom.lazy);
             copyFrom.copy(0, this, 0, length);
         }
 
+        private long[] words(long index) {
+            return source[(int)(index >>> blockShift)];
+        }
+
+        @Override
+        public boolean allocated(long index) {
+            return null != words(index);
+        }
+
+        @Override
+        public long allocatedBytes() {
+            long bytes = 0;
+            for (long[] words : source) {
+                if (null != words) {
+                    bytes += words.length;
+                }
+            }
+            return bytes * Long.BYTES;
+        }
+
+        private long[] allocateWords(long index) {
+            int b = (int)(index >>> blockShift);
+            if (null == source[b]) {
+                long bits = Math.min(1L << blockShift, length - ((long)b << blockShift));
+                source[b] = new long[(int)((bits + 63) >>> 6)];
+                if (filler) {
+                    Arrays.fill(source[b], -1L);
+                }
+            }
+            return source[b];
+        }
+
+        /**
+         * Returns n bits from specified bit position, n in [1, 64]. Returned bits are aligned to the highest bit, the
+         * others are undefined.
+         */
+        private static long getBits(long[] words, int pos, int n) {
+            int w = pos >>> 6;
+            int s = pos & 63;
+            long bits = words[w] << s;
+            if (s + n > 64) {
+                bits |= words[w + 1] >>> (64 - s);
+            }
+            return bits;
+        }
+
+        /**
+         * Sets n highest bits of given bits into specified bit position, n in [1, 64].
+         */
+        private static void setBits(long[] words, int pos, long bits, int n) {
+            int w = pos >>> 6;
+            int s = pos & 63;
+            if (s + n <= 64) {
+                words[w] = BitsQuicker.bitsCopy(bits, 0, words[w], s, n);
+            } else {
+                int k = 64 - s;
+                words[w] = BitsQuicker.bitsCopy(bits, 0, words[w], s, k);
+                words[w + 1] = BitsQuicker.bitsCopy(bits, k, words[w + 1], 0, n - k);
+            }
+        }
+
+        private static void fillBits(long[] words, int from, int n, boolean value) {
+            int end = from + n;
+            int first = from >>> 6;
+            int last = (end - 1) >>> 6;
+            if (first == last) {
+                words[first] = BitsQuicker.fillBits(words[first], from & 63, n, !value);
+                return;
+            }
+            words[first] = BitsQuicker.fillBits(words[first], from & 63, 64 - (from & 63), !value);
+            Arrays.fill(words, first + 1, last, value ? -1L : 0L);
+            words[last] = BitsQuicker.fillBits(words[last], 0, end - (last << 6), !value);
+        }
+
+        private static void copyBits(long[] src, int srcPos, long[] dest, int destPos, int n) {
+            if (src == dest && srcPos < destPos) {
+                for (int i = n; i > 0;) {
+                    int k = Math.min(64, i);
+                    i -= k;
+                    setBits(dest, destPos + i, getBits(src, srcPos + i, k), k);
+                }
+            } else {
+                for (int i = 0; i < n;) {
+                    int k = Math.min(64, n - i);
+                    setBits(dest, destPos + i, getBits(src, srcPos + i, k), k);
+                    i += k;
+                }
+            }
+        }
+
+        @Override
+        public int blockSize() {
+            return 1 << blockShift;
+        }
+
+        @Override
+        public boolean[] block(long index) {
+            throw new UnsupportedOperationException("Bit-packed array is not backed by boolean array.");
+        }
+
+        @Override
+        public boolean[] allocate(long index) {
+            throw new UnsupportedOperationException("Bit-packed array is not backed by boolean array.");
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index & ((1 << blockShift) - 1);
+        }
+
+        @Override
+        public int remaining(long index) {
+            return (1 << blockShift) - ((int)index & ((1 << blockShift) - 1));
+        }
+
         @Override
-        public int[] getDimensions() {
-            return dimensions;
+        public boolean filler() {
+            return filler;
         }
 
         @Override
@@ -867,78 +1833,260 @@ public class BooleanArray extends BigArray implements Iterable<Boolean>, Cloneab
         @Override
         public boolean get(long index) throws IndexOutOfBoundsException {
             Checker.checkIndex(index, length);
-            int[] indexes = new int[dimensions.length];
-            BigArrayUtil.mapMultiIndexes(index, dimensions, indexes);
-            boolean[] array = (boolean[])BigArrayUtil.getLastDimension(source, indexes);
-            if (array == null) {
+            long[] words = words(index);
+            if (null == words) {
                 return filler;
-            } else {
-                return array[indexes[indexes.length - 1]];
             }
+            int offset = offset(index);
+            return (words[offset >>> 6] << offset) < 0;
         }
 
         @Override
         public void set(long index, boolean value) throws IndexOutOfBoundsException {
             Checker.checkIndex(index, length);
-            int[] indexes = new int[dimensions.length];
-            BigArrayUtil.mapMultiIndexes(index, dimensions, indexes);
-            boolean[] array = (boolean[])BigArrayUtil.getLastDimension(source, indexes);
-            if (array == null) {
+            long[] words = words(index);
+            if (null == words) {
                 if (value == filler) {
                     return;
-                } else {
-                    array = (boolean[])BigArrayUtil.alloc(source, boolean.class, dimensions, indexes);
-                    if (!filler) {
-                        Arrays.fill(array, filler);
-                    }
                 }
+                words = allocateWords(index);
+            }
+            int offset = offset(index);
+            if (value) {
+                words[offset >>> 6] |= Long.MIN_VALUE >>> offset;
+            } else {
+                words[offset >>> 6] &= ~(Long.MIN_VALUE >>> offset);
             }
-            array[indexes[indexes.length - 1]] = value;
         }
 
         @Override
         public void fill(boolean value) {
             this.filler = value;
-            fillMultiArray((Object[])source, value, 0);
+            for (long[] words : source) {
+                if (null != words) {
+                    Arrays.fill(words, value ? -1L : 0L);
+                }
+            }
         }
 
-        private void fillMultiArray(Object[] array, boolean value, int dimension) {
-            if (dimension == dimensions.length - 2) {
-                for (int i = 0; i < array.length; i++) {
-                    if (null == array[i]) {
-                        if (this.filler == value) {
-                            continue;
-                        }
-                        array[i] = new boolean[dimension + 1];
+        @Override
+        public void fill(long from, long to, boolean value) {
+            for (long i = from; i < to;) {
+                int n = (int)Math.min((long)remaining(i), to - i);
+                long[] words = words(i);
+                if (null == words) {
+                    if (value == filler) {
+                        i += n;
+                        continue;
                     }
-                    Arrays.fill((boolean[])array[i], value);
+                    words = allocateWords(i);
+                }
+                fillBits(words, offset(i), n, value);
+                i += n;
+            }
+        }
+
+        @Override
+        public void forEach(long from, long to, Consumer<? super Boolean> action) {
+            for (long i = from; i < to;) {
+                int offset = offset(i);
+                int end = offset + (int)Math.min((long)remaining(i), to - i);
+                long[] words = words(i);
+                if (null == words) {
+                    for (int j = offset; j < end; j++) {
+                        action.accept(filler);
+                    }
+                } else {
+                    for (int j = offset; j < end; j++) {
+                        action.accept((words[j >>> 6] << j) < 0);
+                    }
+                }
+                i += end - offset;
+            }
+        }
+
+        @Override
+        public void read(long index, boolean[] dest, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long s = index + i;
+                int n = Math.min(Math.min(remaining(s), 64), length - i);
+                long[] words = words(s);
+                if (null == words) {
+                    Arrays.fill(dest, offset + i, offset + i + n, filler);
+                } else {
+                    long bits = getBits(words, offset(s), n);
+                    for (int j = 0; j < n; j++) {
+                        dest[offset + i + j] = (bits << j) < 0;
+                    }
+                }
+                i += n;
+            }
+        }
+
+        @Override
+        public void write(long index, boolean[] src, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long d = index + i;
+                int n = Math.min(Math.min(remaining(d), 64), length - i);
+                long bits = 0;
+                for (int j = 0; j < n; j++) {
+                    if (src[offset + i + j]) {
+                        bits |= Long.MIN_VALUE >>> j;
+                    }
+                }
+                setBits(allocateWords(d), offset(d), bits, n);
+                i += n;
+            }
+        }
+
+        @Override
+        public void copy(long srcPos, Data dest, long destPos, long length)
+                throws NullPointerException, IndexOutOfBoundsException {
+            if (length == 0) {
+                return;
+            }
+            Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+            Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+            if (dest == this && srcPos < destPos && destPos < srcPos + length) {
+                // Overlapped, copies backward.
+                int blockSize = blockSize();
+                for (long i = length; i > 0;) {
+                    long s = srcPos + i - 1;
+                    long d = destPos + i - 1;
+                    int n = (int)Math.min((long)(blockSize - Math.max(remaining(s), remaining(d)) + 1), i);
+                    copyBlock(s - n + 1, dest, d - n + 1, n);
+                    i -= n;
                 }
             } else {
-                for (int i = 0; i < array.length; i++) {
-                    if (null == array[i]) {
-                        if (this.filler == value) {
-                            continue;
+                for (long i = 0; i < length;) {
+                    long s = srcPos + i;
+                    long d = destPos + i;
+                    int n = (int)Math.min((long)Math.min(remaining(s), dest.remaining(d)), length - i);
+                    copyBlock(s, dest, d, n);
+                    i += n;
+                }
+            }
+        }
+
+        private void copyBlock(long srcPos, Data dest, long destPos, int length) {
+            long[] words = words(srcPos);
+            if (null == words) {
+                dest.fill(destPos, destPos + length, filler);
+            } else if (dest instanceof OfBits) {
+                copyBits(words, offset(srcPos), ((OfBits)dest).allocateWords(destPos), dest.offset(destPos), length);
+            } else {
+                boolean[] block = dest.allocate(destPos);
+                int offset = offset(srcPos);
+                int destOffset = dest.offset(destPos);
+                for (int i = 0; i < length; i++) {
+                    block[destOffset + i] = (words[(offset + i) >>> 6] << (offset + i)) < 0;
+                }
+            }
+        }
+
+        @Override
+        public long cardinality(long from, long to) {
+            long count = 0;
+            for (long i = from; i < to;) {
+                int offset = offset(i);
+                int n = (int)Math.min((long)remaining(i), to - i);
+                long[] words = words(i);
+                if (null == words) {
+                    if (filler) {
+                        count += n;
+                    }
+                } else {
+                    int end = offset + n;
+                    int first = offset >>> 6;
+                    int last = (end - 1) >>> 6;
+                    if (first == last) {
+                        count += Long.bitCount(words[first] & BitsQuicker.fill1Bits(0L, offset & 63, n));
+                    } else {
+                        count += Long.bitCount(words[first] & (-1L >>> (offset & 63)));
+                        for (int w = first + 1; w < last; w++) {
+                            count += Long.bitCount(words[w]);
                         }
-                        array[i] = new Object[dimension + 1];
+                        count += Long.bitCount(words[last] & BitsQuicker.fill1Bits(0L, 0, end - (last << 6)));
+                    }
+                }
+                i += n;
+            }
+            return count;
+        }
+
+        @Override
+        public long next(long from, boolean value) {
+            for (long i = from; i < length;) {
+                int offset = offset(i);
+                int n = (int)Math.min((long)remaining(i), length - i);
+                long[] words = words(i);
+                if (null == words) {
+                    if (filler == value) {
+                        return i;
+                    }
+                } else {
+                    int w = offset >>> 6;
+                    long word = (value ? words[w] : ~words[w]) & (-1L >>> (offset & 63));
+                    int end = (offset + n - 1) >>> 6;
+                    while (0 == word && w < end) {
+                        w++;
+                        word = value ? words[w] : ~words[w];
+                    }
+                    if (0 != word) {
+                        long result = i - offset + ((long)w << 6) + Long.numberOfLeadingZeros(word);
+                        return result < length ? result : -1;
                     }
-                    fillMultiArray((Object[])array[i], value, dimension + 1);
                 }
+                i += n;
+            }
+            return -1;
+        }
+
+        @Override
+        public void bitwise(Data other, long length, LongBinaryOperator op) {
+            if (!(other instanceof OfBits)) {
+                super.bitwise(other, length, op);
+                return;
+            }
+            OfBits bits = (OfBits)other;
+            for (long i = 0; i < length;) {
+                int offset = offset(i);
+                int otherOffset = bits.offset(i);
+                int n = (int)Math.min((long)Math.min(remaining(i), bits.remaining(i)), length - i);
+                long[] words = allocateWords(i);
+                long[] others = bits.words(i);
+                long otherFiller = bits.filler ? -1L : 0L;
+                for (int j = 0; j < n;) {
+                    int k = Math.min(64, n - j);
+                    long b = null == others ? otherFiller : getBits(others, otherOffset + j, k);
+                    setBits(words, offset + j, op.applyAsLong(getBits(words, offset + j, k), b), k);
+                    j += k;
+                }
+                i += n;
             }
         }
 
         @Override
         public Data clone() {
-            return new OfMultiDimensions(this);
+            return new OfBits(this);
         }
 
         @Override
-        public boolean[] toArray() {
-            return new OfOneDimension(this).toArray();
+        public void fill(boolean value, Executor executor) {
+            this.filler = value;
+            super.fill(value, executor);
         }
 
         @Override
-        public Object getBackedArray() {
-            return source;
+        public Data blank() {
+            OfBits blank = new OfBits(length, 1 << blockShift, filler, true);
+            blank.lazy = lazy;
+            return blank;
+        }
+
+        @Override
+        public boolean[] toArray() {
+            return new OfOneDimension(this).toArray();
         }
     }
 }
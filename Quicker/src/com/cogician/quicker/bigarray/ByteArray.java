@@ -1,17 +1,41 @@
 package com.cogician.quicker.bigarray;
 
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import javax.annotation.Nullable;
+
 import com.cogician.quicker.Checker;
 import com.cogician.quicker.Quicker;
+import com.cogician.quicker.ReadException;
+import com.cogician.quicker.binary.Binary;
+import com.cogician.quicker.binary.ByteOrderProcessor;
+import com.cogician.quicker.binary.HeapBinary;
+import com.cogician.quicker.binary.Inputer;
+import com.cogician.quicker.binary.Outputer;
+import com.cogician.quicker.function.EachIntConsumer;
 
 /**
  * <p>
@@ -35,13 +59,14 @@ public class ByteArray extends BigArray implements Iterable<Byte>, Cloneable {
 
     private static final long serialVersionUID = 1L;
 
-    private static Data createData(long length, int[] dimensions, byte initial, boolean lazy) {
+    private static Data createData(long length, int blockSize, byte initial, boolean lazy) {
+        int[] dimensions = BigArrayUtil.caculateDimensions(length, blockSize);
         if (1 == dimensions.length) {
             return new OfOneDimension((int)length, initial);
         } else if (2 == dimensions.length) {
             return new OfTwoDimensions(length, dimensions, initial, lazy);
         } else {
-            return new OfMultiDimensions(length, dimensions, initial, lazy);
+            return new OfPages(length, blockSize, initial, lazy);
         }
     }
 
@@ -101,7 +126,7 @@ public class ByteArray extends BigArray implements Iterable<Byte>, Cloneable {
     public ByteArray(long length, int blockSize, byte initial, boolean lazy) throws IllegalArgumentException {
         Checker.checkLength(length);
         Checker.checkPositive(blockSize);
-        this.data = createData(length, BigArrayUtil.caculateDimensions(length, blockSize), initial, lazy);
+        this.data = createData(length, blockSize, initial, lazy);
     }
 
     /**
@@ -146,6 +171,186 @@ public class ByteArray extends BigArray implements Iterable<Byte>, Cloneable {
         this.data = new ArrayWrapper(array, from, to);
     }
 
+    /**
+     * <p>
+     * Returns a new big array with specified length, of which elements are stored off-heap.
+     * </p>
+     * 
+     * @param length
+     *            specified length
+     * @return a new off-heap big array
+     * @throws IllegalArgumentException
+     *             if specified length < 0
+     * @see #offHeap(long, int, byte, boolean)
+     * @since 0.0.0
+     */
+    public static ByteArray offHeap(long length) throws IllegalArgumentException {
+        return offHeap(length, BigArray.BLOCK_SIZE, (byte)0, true);
+    }
+
+    /**
+     * <p>
+     * Returns a new big array with specified length, specified block size, initial value and whether it is lazy, of
+     * which elements are stored off-heap in direct buffers. Garbage collector neither scans nor copies off-heap
+     * elements, so its pause time does not grow with length of the array. Specified block size is rounded down to power
+     * of 2 and limited so that each block is less than 2GB.
+     * </p>
+     * <p>
+     * Off-heap memory is released by {@linkplain #close()}, or at latest when the array is garbage collected. A closed
+     * array cannot be accessed any more. Clone of an off-heap array is off-heap too, but a serialized one is always
+     * deserialized as an on-heap array.
+     * </p>
+     * 
+     * @param length
+     *            specified length
+     * @param blockSize
+     *            specified block size
+     * @param initial
+     *            initial value
+     * @param lazy
+     *            whether the array is lazy
+     * @return a new off-heap big array
+     * @throws IllegalArgumentException
+     *             if specified length < 0 or specified block size <= 0
+     * @since 0.0.0
+     */
+    public static ByteArray offHeap(long length, int blockSize, byte initial, boolean lazy)
+            throws IllegalArgumentException {
+        Checker.checkLength(length);
+        Checker.checkPositive(blockSize);
+        return new ByteArray(new OfBuffers(length, blockSize, initial, lazy));
+    }
+
+    /**
+     * <p>
+     * Returns a new big array with specified length, of which elements are stored in specified file. The file is
+     * created or extended if it is not long enough.
+     * </p>
+     * 
+     * @param file
+     *            specified file
+     * @param length
+     *            specified length
+     * @return a new file-mapped big array
+     * @throws NullPointerException
+     *             if specified file is null
+     * @throws IllegalArgumentException
+     *             if specified length < 0
+     * @throws ReadException
+     *             if file cannot be opened or mapped
+     * @see #map(File, long, int, boolean)
+     * @since 0.0.0
+     */
+    public static ByteArray map(File file, long length)
+            throws NullPointerException, IllegalArgumentException, ReadException {
+        return map(file, length, BigArray.BLOCK_SIZE, false);
+    }
+
+    /**
+     * <p>
+     * Returns a new big array with specified length and specified block size, of which elements are stored in specified
+     * file. Each block of the array is mapped from a region of the file by {@linkplain FileChannel#map}, so the array
+     * can be much larger than physical memory, only accessed regions are loaded by operating system. Elements are
+     * stored in native byte order. Specified block size is rounded down to power of 2 and limited so that each block is
+     * less than 2GB.
+     * </p>
+     * <p>
+     * In read-only mode the file must be long enough and any write operation throws
+     * {@linkplain ReadOnlyBufferException}, or else the file is created or extended if it is not long enough. Changes
+     * are written back to the file by operating system, {@linkplain #force()} ensures that they are written to the
+     * storage device. The mapping is released by {@linkplain #close()}, or when the array is garbage collected. Clone
+     * of the array is an off-heap array not backed by the file.
+     * </p>
+     * 
+     * @param file
+     *            specified file
+     * @param length
+     *            specified length
+     * @param blockSize
+     *            specified block size
+     * @param readOnly
+     *            whether the array is read-only
+     * @return a new file-mapped big array
+     * @throws NullPointerException
+     *             if specified file is null
+     * @throws IllegalArgumentException
+     *             if specified length < 0, specified block size <= 0, or file is not long enough in read-only mode
+     * @throws ReadException
+     *             if file cannot be opened or mapped
+     * @since 0.0.0
+     */
+    public static ByteArray map(File file, long length, int blockSize, boolean readOnly)
+            throws NullPointerException, IllegalArgumentException, ReadException {
+        Checker.checkNull(file);
+        Checker.checkLength(length);
+        Checker.checkPositive(blockSize);
+        int blockShift = BigArrayUtil.offHeapBlockShift(length, blockSize, Byte.BYTES);
+        return new ByteArray(new OfBuffers(length, blockShift,
+                BigArrayUtil.map(file, length, blockShift, Byte.BYTES, readOnly, ByteOrder.nativeOrder())));
+    }
+
+    /**
+     * <p>
+     * Returns a new sparse big array with specified length, of which default value is 0 and block size is
+     * {@linkplain BigArray#SPARSE_BLOCK_SIZE}.
+     * </p>
+     * 
+     * @param length
+     *            specified length
+     * @return a new sparse big array
+     * @throws IllegalArgumentException
+     *             if specified length < 0
+     * @see #sparse(long, int, byte)
+     * @since 0.0.0
+     */
+    public static ByteArray sparse(long length) throws IllegalArgumentException {
+        return sparse(length, BigArray.SPARSE_BLOCK_SIZE, (byte)0);
+    }
+
+    /**
+     * <p>
+     * Returns a new sparse big array with specified length, specified block size and default value. Sparse array
+     * counts elements which are not equal to default value in each block. A block is allocated when such an element is
+     * written into it, and freed as soon as all of its elements are equal to default value again, so that memory of
+     * sparse array tracks actual density. Specified block size is rounded down to power of 2, smaller block reclaims
+     * memory more accurately but needs more counters.
+     * </p>
+     * 
+     * @param length
+     *            specified length
+     * @param blockSize
+     *            specified block size
+     * @param defaultValue
+     *            default value
+     * @return a new sparse big array
+     * @throws IllegalArgumentException
+     *             if specified length < 0 or specified block size <= 0
+     * @since 0.0.0
+     */
+    public static ByteArray sparse(long length, int blockSize, byte defaultValue) throws IllegalArgumentException {
+        Checker.checkLength(length);
+        Checker.checkPositive(blockSize);
+        return new ByteArray(new OfSparse(length, blockSize, defaultValue));
+    }
+
+    /**
+     * <p>
+     * Returns a big array viewing given blocks of a {@linkplain ByteBigList}, elements are not copied.
+     * </p>
+     * 
+     * @param length
+     *            length of the view
+     * @param blockShift
+     *            shift of block, each block except the last one is {@code 1 << blockShift} long
+     * @param blocks
+     *            given blocks
+     * @return a big array viewing given blocks
+     * @since 0.0.0
+     */
+    static ByteArray ofBlocks(long length, int blockShift, byte[][] blocks) {
+        return new ByteArray(new OfBlocks(length, blockShift, blocks));
+    }
+
     private final Data data;
 
     @Override
@@ -219,6 +424,69 @@ public class ByteArray extends BigArray implements Iterable<Byte>, Cloneable {
         data.set(index, value);
     }
 
+    /**
+     * <p>
+     * Reads elements of this array from specified index into specified array. Elements are copied in bulk block by
+     * block, so a hot loop can pull a window of this array into a reusable buffer instead of calling
+     * {@linkplain #get(long)} for each element.
+     * </p>
+     * 
+     * @param index
+     *            specified start index of this array
+     * @param dest
+     *            specified destination array, not null
+     * @param offset
+     *            start offset of destination array
+     * @param length
+     *            number of elements, >= 0
+     * @throws NullPointerException
+     *             if destination array is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @since 0.0.0
+     */
+    public void get(long index, byte[] dest, int offset, int length)
+            throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException {
+        Checker.checkNull(dest);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(index, index + length, length());
+        Checker.checkRangeIndexes(offset, offset + length, dest.length);
+        data.read(index, dest, offset, length);
+    }
+
+    /**
+     * <p>
+     * Writes elements of specified array into this array from specified index. Elements are copied in bulk block by
+     * block, see {@linkplain #get(long, byte[], int, int)}.
+     * </p>
+     * 
+     * @param index
+     *            specified start index of this array
+     * @param src
+     *            specified source array, not null
+     * @param offset
+     *            start offset of source array
+     * @param length
+     *            number of elements, >= 0
+     * @throws NullPointerException
+     *             if source array is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @since 0.0.0
+     */
+    public void set(long index, byte[] src, int offset, int length)
+            throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException {
+        Checker.checkNull(src);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(index, index + length, length());
+        Checker.checkRangeIndexes(offset, offset + length, src.length);
+        data.write(index, src, offset, length);
+    }
+
     /**
      * <p>
      * Fills elements of this array with specified value.
@@ -271,102 +539,574 @@ public class ByteArray extends BigArray implements Iterable<Byte>, Cloneable {
      */
     public void copy(long srcPos, ByteArray dest, long destPos, long length)
             throws NullPointerException, IndexOutOfBoundsException {
-        Checker.checkIndex(srcPos, length());
-        Checker.checkIndex(destPos, length());
+        Checker.checkNull(dest);
         Checker.checkLength(length);
+        Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+        Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
         data.copy(srcPos, dest.data, destPos, length);
     }
 
     /**
      * <p>
-     * Clones this array, all settings and options inherited.
+     * Fills elements of this array with specified value in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
      * </p>
      * 
-     * @return duplication of this array
+     * @param value
+     *            specified value
+     * @see #parallelFill(byte, Executor)
      * @since 0.0.0
      */
-    @Override
-    public ByteArray clone() {
-        return new ByteArray(data.clone());
+    public void parallelFill(byte value) {
+        parallelFill(value, ForkJoinPool.commonPool());
     }
 
     /**
      * <p>
-     * COnverts this array to an object array. If length of this array is greater than {@linkplain Integer#MAX_VALUE},
-     * return first {@linkplain Integer#MAX_VALUE} elements.
+     * Fills elements of this array with specified value in parallel, tasks are executed in specified executor. Elements
+     * are divided into tasks of whole blocks, see {@linkplain BigArray#PARALLEL_TASK_SIZE}. If this array is not large
+     * enough to be divided, it is filled in current thread.
      * </p>
      * 
-     * @return an object array
+     * @param value
+     *            specified value
+     * @param executor
+     *            specified executor, not null
+     * @throws NullPointerException
+     *             if specified executor is null
      * @since 0.0.0
      */
-    public byte[] toArray() {
-        return data.toArray();
+    public void parallelFill(byte value, Executor executor) throws NullPointerException {
+        Checker.checkNull(executor);
+        data.fill(value, executor);
     }
 
     /**
      * <p>
-     * Returns an iterator to traverse this array.
+     * Copies data of this array into destination array in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
      * </p>
-     * 
-     * @return an iterator to traverse this array
+     *
+     * @param srcPos
+     *            source start index in bounds
+     * @param dest
+     *            destination array, not null
+     * @param destPos
+     *            destination start index in bounds
+     * @param length
+     *            specified length, >= 0
+     * @throws NullPointerException
+     *             if destination array is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @see #parallelCopy(long, ByteArray, long, long, Executor)
      * @since 0.0.0
      */
-    @Override
-    public Iterator<Byte> iterator() {
-        return new ByteArrayIterator(this);
+    public void parallelCopy(long srcPos, ByteArray dest, long destPos, long length)
+            throws NullPointerException, IndexOutOfBoundsException {
+        parallelCopy(srcPos, dest, destPos, length, ForkJoinPool.commonPool());
     }
 
     /**
      * <p>
-     * Returns a spliterator to traverse this array.
+     * Copies data of this array into destination array in parallel, tasks are executed in specified executor. Copied
+     * range is divided into tasks of whole blocks of destination array, see {@linkplain BigArray#PARALLEL_TASK_SIZE}.
+     * If the range is not large enough to be divided, or destination array is this array and the source and destination
+     * ranges overlap, it is copied in current thread.
      * </p>
      *
-     * @return a spliterator to traverse this array
+     * @param srcPos
+     *            source start index in bounds
+     * @param dest
+     *            destination array, not null
+     * @param destPos
+     *            destination start index in bounds
+     * @param length
+     *            specified length, >= 0
+     * @param executor
+     *            specified executor, not null
+     * @throws NullPointerException
+     *             if destination array or specified executor is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
      * @since 0.0.0
      */
-    public Spliterator<Byte> spliterator() {
-        return new ByteArraySpliterator(this, 0, length());
+    public void parallelCopy(long srcPos, ByteArray dest, long destPos, long length, Executor executor)
+            throws NullPointerException, IndexOutOfBoundsException {
+        Checker.checkNull(dest);
+        Checker.checkNull(executor);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+        Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+        data.copy(srcPos, dest.data, destPos, length, executor);
     }
 
     /**
      * <p>
-     * Returns a stream to traverse this array.
+     * Sorts elements of this array into ascending numerical order.
      * </p>
-     *
-     * @return a stream to traverse this array
+     * <p>
+     * Elements are sorted in runs of whole blocks by {@linkplain Arrays#sort(byte[])}, then sorted runs are merged in
+     * pairs. Merging needs a temporary array as long as the sorted range, which is off-heap if this array is off-heap.
+     * Unlike traditional array, more than {@linkplain Integer#MAX_VALUE} elements can be sorted.
+     * </p>
+     * 
      * @since 0.0.0
      */
-    public Stream<Byte> stream() {
-        return StreamSupport.stream(spliterator(), false);
+    public void sort() {
+        data.sort(0, length(), null);
     }
 
-    private static class ByteArrayIterator implements Iterator<Byte> {
-
-        private ByteArray array;
-
-        private long cur = 0;
-
-        public ByteArrayIterator(ByteArray array) {
-            this.array = array;
-        }
-
-        @Override
-        public boolean hasNext() {
-            return cur < array.length();
-        }
-
-        @Override
-        public Byte next() {
-            if (cur >= array.length()) {
-                throw new NoSuchElementException();
-            }
-            return array.get(cur++);
-        }
+    /**
+     * <p>
+     * Sorts elements of this array from {@code from} inclusive to {@code to} exclusive into ascending numerical order,
+     * see {@linkplain #sort()}.
+     * </p>
+     * 
+     * @param from
+     *            from index inclusive
+     * @param to
+     *            to index exclusive
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @since 0.0.0
+     */
+    public void sort(long from, long to) throws IndexOutOfBoundsException {
+        Checker.checkRangeIndexes(from, to, length());
+        data.sort(from, to, null);
     }
 
-    private static class ByteArraySpliterator implements Spliterator<Byte> {
+    /**
+     * <p>
+     * Sorts elements of this array into ascending numerical order in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @see #parallelSort(long, long, Executor)
+     * @since 0.0.0
+     */
+    public void parallelSort() {
+        parallelSort(0, length(), ForkJoinPool.commonPool());
+    }
 
-        private ByteArray array;
+    /**
+     * <p>
+     * Sorts elements of this array from {@code from} inclusive to {@code to} exclusive into ascending numerical order
+     * in parallel, tasks are executed in {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @param from
+     *            from index inclusive
+     * @param to
+     *            to index exclusive
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @see #parallelSort(long, long, Executor)
+     * @since 0.0.0
+     */
+    public void parallelSort(long from, long to) throws IndexOutOfBoundsException {
+        parallelSort(from, to, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Sorts elements of this array from {@code from} inclusive to {@code to} exclusive into ascending numerical order
+     * in parallel, tasks are executed in specified executor. The range is divided into runs of whole blocks, see
+     * {@linkplain BigArray#PARALLEL_TASK_SIZE}, each run is sorted by a task and then each pair of adjacent sorted runs
+     * is merged by a task, until the whole range is sorted. Result is same as {@linkplain #sort(long, long)}.
+     * </p>
+     * 
+     * @param from
+     *            from index inclusive
+     * @param to
+     *            to index exclusive
+     * @param executor
+     *            specified executor, not null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws NullPointerException
+     *             if specified executor is null
+     * @since 0.0.0
+     */
+    public void parallelSort(long from, long to, Executor executor)
+            throws IndexOutOfBoundsException, NullPointerException {
+        Checker.checkRangeIndexes(from, to, length());
+        Checker.checkNull(executor);
+        data.sort(from, to, executor);
+    }
+
+    /**
+     * <p>
+     * Searches specified value in this array by binary search, see {@linkplain #binarySearch(long, long, byte)}.
+     * </p>
+     * 
+     * @param value
+     *            specified value
+     * @return index of specified value if it is found, or else {@code (-(insertion point) - 1)}
+     * @since 0.0.0
+     */
+    public long binarySearch(byte value) {
+        return binarySearch(0, length(), value);
+    }
+
+    /**
+     * <p>
+     * Searches specified value in this array from {@code from} inclusive to {@code to} exclusive by binary search. The
+     * range must be sorted such as by {@linkplain #sort(long, long)}, or else the result is undefined. If the range
+     * contains multiple elements equal to specified value, there is no guarantee which one will be found.
+     * </p>
+     * 
+     * @param from
+     *            from index inclusive
+     * @param to
+     *            to index exclusive
+     * @param value
+     *            specified value
+     * @return index of specified value if it is found, or else {@code (-(insertion point) - 1)}, insertion point is
+     *         index of first element greater than specified value, or {@code to} if all elements in the range are less
+     *         than it
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @since 0.0.0
+     */
+    public long binarySearch(long from, long to, byte value) throws IndexOutOfBoundsException {
+        Checker.checkRangeIndexes(from, to, length());
+        long low = from;
+        long high = to - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            byte midValue = data.get(mid);
+            if (midValue < value) {
+                low = mid + 1;
+            } else if (midValue > value) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * <p>
+     * Returns bytes of memory allocated for elements of this array, not including headers of objects. For a lazy,
+     * sparse or off-heap array, only allocated blocks are counted.
+     * </p>
+     * 
+     * @return bytes of memory allocated for elements of this array
+     * @see #logicalBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long allocatedBytes() {
+        return data.allocatedBytes();
+    }
+
+    /**
+     * <p>
+     * Returns bytes of all elements of this array, that is, length of this array multiplied by bytes of each element.
+     * </p>
+     * 
+     * @return bytes of all elements of this array
+     * @see #allocatedBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long logicalBytes() {
+        return length() * Byte.BYTES;
+    }
+
+    /**
+     * <p>
+     * Returns number of blocks allocated for elements of this array. For a lazy or sparse array, blocks which have
+     * never been written are not allocated.
+     * </p>
+     * 
+     * @return number of blocks allocated for elements of this array
+     * @see #allocatedBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long allocatedBlocks() {
+        return data.allocatedBlocks();
+    }
+
+    /**
+     * <p>
+     * Performs given action for each element of this array which is not equal to default value, in order of index.
+     * Default value is value of elements which are not allocated, that is, initial value of this array or value last
+     * filled by {@linkplain #fill(byte)}, and it is always 0 for array backed by only one array. Blocks which are not
+     * allocated are skipped without traversing, so that it is fast for sparse array.
+     * </p>
+     * 
+     * @param action
+     *            given action with index and value of each element, not null
+     * @throws NullPointerException
+     *             if given action is null
+     * @since 0.0.0
+     */
+    public void forEachNonDefault(EachIntConsumer action) throws NullPointerException {
+        Checker.checkNull(action);
+        data.forEachNonDefault(action);
+    }
+
+    @Override
+    public boolean isOffHeap() {
+        return data.isOffHeap();
+    }
+
+    @Override
+    public void close() {
+        data.close();
+    }
+
+    @Override
+    public void force() {
+        data.force();
+    }
+
+    /**
+     * <p>
+     * Clones this array, all settings and options inherited.
+     * </p>
+     * 
+     * @return duplication of this array
+     * @since 0.0.0
+     */
+    @Override
+    public ByteArray clone() {
+        return new ByteArray(data.clone());
+    }
+
+    /**
+     * <p>
+     * Clones this array in parallel, all settings and options inherited. Tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @return duplication of this array
+     * @see #parallelClone(Executor)
+     * @since 0.0.0
+     */
+    public ByteArray parallelClone() {
+        return parallelClone(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Clones this array in parallel, all settings and options inherited. Tasks are executed in specified executor,
+     * elements are divided into tasks of whole blocks, see {@linkplain BigArray#PARALLEL_TASK_SIZE}.
+     * </p>
+     * 
+     * @param executor
+     *            specified executor, not null
+     * @return duplication of this array
+     * @throws NullPointerException
+     *             if specified executor is null
+     * @since 0.0.0
+     */
+    public ByteArray parallelClone(Executor executor) throws NullPointerException {
+        Checker.checkNull(executor);
+        return new ByteArray(data.clone(executor));
+    }
+
+    /**
+     * <p>
+     * COnverts this array to an object array. If length of this array is greater than {@linkplain Integer#MAX_VALUE},
+     * return first {@linkplain Integer#MAX_VALUE} elements.
+     * </p>
+     * 
+     * @return an object array
+     * @since 0.0.0
+     */
+    public byte[] toArray() {
+        return data.toArray();
+    }
+
+    /**
+     * <p>
+     * Returns an iterator to traverse this array.
+     * </p>
+     * 
+     * @return an iterator to traverse this array
+     * @since 0.0.0
+     */
+    @Override
+    public Iterator<Byte> iterator() {
+        return new ByteArrayIterator(this);
+    }
+
+    /**
+     * <p>
+     * Returns a spliterator to traverse this array.
+     * </p>
+     *
+     * @return a spliterator to traverse this array
+     * @since 0.0.0
+     */
+    public Spliterator<Byte> spliterator() {
+        return new ByteArraySpliterator(this, 0, length());
+    }
+
+    /**
+     * <p>
+     * Returns a stream to traverse this array.
+     * </p>
+     *
+     * @return a stream to traverse this array
+     * @since 0.0.0
+     */
+    public Stream<Byte> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * <p>
+     * Returns an int stream to traverse this array, each element of which is widened to int.
+     * </p>
+     *
+     * @return an int stream to traverse this array
+     * @since 0.0.0
+     */
+    public IntStream intStream() {
+        return StreamSupport.intStream(new ByteArrayIntSpliterator(this, 0, length()), false);
+    }
+
+    /**
+     * <p>
+     * Returns a binary backed by this array with specified byte order processor, no element is copied. Changes of
+     * either of them are visible to the other. If given byte order processor is null, use default
+     * {@linkplain ByteOrderProcessor#BIG_ENDIAN}.
+     * </p>
+     * 
+     * @param orderProcessor
+     *            given byte order processor
+     * @return a binary backed by this array
+     * @see HeapBinary
+     * @since 0.0.0
+     */
+    public Binary asBinary(@Nullable ByteOrderProcessor orderProcessor) {
+        return new HeapBinary(this, orderProcessor);
+    }
+
+    /**
+     * <p>
+     * Writes this array into specified outputer in a compact streaming format, in byte order of the outputer. The
+     * format consists of a header of type, byte order, length, block size and filler, followed by blocks of this array.
+     * Each block is written as a flag and its elements in bulk, a block which is not allocated by a lazy array is
+     * written as a flag only. The array can be read back by {@linkplain #readFrom(Inputer)}.
+     * </p>
+     * 
+     * @param out
+     *            specified outputer
+     * @throws NullPointerException
+     *             if specified outputer is null
+     * @throws IOException
+     *             if an I/O error occurs
+     * @since 0.0.0
+     */
+    public void writeTo(Outputer out) throws NullPointerException, IOException {
+        Checker.checkNull(out);
+        ByteOrder order = out.getByteOrderProcessor().getByteOrder();
+        long length = length();
+        int blockSize = Math.max(data.blockSize(), 1);
+        ByteBuffer header = BigArrayUtil.header('B', Byte.BYTES, order);
+        header.putLong(length).putInt(blockSize).put(data.filler());
+        out.write(header.array());
+        byte[] temp = new byte[(int)Math.min(length, (long)BigArrayUtil.COPY_BUFFER_SIZE)];
+        for (long i = 0; i < length;) {
+            int n = (int)Math.min((long)blockSize, length - i);
+            if (!data.allocated(i)) {
+                out.write(0);
+                i += n;
+                continue;
+            }
+            out.write(1);
+            for (int j = 0; j < n;) {
+                int m = Math.min(temp.length, n - j);
+                data.read(i + j, temp, 0, m);
+                out.write(temp, 0, m);
+                j += m;
+            }
+            i += n;
+        }
+    }
+
+    /**
+     * <p>
+     * Reads a big array from specified inputer, which is written by {@linkplain #writeTo(Outputer)}. Returned array is
+     * a new lazy array of default block size, blocks which are not written are left unallocated.
+     * </p>
+     * 
+     * @param in
+     *            specified inputer
+     * @return a new big array read from specified inputer
+     * @throws NullPointerException
+     *             if specified inputer is null
+     * @throws StreamCorruptedException
+     *             if data of specified inputer is not a big array of byte
+     * @throws EOFException
+     *             if reaches to end of stream before reading the whole array
+     * @throws IOException
+     *             if an I/O error occurs
+     * @since 0.0.0
+     */
+    public static ByteArray readFrom(Inputer in)
+            throws NullPointerException, StreamCorruptedException, EOFException, IOException {
+        Checker.checkNull(in);
+        ByteBuffer header = BigArrayUtil.readHeader(in, 'B', Byte.BYTES);
+        long length = header.getLong();
+        int blockSize = header.getInt();
+        byte filler = header.get();
+        BigArrayUtil.checkHeader(length, blockSize);
+        ByteArray array = new ByteArray(length, BigArray.BLOCK_SIZE, filler, true);
+        byte[] temp = new byte[(int)Math.min(length, (long)BigArrayUtil.COPY_BUFFER_SIZE)];
+        for (long i = 0; i < length;) {
+            int n = (int)Math.min((long)blockSize, length - i);
+            if (BigArrayUtil.readFlag(in)) {
+                for (int j = 0; j < n;) {
+                    int m = Math.min(temp.length, n - j);
+                    in.readFully(temp, 0, m);
+                    array.data.write(i + j, temp, 0, m);
+                    j += m;
+                }
+            }
+            i += n;
+        }
+        return array;
+    }
+
+    private static class ByteArrayIterator implements Iterator<Byte> {
+
+        private ByteArray array;
+
+        private long cur = 0;
+
+        public ByteArrayIterator(ByteArray array) {
+            this.array = array;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cur < array.length();
+        }
+
+        @Override
+        public Byte next() {
+            if (cur >= array.length()) {
+                throw new NoSuchElementException();
+            }
+            return array.get(cur++);
+        }
+    }
+
+    private static class ByteArraySpliterator implements Spliterator<Byte> {
+
+        private ByteArray array;
 
         private long end;
 
@@ -380,7 +1120,7 @@ public class ByteArray extends BigArray implements Iterable<Byte>, Cloneable {
 
         @Override
         public boolean tryAdvance(Consumer<? super Byte> action) {
-            if (cur >= array.length()) {
+            if (cur >= end) {
                 return false;
             }
             Quicker.require(action).accept(array.get(cur++));
@@ -388,109 +1128,918 @@ public class ByteArray extends BigArray implements Iterable<Byte>, Cloneable {
         }
 
         @Override
-        public Spliterator<Byte> trySplit() {
-            if (end - cur > BigArray.UNSPLITERATED_SIZE) {
-                return null;
+        public void forEachRemaining(Consumer<? super Byte> action) {
+            Quicker.require(action);
+            if (cur < end) {
+                long from = cur;
+                cur = end;
+                array.data.forEach(from, end, v -> action.accept((byte)v));
+            }
+        }
+
+        @Override
+        public Spliterator<Byte> trySplit() {
+            long mid = BigArrayUtil.splitIndex(cur, end, array.data.blockSize());
+            if (mid < 0) {
+                return null;
+            }
+            ByteArraySpliterator prefix = new ByteArraySpliterator(array, cur, mid);
+            this.cur = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - cur;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+                    | Spliterator.NONNULL;
+        }
+    }
+
+    private static class ByteArrayIntSpliterator implements Spliterator.OfInt {
+
+        private ByteArray array;
+
+        private long end;
+
+        private long cur;
+
+        public ByteArrayIntSpliterator(ByteArray array, long start, long end) {
+            this.array = array;
+            this.cur = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (cur >= end) {
+                return false;
+            }
+            Quicker.require(action).accept(array.get(cur++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Quicker.require(action);
+            if (cur < end) {
+                long from = cur;
+                cur = end;
+                array.data.forEach(from, end, action);
+            }
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            long mid = BigArrayUtil.splitIndex(cur, end, array.data.blockSize());
+            if (mid < 0) {
+                return null;
+            }
+            ByteArrayIntSpliterator prefix = new ByteArrayIntSpliterator(array, cur, mid);
+            this.cur = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - cur;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+                    | Spliterator.NONNULL;
+        }
+    }
+
+    private static abstract class Data implements Serializable, Cloneable {
+
+        private static final long serialVersionUID = 1L;
+
+        public abstract int blockSize();
+
+        public abstract byte[] block(long index);
+
+        public abstract byte[] allocate(long index);
+
+        public abstract int offset(long index);
+
+        public abstract int remaining(long index);
+
+        public abstract byte filler();
+
+        public abstract long length();
+
+        public byte get(int index) throws IndexOutOfBoundsException {
+            return get((long)index);
+        }
+
+        public void set(int index, byte value) throws IndexOutOfBoundsException {
+            set((long)index, value);
+        }
+
+        public abstract byte get(long index) throws IndexOutOfBoundsException;
+
+        public abstract void set(long index, byte value) throws IndexOutOfBoundsException;
+
+        public abstract void fill(byte value);
+
+        public int taskUnit() {
+            return blockSize();
+        }
+
+        public void fill(byte value, Executor executor) {
+            BigArrayUtil.parallel(0, length(), taskUnit(), executor, (from, to) -> fill(from, to, value));
+        }
+
+        public void forEach(long from, long to, IntConsumer action) {
+            for (long i = from; i < to;) {
+                int offset = offset(i);
+                int end = offset + (int)Math.min((long)remaining(i), to - i);
+                byte[] block = block(i);
+                if (null == block) {
+                    byte filler = filler();
+                    for (int j = offset; j < end; j++) {
+                        action.accept(filler);
+                    }
+                } else {
+                    for (int j = offset; j < end; j++) {
+                        action.accept(block[j]);
+                    }
+                }
+                i += end - offset;
+            }
+        }
+
+        public void fill(long from, long to, byte value) {
+            for (long i = from; i < to;) {
+                int offset = offset(i);
+                int n = (int)Math.min((long)remaining(i), to - i);
+                byte[] block = block(i);
+                if (null == block) {
+                    if (value == filler()) {
+                        i += n;
+                        continue;
+                    }
+                    block = allocate(i);
+                }
+                Arrays.fill(block, offset, offset + n, value);
+                i += n;
+            }
+        }
+
+        public void copy(long srcPos, Data dest, long destPos, long length)
+                throws NullPointerException, IndexOutOfBoundsException {
+            if (length == 0) {
+                return;
+            }
+            Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+            Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+            if (dest == this && srcPos < destPos && destPos < srcPos + length) {
+                // Overlapped, copies backward.
+                int blockSize = blockSize();
+                for (long i = length; i > 0;) {
+                    long s = srcPos + i - 1;
+                    long d = destPos + i - 1;
+                    int n = (int)Math.min((long)(blockSize - Math.max(remaining(s), remaining(d)) + 1), i);
+                    copyBlock(s - n + 1, dest, d - n + 1, n);
+                    i -= n;
+                }
+            } else {
+                for (long i = 0; i < length;) {
+                    long s = srcPos + i;
+                    long d = destPos + i;
+                    int n = (int)Math.min((long)Math.min(remaining(s), dest.remaining(d)), length - i);
+                    copyBlock(s, dest, d, n);
+                    i += n;
+                }
+            }
+        }
+
+        public void copy(long srcPos, Data dest, long destPos, long length, Executor executor)
+                throws NullPointerException, IndexOutOfBoundsException {
+            if (dest == this && srcPos < destPos + length && destPos < srcPos + length) {
+                // Overlapped, copies in current thread.
+                copy(srcPos, dest, destPos, length);
+                return;
+            }
+            long offset = srcPos - destPos;
+            BigArrayUtil.parallel(destPos, destPos + length, dest.taskUnit(), executor,
+                    (from, to) -> copy(from + offset, dest, from, to - from));
+        }
+
+        private void copyBlock(long srcPos, Data dest, long destPos, int length) {
+            byte[] sr = block(srcPos);
+            if (null == sr) {
+                dest.fill(destPos, destPos + length, filler());
+            } else {
+                dest.write(destPos, sr, offset(srcPos), length);
+            }
+        }
+
+        public void read(long index, byte[] dest, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long s = index + i;
+                int n = Math.min(remaining(s), length - i);
+                byte[] block = block(s);
+                if (null == block) {
+                    Arrays.fill(dest, offset + i, offset + i + n, filler());
+                } else {
+                    System.arraycopy(block, offset(s), dest, offset + i, n);
+                }
+                i += n;
+            }
+        }
+
+        public void sort(long from, long to, @Nullable Executor executor) {
+            long[] bounds = BigArrayUtil.split(from, to,
+                    BigArrayUtil.taskSize(null == executor ? blockSize() : taskUnit()));
+            List<Runnable> tasks = new ArrayList<>(bounds.length);
+            for (int i = 0; i < bounds.length - 1; i++) {
+                long start = bounds[i];
+                long end = bounds[i + 1];
+                tasks.add(() -> sortRun(start, end));
+            }
+            BigArrayUtil.execute(tasks, executor);
+            if (bounds.length <= 2) {
+                return;
+            }
+            // Merges each pair of adjacent runs, between this and temporary array alternately.
+            Data temp = isOffHeap() ? new OfBuffers(to - from, BigArray.BLOCK_SIZE, (byte)0, false)
+                    : createData(to - from, BigArray.BLOCK_SIZE, (byte)0, false);
+            try {
+                Data src = this;
+                Data dest = temp;
+                long srcShift = 0;
+                long destShift = from;
+                while (bounds.length > 2) {
+                    int runs = bounds.length - 1;
+                    long[] merged = new long[(runs + 1) / 2 + 1];
+                    tasks.clear();
+                    for (int i = 0; i < runs; i += 2) {
+                        Data mergeSrc = src;
+                        Data mergeDest = dest;
+                        long start = bounds[i];
+                        long mid = bounds[Math.min(i + 1, runs)] - srcShift;
+                        long end = bounds[Math.min(i + 2, runs)] - srcShift;
+                        long destPos = start - destShift;
+                        long srcPos = start - srcShift;
+                        tasks.add(() -> merge(mergeSrc, srcPos, mid, end, mergeDest, destPos));
+                        merged[i / 2] = start;
+                    }
+                    merged[merged.length - 1] = to;
+                    BigArrayUtil.execute(tasks, executor);
+                    bounds = merged;
+                    src = dest;
+                    dest = src == temp ? this : temp;
+                    long shift = srcShift;
+                    srcShift = destShift;
+                    destShift = shift;
+                }
+                if (src != this) {
+                    src.copy(0, this, from, to - from, executor);
+                }
+            } finally {
+                temp.close();
+            }
+        }
+
+        private void sortRun(long from, long to) {
+            int length = (int)(to - from);
+            if (!isOffHeap() && length <= remaining(from)) {
+                byte[] block = block(from);
+                // Unallocated block is full of filler, it is sorted already.
+                if (null != block) {
+                    int offset = offset(from);
+                    Arrays.sort(block, offset, offset + length);
+                }
+                return;
+            }
+            byte[] run = new byte[length];
+            read(from, run, 0, length);
+            Arrays.sort(run);
+            write(from, run, 0, length);
+        }
+
+        private static void merge(Data src, long left, long mid, long end, Data dest, long destPos) {
+            long right = mid;
+            byte[] leftBuffer = new byte[(int)Math.min(mid - left, (long)BigArrayUtil.COPY_BUFFER_SIZE)];
+            byte[] rightBuffer = new byte[(int)Math.min(end - mid, (long)BigArrayUtil.COPY_BUFFER_SIZE)];
+            byte[] merged = new byte[BigArrayUtil.COPY_BUFFER_SIZE];
+            int leftIndex = 0;
+            int leftSize = 0;
+            int rightIndex = 0;
+            int rightSize = 0;
+            int size = 0;
+            while (true) {
+                if (leftIndex == leftSize && left < mid) {
+                    leftSize = (int)Math.min(mid - left, (long)leftBuffer.length);
+                    src.read(left, leftBuffer, 0, leftSize);
+                    left += leftSize;
+                    leftIndex = 0;
+                }
+                if (rightIndex == rightSize && right < end) {
+                    rightSize = (int)Math.min(end - right, (long)rightBuffer.length);
+                    src.read(right, rightBuffer, 0, rightSize);
+                    right += rightSize;
+                    rightIndex = 0;
+                }
+                if (leftIndex == leftSize || rightIndex == rightSize) {
+                    break;
+                }
+                if (leftBuffer[leftIndex] <= rightBuffer[rightIndex]) {
+                    merged[size++] = leftBuffer[leftIndex++];
+                } else {
+                    merged[size++] = rightBuffer[rightIndex++];
+                }
+                if (size == merged.length) {
+                    dest.write(destPos, merged, 0, size);
+                    destPos += size;
+                    size = 0;
+                }
+            }
+            // One of runs is exhausted, rest of the other is copied directly.
+            dest.write(destPos, merged, 0, size);
+            destPos += size;
+            dest.write(destPos, leftBuffer, leftIndex, leftSize - leftIndex);
+            destPos += leftSize - leftIndex;
+            src.copy(left, dest, destPos, mid - left);
+            destPos += mid - left;
+            dest.write(destPos, rightBuffer, rightIndex, rightSize - rightIndex);
+            destPos += rightSize - rightIndex;
+            src.copy(right, dest, destPos, end - right);
+        }
+
+        public void write(long index, byte[] src, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long d = index + i;
+                int n = Math.min(remaining(d), length - i);
+                System.arraycopy(src, offset + i, allocate(d), offset(d), n);
+                i += n;
+            }
+        }
+
+        public void forEachNonDefault(EachIntConsumer action) {
+            byte filler = filler();
+            for (long i = 0; i < length();) {
+                int offset = offset(i);
+                int n = (int)Math.min((long)remaining(i), length() - i);
+                byte[] block = block(i);
+                if (null != block) {
+                    for (int j = 0; j < n; j++) {
+                        if (block[offset + j] != filler) {
+                            action.accept(i + j, block[offset + j]);
+                        }
+                    }
+                }
+                i += n;
+            }
+        }
+
+        public boolean allocated(long index) {
+            return null != block(index);
+        }
+
+        public long allocatedBytes() {
+            long bytes = 0;
+            for (long i = 0; i < length(); i += remaining(i)) {
+                if (allocated(i)) {
+                    bytes += (long)blockSize() * Byte.BYTES;
+                }
+            }
+            return bytes;
+        }
+
+        public long allocatedBlocks() {
+            long blocks = 0;
+            for (long i = 0; i < length(); i += remaining(i)) {
+                if (allocated(i)) {
+                    blocks++;
+                }
+            }
+            return blocks;
+        }
+
+        public abstract Data clone();
+
+        public Data clone(Executor executor) {
+            Data clone = blank();
+            copy(0, clone, 0, length(), executor);
+            return clone;
+        }
+
+        public abstract Data blank();
+
+        public abstract byte[] toArray();
+
+        public boolean isOffHeap() {
+            return false;
+        }
+
+        public void close() {
+        }
+
+        public void force() {
+        }
+    }
+
+    private static class ArrayWrapper extends Data {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] source;
+
+        private int from;
+
+        private int length;
+
+        public ArrayWrapper(byte[] source, int from, int to) {
+            this.source = source;
+            this.from = from;
+            this.length = to - from;
+        }
+
+        @Override
+        public int blockSize() {
+            return length;
+        }
+
+        @Override
+        public int taskUnit() {
+            return 1;
+        }
+
+        @Override
+        public byte[] block(long index) {
+            return source;
+        }
+
+        @Override
+        public byte[] allocate(long index) {
+            return source;
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index + from;
+        }
+
+        @Override
+        public int remaining(long index) {
+            return length - (int)index;
+        }
+
+        @Override
+        public byte filler() {
+            return (byte)0;
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public byte get(int index) throws IndexOutOfBoundsException {
+            return source[index + from];
+        }
+
+        @Override
+        public void set(int index, byte value) throws IndexOutOfBoundsException {
+            source[index + from] = value;
+        }
+
+        @Override
+        public byte get(long index) throws IndexOutOfBoundsException {
+            return source[(int)index + from];
+        }
+
+        @Override
+        public void set(long index, byte value) throws IndexOutOfBoundsException {
+            source[(int)index + from] = value;
+        }
+
+        @Override
+        public void fill(byte value) {
+            Arrays.fill(source, from, from + length, value);
+        }
+
+        @Override
+        public void copy(long srcPos, Data dest, long destPos, long length)
+                throws NullPointerException, IndexOutOfBoundsException {
+            if (dest instanceof OfOneDimension) {
+                if (length == 0) {
+                    return;
+                }
+                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+                Checker.checkRangeIndexes(destPos, destPos + length, ((OfOneDimension)dest).source.length);
+                System.arraycopy(source, (int)srcPos + from, ((OfOneDimension)dest).source, (int)destPos, (int)length);
+            } else if (dest instanceof ArrayWrapper) {
+                if (length == 0) {
+                    return;
+                }
+                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+                System.arraycopy(source, (int)srcPos + from, ((ArrayWrapper)dest).source,
+                        (int)destPos + ((ArrayWrapper)dest).from, (int)length);
+            } else {
+                super.copy(srcPos, dest, destPos, length);
+            }
+        }
+
+        @Override
+        public void forEach(long from, long to, IntConsumer action) {
+            for (int i = (int)from + this.from, end = (int)to + this.from; i < end; i++) {
+                action.accept(source[i]);
+            }
+        }
+
+        @Override
+        public Data clone() {
+            return new OfOneDimension(this);
+        }
+
+        @Override
+        public Data blank() {
+            return new OfOneDimension((int)length(), (byte)0);
+        }
+
+        @Override
+        public byte[] toArray() {
+            byte[] ar = (byte[])Array.newInstance(byte.class, length);
+            System.arraycopy(source, from, ar, 0, length);
+            return ar;
+        }
+    }
+
+    /**
+     * <p>
+     * One dimension Implementation.
+     * </p>
+     *
+     * @author Fred Suvn
+     * @version 0.0.0, 2016-03-18T15:52:34+08:00
+     * @since 0.0.0, 2016-03-18T15:52:34+08:00
+     */
+    private static class OfOneDimension extends Data {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] source;
+
+        public OfOneDimension(int length, byte initial) {
+            source = new byte[length];
+            if (0 != initial) {
+                Arrays.fill(source, initial);
+            }
+        }
+
+        public OfOneDimension(OfOneDimension copyFrom) {
+            this.source = copyFrom.source.clone();
+        }
+
+        public OfOneDimension(Data copyFrom) {
+            this((int)copyFrom.length(), (byte)0);
+            copyFrom.copy(0, this, 0, (int)copyFrom.length());
+        }
+
+        @Override
+        public int blockSize() {
+            return source.length;
+        }
+
+        @Override
+        public int taskUnit() {
+            return 1;
+        }
+
+        @Override
+        public byte[] block(long index) {
+            return source;
+        }
+
+        @Override
+        public byte[] allocate(long index) {
+            return source;
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index;
+        }
+
+        @Override
+        public int remaining(long index) {
+            return source.length - (int)index;
+        }
+
+        @Override
+        public byte filler() {
+            return (byte)0;
+        }
+
+        @Override
+        public long length() {
+            return source.length;
+        }
+
+        @Override
+        public byte get(int index) throws IndexOutOfBoundsException {
+            return source[index];
+        }
+
+        @Override
+        public void set(int index, byte value) throws IndexOutOfBoundsException {
+            source[index] = value;
+        }
+
+        @Override
+        public byte get(long index) throws IndexOutOfBoundsException {
+            return source[(int)index];
+        }
+
+        @Override
+        public void set(long index, byte value) throws IndexOutOfBoundsException {
+            source[(int)index] = value;
+        }
+
+        @Override
+        public void fill(byte value) {
+            Arrays.fill(source, value);
+        }
+
+        @Override
+        public void copy(long srcPos, Data dest, long destPos, long length)
+                throws NullPointerException, IndexOutOfBoundsException {
+            if (dest instanceof OfOneDimension) {
+                if (length == 0) {
+                    return;
+                }
+                Checker.checkRangeIndexes(srcPos, srcPos + length, source.length);
+                Checker.checkRangeIndexes(destPos, destPos + length, ((OfOneDimension)dest).source.length);
+                System.arraycopy(source, (int)srcPos, ((OfOneDimension)dest).source, (int)destPos, (int)length);
+            } else if (dest instanceof ArrayWrapper) {
+                if (length == 0) {
+                    return;
+                }
+                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+                System.arraycopy(source, (int)srcPos, ((ArrayWrapper)dest).source,
+                        (int)destPos + ((ArrayWrapper)dest).from, (int)length);
+            } else {
+                super.copy(srcPos, dest, destPos, length);
+            }
+        }
+
+        @Override
+        public void forEach(long from, long to, IntConsumer action) {
+            for (int i = (int)from, end = (int)to; i < end; i++) {
+                action.accept(source[i]);
+            }
+        }
+
+        @Override
+        public Data clone() {
+            return new OfOneDimension(this);
+        }
+
+        @Override
+        public Data blank() {
+            return new OfOneDimension((int)length(), (byte)0);
+        }
+
+        @Override
+        public byte[] toArray() {
+            byte[] ar = (byte[])Array.newInstance(byte.class, source.length);
+            System.arraycopy(source, 0, ar, 0, source.length);
+            return ar;
+        }
+    }
+
+    /**
+     * <p>
+     * Abstract two dimensions implementation.
+     * </p>
+     *
+     * @author Fred Suvn
+     * @version 0.0.0, 2016-03-22T10:18:37+08:00
+     * @since 0.0.0, 2016-03-22T10:18:37+08:00
+     */
+    private static class OfTwoDimensions extends Data {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long length;
+
+        private final int[] dimensions;
+
+        private final byte[][] source;
+
+        private byte filler;
+
+        private boolean lazy;
+
+        public OfTwoDimensions(long length, int[] dimensions, byte initial, boolean lazy) {
+            this.length = length;
+            this.dimensions = dimensions;
+            this.lazy = lazy;
+            if (lazy) {
+                source = new byte[dimensions[0]][];
+            } else {
+                source = new byte[dimensions[0]][dimensions[1]];
+            }
+            fill(initial);
+        }
+
+        public OfTwoDimensions(OfTwoDimensions copyFrom) {
+            this(copyFrom.length, copyFrom.dimensions, copyFrom.filler, copyFrom.lazy);
+            copyFrom.copy(0, this, 0, length);
+        }
+
+        @Override
+        public int blockSize() {
+            return dimensions[1];
+        }
+
+        @Override
+        public byte[] block(long index) {
+            return source[(int)(index / dimensions[1])];
+        }
+
+        @Override
+        public byte[] allocate(long index) {
+            int x = (int)(index / dimensions[1]);
+            if (null == source[x]) {
+                source[x] = new byte[dimensions[1]];
+                if ((byte)0 != filler) {
+                    Arrays.fill(source[x], filler);
+                }
             }
-            long newStart = (end - cur) / 2;
-            this.cur = newStart;
-            return new ByteArraySpliterator(array, cur, newStart);
+            return source[x];
         }
 
         @Override
-        public long estimateSize() {
-            return end - cur;
+        public int offset(long index) {
+            return (int)(index % dimensions[1]);
         }
 
         @Override
-        public int characteristics() {
-            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        public int remaining(long index) {
+            return dimensions[1] - (int)(index % dimensions[1]);
         }
 
-    }
-
-    private static abstract class Data implements Serializable, Cloneable {
-
-        private static final long serialVersionUID = 1L;
-
-        public abstract int[] getDimensions();
-
-        public abstract long length();
-
-        public byte get(int index) throws IndexOutOfBoundsException {
-            return get((long)index);
+        @Override
+        public byte filler() {
+            return filler;
         }
 
-        public void set(int index, byte value) throws IndexOutOfBoundsException {
-            set((long)index, value);
+        @Override
+        public long length() {
+            return length;
         }
 
-        public abstract byte get(long index) throws IndexOutOfBoundsException;
+        @Override
+        public byte get(long index) throws IndexOutOfBoundsException {
+            Checker.checkIndex(index, length);
+            int x = (int)(index / dimensions[1]);
+            return null == source[x] ? filler : source[x][(int)(index % dimensions[1])];
+        }
 
-        public abstract void set(long index, byte value) throws IndexOutOfBoundsException;
+        @Override
+        public void set(long index, byte value) throws IndexOutOfBoundsException {
+            Checker.checkIndex(index, length);
+            int x = (int)(index / dimensions[1]);
+            if (source[x] == null) {
+                if (value == filler) {
+                    return;
+                } else {
+                    source[x] = new byte[dimensions[1]];
+                    if (0 != filler) {
+                        Arrays.fill(source[x], filler);
+                    }
+                }
+            }
+            int y = (int)(index % dimensions[1]);
+            source[x][y] = value;
+        }
 
-        public abstract void fill(byte value);
+        @Override
+        public void fill(byte value) {
+            this.filler = value;
+            for (int i = 0; i < source.length; i++) {
+                fillBlock(i, value);
+            }
+        }
 
-        public void copy(long srcPos, Data dest, long destPos, long length)
-                throws NullPointerException, IndexOutOfBoundsException {
-            if (length == 0) {
-                return;
+        private void fillBlock(int block, byte value) {
+            if (null == source[block]) {
+                if (this.filler == value) {
+                    return;
+                }
+                source[block] = new byte[dimensions[1]];
             }
-            Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-            Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
-            int[] dimensions = getDimensions();
-            int[] destDimensions = dest.getDimensions();
-            int[] srcMultiIndexes = new int[dimensions.length];
-            int[] destMultiIndexes = new int[destDimensions.length];
-            int sWide = dimensions[dimensions.length - 1];
-            int dWide = destDimensions[destDimensions.length - 1];
-            for (long i = 0; i < length;) {
-                BigArrayUtil.mapIndexes(srcPos + i, dimensions, srcMultiIndexes);
-                byte[] sr = (byte[])BigArrayUtil.getLastDimension(getBackedArray(), srcMultiIndexes);
-                int ys = (int)((srcPos + i) % sWide);
-                BigArrayUtil.mapIndexes(destPos + i, destDimensions, destMultiIndexes);
-                byte[] dr = (byte[])BigArrayUtil.getLastDimension(dest.getBackedArray(), destMultiIndexes);
-                int yd = (int)((destPos + i) % dWide);
-                int copyLength = Math.min(sWide - ys, dWide - yd);
-                copyLength = (int)Math.min((long)copyLength, length - i);
-                if (sr != null) {
-                    if (dr == null) {
-                        // One-dimensional backed array is never null.
-                        dr = (byte[])BigArrayUtil.alloc(dest.getBackedArray(), byte.class, destDimensions,
-                                destMultiIndexes);
+            Arrays.fill(source[block], value);
+        }
+
+        @Override
+        public void forEach(long from, long to, IntConsumer action) {
+            for (long i = from; i < to;) {
+                int x = (int)(i / dimensions[1]);
+                int y = (int)(i % dimensions[1]);
+                int end = (int)Math.min((long)dimensions[1], y + (to - i));
+                byte[] block = source[x];
+                if (null == block) {
+                    for (int j = y; j < end; j++) {
+                        action.accept(filler);
+                    }
+                } else {
+                    for (int j = y; j < end; j++) {
+                        action.accept(block[j]);
                     }
-                    System.arraycopy(sr, ys, dr, yd, copyLength);
                 }
-                i += copyLength;
+                i += end - y;
             }
         }
 
-        public abstract Data clone();
+        @Override
+        public Data clone() {
+            return new OfTwoDimensions(this);
+        }
 
-        public abstract byte[] toArray();
+        @Override
+        public void fill(byte value, Executor executor) {
+            this.filler = value;
+            super.fill(value, executor);
+        }
+
+        @Override
+        public Data blank() {
+            OfTwoDimensions blank = new OfTwoDimensions(length, dimensions, filler, true);
+            blank.lazy = lazy;
+            return blank;
+        }
 
-        public abstract Object getBackedArray();
+        @Override
+        public byte[] toArray() {
+            return new OfOneDimension(this).toArray();
+        }
     }
 
-    private static class ArrayWrapper extends Data {
+    /**
+     * <p>
+     * Paged implementation for length which exceeds capacity of two dimensions. Elements are stored in blocks of which
+     * size is power of 2, and blocks are referenced by pages of which size is also power of 2, so any index is mapped
+     * to its page, block and offset by shifting and masking, without allocation or reflection. Specified block size is
+     * rounded down to power of 2.
+     * </p>
+     *
+     * @author Fred Suvn
+     * @version 0.0.0, 2026-10-16T10:12:08+08:00
+     * @since 0.0.0, 2026-10-16T10:12:08+08:00
+     */
+    private static class OfPages extends Data {
 
         private static final long serialVersionUID = 1L;
 
-        private final byte[] source;
+        private final long length;
 
-        private int from;
+        private final int blockShift;
 
-        private int length;
+        private final int pageShift;
 
-        public ArrayWrapper(byte[] source, int from, int to) {
-            this.source = source;
-            this.from = from;
-            this.length = to - from;
+        private final byte[][][] source;
+
+        private byte filler;
+
+        private boolean lazy;
+
+        public OfPages(long length, int blockSize, byte initial, boolean lazy) {
+            this.length = length;
+            this.blockShift = BigArrayUtil.blockShift(blockSize);
+            long blocks = ((length - 1) >>> blockShift) + 1;
+            this.pageShift = BigArrayUtil.pageShift(blocks, blockShift);
+            this.lazy = lazy;
+            source = new byte[(int)(((blocks - 1) >>> pageShift) + 1)][][];
+            if (!lazy) {
+                for (long b = 0; b < blocks; b++) {
+                    allocate(b << blockShift);
+                }
+            }
+            fill(initial);
+        }
+
+        public OfPages(OfPages copyFrom) {
+            this(copyFrom.length, 1 << copyFrom.blockShift, copyFrom.filler, copyFrom.lazy);
+            copyFrom.copy(0, this, 0, length);
         }
 
         @Override
-        public int[] getDimensions() {
-            return null;
+        public int blockSize() {
+            return 1 << blockShift;
         }
 
         @Override
@@ -499,225 +2048,594 @@ public class ByteArray extends BigArray implements Iterable<Byte>, Cloneable {
         }
 
         @Override
-        public byte get(int index) throws IndexOutOfBoundsException {
-            return source[index + from];
+        public byte[] block(long index) {
+            long b = index >>> blockShift;
+            byte[][] page = source[(int)(b >>> pageShift)];
+            return null == page ? null : page[(int)b & ((1 << pageShift) - 1)];
         }
 
         @Override
-        public void set(int index, byte value) throws IndexOutOfBoundsException {
-            source[index + from] = value;
+        public byte[] allocate(long index) {
+            long b = index >>> blockShift;
+            int p = (int)(b >>> pageShift);
+            if (null == source[p]) {
+                allocatePage(p);
+            }
+            int x = (int)b & ((1 << pageShift) - 1);
+            if (null == source[p][x]) {
+                source[p][x] = new byte[1 << blockShift];
+                if ((byte)0 != filler) {
+                    Arrays.fill(source[p][x], filler);
+                }
+            }
+            return source[p][x];
+        }
+
+        private synchronized void allocatePage(int page) {
+            // Blocks of a same page may be allocated by concurrent tasks of parallel operations.
+            if (null == source[page]) {
+                source[page] = new byte[1 << pageShift][];
+            }
         }
 
         @Override
-        public byte get(long index) throws IndexOutOfBoundsException {
-            return source[(int)index + from];
+        public int offset(long index) {
+            return (int)index & ((1 << blockShift) - 1);
         }
 
         @Override
-        public void set(long index, byte value) throws IndexOutOfBoundsException {
-            source[(int)index + from] = value;
+        public int remaining(long index) {
+            return (1 << blockShift) - ((int)index & ((1 << blockShift) - 1));
         }
 
         @Override
-        public void fill(byte value) {
-            Arrays.fill(source, from, from + length, value);
+        public byte filler() {
+            return filler;
         }
 
         @Override
-        public void copy(long srcPos, Data dest, long destPos, long length)
-                throws NullPointerException, IndexOutOfBoundsException {
-            if (dest instanceof OfOneDimension) {
-                if (length == 0) {
+        public byte get(long index) throws IndexOutOfBoundsException {
+            Checker.checkIndex(index, length);
+            byte[] block = block(index);
+            return null == block ? filler : block[(int)index & ((1 << blockShift) - 1)];
+        }
+
+        @Override
+        public void set(long index, byte value) throws IndexOutOfBoundsException {
+            Checker.checkIndex(index, length);
+            byte[] block = block(index);
+            if (null == block) {
+                if (value == filler) {
                     return;
                 }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-                Checker.checkRangeIndexes(destPos, destPos + length, ((OfOneDimension)dest).source.length);
-                System.arraycopy(source, (int)srcPos + from, ((OfOneDimension)dest).source, (int)destPos, (int)length);
-            } else if (dest instanceof ArrayWrapper) {
-                if (length == 0) {
-                    return;
+                block = allocate(index);
+            }
+            block[(int)index & ((1 << blockShift) - 1)] = value;
+        }
+
+        @Override
+        public void fill(byte value) {
+            this.filler = value;
+            for (byte[][] page : source) {
+                if (null == page) {
+                    continue;
+                }
+                for (byte[] block : page) {
+                    if (null != block) {
+                        Arrays.fill(block, value);
+                    }
                 }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
-                System.arraycopy(source, (int)srcPos + from, ((ArrayWrapper)dest).source,
-                        (int)destPos + ((ArrayWrapper)dest).from, (int)length);
-            } else {
-                super.copy(srcPos, dest, destPos, length);
             }
         }
 
         @Override
         public Data clone() {
-            return new OfOneDimension(this);
+            return new OfPages(this);
         }
 
         @Override
-        public byte[] toArray() {
-            byte[] ar = (byte[])Array.newInstance(byte.class, length);
-            System.arraycopy(source, from, ar, 0, length);
-            return ar;
+        public void fill(byte value, Executor executor) {
+            this.filler = value;
+            super.fill(value, executor);
         }
 
         @Override
-        public Object getBackedArray() {
-            return source;
+        public Data blank() {
+            OfPages blank = new OfPages(length, 1 << blockShift, filler, true);
+            blank.lazy = lazy;
+            return blank;
+        }
+
+        @Override
+        public byte[] toArray() {
+            return new OfOneDimension(this).toArray();
         }
     }
 
     /**
      * <p>
-     * One dimension Implementation.
+     * Off-heap implementation. Elements are stored in direct buffers out of java heap or buffers mapped from a file,
+     * each buffer is a block of which size is power of 2. Buffers are released by {@linkplain #close()}, or when this
+     * instance is garbage collected.
      * </p>
      *
      * @author Fred Suvn
-     * @version 0.0.0, 2016-03-18T15:52:34+08:00
-     * @since 0.0.0, 2016-03-18T15:52:34+08:00
+     * @version 0.0.0, 2026-10-16T11:05:47+08:00
+     * @since 0.0.0, 2026-10-16T11:05:47+08:00
      */
-    private static class OfOneDimension extends Data {
+    private static class OfBuffers extends Data {
 
         private static final long serialVersionUID = 1L;
 
-        private final byte[] source;
+        private final long length;
 
-        private final int[] dimensions;
+        private final int blockShift;
+
+        private transient ByteBuffer[] memory;
+
+        private transient ByteBuffer[] buffers;
+
+        private byte filler;
+
+        private boolean lazy;
+
+        public OfBuffers(long length, int blockSize, byte initial, boolean lazy) {
+            this.length = length;
+            this.blockShift = BigArrayUtil.offHeapBlockShift(length, blockSize, Byte.BYTES);
+            int blocks = (int)((length + (1L << blockShift) - 1) >>> blockShift);
+            this.memory = new ByteBuffer[blocks];
+            this.buffers = new ByteBuffer[blocks];
+            this.lazy = lazy;
+            if (!lazy) {
+                for (long b = 0; b < blocks; b++) {
+                    allocateBuffer(b << blockShift);
+                }
+            }
+            fill(initial);
+        }
+
+        public OfBuffers(OfBuffers copyFrom) {
+            this(copyFrom.length, 1 << copyFrom.blockShift, copyFrom.filler, copyFrom.lazy);
+            copyFrom.copy(0, this, 0, length);
+        }
+
+        public OfBuffers(long length, int blockShift, ByteBuffer[] memory) {
+            this.length = length;
+            this.blockShift = blockShift;
+            this.memory = memory;
+            this.buffers = new ByteBuffer[memory.length];
+            this.lazy = true;
+            for (int b = 0; b < memory.length; b++) {
+                buffers[b] = memory[b];
+            }
+        }
+
+        private ByteBuffer[] buffers() {
+            ByteBuffer[] buffers = this.buffers;
+            if (null == buffers) {
+                throw new IllegalStateException("Off-heap array has been closed.");
+            }
+            return buffers;
+        }
+
+        private ByteBuffer buffer(long index) {
+            return buffers()[(int)(index >>> blockShift)];
+        }
+
+        private ByteBuffer allocateBuffer(long index) {
+            ByteBuffer buffer = buffer(index);
+            if (null == buffer) {
+                int b = (int)(index >>> blockShift);
+                int size = (int)Math.min(1L << blockShift, length - ((long)b << blockShift));
+                ByteBuffer m = ByteBuffer.allocateDirect(size * Byte.BYTES);
+                buffer = m;
+                if ((byte)0 != filler) {
+                    fillBuffer(buffer, 0, size, filler);
+                }
+                memory[b] = m;
+                buffers[b] = buffer;
+            }
+            return buffer;
+        }
+
+        private static void fillBuffer(ByteBuffer buffer, int from, int to, byte value) {
+            for (int i = from; i < to; i++) {
+                buffer.put(i, value);
+            }
+        }
+
+        @Override
+        public void read(long index, byte[] dest, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long s = index + i;
+                int n = Math.min(remaining(s), length - i);
+                ByteBuffer buffer = buffer(s);
+                if (null == buffer) {
+                    Arrays.fill(dest, offset + i, offset + i + n, filler);
+                } else {
+                    ByteBuffer view = buffer.duplicate();
+                    view.position(offset(s));
+                    view.get(dest, offset + i, n);
+                }
+                i += n;
+            }
+        }
+
+        @Override
+        public void write(long index, byte[] src, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long d = index + i;
+                int n = Math.min(remaining(d), length - i);
+                ByteBuffer view = allocateBuffer(d).duplicate();
+                view.position(offset(d));
+                view.put(src, offset + i, n);
+                i += n;
+            }
+        }
+
+        @Override
+        public int blockSize() {
+            return 1 << blockShift;
+        }
+
+        @Override
+        public byte[] block(long index) {
+            throw new UnsupportedOperationException("Off-heap array is not backed by array.");
+        }
+
+        @Override
+        public byte[] allocate(long index) {
+            throw new UnsupportedOperationException("Off-heap array is not backed by array.");
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index & ((1 << blockShift) - 1);
+        }
+
+        @Override
+        public int remaining(long index) {
+            return (1 << blockShift) - ((int)index & ((1 << blockShift) - 1));
+        }
+
+        @Override
+        public byte filler() {
+            return filler;
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public byte get(long index) throws IndexOutOfBoundsException {
+            Checker.checkIndex(index, length);
+            ByteBuffer buffer = buffer(index);
+            return null == buffer ? filler : buffer.get((int)index & ((1 << blockShift) - 1));
+        }
 
-        public OfOneDimension(int length, byte initial) {
-            source = new byte[length];
-            if (0 != initial) {
-                Arrays.fill(source, initial);
+        @Override
+        public void set(long index, byte value) throws IndexOutOfBoundsException {
+            Checker.checkIndex(index, length);
+            ByteBuffer buffer = buffer(index);
+            if (null == buffer) {
+                if (value == filler) {
+                    return;
+                }
+                buffer = allocateBuffer(index);
             }
-            this.dimensions = new int[]{(int)source.length};
+            buffer.put((int)index & ((1 << blockShift) - 1), value);
         }
 
-        public OfOneDimension(OfOneDimension copyFrom) {
-            this.source = copyFrom.source.clone();
-            this.dimensions = new int[]{(int)source.length};
+        @Override
+        public void fill(byte value) {
+            ByteBuffer[] buffers = buffers();
+            this.filler = value;
+            for (ByteBuffer buffer : buffers) {
+                if (null != buffer) {
+                    fillBuffer(buffer, 0, buffer.capacity(), value);
+                }
+            }
         }
 
-        public OfOneDimension(Data copyFrom) {
-            this((int)copyFrom.length(), (byte)0);
-            copyFrom.copy(0, this, 0, (int)copyFrom.length());
+        @Override
+        public void fill(long from, long to, byte value) {
+            for (long i = from; i < to;) {
+                int n = (int)Math.min((long)remaining(i), to - i);
+                ByteBuffer buffer = buffer(i);
+                if (null == buffer) {
+                    if (value == filler) {
+                        i += n;
+                        continue;
+                    }
+                    buffer = allocateBuffer(i);
+                }
+                int offset = offset(i);
+                fillBuffer(buffer, offset, offset + n, value);
+                i += n;
+            }
         }
 
         @Override
-        public int[] getDimensions() {
-            return dimensions;
+        public void forEach(long from, long to, IntConsumer action) {
+            for (long i = from; i < to;) {
+                int offset = offset(i);
+                int end = offset + (int)Math.min((long)remaining(i), to - i);
+                ByteBuffer buffer = buffer(i);
+                if (null == buffer) {
+                    for (int j = offset; j < end; j++) {
+                        action.accept(filler);
+                    }
+                } else {
+                    for (int j = offset; j < end; j++) {
+                        action.accept(buffer.get(j));
+                    }
+                }
+                i += end - offset;
+            }
         }
 
         @Override
-        public long length() {
-            return source.length;
+        public void copy(long srcPos, Data dest, long destPos, long length)
+                throws NullPointerException, IndexOutOfBoundsException {
+            if (length == 0) {
+                return;
+            }
+            Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+            Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+            if (dest == this && srcPos < destPos + length && destPos < srcPos + length) {
+                // Overlapped, copies through a temporary array.
+                byte[] temp = new byte[(int)Math.min(length, (long)BigArrayUtil.COPY_BUFFER_SIZE)];
+                if (srcPos < destPos) {
+                    for (long i = length; i > 0;) {
+                        int n = (int)Math.min((long)temp.length, i);
+                        i -= n;
+                        read(srcPos + i, temp, 0, n);
+                        write(destPos + i, temp, 0, n);
+                    }
+                } else {
+                    for (long i = 0; i < length;) {
+                        int n = (int)Math.min((long)temp.length, length - i);
+                        read(srcPos + i, temp, 0, n);
+                        write(destPos + i, temp, 0, n);
+                        i += n;
+                    }
+                }
+                return;
+            }
+            for (long i = 0; i < length;) {
+                long s = srcPos + i;
+                long d = destPos + i;
+                int n = (int)Math.min((long)Math.min(remaining(s), dest.remaining(d)), length - i);
+                ByteBuffer buffer = buffer(s);
+                if (null == buffer) {
+                    dest.fill(d, d + n, filler);
+                } else if (dest instanceof OfBuffers) {
+                    ByteBuffer view = buffer.duplicate();
+                    view.position(offset(s));
+                    view.limit(offset(s) + n);
+                    ByteBuffer to = ((OfBuffers)dest).allocateBuffer(d).duplicate();
+                    to.position(dest.offset(d));
+                    to.put(view);
+                } else if (dest instanceof OfSparse) {
+                    // Sparse array counts elements when they are written.
+                    byte[] temp = new byte[Math.min(n, BigArrayUtil.COPY_BUFFER_SIZE)];
+                    for (int j = 0; j < n;) {
+                        int m = Math.min(temp.length, n - j);
+                        read(s + j, temp, 0, m);
+                        dest.write(d + j, temp, 0, m);
+                        j += m;
+                    }
+                } else {
+                    read(s, dest.allocate(d), dest.offset(d), n);
+                }
+                i += n;
+            }
         }
 
         @Override
-        public byte get(int index) throws IndexOutOfBoundsException {
-            return source[index];
+        public boolean isOffHeap() {
+            return true;
         }
 
         @Override
-        public void set(int index, byte value) throws IndexOutOfBoundsException {
-            source[index] = value;
+        public void forEachNonDefault(EachIntConsumer action) {
+            for (long i = 0; i < length;) {
+                int n = (int)Math.min((long)remaining(i), length - i);
+                ByteBuffer buffer = buffer(i);
+                if (null != buffer) {
+                    int offset = offset(i);
+                    for (int j = 0; j < n; j++) {
+                        byte value = buffer.get(offset + j);
+                        if (value != filler) {
+                            action.accept(i + j, value);
+                        }
+                    }
+                }
+                i += n;
+            }
         }
 
         @Override
-        public byte get(long index) throws IndexOutOfBoundsException {
-            return source[(int)index];
+        public boolean allocated(long index) {
+            return null != buffer(index);
         }
 
         @Override
-        public void set(long index, byte value) throws IndexOutOfBoundsException {
-            source[(int)index] = value;
+        public long allocatedBytes() {
+            ByteBuffer[] memory = this.memory;
+            long bytes = 0;
+            if (null != memory) {
+                for (ByteBuffer m : memory) {
+                    if (null != m) {
+                        bytes += m.capacity();
+                    }
+                }
+            }
+            return bytes;
         }
 
         @Override
-        public void fill(byte value) {
-            Arrays.fill(source, value);
+        public void close() {
+            ByteBuffer[] memory = this.memory;
+            if (null == memory) {
+                return;
+            }
+            this.buffers = null;
+            this.memory = null;
+            for (ByteBuffer m : memory) {
+                if (null != m) {
+                    BigArrayUtil.free(m);
+                }
+            }
         }
 
         @Override
-        public void copy(long srcPos, Data dest, long destPos, long length)
-                throws NullPointerException, IndexOutOfBoundsException {
-            if (dest instanceof OfOneDimension) {
-                if (length == 0) {
-                    return;
-                }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, source.length);
-                Checker.checkRangeIndexes(destPos, destPos + length, ((OfOneDimension)dest).source.length);
-                System.arraycopy(source, (int)srcPos, ((OfOneDimension)dest).source, (int)destPos, (int)length);
-            } else if (dest instanceof ArrayWrapper) {
-                if (length == 0) {
-                    return;
+        public void force() {
+            ByteBuffer[] memory = this.memory;
+            if (null == memory) {
+                throw new IllegalStateException("Off-heap array has been closed.");
+            }
+            for (ByteBuffer m : memory) {
+                if (m instanceof MappedByteBuffer && !m.isReadOnly()) {
+                    ((MappedByteBuffer)m).force();
                 }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
-                System.arraycopy(source, (int)srcPos, ((ArrayWrapper)dest).source,
-                        (int)destPos + ((ArrayWrapper)dest).from, (int)length);
-            } else {
-                super.copy(srcPos, dest, destPos, length);
             }
         }
 
         @Override
         public Data clone() {
-            return new OfOneDimension(this);
+            return new OfBuffers(this);
         }
 
         @Override
-        public byte[] toArray() {
-            byte[] ar = (byte[])Array.newInstance(byte.class, source.length);
-            System.arraycopy(source, 0, ar, 0, source.length);
-            return ar;
+        public void fill(byte value, Executor executor) {
+            buffers();
+            this.filler = value;
+            super.fill(value, executor);
         }
 
         @Override
-        public Object getBackedArray() {
-            return source;
+        public Data blank() {
+            OfBuffers blank = new OfBuffers(length, 1 << blockShift, filler, true);
+            blank.lazy = lazy;
+            return blank;
+        }
+
+        @Override
+        public byte[] toArray() {
+            return new OfOneDimension(this).toArray();
+        }
+
+        private Object writeReplace() {
+            Data data = createData(length, 1 << blockShift, filler, lazy);
+            copy(0, data, 0, length);
+            return data;
         }
     }
 
     /**
      * <p>
-     * Abstract two dimensions implementation.
+     * Sparse implementation. Elements are stored in blocks of which size is power of 2, and number of elements which
+     * are not equal to filler is counted for each block. A block is allocated when an element not equal to filler is
+     * written into it, and freed when all of its elements are equal to filler again.
      * </p>
      *
      * @author Fred Suvn
-     * @version 0.0.0, 2016-03-22T10:18:37+08:00
-     * @since 0.0.0, 2016-03-22T10:18:37+08:00
+     * @version 0.0.0, 2026-10-16T14:10:52+08:00
+     * @since 0.0.0, 2026-10-16T14:10:52+08:00
      */
-    private static class OfTwoDimensions extends Data {
+    private static class OfSparse extends Data {
 
         private static final long serialVersionUID = 1L;
 
         private final long length;
 
-        private final int[] dimensions;
+        private final int blockShift;
 
         private final byte[][] source;
 
-        private byte filler;
+        private final int[] counts;
 
-        private boolean lazy;
+        private byte filler;
 
-        public OfTwoDimensions(long length, int[] dimensions, byte initial, boolean lazy) {
+        public OfSparse(long length, int blockSize, byte filler) {
             this.length = length;
-            this.dimensions = dimensions;
-            this.lazy = lazy;
-            if (lazy) {
-                source = new byte[dimensions[0]][];
-            } else {
-                source = new byte[dimensions[0]][dimensions[1]];
+            this.blockShift = BigArrayUtil.blockShift(length, blockSize);
+            int blocks = (int)((length + (1L << blockShift) - 1) >>> blockShift);
+            this.source = new byte[blocks][];
+            this.counts = new int[blocks];
+            this.filler = filler;
+        }
+
+        public OfSparse(OfSparse copyFrom) {
+            this.length = copyFrom.length;
+            this.blockShift = copyFrom.blockShift;
+            this.source = new byte[copyFrom.source.length][];
+            for (int b = 0; b < source.length; b++) {
+                if (null != copyFrom.source[b]) {
+                    source[b] = copyFrom.source[b].clone();
+                }
             }
-            fill(initial);
+            this.counts = copyFrom.counts.clone();
+            this.filler = copyFrom.filler;
         }
 
-        public OfTwoDimensions(OfTwoDimensions copyFrom) {
-            this(copyFrom.length, copyFrom.dimensions, copyFrom.filler, copyFrom.lazy);
-            copyFrom.copy(0, this, 0, length);
+        private static int count(byte[] array, int from, int to, byte filler) {
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if (array[i] != filler) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private byte[] newBlock(int b) {
+            byte[] block = new byte[(int)Math.min(1L << blockShift, length - ((long)b << blockShift))];
+            if ((byte)0 != filler) {
+                Arrays.fill(block, filler);
+            }
+            source[b] = block;
+            return block;
+        }
+
+        private void updateCount(int b, int count) {
+            counts[b] = count;
+            if (0 == count) {
+                source[b] = null;
+            }
+        }
+
+        @Override
+        public int blockSize() {
+            return 1 << blockShift;
+        }
+
+        @Override
+        public byte[] block(long index) {
+            return source[(int)(index >>> blockShift)];
+        }
+
+        @Override
+        public byte[] allocate(long index) {
+            throw new UnsupportedOperationException("Sparse array counts elements when they are written.");
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index & ((1 << blockShift) - 1);
+        }
+
+        @Override
+        public int remaining(long index) {
+            return (1 << blockShift) - ((int)index & ((1 << blockShift) - 1));
         }
 
         @Override
-        public int[] getDimensions() {
-            return dimensions;
+        public byte filler() {
+            return filler;
         }
 
         @Override
@@ -728,217 +2646,230 @@ public class ByteArray extends BigArray implements Iterable<Byte>, Cloneable {
         @Override
         public byte get(long index) throws IndexOutOfBoundsException {
             Checker.checkIndex(index, length);
-            int x = (int)(index / dimensions[1]);
-            return null == source[x] ? filler : source[x][(int)(index % dimensions[1])];
+            byte[] block = block(index);
+            return null == block ? filler : block[(int)index & ((1 << blockShift) - 1)];
         }
 
         @Override
         public void set(long index, byte value) throws IndexOutOfBoundsException {
             Checker.checkIndex(index, length);
-            int x = (int)(index / dimensions[1]);
-            if (source[x] == null) {
+            int b = (int)(index >>> blockShift);
+            byte[] block = source[b];
+            if (null == block) {
                 if (value == filler) {
                     return;
-                } else {
-                    source[x] = new byte[dimensions[1]];
-                    if (0 != filler) {
-                        Arrays.fill(source[x], filler);
-                    }
                 }
+                block = newBlock(b);
+            }
+            int offset = (int)index & ((1 << blockShift) - 1);
+            byte old = block[offset];
+            block[offset] = value;
+            if (old == filler) {
+                if (value != filler) {
+                    counts[b]++;
+                }
+            } else if (value == filler) {
+                updateCount(b, counts[b] - 1);
             }
-            int y = (int)(index % dimensions[1]);
-            source[x][y] = value;
         }
 
         @Override
         public void fill(byte value) {
             this.filler = value;
-            for (int i = 0; i < source.length; i++) {
-                fillBlock(i, value);
-            }
+            Arrays.fill(source, null);
+            Arrays.fill(counts, 0);
         }
 
-        private void fillBlock(int block, byte value) {
-            if (null == source[block]) {
-                if (this.filler == value) {
-                    return;
+        @Override
+        public void fill(byte value, Executor executor) {
+            fill(value);
+        }
+
+        @Override
+        public void fill(long from, long to, byte value) {
+            for (long i = from; i < to;) {
+                int b = (int)(i >>> blockShift);
+                int offset = offset(i);
+                int n = (int)Math.min((long)remaining(i), to - i);
+                byte[] block = source[b];
+                if (null == block) {
+                    if (value == filler) {
+                        i += n;
+                        continue;
+                    }
+                    block = newBlock(b);
                 }
-                source[block] = new byte[dimensions[1]];
+                int count = counts[b] - count(block, offset, offset + n, filler);
+                Arrays.fill(block, offset, offset + n, value);
+                updateCount(b, value == filler ? count : count + n);
+                i += n;
             }
-            Arrays.fill(source[block], value);
         }
 
         @Override
-        public void copy(long srcPos, Data dest, long destPos, long length)
-                throws NullPointerException, IndexOutOfBoundsException {
-            if (dest instanceof OfTwoDimensions) {
-                if (length == 0) {
-                    return;
-                }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
-                OfTwoDimensions d = (OfTwoDimensions)dest;
-                for (long i = 0; i < length;) {
-                    int xs = (int)((srcPos + i) / dimensions[1]);
-                    int ys = (int)((srcPos + i) % dimensions[1]);
-                    int xd = (int)((destPos + i) / d.dimensions[1]);
-                    int yd = (int)((destPos + i) % d.dimensions[1]);
-                    int copyLength = Math.min(dimensions[1] - ys, d.dimensions[1] - yd);
-                    copyLength = (int)Math.min((long)copyLength, length - i);
-                    if (source[xs] != null) {
-                        if (d.source[xd] == null) {
-                            d.source[xd] = new byte[d.dimensions[1]];
-                        }
-                        System.arraycopy(source[xs], ys, d.source[xd], yd, copyLength);
+        public void write(long index, byte[] src, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long d = index + i;
+                int b = (int)(d >>> blockShift);
+                int n = Math.min(remaining(d), length - i);
+                byte[] block = source[b];
+                if (null == block) {
+                    if (0 == count(src, offset + i, offset + i + n, filler)) {
+                        i += n;
+                        continue;
                     }
-                    i += copyLength;
+                    block = newBlock(b);
+                }
+                int o = offset(d);
+                int count = counts[b] - count(block, o, o + n, filler);
+                System.arraycopy(src, offset + i, block, o, n);
+                updateCount(b, count + count(block, o, o + n, filler));
+                i += n;
+            }
+        }
+
+        @Override
+        public long allocatedBytes() {
+            long bytes = 0;
+            for (byte[] block : source) {
+                if (null != block) {
+                    bytes += block.length;
                 }
-            } else {
-                super.copy(srcPos, dest, destPos, length);
             }
+            return bytes * Byte.BYTES;
         }
 
         @Override
         public Data clone() {
-            return new OfTwoDimensions(this);
+            return new OfSparse(this);
         }
 
         @Override
-        public byte[] toArray() {
-            return new OfOneDimension(this).toArray();
+        public Data blank() {
+            return new OfSparse(length, 1 << blockShift, filler);
         }
 
         @Override
-        public Object getBackedArray() {
-            return source;
+        public byte[] toArray() {
+            return new OfOneDimension(this).toArray();
         }
     }
 
     /**
      * <p>
-     * Multi-dimensions implementation.
+     * Implementation viewing blocks of a {@linkplain ByteBigList}, no element is copied. Each block is an array of
+     * which length is power of 2, except that the last one may be shorter but still covers the length.
      * </p>
      *
      * @author Fred Suvn
-     * @version 0.0.0, 2016-03-18T15:52:54+08:00
-     * @since 0.0.0, 2016-03-18T15:52:54+08:00
+     * @version 0.0.0, 2026-10-16T14:06:31+08:00
+     * @since 0.0.0, 2026-10-16T14:06:31+08:00
      */
-    private static class OfMultiDimensions extends Data {
+    private static class OfBlocks extends Data {
 
         private static final long serialVersionUID = 1L;
 
         private final long length;
 
-        private final int[] dimensions;
+        private final int blockShift;
 
-        private final Object source;
+        private final byte[][] source;
 
-        private byte filler;
+        public OfBlocks(long length, int blockShift, byte[][] source) {
+            this.length = length;
+            this.blockShift = blockShift;
+            this.source = source;
+        }
 
-        private boolean lazy;
+        @Override
+        public int blockSize() {
+            return 1 << blockShift;
+        }
 
-        public OfMultiDimensions(long length, int[] dimensions, byte initial, boolean lazy) {
-            this.length = length;
-            this.dimensions = dimensions;
-            this.lazy = lazy;
-            if (lazy) {
-                source = new Object[dimensions[0]];
-            } else {
-                source = Array.newInstance(byte.class, dimensions);
-            }
-            fill(initial);
+        @Override
+        public long length() {
+            return length;
         }
 
-        public OfMultiDimensions(OfMultiDimensions copyFrom) {
-            this(copyFrom.length, copyFrom.dimensions, copyFrom.filler, copyFrom.lazy);
-            copyFrom.copy(0, this, 0, length);
+        @Override
+        public byte[] block(long index) {
+            return source[(int)(index >>> blockShift)];
         }
 
         @Override
-        public int[] getDimensions() {
-            return dimensions;
+        public byte[] allocate(long index) {
+            return source[(int)(index >>> blockShift)];
         }
 
         @Override
-        public long length() {
-            return length;
+        public int offset(long index) {
+            return (int)index & ((1 << blockShift) - 1);
+        }
+
+        @Override
+        public int remaining(long index) {
+            return (1 << blockShift) - ((int)index & ((1 << blockShift) - 1));
+        }
+
+        @Override
+        public byte filler() {
+            return (byte)0;
         }
 
         @Override
         public byte get(long index) throws IndexOutOfBoundsException {
             Checker.checkIndex(index, length);
-            int[] indexes = new int[dimensions.length];
-            BigArrayUtil.mapMultiIndexes(index, dimensions, indexes);
-            byte[] array = (byte[])BigArrayUtil.getLastDimension(source, indexes);
-            if (array == null) {
-                return filler;
-            } else {
-                return array[indexes[indexes.length - 1]];
-            }
+            return source[(int)(index >>> blockShift)][(int)index & ((1 << blockShift) - 1)];
         }
 
         @Override
         public void set(long index, byte value) throws IndexOutOfBoundsException {
             Checker.checkIndex(index, length);
-            int[] indexes = new int[dimensions.length];
-            BigArrayUtil.mapMultiIndexes(index, dimensions, indexes);
-            byte[] array = (byte[])BigArrayUtil.getLastDimension(source, indexes);
-            if (array == null) {
-                if (value == filler) {
-                    return;
-                } else {
-                    array = (byte[])BigArrayUtil.alloc(source, byte.class, dimensions, indexes);
-                    if (0 != filler) {
-                        Arrays.fill(array, filler);
-                    }
-                }
-            }
-            array[indexes[indexes.length - 1]] = value;
+            source[(int)(index >>> blockShift)][(int)index & ((1 << blockShift) - 1)] = value;
         }
 
         @Override
         public void fill(byte value) {
-            this.filler = value;
-            fillMultiArray((Object[])source, value, 0);
+            fill(0, length, value);
         }
 
-        private void fillMultiArray(Object[] array, byte value, int dimension) {
-            if (dimension == dimensions.length - 2) {
-                for (int i = 0; i < array.length; i++) {
-                    if (null == array[i]) {
-                        if (this.filler == value) {
-                            continue;
-                        }
-                        array[i] = new byte[dimension + 1];
-                    }
-                    Arrays.fill((byte[])array[i], value);
+        @Override
+        public long allocatedBytes() {
+            long bytes = 0;
+            for (byte[] block : source) {
+                if (null != block) {
+                    bytes += block.length;
                 }
-            } else {
-                for (int i = 0; i < array.length; i++) {
-                    if (null == array[i]) {
-                        if (this.filler == value) {
-                            continue;
-                        }
-                        array[i] = new Object[dimension + 1];
-                    }
-                    fillMultiArray((Object[])array[i], value, dimension + 1);
+            }
+            return bytes * Byte.BYTES;
+        }
+
+        @Override
+        public long allocatedBlocks() {
+            long blocks = 0;
+            for (byte[] block : source) {
+                if (null != block) {
+                    blocks++;
                 }
             }
+            return blocks;
         }
 
         @Override
         public Data clone() {
-            return new OfMultiDimensions(this);
+            Data clone = createData(length, BigArray.BLOCK_SIZE, (byte)0, false);
+            copy(0, clone, 0, length);
+            return clone;
         }
 
         @Override
-        public byte[] toArray() {
-            return new OfOneDimension(this).toArray();
+        public Data blank() {
+            return createData(length, BigArray.BLOCK_SIZE, (byte)0, true);
         }
 
         @Override
-        public Object getBackedArray() {
-            return source;
+        public byte[] toArray() {
+            return new OfOneDimension(this).toArray();
         }
     }
 }
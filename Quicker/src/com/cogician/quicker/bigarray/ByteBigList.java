@@ -0,0 +1,237 @@
+package com.cogician.quicker.bigarray;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import com.cogician.quicker.Checker;
+import com.cogician.quicker.OutOfBoundsException;
+
+/**
+ * <p>
+ * Byte big list is type of {@linkplain BigList} of a long size, accessed by index of <b>long</b> type. Its component is
+ * byte. For example:
+ * 
+ * <pre>
+ * ByteBigList list = new ByteBigList();
+ * list.add((byte)1);
+ * list.get(0L);
+ * ByteArray array = list.toByteArray();
+ * ...
+ * </pre>
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T14:06:31+08:00
+ * @since 0.0.0, 2026-10-16T14:06:31+08:00
+ * @see BigList
+ * @see ByteArray
+ */
+public class ByteBigList extends BigList {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int blockShift;
+
+    private byte[][] blocks;
+
+    private long size;
+
+    /**
+     * <p>
+     * Constructs an empty list.
+     * </p>
+     * 
+     * @since 0.0.0
+     */
+    public ByteBigList() {
+        this(BigList.BLOCK_SIZE);
+    }
+
+    /**
+     * <p>
+     * Constructs an empty list with specified block size. Specified block size is rounded down to power of 2.
+     * </p>
+     * 
+     * @param blockSize
+     *            specified block size
+     * @throws IllegalArgumentException
+     *             if specified block size <= 0
+     * @since 0.0.0
+     */
+    public ByteBigList(int blockSize) throws IllegalArgumentException {
+        Checker.checkPositive(blockSize);
+        this.blockShift = BigArrayUtil.blockShift(blockSize);
+        this.blocks = new byte[0][];
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public long capacity() {
+        long capacity = 0;
+        for (byte[] block : blocks) {
+            if (null != block) {
+                capacity += block.length;
+            }
+        }
+        return capacity;
+    }
+
+    /**
+     * <p>
+     * Gets value at specified index.
+     * </p>
+     * 
+     * @param index
+     *            specified index
+     * @return value at specified index
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public byte get(long index) throws IndexOutOfBoundsException {
+        Checker.checkIndex(index, size);
+        return blocks[(int)(index >>> blockShift)][(int)index & ((1 << blockShift) - 1)];
+    }
+
+    /**
+     * <p>
+     * Sets value at specified index.
+     * </p>
+     * 
+     * @param index
+     *            specified index
+     * @param value
+     *            specified value
+     * @throws IndexOutOfBoundsException
+     *             if index out of bounds
+     * @since 0.0.0
+     */
+    public void set(long index, byte value) throws IndexOutOfBoundsException {
+        Checker.checkIndex(index, size);
+        blocks[(int)(index >>> blockShift)][(int)index & ((1 << blockShift) - 1)] = value;
+    }
+
+    /**
+     * <p>
+     * Appends specified value to the end of this list. A new block is allocated if the last block is full, existing
+     * blocks are not copied.
+     * </p>
+     * 
+     * @param value
+     *            specified value
+     * @throws OutOfBoundsException
+     *             if size of this list reaches the limit
+     * @since 0.0.0
+     */
+    public void add(byte value) throws OutOfBoundsException {
+        reserve(1)[(int)size & ((1 << blockShift) - 1)] = value;
+        size++;
+    }
+
+    /**
+     * <p>
+     * Appends all elements of specified big array to the end of this list, block by block.
+     * </p>
+     * 
+     * @param array
+     *            specified big array
+     * @throws NullPointerException
+     *             if specified big array is null
+     * @throws OutOfBoundsException
+     *             if size of this list reaches the limit
+     * @since 0.0.0
+     */
+    public void addAll(ByteArray array) throws NullPointerException, OutOfBoundsException {
+        Checker.checkNull(array);
+        long length = array.length();
+        for (long i = 0; i < length;) {
+            int offset = (int)size & ((1 << blockShift) - 1);
+            int n = (int)Math.min((long)((1 << blockShift) - offset), length - i);
+            array.copy(i, new ByteArray(reserve(n), offset, offset + n), 0, n);
+            size += n;
+            i += n;
+        }
+    }
+
+    /**
+     * <p>
+     * Removes and returns the last element of this list.
+     * </p>
+     * 
+     * @return the last element of this list
+     * @throws NoSuchElementException
+     *             if this list is empty
+     * @since 0.0.0
+     */
+    public byte removeLast() throws NoSuchElementException {
+        if (0 == size) {
+            throw new NoSuchElementException();
+        }
+        size--;
+        return blocks[(int)(size >>> blockShift)][(int)size & ((1 << blockShift) - 1)];
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+    }
+
+    @Override
+    public void trimToSize() {
+        int n = (int)((size + (1L << blockShift) - 1) >>> blockShift);
+        if (n < blocks.length) {
+            blocks = Arrays.copyOf(blocks, n);
+        }
+        if (n > 0) {
+            int last = (int)(size - ((long)(n - 1) << blockShift));
+            if (blocks[n - 1].length > last) {
+                blocks[n - 1] = Arrays.copyOf(blocks[n - 1], last);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Returns a big array view of this list, of which length is current size of this list. The view shares blocks with
+     * this list and no element is copied, setting an element by either of them is visible by the other, until the
+     * block is reallocated by growing the first block or {@linkplain #trimToSize()}. Elements appended after this
+     * method are not in the view.
+     * </p>
+     * 
+     * @return a big array view of this list
+     * @since 0.0.0
+     */
+    public ByteArray toByteArray() {
+        return ByteArray.ofBlocks(size, blockShift,
+                Arrays.copyOf(blocks, (int)((size + (1L << blockShift) - 1) >>> blockShift)));
+    }
+
+    private byte[] reserve(int n) throws OutOfBoundsException {
+        // Returns block of index of size, which has room for specified number of elements.
+        long b = size >>> blockShift;
+        if (b == blocks.length) {
+            if (b == Integer.MAX_VALUE) {
+                throw new OutOfBoundsException(size);
+            }
+            blocks = Arrays.copyOf(blocks, (int)Math.min(Integer.MAX_VALUE, Math.max(b + 1, b + (b >> 1))));
+        }
+        byte[] block = blocks[(int)b];
+        int required = ((int)size & ((1 << blockShift) - 1)) + n;
+        if (null == block || block.length < required) {
+            // Only the first block grows, others are allocated in whole.
+            int length = 1 << blockShift;
+            if (0 == b) {
+                length = Math.min(length, Math.max(required, null == block ? INITIAL_CAPACITY : block.length * 2));
+            }
+            block = null == block ? new byte[length] : Arrays.copyOf(block, length);
+            blocks[(int)b] = block;
+        }
+        return block;
+    }
+}
@@ -1,17 +1,43 @@
 package com.cogician.quicker.bigarray;
 
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import javax.annotation.Nullable;
+
 import com.cogician.quicker.Checker;
+import com.cogician.quicker.OutOfBoundsException;
 import com.cogician.quicker.Quicker;
+import com.cogician.quicker.ReadException;
+import com.cogician.quicker.binary.BigArrayBinary;
+import com.cogician.quicker.binary.Binary;
+import com.cogician.quicker.binary.ByteOrderProcessor;
+import com.cogician.quicker.binary.Inputer;
+import com.cogician.quicker.binary.Outputer;
+import com.cogician.quicker.function.EachIntConsumer;
 
 /**
  * <p>
@@ -35,13 +61,14 @@ public class CharArray extends BigArray implements Iterable<Character>, Cloneabl
 
     private static final long serialVersionUID = 1L;
 
-    private static Data createData(long length, int[] dimensions, char initial, boolean lazy) {
+    private static Data createData(long length, int blockSize, char initial, boolean lazy) {
+        int[] dimensions = BigArrayUtil.caculateDimensions(length, blockSize);
         if (1 == dimensions.length) {
             return new OfOneDimension((int)length, initial);
         } else if (2 == dimensions.length) {
             return new OfTwoDimensions(length, dimensions, initial, lazy);
         } else {
-            return new OfMultiDimensions(length, dimensions, initial, lazy);
+            return new OfPages(length, blockSize, initial, lazy);
         }
     }
 
@@ -101,7 +128,7 @@ public class CharArray extends BigArray implements Iterable<Character>, Cloneabl
     public CharArray(long length, int blockSize, char initial, boolean lazy) throws IllegalArgumentException {
         Checker.checkLength(length);
         Checker.checkPositive(blockSize);
-        this.data = createData(length, BigArrayUtil.caculateDimensions(length, blockSize), initial, lazy);
+        this.data = createData(length, blockSize, initial, lazy);
     }
 
     /**
@@ -146,6 +173,248 @@ public class CharArray extends BigArray implements Iterable<Character>, Cloneabl
         this.data = new ArrayWrapper(array, from, to);
     }
 
+    /**
+     * <p>
+     * Returns a new big array with specified length, of which elements are stored off-heap.
+     * </p>
+     * 
+     * @param length
+     *            specified length
+     * @return a new off-heap big array
+     * @throws IllegalArgumentException
+     *             if specified length < 0
+     * @see #offHeap(long, int, char, boolean)
+     * @since 0.0.0
+     */
+    public static CharArray offHeap(long length) throws IllegalArgumentException {
+        return offHeap(length, BigArray.BLOCK_SIZE, (char)0, true);
+    }
+
+    /**
+     * <p>
+     * Returns a new big array with specified length, specified block size, initial value and whether it is lazy, of
+     * which elements are stored off-heap in direct buffers. Garbage collector neither scans nor copies off-heap
+     * elements, so its pause time does not grow with length of the array. Specified block size is rounded down to power
+     * of 2 and limited so that each block is less than 2GB.
+     * </p>
+     * <p>
+     * Off-heap memory is released by {@linkplain #close()}, or at latest when the array is garbage collected. A closed
+     * array cannot be accessed any more. Clone of an off-heap array is off-heap too, but a serialized one is always
+     * deserialized as an on-heap array.
+     * </p>
+     * 
+     * @param length
+     *            specified length
+     * @param blockSize
+     *            specified block size
+     * @param initial
+     *            initial value
+     * @param lazy
+     *            whether the array is lazy
+     * @return a new off-heap big array
+     * @throws IllegalArgumentException
+     *             if specified length < 0 or specified block size <= 0
+     * @since 0.0.0
+     */
+    public static CharArray offHeap(long length, int blockSize, char initial, boolean lazy)
+            throws IllegalArgumentException {
+        Checker.checkLength(length);
+        Checker.checkPositive(blockSize);
+        return new CharArray(new OfBuffers(length, blockSize, initial, lazy));
+    }
+
+    /**
+     * <p>
+     * Returns a new big array with specified length, of which elements are stored in specified file. The file is
+     * created or extended if it is not long enough.
+     * </p>
+     * 
+     * @param file
+     *            specified file
+     * @param length
+     *            specified length
+     * @return a new file-mapped big array
+     * @throws NullPointerException
+     *             if specified file is null
+     * @throws IllegalArgumentException
+     *             if specified length < 0
+     * @throws ReadException
+     *             if file cannot be opened or mapped
+     * @see #map(File, long, int, boolean)
+     * @since 0.0.0
+     */
+    public static CharArray map(File file, long length)
+            throws NullPointerException, IllegalArgumentException, ReadException {
+        return map(file, length, BigArray.BLOCK_SIZE, false);
+    }
+
+    /**
+     * <p>
+     * Returns a new big array with specified length and specified block size, of which elements are stored in specified
+     * file. Each block of the array is mapped from a region of the file by {@linkplain FileChannel#map}, so the array
+     * can be much larger than physical memory, only accessed regions are loaded by operating system. Elements are
+     * stored in native byte order. Specified block size is rounded down to power of 2 and limited so that each block is
+     * less than 2GB.
+     * </p>
+     * <p>
+     * In read-only mode the file must be long enough and any write operation throws
+     * {@linkplain ReadOnlyBufferException}, or else the file is created or extended if it is not long enough. Changes
+     * are written back to the file by operating system, {@linkplain #force()} ensures that they are written to the
+     * storage device. The mapping is released by {@linkplain #close()}, or when the array is garbage collected. Clone
+     * of the array is an off-heap array not backed by the file.
+     * </p>
+     * 
+     * @param file
+     *            specified file
+     * @param length
+     *            specified length
+     * @param blockSize
+     *            specified block size
+     * @param readOnly
+     *            whether the array is read-only
+     * @return a new file-mapped big array
+     * @throws NullPointerException
+     *             if specified file is null
+     * @throws IllegalArgumentException
+     *             if specified length < 0, specified block size <= 0, or file is not long enough in read-only mode
+     * @throws ReadException
+     *             if file cannot be opened or mapped
+     * @since 0.0.0
+     */
+    public static CharArray map(File file, long length, int blockSize, boolean readOnly)
+            throws NullPointerException, IllegalArgumentException, ReadException {
+        return map(file, length, blockSize, readOnly, ByteOrder.nativeOrder());
+    }
+
+    /**
+     * <p>
+     * Returns a new big array with specified length and specified block size, of which elements are stored in specified
+     * file in specified byte order. It is same as {@linkplain #map(File, long, int, boolean)} except the byte order, so
+     * that the file can be shared with other programs or with a {@linkplain Binary} of the byte order.
+     * </p>
+     * 
+     * @param file
+     *            specified file
+     * @param length
+     *            specified length
+     * @param blockSize
+     *            specified block size
+     * @param readOnly
+     *            whether the array is read-only
+     * @param order
+     *            specified byte order
+     * @return a new file-mapped big array
+     * @throws NullPointerException
+     *             if specified file or byte order is null
+     * @throws IllegalArgumentException
+     *             if specified length < 0, specified block size <= 0, or file is not long enough in read-only mode
+     * @throws ReadException
+     *             if file cannot be opened or mapped
+     * @since 0.0.0
+     */
+    public static CharArray map(File file, long length, int blockSize, boolean readOnly, ByteOrder order)
+            throws NullPointerException, IllegalArgumentException, ReadException {
+        Checker.checkNull(file);
+        Checker.checkNull(order);
+        Checker.checkLength(length);
+        Checker.checkPositive(blockSize);
+        int blockShift = BigArrayUtil.offHeapBlockShift(length, blockSize, Character.BYTES);
+        return new CharArray(new OfBuffers(length, blockShift,
+                BigArrayUtil.map(file, length, blockShift, Character.BYTES, readOnly, order)));
+    }
+
+    /**
+     * <p>
+     * Returns a big array viewing remaining bytes of specified buffer as chars in byte order of the buffer, no element
+     * is copied. Changes of either of them are visible to the other, position and limit of the buffer are not changed.
+     * Length of the array is number of remaining bytes divided by {@linkplain Character#BYTES}, the rest bytes are
+     * ignored. Closing the array does not release the buffer.
+     * </p>
+     * 
+     * @param buffer
+     *            specified buffer
+     * @return a big array viewing specified buffer
+     * @throws NullPointerException
+     *             if specified buffer is null
+     * @since 0.0.0
+     */
+    public static CharArray wrap(ByteBuffer buffer) throws NullPointerException {
+        Checker.checkNull(buffer);
+        ByteBuffer view = buffer.slice().order(buffer.order());
+        // A single block covers the whole buffer.
+        int blockShift = BigArrayUtil.blockShift(Integer.MAX_VALUE / Character.BYTES) + 1;
+        return new CharArray(new OfBuffers(view.remaining() / Character.BYTES, blockShift, new ByteBuffer[] { view }));
+    }
+
+    /**
+     * <p>
+     * Returns a big array viewing remaining bytes of specified buffers in order as chars in byte orders of the buffers,
+     * no element is copied. Each buffer is a block of the array, so each buffer except the last one must have same
+     * number of remaining bytes, which is power of 2 and not less than {@linkplain Character#BYTES}, and the last one
+     * must not have more. Changes of either of them are visible to the other, positions and limits of the buffers are
+     * not changed. Length of the array is total number of remaining bytes divided by {@linkplain Character#BYTES}, the
+     * rest bytes are ignored. Closing the array does not release the buffers.
+     * </p>
+     * 
+     * @param buffers
+     *            specified buffers
+     * @return a big array viewing specified buffers
+     * @throws NullPointerException
+     *             if specified buffers or any of them is null
+     * @throws IllegalArgumentException
+     *             if remaining bytes of specified buffers cannot be blocks of the array
+     * @since 0.0.0
+     */
+    public static CharArray wrap(ByteBuffer[] buffers) throws NullPointerException, IllegalArgumentException {
+        ByteBuffer[] blocks = BigArrayUtil.wrapBlocks(buffers, Character.BYTES);
+        return new CharArray(new OfBuffers(BigArrayUtil.wrapLength(blocks, Character.BYTES),
+                BigArrayUtil.wrapBlockShift(blocks, Character.BYTES), blocks));
+    }
+
+    /**
+     * <p>
+     * Returns a new sparse big array with specified length, of which default value is 0 and block size is
+     * {@linkplain BigArray#SPARSE_BLOCK_SIZE}.
+     * </p>
+     * 
+     * @param length
+     *            specified length
+     * @return a new sparse big array
+     * @throws IllegalArgumentException
+     *             if specified length < 0
+     * @see #sparse(long, int, char)
+     * @since 0.0.0
+     */
+    public static CharArray sparse(long length) throws IllegalArgumentException {
+        return sparse(length, BigArray.SPARSE_BLOCK_SIZE, (char)0);
+    }
+
+    /**
+     * <p>
+     * Returns a new sparse big array with specified length, specified block size and default value. Sparse array
+     * counts elements which are not equal to default value in each block. A block is allocated when such an element is
+     * written into it, and freed as soon as all of its elements are equal to default value again, so that memory of
+     * sparse array tracks actual density. Specified block size is rounded down to power of 2, smaller block reclaims
+     * memory more accurately but needs more counters.
+     * </p>
+     * 
+     * @param length
+     *            specified length
+     * @param blockSize
+     *            specified block size
+     * @param defaultValue
+     *            default value
+     * @return a new sparse big array
+     * @throws IllegalArgumentException
+     *             if specified length < 0 or specified block size <= 0
+     * @since 0.0.0
+     */
+    public static CharArray sparse(long length, int blockSize, char defaultValue) throws IllegalArgumentException {
+        Checker.checkLength(length);
+        Checker.checkPositive(blockSize);
+        return new CharArray(new OfSparse(length, blockSize, defaultValue));
+    }
+
     private final Data data;
 
     @Override
@@ -219,6 +488,69 @@ public class CharArray extends BigArray implements Iterable<Character>, Cloneabl
         data.set(index, value);
     }
 
+    /**
+     * <p>
+     * Reads elements of this array from specified index into specified array. Elements are copied in bulk block by
+     * block, so a hot loop can pull a window of this array into a reusable buffer instead of calling
+     * {@linkplain #get(long)} for each element.
+     * </p>
+     * 
+     * @param index
+     *            specified start index of this array
+     * @param dest
+     *            specified destination array, not null
+     * @param offset
+     *            start offset of destination array
+     * @param length
+     *            number of elements, >= 0
+     * @throws NullPointerException
+     *             if destination array is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @since 0.0.0
+     */
+    public void get(long index, char[] dest, int offset, int length)
+            throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException {
+        Checker.checkNull(dest);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(index, index + length, length());
+        Checker.checkRangeIndexes(offset, offset + length, dest.length);
+        data.read(index, dest, offset, length);
+    }
+
+    /**
+     * <p>
+     * Writes elements of specified array into this array from specified index. Elements are copied in bulk block by
+     * block, see {@linkplain #get(long, char[], int, int)}.
+     * </p>
+     * 
+     * @param index
+     *            specified start index of this array
+     * @param src
+     *            specified source array, not null
+     * @param offset
+     *            start offset of source array
+     * @param length
+     *            number of elements, >= 0
+     * @throws NullPointerException
+     *             if source array is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @since 0.0.0
+     */
+    public void set(long index, char[] src, int offset, int length)
+            throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException {
+        Checker.checkNull(src);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(index, index + length, length());
+        Checker.checkRangeIndexes(offset, offset + length, src.length);
+        data.write(index, src, offset, length);
+    }
+
     /**
      * <p>
      * Fills elements of this array with specified value.
@@ -271,89 +603,572 @@ public class CharArray extends BigArray implements Iterable<Character>, Cloneabl
      */
     public void copy(long srcPos, CharArray dest, long destPos, long length)
             throws NullPointerException, IndexOutOfBoundsException {
-        Checker.checkIndex(srcPos, length());
-        Checker.checkIndex(destPos, length());
+        Checker.checkNull(dest);
         Checker.checkLength(length);
+        Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+        Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
         data.copy(srcPos, dest.data, destPos, length);
     }
 
     /**
      * <p>
-     * Clones this array, all settings and options inherited.
+     * Fills elements of this array with specified value in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
      * </p>
      * 
-     * @return duplication of this array
+     * @param value
+     *            specified value
+     * @see #parallelFill(char, Executor)
      * @since 0.0.0
      */
-    @Override
-    public CharArray clone() {
-        return new CharArray(data.clone());
+    public void parallelFill(char value) {
+        parallelFill(value, ForkJoinPool.commonPool());
     }
 
     /**
      * <p>
-     * COnverts this array to an object array. If length of this array is greater than {@linkplain Integer#MAX_VALUE},
-     * return first {@linkplain Integer#MAX_VALUE} elements.
+     * Fills elements of this array with specified value in parallel, tasks are executed in specified executor. Elements
+     * are divided into tasks of whole blocks, see {@linkplain BigArray#PARALLEL_TASK_SIZE}. If this array is not large
+     * enough to be divided, it is filled in current thread.
      * </p>
      * 
-     * @return an object array
+     * @param value
+     *            specified value
+     * @param executor
+     *            specified executor, not null
+     * @throws NullPointerException
+     *             if specified executor is null
      * @since 0.0.0
      */
-    public char[] toArray() {
-        return data.toArray();
+    public void parallelFill(char value, Executor executor) throws NullPointerException {
+        Checker.checkNull(executor);
+        data.fill(value, executor);
     }
 
     /**
      * <p>
-     * Returns an iterator to traverse this array.
+     * Copies data of this array into destination array in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
      * </p>
-     * 
-     * @return an iterator to traverse this array
+     *
+     * @param srcPos
+     *            source start index in bounds
+     * @param dest
+     *            destination array, not null
+     * @param destPos
+     *            destination start index in bounds
+     * @param length
+     *            specified length, >= 0
+     * @throws NullPointerException
+     *             if destination array is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @see #parallelCopy(long, CharArray, long, long, Executor)
      * @since 0.0.0
      */
-    @Override
-    public Iterator<Character> iterator() {
-        return new CharArrayIterator(this);
+    public void parallelCopy(long srcPos, CharArray dest, long destPos, long length)
+            throws NullPointerException, IndexOutOfBoundsException {
+        parallelCopy(srcPos, dest, destPos, length, ForkJoinPool.commonPool());
     }
 
     /**
      * <p>
-     * Returns a spliterator to traverse this array.
+     * Copies data of this array into destination array in parallel, tasks are executed in specified executor. Copied
+     * range is divided into tasks of whole blocks of destination array, see {@linkplain BigArray#PARALLEL_TASK_SIZE}.
+     * If the range is not large enough to be divided, or destination array is this array and the source and destination
+     * ranges overlap, it is copied in current thread.
      * </p>
      *
-     * @return a spliterator to traverse this array
+     * @param srcPos
+     *            source start index in bounds
+     * @param dest
+     *            destination array, not null
+     * @param destPos
+     *            destination start index in bounds
+     * @param length
+     *            specified length, >= 0
+     * @param executor
+     *            specified executor, not null
+     * @throws NullPointerException
+     *             if destination array or specified executor is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
      * @since 0.0.0
      */
-    public Spliterator<Character> spliterator() {
-        return new CharArraySpliterator(this, 0, length());
+    public void parallelCopy(long srcPos, CharArray dest, long destPos, long length, Executor executor)
+            throws NullPointerException, IndexOutOfBoundsException {
+        Checker.checkNull(dest);
+        Checker.checkNull(executor);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+        Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+        data.copy(srcPos, dest.data, destPos, length, executor);
     }
 
     /**
      * <p>
-     * Returns a stream to traverse this array.
+     * Sorts elements of this array into ascending numerical order.
      * </p>
-     *
-     * @return a stream to traverse this array
+     * <p>
+     * Elements are sorted in runs of whole blocks by {@linkplain Arrays#sort(char[])}, then sorted runs are merged in
+     * pairs. Merging needs a temporary array as long as the sorted range, which is off-heap if this array is off-heap.
+     * Unlike traditional array, more than {@linkplain Integer#MAX_VALUE} elements can be sorted.
+     * </p>
+     * 
      * @since 0.0.0
      */
-    public Stream<Character> stream() {
-        return StreamSupport.stream(spliterator(), false);
+    public void sort() {
+        data.sort(0, length(), null);
     }
 
-    private static class CharArrayIterator implements Iterator<Character> {
-
-        private CharArray array;
-
-        private long cur = 0;
+    /**
+     * <p>
+     * Sorts elements of this array from {@code from} inclusive to {@code to} exclusive into ascending numerical order,
+     * see {@linkplain #sort()}.
+     * </p>
+     * 
+     * @param from
+     *            from index inclusive
+     * @param to
+     *            to index exclusive
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @since 0.0.0
+     */
+    public void sort(long from, long to) throws IndexOutOfBoundsException {
+        Checker.checkRangeIndexes(from, to, length());
+        data.sort(from, to, null);
+    }
 
-        public CharArrayIterator(CharArray array) {
-            this.array = array;
-        }
+    /**
+     * <p>
+     * Sorts elements of this array into ascending numerical order in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @see #parallelSort(long, long, Executor)
+     * @since 0.0.0
+     */
+    public void parallelSort() {
+        parallelSort(0, length(), ForkJoinPool.commonPool());
+    }
 
-        @Override
-        public boolean hasNext() {
-            return cur < array.length();
-        }
+    /**
+     * <p>
+     * Sorts elements of this array from {@code from} inclusive to {@code to} exclusive into ascending numerical order
+     * in parallel, tasks are executed in {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @param from
+     *            from index inclusive
+     * @param to
+     *            to index exclusive
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @see #parallelSort(long, long, Executor)
+     * @since 0.0.0
+     */
+    public void parallelSort(long from, long to) throws IndexOutOfBoundsException {
+        parallelSort(from, to, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Sorts elements of this array from {@code from} inclusive to {@code to} exclusive into ascending numerical order
+     * in parallel, tasks are executed in specified executor. The range is divided into runs of whole blocks, see
+     * {@linkplain BigArray#PARALLEL_TASK_SIZE}, each run is sorted by a task and then each pair of adjacent sorted runs
+     * is merged by a task, until the whole range is sorted. Result is same as {@linkplain #sort(long, long)}.
+     * </p>
+     * 
+     * @param from
+     *            from index inclusive
+     * @param to
+     *            to index exclusive
+     * @param executor
+     *            specified executor, not null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws NullPointerException
+     *             if specified executor is null
+     * @since 0.0.0
+     */
+    public void parallelSort(long from, long to, Executor executor)
+            throws IndexOutOfBoundsException, NullPointerException {
+        Checker.checkRangeIndexes(from, to, length());
+        Checker.checkNull(executor);
+        data.sort(from, to, executor);
+    }
+
+    /**
+     * <p>
+     * Searches specified value in this array by binary search, see {@linkplain #binarySearch(long, long, char)}.
+     * </p>
+     * 
+     * @param value
+     *            specified value
+     * @return index of specified value if it is found, or else {@code (-(insertion point) - 1)}
+     * @since 0.0.0
+     */
+    public long binarySearch(char value) {
+        return binarySearch(0, length(), value);
+    }
+
+    /**
+     * <p>
+     * Searches specified value in this array from {@code from} inclusive to {@code to} exclusive by binary search. The
+     * range must be sorted such as by {@linkplain #sort(long, long)}, or else the result is undefined. If the range
+     * contains multiple elements equal to specified value, there is no guarantee which one will be found.
+     * </p>
+     * 
+     * @param from
+     *            from index inclusive
+     * @param to
+     *            to index exclusive
+     * @param value
+     *            specified value
+     * @return index of specified value if it is found, or else {@code (-(insertion point) - 1)}, insertion point is
+     *         index of first element greater than specified value, or {@code to} if all elements in the range are less
+     *         than it
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @since 0.0.0
+     */
+    public long binarySearch(long from, long to, char value) throws IndexOutOfBoundsException {
+        Checker.checkRangeIndexes(from, to, length());
+        long low = from;
+        long high = to - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            char midValue = data.get(mid);
+            if (midValue < value) {
+                low = mid + 1;
+            } else if (midValue > value) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * <p>
+     * Returns bytes of memory allocated for elements of this array, not including headers of objects. For a lazy,
+     * sparse or off-heap array, only allocated blocks are counted.
+     * </p>
+     * 
+     * @return bytes of memory allocated for elements of this array
+     * @see #logicalBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long allocatedBytes() {
+        return data.allocatedBytes();
+    }
+
+    /**
+     * <p>
+     * Returns bytes of all elements of this array, that is, length of this array multiplied by bytes of each element.
+     * </p>
+     * 
+     * @return bytes of all elements of this array
+     * @see #allocatedBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long logicalBytes() {
+        return length() * Character.BYTES;
+    }
+
+    /**
+     * <p>
+     * Returns number of blocks allocated for elements of this array. For a lazy or sparse array, blocks which have
+     * never been written are not allocated.
+     * </p>
+     * 
+     * @return number of blocks allocated for elements of this array
+     * @see #allocatedBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long allocatedBlocks() {
+        return data.allocatedBlocks();
+    }
+
+    /**
+     * <p>
+     * Performs given action for each element of this array which is not equal to default value, in order of index.
+     * Default value is value of elements which are not allocated, that is, initial value of this array or value last
+     * filled by {@linkplain #fill(char)}, and it is always 0 for array backed by only one array. Blocks which are not
+     * allocated are skipped without traversing, so that it is fast for sparse array.
+     * </p>
+     * 
+     * @param action
+     *            given action with index and value of each element, not null
+     * @throws NullPointerException
+     *             if given action is null
+     * @since 0.0.0
+     */
+    public void forEachNonDefault(EachIntConsumer action) throws NullPointerException {
+        Checker.checkNull(action);
+        data.forEachNonDefault(action);
+    }
+
+    @Override
+    public boolean isOffHeap() {
+        return data.isOffHeap();
+    }
+
+    @Override
+    public void close() {
+        data.close();
+    }
+
+    @Override
+    public void force() {
+        data.force();
+    }
+
+    /**
+     * <p>
+     * Clones this array, all settings and options inherited.
+     * </p>
+     * 
+     * @return duplication of this array
+     * @since 0.0.0
+     */
+    @Override
+    public CharArray clone() {
+        return new CharArray(data.clone());
+    }
+
+    /**
+     * <p>
+     * Clones this array in parallel, all settings and options inherited. Tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @return duplication of this array
+     * @see #parallelClone(Executor)
+     * @since 0.0.0
+     */
+    public CharArray parallelClone() {
+        return parallelClone(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Clones this array in parallel, all settings and options inherited. Tasks are executed in specified executor,
+     * elements are divided into tasks of whole blocks, see {@linkplain BigArray#PARALLEL_TASK_SIZE}.
+     * </p>
+     * 
+     * @param executor
+     *            specified executor, not null
+     * @return duplication of this array
+     * @throws NullPointerException
+     *             if specified executor is null
+     * @since 0.0.0
+     */
+    public CharArray parallelClone(Executor executor) throws NullPointerException {
+        Checker.checkNull(executor);
+        return new CharArray(data.clone(executor));
+    }
+
+    /**
+     * <p>
+     * COnverts this array to an object array. If length of this array is greater than {@linkplain Integer#MAX_VALUE},
+     * return first {@linkplain Integer#MAX_VALUE} elements.
+     * </p>
+     * 
+     * @return an object array
+     * @since 0.0.0
+     */
+    public char[] toArray() {
+        return data.toArray();
+    }
+
+    /**
+     * <p>
+     * Returns an iterator to traverse this array.
+     * </p>
+     * 
+     * @return an iterator to traverse this array
+     * @since 0.0.0
+     */
+    @Override
+    public Iterator<Character> iterator() {
+        return new CharArrayIterator(this);
+    }
+
+    /**
+     * <p>
+     * Returns a spliterator to traverse this array.
+     * </p>
+     *
+     * @return a spliterator to traverse this array
+     * @since 0.0.0
+     */
+    public Spliterator<Character> spliterator() {
+        return new CharArraySpliterator(this, 0, length());
+    }
+
+    /**
+     * <p>
+     * Returns a stream to traverse this array.
+     * </p>
+     *
+     * @return a stream to traverse this array
+     * @since 0.0.0
+     */
+    public Stream<Character> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * <p>
+     * Returns an int stream to traverse this array, each element of which is widened to int.
+     * </p>
+     *
+     * @return an int stream to traverse this array
+     * @since 0.0.0
+     */
+    public IntStream intStream() {
+        return StreamSupport.intStream(new CharArrayIntSpliterator(this, 0, length()), false);
+    }
+
+    /**
+     * <p>
+     * Returns a binary viewing this array with specified byte order processor, no element is copied. Each element
+     * occupies {@linkplain Character#BYTES} bytes of the binary in the byte order, changes of either of them are
+     * visible to the other. If given byte order processor is null, use default {@linkplain
+     * ByteOrderProcessor#BIG_ENDIAN}.
+     * </p>
+     * 
+     * @param orderProcessor
+     *            given byte order processor
+     * @return a binary viewing this array
+     * @throws OutOfBoundsException
+     *             if length of the binary exceeds {@linkplain Long#MAX_VALUE}
+     * @see BigArrayBinary
+     * @since 0.0.0
+     */
+    public Binary asBinary(@Nullable ByteOrderProcessor orderProcessor) throws OutOfBoundsException {
+        return BigArrayBinary.of(this, orderProcessor);
+    }
+
+    /**
+     * <p>
+     * Writes this array into specified outputer in a compact streaming format, in byte order of the outputer. The
+     * format consists of a header of type, byte order, length, block size and filler, followed by blocks of this array.
+     * Each block is written as a flag and its elements in bulk, a block which is not allocated by a lazy array is
+     * written as a flag only. The array can be read back by {@linkplain #readFrom(Inputer)}.
+     * </p>
+     * 
+     * @param out
+     *            specified outputer
+     * @throws NullPointerException
+     *             if specified outputer is null
+     * @throws IOException
+     *             if an I/O error occurs
+     * @since 0.0.0
+     */
+    public void writeTo(Outputer out) throws NullPointerException, IOException {
+        Checker.checkNull(out);
+        ByteOrder order = out.getByteOrderProcessor().getByteOrder();
+        long length = length();
+        int blockSize = Math.max(data.blockSize(), 1);
+        ByteBuffer header = BigArrayUtil.header('C', Character.BYTES, order);
+        header.putLong(length).putInt(blockSize).putChar(data.filler());
+        out.write(header.array());
+        char[] temp = new char[(int)Math.min(length, (long)BigArrayUtil.COPY_BUFFER_SIZE)];
+        byte[] bytes = new byte[temp.length * Character.BYTES];
+        CharBuffer view = ByteBuffer.wrap(bytes).order(order).asCharBuffer();
+        for (long i = 0; i < length;) {
+            int n = (int)Math.min((long)blockSize, length - i);
+            if (!data.allocated(i)) {
+                out.write(0);
+                i += n;
+                continue;
+            }
+            out.write(1);
+            for (int j = 0; j < n;) {
+                int m = Math.min(temp.length, n - j);
+                data.read(i + j, temp, 0, m);
+                view.clear();
+                view.put(temp, 0, m);
+                out.write(bytes, 0, m * Character.BYTES);
+                j += m;
+            }
+            i += n;
+        }
+    }
+
+    /**
+     * <p>
+     * Reads a big array from specified inputer, which is written by {@linkplain #writeTo(Outputer)}. Returned array is
+     * a new lazy array of default block size, blocks which are not written are left unallocated.
+     * </p>
+     * 
+     * @param in
+     *            specified inputer
+     * @return a new big array read from specified inputer
+     * @throws NullPointerException
+     *             if specified inputer is null
+     * @throws StreamCorruptedException
+     *             if data of specified inputer is not a big array of char
+     * @throws EOFException
+     *             if reaches to end of stream before reading the whole array
+     * @throws IOException
+     *             if an I/O error occurs
+     * @since 0.0.0
+     */
+    public static CharArray readFrom(Inputer in)
+            throws NullPointerException, StreamCorruptedException, EOFException, IOException {
+        Checker.checkNull(in);
+        ByteBuffer header = BigArrayUtil.readHeader(in, 'C', Character.BYTES);
+        long length = header.getLong();
+        int blockSize = header.getInt();
+        char filler = header.getChar();
+        BigArrayUtil.checkHeader(length, blockSize);
+        CharArray array = new CharArray(length, BigArray.BLOCK_SIZE, filler, true);
+        char[] temp = new char[(int)Math.min(length, (long)BigArrayUtil.COPY_BUFFER_SIZE)];
+        byte[] bytes = new byte[temp.length * Character.BYTES];
+        CharBuffer view = ByteBuffer.wrap(bytes).order(header.order()).asCharBuffer();
+        for (long i = 0; i < length;) {
+            int n = (int)Math.min((long)blockSize, length - i);
+            if (BigArrayUtil.readFlag(in)) {
+                for (int j = 0; j < n;) {
+                    int m = Math.min(temp.length, n - j);
+                    in.readFully(bytes, 0, m * Character.BYTES);
+                    view.clear();
+                    view.get(temp, 0, m);
+                    array.data.write(i + j, temp, 0, m);
+                    j += m;
+                }
+            }
+            i += n;
+        }
+        return array;
+    }
+
+    private static class CharArrayIterator implements Iterator<Character> {
+
+        private CharArray array;
+
+        private long cur = 0;
+
+        public CharArrayIterator(CharArray array) {
+            this.array = array;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cur < array.length();
+        }
 
         @Override
         public Character next() {
@@ -380,7 +1195,7 @@ public class CharArray extends BigArray implements Iterable<Character>, Cloneabl
 
         @Override
         public boolean tryAdvance(Consumer<? super Character> action) {
-            if (cur >= array.length()) {
+            if (cur >= end) {
                 return false;
             }
             Quicker.require(action).accept(array.get(cur++));
@@ -388,336 +1203,1179 @@ public class CharArray extends BigArray implements Iterable<Character>, Cloneabl
         }
 
         @Override
-        public Spliterator<Character> trySplit() {
-            if (end - cur > BigArray.UNSPLITERATED_SIZE) {
-                return null;
-            }
-            long newStart = (end - cur) / 2;
-            this.cur = newStart;
-            return new CharArraySpliterator(array, cur, newStart);
+        public void forEachRemaining(Consumer<? super Character> action) {
+            Quicker.require(action);
+            if (cur < end) {
+                long from = cur;
+                cur = end;
+                array.data.forEach(from, end, v -> action.accept((char)v));
+            }
+        }
+
+        @Override
+        public Spliterator<Character> trySplit() {
+            long mid = BigArrayUtil.splitIndex(cur, end, array.data.blockSize());
+            if (mid < 0) {
+                return null;
+            }
+            CharArraySpliterator prefix = new CharArraySpliterator(array, cur, mid);
+            this.cur = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - cur;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+                    | Spliterator.NONNULL;
+        }
+    }
+
+    private static class CharArrayIntSpliterator implements Spliterator.OfInt {
+
+        private CharArray array;
+
+        private long end;
+
+        private long cur;
+
+        public CharArrayIntSpliterator(CharArray array, long start, long end) {
+            this.array = array;
+            this.cur = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            if (cur >= end) {
+                return false;
+            }
+            Quicker.require(action).accept(array.get(cur++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Quicker.require(action);
+            if (cur < end) {
+                long from = cur;
+                cur = end;
+                array.data.forEach(from, end, action);
+            }
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            long mid = BigArrayUtil.splitIndex(cur, end, array.data.blockSize());
+            if (mid < 0) {
+                return null;
+            }
+            CharArrayIntSpliterator prefix = new CharArrayIntSpliterator(array, cur, mid);
+            this.cur = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - cur;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+                    | Spliterator.NONNULL;
+        }
+    }
+
+    private static abstract class Data implements Serializable, Cloneable {
+
+        private static final long serialVersionUID = 1L;
+
+        public abstract int blockSize();
+
+        public abstract char[] block(long index);
+
+        public abstract char[] allocate(long index);
+
+        public abstract int offset(long index);
+
+        public abstract int remaining(long index);
+
+        public abstract char filler();
+
+        public abstract long length();
+
+        public char get(int index) throws IndexOutOfBoundsException {
+            return get((long)index);
+        }
+
+        public void set(int index, char value) throws IndexOutOfBoundsException {
+            set((long)index, value);
+        }
+
+        public abstract char get(long index) throws IndexOutOfBoundsException;
+
+        public abstract void set(long index, char value) throws IndexOutOfBoundsException;
+
+        public abstract void fill(char value);
+
+        public int taskUnit() {
+            return blockSize();
+        }
+
+        public void fill(char value, Executor executor) {
+            BigArrayUtil.parallel(0, length(), taskUnit(), executor, (from, to) -> fill(from, to, value));
+        }
+
+        public void forEach(long from, long to, IntConsumer action) {
+            for (long i = from; i < to;) {
+                int offset = offset(i);
+                int end = offset + (int)Math.min((long)remaining(i), to - i);
+                char[] block = block(i);
+                if (null == block) {
+                    char filler = filler();
+                    for (int j = offset; j < end; j++) {
+                        action.accept(filler);
+                    }
+                } else {
+                    for (int j = offset; j < end; j++) {
+                        action.accept(block[j]);
+                    }
+                }
+                i += end - offset;
+            }
+        }
+
+        public void fill(long from, long to, char value) {
+            for (long i = from; i < to;) {
+                int offset = offset(i);
+                int n = (int)Math.min((long)remaining(i), to - i);
+                char[] block = block(i);
+                if (null == block) {
+                    if (value == filler()) {
+                        i += n;
+                        continue;
+                    }
+                    block = allocate(i);
+                }
+                Arrays.fill(block, offset, offset + n, value);
+                i += n;
+            }
+        }
+
+        public void copy(long srcPos, Data dest, long destPos, long length)
+                throws NullPointerException, IndexOutOfBoundsException {
+            if (length == 0) {
+                return;
+            }
+            Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+            Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+            if (dest == this && srcPos < destPos && destPos < srcPos + length) {
+                // Overlapped, copies backward.
+                int blockSize = blockSize();
+                for (long i = length; i > 0;) {
+                    long s = srcPos + i - 1;
+                    long d = destPos + i - 1;
+                    int n = (int)Math.min((long)(blockSize - Math.max(remaining(s), remaining(d)) + 1), i);
+                    copyBlock(s - n + 1, dest, d - n + 1, n);
+                    i -= n;
+                }
+            } else {
+                for (long i = 0; i < length;) {
+                    long s = srcPos + i;
+                    long d = destPos + i;
+                    int n = (int)Math.min((long)Math.min(remaining(s), dest.remaining(d)), length - i);
+                    copyBlock(s, dest, d, n);
+                    i += n;
+                }
+            }
+        }
+
+        public void copy(long srcPos, Data dest, long destPos, long length, Executor executor)
+                throws NullPointerException, IndexOutOfBoundsException {
+            if (dest == this && srcPos < destPos + length && destPos < srcPos + length) {
+                // Overlapped, copies in current thread.
+                copy(srcPos, dest, destPos, length);
+                return;
+            }
+            long offset = srcPos - destPos;
+            BigArrayUtil.parallel(destPos, destPos + length, dest.taskUnit(), executor,
+                    (from, to) -> copy(from + offset, dest, from, to - from));
+        }
+
+        private void copyBlock(long srcPos, Data dest, long destPos, int length) {
+            char[] sr = block(srcPos);
+            if (null == sr) {
+                dest.fill(destPos, destPos + length, filler());
+            } else {
+                dest.write(destPos, sr, offset(srcPos), length);
+            }
+        }
+
+        public void read(long index, char[] dest, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long s = index + i;
+                int n = Math.min(remaining(s), length - i);
+                char[] block = block(s);
+                if (null == block) {
+                    Arrays.fill(dest, offset + i, offset + i + n, filler());
+                } else {
+                    System.arraycopy(block, offset(s), dest, offset + i, n);
+                }
+                i += n;
+            }
+        }
+
+        public void sort(long from, long to, @Nullable Executor executor) {
+            long[] bounds = BigArrayUtil.split(from, to,
+                    BigArrayUtil.taskSize(null == executor ? blockSize() : taskUnit()));
+            List<Runnable> tasks = new ArrayList<>(bounds.length);
+            for (int i = 0; i < bounds.length - 1; i++) {
+                long start = bounds[i];
+                long end = bounds[i + 1];
+                tasks.add(() -> sortRun(start, end));
+            }
+            BigArrayUtil.execute(tasks, executor);
+            if (bounds.length <= 2) {
+                return;
+            }
+            // Merges each pair of adjacent runs, between this and temporary array alternately.
+            Data temp = isOffHeap() ? new OfBuffers(to - from, BigArray.BLOCK_SIZE, (char)0, false)
+                    : createData(to - from, BigArray.BLOCK_SIZE, (char)0, false);
+            try {
+                Data src = this;
+                Data dest = temp;
+                long srcShift = 0;
+                long destShift = from;
+                while (bounds.length > 2) {
+                    int runs = bounds.length - 1;
+                    long[] merged = new long[(runs + 1) / 2 + 1];
+                    tasks.clear();
+                    for (int i = 0; i < runs; i += 2) {
+                        Data mergeSrc = src;
+                        Data mergeDest = dest;
+                        long start = bounds[i];
+                        long mid = bounds[Math.min(i + 1, runs)] - srcShift;
+                        long end = bounds[Math.min(i + 2, runs)] - srcShift;
+                        long destPos = start - destShift;
+                        long srcPos = start - srcShift;
+                        tasks.add(() -> merge(mergeSrc, srcPos, mid, end, mergeDest, destPos));
+                        merged[i / 2] = start;
+                    }
+                    merged[merged.length - 1] = to;
+                    BigArrayUtil.execute(tasks, executor);
+                    bounds = merged;
+                    src = dest;
+                    dest = src == temp ? this : temp;
+                    long shift = srcShift;
+                    srcShift = destShift;
+                    destShift = shift;
+                }
+                if (src != this) {
+                    src.copy(0, this, from, to - from, executor);
+                }
+            } finally {
+                temp.close();
+            }
+        }
+
+        private void sortRun(long from, long to) {
+            int length = (int)(to - from);
+            if (!isOffHeap() && length <= remaining(from)) {
+                char[] block = block(from);
+                // Unallocated block is full of filler, it is sorted already.
+                if (null != block) {
+                    int offset = offset(from);
+                    Arrays.sort(block, offset, offset + length);
+                }
+                return;
+            }
+            char[] run = new char[length];
+            read(from, run, 0, length);
+            Arrays.sort(run);
+            write(from, run, 0, length);
+        }
+
+        private static void merge(Data src, long left, long mid, long end, Data dest, long destPos) {
+            long right = mid;
+            char[] leftBuffer = new char[(int)Math.min(mid - left, (long)BigArrayUtil.COPY_BUFFER_SIZE)];
+            char[] rightBuffer = new char[(int)Math.min(end - mid, (long)BigArrayUtil.COPY_BUFFER_SIZE)];
+            char[] merged = new char[BigArrayUtil.COPY_BUFFER_SIZE];
+            int leftIndex = 0;
+            int leftSize = 0;
+            int rightIndex = 0;
+            int rightSize = 0;
+            int size = 0;
+            while (true) {
+                if (leftIndex == leftSize && left < mid) {
+                    leftSize = (int)Math.min(mid - left, (long)leftBuffer.length);
+                    src.read(left, leftBuffer, 0, leftSize);
+                    left += leftSize;
+                    leftIndex = 0;
+                }
+                if (rightIndex == rightSize && right < end) {
+                    rightSize = (int)Math.min(end - right, (long)rightBuffer.length);
+                    src.read(right, rightBuffer, 0, rightSize);
+                    right += rightSize;
+                    rightIndex = 0;
+                }
+                if (leftIndex == leftSize || rightIndex == rightSize) {
+                    break;
+                }
+                if (leftBuffer[leftIndex] <= rightBuffer[rightIndex]) {
+                    merged[size++] = leftBuffer[leftIndex++];
+                } else {
+                    merged[size++] = rightBuffer[rightIndex++];
+                }
+                if (size == merged.length) {
+                    dest.write(destPos, merged, 0, size);
+                    destPos += size;
+                    size = 0;
+                }
+            }
+            // One of runs is exhausted, rest of the other is copied directly.
+            dest.write(destPos, merged, 0, size);
+            destPos += size;
+            dest.write(destPos, leftBuffer, leftIndex, leftSize - leftIndex);
+            destPos += leftSize - leftIndex;
+            src.copy(left, dest, destPos, mid - left);
+            destPos += mid - left;
+            dest.write(destPos, rightBuffer, rightIndex, rightSize - rightIndex);
+            destPos += rightSize - rightIndex;
+            src.copy(right, dest, destPos, end - right);
+        }
+
+        public void write(long index, char[] src, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long d = index + i;
+                int n = Math.min(remaining(d), length - i);
+                System.arraycopy(src, offset + i, allocate(d), offset(d), n);
+                i += n;
+            }
+        }
+
+        public void forEachNonDefault(EachIntConsumer action) {
+            char filler = filler();
+            for (long i = 0; i < length();) {
+                int offset = offset(i);
+                int n = (int)Math.min((long)remaining(i), length() - i);
+                char[] block = block(i);
+                if (null != block) {
+                    for (int j = 0; j < n; j++) {
+                        if (block[offset + j] != filler) {
+                            action.accept(i + j, block[offset + j]);
+                        }
+                    }
+                }
+                i += n;
+            }
+        }
+
+        public boolean allocated(long index) {
+            return null != block(index);
+        }
+
+        public long allocatedBytes() {
+            long bytes = 0;
+            for (long i = 0; i < length(); i += remaining(i)) {
+                if (allocated(i)) {
+                    bytes += (long)blockSize() * Character.BYTES;
+                }
+            }
+            return bytes;
+        }
+
+        public long allocatedBlocks() {
+            long blocks = 0;
+            for (long i = 0; i < length(); i += remaining(i)) {
+                if (allocated(i)) {
+                    blocks++;
+                }
+            }
+            return blocks;
+        }
+
+        public abstract Data clone();
+
+        public Data clone(Executor executor) {
+            Data clone = blank();
+            copy(0, clone, 0, length(), executor);
+            return clone;
+        }
+
+        public abstract Data blank();
+
+        public abstract char[] toArray();
+
+        public boolean isOffHeap() {
+            return false;
+        }
+
+        public void close() {
+        }
+
+        public void force() {
+        }
+    }
+
+    private static class ArrayWrapper extends Data {
+
+        private static final long serialVersionUID = 1L;
+
+        private final char[] source;
+
+        private int from;
+
+        private int length;
+
+        public ArrayWrapper(char[] source, int from, int to) {
+            this.source = source;
+            this.from = from;
+            this.length = to - from;
+        }
+
+        @Override
+        public int blockSize() {
+            return length;
+        }
+
+        @Override
+        public int taskUnit() {
+            return 1;
+        }
+
+        @Override
+        public char[] block(long index) {
+            return source;
+        }
+
+        @Override
+        public char[] allocate(long index) {
+            return source;
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index + from;
+        }
+
+        @Override
+        public int remaining(long index) {
+            return length - (int)index;
+        }
+
+        @Override
+        public char filler() {
+            return (char)0;
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public char get(int index) throws IndexOutOfBoundsException {
+            return source[index + from];
+        }
+
+        @Override
+        public void set(int index, char value) throws IndexOutOfBoundsException {
+            source[index + from] = value;
+        }
+
+        @Override
+        public char get(long index) throws IndexOutOfBoundsException {
+            return source[(int)index + from];
+        }
+
+        @Override
+        public void set(long index, char value) throws IndexOutOfBoundsException {
+            source[(int)index + from] = value;
+        }
+
+        @Override
+        public void fill(char value) {
+            Arrays.fill(source, from, from + length, value);
+        }
+
+        @Override
+        public void copy(long srcPos, Data dest, long destPos, long length)
+                throws NullPointerException, IndexOutOfBoundsException {
+            if (dest instanceof OfOneDimension) {
+                if (length == 0) {
+                    return;
+                }
+                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+                Checker.checkRangeIndexes(destPos, destPos + length, ((OfOneDimension)dest).source.length);
+                System.arraycopy(source, (int)srcPos + from, ((OfOneDimension)dest).source, (int)destPos, (int)length);
+            } else if (dest instanceof ArrayWrapper) {
+                if (length == 0) {
+                    return;
+                }
+                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+                System.arraycopy(source, (int)srcPos + from, ((ArrayWrapper)dest).source,
+                        (int)destPos + ((ArrayWrapper)dest).from, (int)length);
+            } else {
+                super.copy(srcPos, dest, destPos, length);
+            }
+        }
+
+        @Override
+        public void forEach(long from, long to, IntConsumer action) {
+            for (int i = (int)from + this.from, end = (int)to + this.from; i < end; i++) {
+                action.accept(source[i]);
+            }
+        }
+
+        @Override
+        public Data clone() {
+            return new OfOneDimension(this);
+        }
+
+        @Override
+        public Data blank() {
+            return new OfOneDimension((int)length(), (char)0);
+        }
+
+        @Override
+        public char[] toArray() {
+            char[] ar = (char[])Array.newInstance(char.class, length);
+            System.arraycopy(source, from, ar, 0, length);
+            return ar;
+        }
+    }
+
+    /**
+     * <p>
+     * One dimension Implementation.
+     * </p>
+     *
+     * @author Fred Suvn
+     * @version 0.0.0, 2016-03-18T15:52:34+08:00
+     * @since 0.0.0, 2016-03-18T15:52:34+08:00
+     */
+    private static class OfOneDimension extends Data {
+
+        private static final long serialVersionUID = 1L;
+
+        private final char[] source;
+
+        public OfOneDimension(int length, char initial) {
+            source = new char[length];
+            if (0 != initial) {
+                Arrays.fill(source, initial);
+            }
+        }
+
+        public OfOneDimension(OfOneDimension copyFrom) {
+            this.source = copyFrom.source.clone();
+        }
+
+        public OfOneDimension(Data copyFrom) {
+            this((int)copyFrom.length(), (char)0);
+            copyFrom.copy(0, this, 0, (int)copyFrom.length());
+        }
+
+        @Override
+        public int blockSize() {
+            return source.length;
+        }
+
+        @Override
+        public int taskUnit() {
+            return 1;
+        }
+
+        @Override
+        public char[] block(long index) {
+            return source;
+        }
+
+        @Override
+        public char[] allocate(long index) {
+            return source;
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index;
+        }
+
+        @Override
+        public int remaining(long index) {
+            return source.length - (int)index;
         }
 
         @Override
-        public long estimateSize() {
-            return end - cur;
+        public char filler() {
+            return (char)0;
         }
 
         @Override
-        public int characteristics() {
-            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        public long length() {
+            return source.length;
         }
 
-    }
-
-    private static abstract class Data implements Serializable, Cloneable {
-
-        private static final long serialVersionUID = 1L;
-
-        public abstract int[] getDimensions();
-
-        public abstract long length();
-
+        @Override
         public char get(int index) throws IndexOutOfBoundsException {
-            return get((long)index);
+            return source[index];
         }
 
+        @Override
         public void set(int index, char value) throws IndexOutOfBoundsException {
-            set((long)index, value);
+            source[index] = value;
         }
 
-        public abstract char get(long index) throws IndexOutOfBoundsException;
+        @Override
+        public char get(long index) throws IndexOutOfBoundsException {
+            return source[(int)index];
+        }
 
-        public abstract void set(long index, char value) throws IndexOutOfBoundsException;
+        @Override
+        public void set(long index, char value) throws IndexOutOfBoundsException {
+            source[(int)index] = value;
+        }
 
-        public abstract void fill(char value);
+        @Override
+        public void fill(char value) {
+            Arrays.fill(source, value);
+        }
 
+        @Override
         public void copy(long srcPos, Data dest, long destPos, long length)
                 throws NullPointerException, IndexOutOfBoundsException {
-            if (length == 0) {
-                return;
-            }
-            Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-            Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
-            int[] dimensions = getDimensions();
-            int[] destDimensions = dest.getDimensions();
-            int[] srcMultiIndexes = new int[dimensions.length];
-            int[] destMultiIndexes = new int[destDimensions.length];
-            int sWide = dimensions[dimensions.length - 1];
-            int dWide = destDimensions[destDimensions.length - 1];
-            for (long i = 0; i < length;) {
-                BigArrayUtil.mapIndexes(srcPos + i, dimensions, srcMultiIndexes);
-                char[] sr = (char[])BigArrayUtil.getLastDimension(getBackedArray(), srcMultiIndexes);
-                int ys = (int)((srcPos + i) % sWide);
-                BigArrayUtil.mapIndexes(destPos + i, destDimensions, destMultiIndexes);
-                char[] dr = (char[])BigArrayUtil.getLastDimension(dest.getBackedArray(), destMultiIndexes);
-                int yd = (int)((destPos + i) % dWide);
-                int copyLength = Math.min(sWide - ys, dWide - yd);
-                copyLength = (int)Math.min((long)copyLength, length - i);
-                if (sr != null) {
-                    if (dr == null) {
-                        // One-dimensional backed array is never null.
-                        dr = (char[])BigArrayUtil.alloc(dest.getBackedArray(), char.class, destDimensions,
-                                destMultiIndexes);
-                    }
-                    System.arraycopy(sr, ys, dr, yd, copyLength);
+            if (dest instanceof OfOneDimension) {
+                if (length == 0) {
+                    return;
+                }
+                Checker.checkRangeIndexes(srcPos, srcPos + length, source.length);
+                Checker.checkRangeIndexes(destPos, destPos + length, ((OfOneDimension)dest).source.length);
+                System.arraycopy(source, (int)srcPos, ((OfOneDimension)dest).source, (int)destPos, (int)length);
+            } else if (dest instanceof ArrayWrapper) {
+                if (length == 0) {
+                    return;
                 }
-                i += copyLength;
+                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+                System.arraycopy(source, (int)srcPos, ((ArrayWrapper)dest).source,
+                        (int)destPos + ((ArrayWrapper)dest).from, (int)length);
+            } else {
+                super.copy(srcPos, dest, destPos, length);
             }
         }
 
-        public abstract Data clone();
+        @Override
+        public void forEach(long from, long to, IntConsumer action) {
+            for (int i = (int)from, end = (int)to; i < end; i++) {
+                action.accept(source[i]);
+            }
+        }
 
-        public abstract char[] toArray();
+        @Override
+        public Data clone() {
+            return new OfOneDimension(this);
+        }
+
+        @Override
+        public Data blank() {
+            return new OfOneDimension((int)length(), (char)0);
+        }
 
-        public abstract Object getBackedArray();
+        @Override
+        public char[] toArray() {
+            char[] ar = (char[])Array.newInstance(char.class, source.length);
+            System.arraycopy(source, 0, ar, 0, source.length);
+            return ar;
+        }
     }
 
-    private static class ArrayWrapper extends Data {
+    /**
+     * <p>
+     * Abstract two dimensions implementation.
+     * </p>
+     *
+     * @author Fred Suvn
+     * @version 0.0.0, 2016-03-22T10:18:37+08:00
+     * @since 0.0.0, 2016-03-22T10:18:37+08:00
+     */
+    private static class OfTwoDimensions extends Data {
 
         private static final long serialVersionUID = 1L;
 
-        private final char[] source;
+        private final long length;
 
-        private int from;
+        private final int[] dimensions;
 
-        private int length;
+        private final char[][] source;
 
-        public ArrayWrapper(char[] source, int from, int to) {
-            this.source = source;
-            this.from = from;
-            this.length = to - from;
+        private char filler;
+
+        private boolean lazy;
+
+        public OfTwoDimensions(long length, int[] dimensions, char initial, boolean lazy) {
+            this.length = length;
+            this.dimensions = dimensions;
+            this.lazy = lazy;
+            if (lazy) {
+                source = new char[dimensions[0]][];
+            } else {
+                source = new char[dimensions[0]][dimensions[1]];
+            }
+            fill(initial);
+        }
+
+        public OfTwoDimensions(OfTwoDimensions copyFrom) {
+            this(copyFrom.length, copyFrom.dimensions, copyFrom.filler, copyFrom.lazy);
+            copyFrom.copy(0, this, 0, length);
         }
 
         @Override
-        public int[] getDimensions() {
-            return null;
+        public int blockSize() {
+            return dimensions[1];
         }
 
         @Override
-        public long length() {
-            return length;
+        public char[] block(long index) {
+            return source[(int)(index / dimensions[1])];
         }
 
         @Override
-        public char get(int index) throws IndexOutOfBoundsException {
-            return source[index + from];
+        public char[] allocate(long index) {
+            int x = (int)(index / dimensions[1]);
+            if (null == source[x]) {
+                source[x] = new char[dimensions[1]];
+                if ((char)0 != filler) {
+                    Arrays.fill(source[x], filler);
+                }
+            }
+            return source[x];
         }
 
         @Override
-        public void set(int index, char value) throws IndexOutOfBoundsException {
-            source[index + from] = value;
+        public int offset(long index) {
+            return (int)(index % dimensions[1]);
+        }
+
+        @Override
+        public int remaining(long index) {
+            return dimensions[1] - (int)(index % dimensions[1]);
+        }
+
+        @Override
+        public char filler() {
+            return filler;
+        }
+
+        @Override
+        public long length() {
+            return length;
         }
 
         @Override
         public char get(long index) throws IndexOutOfBoundsException {
-            return source[(int)index + from];
+            Checker.checkIndex(index, length);
+            int x = (int)(index / dimensions[1]);
+            return null == source[x] ? filler : source[x][(int)(index % dimensions[1])];
         }
 
         @Override
         public void set(long index, char value) throws IndexOutOfBoundsException {
-            source[(int)index + from] = value;
+            Checker.checkIndex(index, length);
+            int x = (int)(index / dimensions[1]);
+            if (source[x] == null) {
+                if (value == filler) {
+                    return;
+                } else {
+                    source[x] = new char[dimensions[1]];
+                    if (0 != filler) {
+                        Arrays.fill(source[x], filler);
+                    }
+                }
+            }
+            int y = (int)(index % dimensions[1]);
+            source[x][y] = value;
         }
 
         @Override
         public void fill(char value) {
-            Arrays.fill(source, from, from + length, value);
+            this.filler = value;
+            for (int i = 0; i < source.length; i++) {
+                fillBlock(i, value);
+            }
         }
 
-        @Override
-        public void copy(long srcPos, Data dest, long destPos, long length)
-                throws NullPointerException, IndexOutOfBoundsException {
-            if (dest instanceof OfOneDimension) {
-                if (length == 0) {
+        private void fillBlock(int block, char value) {
+            if (null == source[block]) {
+                if (this.filler == value) {
                     return;
                 }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-                Checker.checkRangeIndexes(destPos, destPos + length, ((OfOneDimension)dest).source.length);
-                System.arraycopy(source, (int)srcPos + from, ((OfOneDimension)dest).source, (int)destPos, (int)length);
-            } else if (dest instanceof ArrayWrapper) {
-                if (length == 0) {
-                    return;
+                source[block] = new char[dimensions[1]];
+            }
+            Arrays.fill(source[block], value);
+        }
+
+        @Override
+        public void forEach(long from, long to, IntConsumer action) {
+            for (long i = from; i < to;) {
+                int x = (int)(i / dimensions[1]);
+                int y = (int)(i % dimensions[1]);
+                int end = (int)Math.min((long)dimensions[1], y + (to - i));
+                char[] block = source[x];
+                if (null == block) {
+                    for (int j = y; j < end; j++) {
+                        action.accept(filler);
+                    }
+                } else {
+                    for (int j = y; j < end; j++) {
+                        action.accept(block[j]);
+                    }
                 }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
-                System.arraycopy(source, (int)srcPos + from, ((ArrayWrapper)dest).source,
-                        (int)destPos + ((ArrayWrapper)dest).from, (int)length);
-            } else {
-                super.copy(srcPos, dest, destPos, length);
+                i += end - y;
             }
         }
 
         @Override
         public Data clone() {
-            return new OfOneDimension(this);
+            return new OfTwoDimensions(this);
         }
 
         @Override
-        public char[] toArray() {
-            char[] ar = (char[])Array.newInstance(char.class, length);
-            System.arraycopy(source, from, ar, 0, length);
-            return ar;
+        public void fill(char value, Executor executor) {
+            this.filler = value;
+            super.fill(value, executor);
         }
 
         @Override
-        public Object getBackedArray() {
-            return source;
+        public Data blank() {
+            OfTwoDimensions blank = new OfTwoDimensions(length, dimensions, filler, true);
+            blank.lazy = lazy;
+            return blank;
+        }
+
+        @Override
+        public char[] toArray() {
+            return new OfOneDimension(this).toArray();
         }
     }
 
     /**
      * <p>
-     * One dimension Implementation.
+     * Paged implementation for length which exceeds capacity of two dimensions. Elements are stored in blocks of which
+     * size is power of 2, and blocks are referenced by pages of which size is also power of 2, so any index is mapped
+     * to its page, block and offset by shifting and masking, without allocation or reflection. Specified block size is
+     * rounded down to power of 2.
      * </p>
      *
      * @author Fred Suvn
-     * @version 0.0.0, 2016-03-18T15:52:34+08:00
-     * @since 0.0.0, 2016-03-18T15:52:34+08:00
+     * @version 0.0.0, 2026-10-16T10:12:08+08:00
+     * @since 0.0.0, 2026-10-16T10:12:08+08:00
      */
-    private static class OfOneDimension extends Data {
+    private static class OfPages extends Data {
 
         private static final long serialVersionUID = 1L;
 
-        private final char[] source;
+        private final long length;
 
-        private final int[] dimensions;
+        private final int blockShift;
 
-        public OfOneDimension(int length, char initial) {
-            source = new char[length];
-            if (0 != initial) {
-                Arrays.fill(source, initial);
+        private final int pageShift;
+
+        private final char[][][] source;
+
+        private char filler;
+
+        private boolean lazy;
+
+        public OfPages(long length, int blockSize, char initial, boolean lazy) {
+            this.length = length;
+            this.blockShift = BigArrayUtil.blockShift(blockSize);
+            long blocks = ((length - 1) >>> blockShift) + 1;
+            this.pageShift = BigArrayUtil.pageShift(blocks, blockShift);
+            this.lazy = lazy;
+            source = new char[(int)(((blocks - 1) >>> pageShift) + 1)][][];
+            if (!lazy) {
+                for (long b = 0; b < blocks; b++) {
+                    allocate(b << blockShift);
+                }
             }
-            this.dimensions = new int[]{(int)source.length};
+            fill(initial);
         }
 
-        public OfOneDimension(OfOneDimension copyFrom) {
-            this.source = copyFrom.source.clone();
-            this.dimensions = new int[]{(int)source.length};
+        public OfPages(OfPages copyFrom) {
+            this(copyFrom.length, 1 << copyFrom.blockShift, copyFrom.filler, copyFrom.lazy);
+            copyFrom.copy(0, this, 0, length);
         }
 
-        public OfOneDimension(Data copyFrom) {
-            this((int)copyFrom.length(), (char)0);
-            copyFrom.copy(0, this, 0, (int)copyFrom.length());
+        @Override
+        public int blockSize() {
+            return 1 << blockShift;
         }
 
         @Override
-        public int[] getDimensions() {
-            return dimensions;
+        public long length() {
+            return length;
         }
 
         @Override
-        public long length() {
-            return source.length;
+        public char[] block(long index) {
+            long b = index >>> blockShift;
+            char[][] page = source[(int)(b >>> pageShift)];
+            return null == page ? null : page[(int)b & ((1 << pageShift) - 1)];
         }
 
         @Override
-        public char get(int index) throws IndexOutOfBoundsException {
-            return source[index];
+        public char[] allocate(long index) {
+            long b = index >>> blockShift;
+            int p = (int)(b >>> pageShift);
+            if (null == source[p]) {
+                allocatePage(p);
+            }
+            int x = (int)b & ((1 << pageShift) - 1);
+            if (null == source[p][x]) {
+                source[p][x] = new char[1 << blockShift];
+                if ((char)0 != filler) {
+                    Arrays.fill(source[p][x], filler);
+                }
+            }
+            return source[p][x];
+        }
+
+        private synchronized void allocatePage(int page) {
+            // Blocks of a same page may be allocated by concurrent tasks of parallel operations.
+            if (null == source[page]) {
+                source[page] = new char[1 << pageShift][];
+            }
         }
 
         @Override
-        public void set(int index, char value) throws IndexOutOfBoundsException {
-            source[index] = value;
+        public int offset(long index) {
+            return (int)index & ((1 << blockShift) - 1);
+        }
+
+        @Override
+        public int remaining(long index) {
+            return (1 << blockShift) - ((int)index & ((1 << blockShift) - 1));
+        }
+
+        @Override
+        public char filler() {
+            return filler;
         }
 
         @Override
         public char get(long index) throws IndexOutOfBoundsException {
-            return source[(int)index];
+            Checker.checkIndex(index, length);
+            char[] block = block(index);
+            return null == block ? filler : block[(int)index & ((1 << blockShift) - 1)];
         }
 
         @Override
         public void set(long index, char value) throws IndexOutOfBoundsException {
-            source[(int)index] = value;
+            Checker.checkIndex(index, length);
+            char[] block = block(index);
+            if (null == block) {
+                if (value == filler) {
+                    return;
+                }
+                block = allocate(index);
+            }
+            block[(int)index & ((1 << blockShift) - 1)] = value;
         }
 
         @Override
         public void fill(char value) {
-            Arrays.fill(source, value);
-        }
-
-        @Override
-        public void copy(long srcPos, Data dest, long destPos, long length)
-                throws NullPointerException, IndexOutOfBoundsException {
-            if (dest instanceof OfOneDimension) {
-                if (length == 0) {
-                    return;
+            this.filler = value;
+            for (char[][] page : source) {
+                if (null == page) {
+                    continue;
                 }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, source.length);
-                Checker.checkRangeIndexes(destPos, destPos + length, ((OfOneDimension)dest).source.length);
-                System.arraycopy(source, (int)srcPos, ((OfOneDimension)dest).source, (int)destPos, (int)length);
-            } else if (dest instanceof ArrayWrapper) {
-                if (length == 0) {
-                    return;
+                for (char[] block : page) {
+                    if (null != block) {
+                        Arrays.fill(block, value);
+                    }
                 }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
-                System.arraycopy(source, (int)srcPos, ((ArrayWrapper)dest).source,
-                        (int)destPos + ((ArrayWrapper)dest).from, (int)length);
-            } else {
-                super.copy(srcPos, dest, destPos, length);
             }
         }
 
         @Override
         public Data clone() {
-            return new OfOneDimension(this);
+            return new OfPages(this);
         }
 
         @Override
-        public char[] toArray() {
-            char[] ar = (char[])Array.newInstance(char.class, source.length);
-            System.arraycopy(source, 0, ar, 0, source.length);
-            return ar;
+        public void fill(char value, Executor executor) {
+            this.filler = value;
+            super.fill(value, executor);
         }
 
         @Override
-        public Object getBackedArray() {
-            return source;
+        public Data blank() {
+            OfPages blank = new OfPages(length, 1 << blockShift, filler, true);
+            blank.lazy = lazy;
+            return blank;
+        }
+
+        @Override
+        public char[] toArray() {
+            return new OfOneDimension(this).toArray();
         }
     }
 
     /**
      * <p>
-     * Abstract two dimensions implementation.
+     * Off-heap implementation. Elements are stored in direct buffers out of java heap or buffers mapped from a file,
+     * each buffer is a block of which size is power of 2. Buffers are released by {@linkplain #close()}, or when this
+     * instance is garbage collected.
      * </p>
      *
      * @author Fred Suvn
-     * @version 0.0.0, 2016-03-22T10:18:37+08:00
-     * @since 0.0.0, 2016-03-22T10:18:37+08:00
+     * @version 0.0.0, 2026-10-16T11:05:47+08:00
+     * @since 0.0.0, 2026-10-16T11:05:47+08:00
      */
-    private static class OfTwoDimensions extends Data {
+    private static class OfBuffers extends Data {
 
         private static final long serialVersionUID = 1L;
 
         private final long length;
 
-        private final int[] dimensions;
+        private final int blockShift;
 
-        private final char[][] source;
+        private transient ByteBuffer[] memory;
+
+        private transient CharBuffer[] buffers;
 
         private char filler;
 
         private boolean lazy;
 
-        public OfTwoDimensions(long length, int[] dimensions, char initial, boolean lazy) {
+        public OfBuffers(long length, int blockSize, char initial, boolean lazy) {
             this.length = length;
-            this.dimensions = dimensions;
+            this.blockShift = BigArrayUtil.offHeapBlockShift(length, blockSize, Character.BYTES);
+            int blocks = (int)((length + (1L << blockShift) - 1) >>> blockShift);
+            this.memory = new ByteBuffer[blocks];
+            this.buffers = new CharBuffer[blocks];
             this.lazy = lazy;
-            if (lazy) {
-                source = new char[dimensions[0]][];
-            } else {
-                source = new char[dimensions[0]][dimensions[1]];
+            if (!lazy) {
+                for (long b = 0; b < blocks; b++) {
+                    allocateBuffer(b << blockShift);
+                }
             }
             fill(initial);
         }
 
-        public OfTwoDimensions(OfTwoDimensions copyFrom) {
-            this(copyFrom.length, copyFrom.dimensions, copyFrom.filler, copyFrom.lazy);
+        public OfBuffers(OfBuffers copyFrom) {
+            this(copyFrom.length, 1 << copyFrom.blockShift, copyFrom.filler, copyFrom.lazy);
             copyFrom.copy(0, this, 0, length);
         }
 
+        public OfBuffers(long length, int blockShift, ByteBuffer[] memory) {
+            this.length = length;
+            this.blockShift = blockShift;
+            this.memory = memory;
+            this.buffers = new CharBuffer[memory.length];
+            this.lazy = true;
+            for (int b = 0; b < memory.length; b++) {
+                buffers[b] = memory[b].asCharBuffer();
+            }
+        }
+
+        private CharBuffer[] buffers() {
+            CharBuffer[] buffers = this.buffers;
+            if (null == buffers) {
+                throw new IllegalStateException("Off-heap array has been closed.");
+            }
+            return buffers;
+        }
+
+        private CharBuffer buffer(long index) {
+            return buffers()[(int)(index >>> blockShift)];
+        }
+
+        private CharBuffer allocateBuffer(long index) {
+            CharBuffer buffer = buffer(index);
+            if (null == buffer) {
+                int b = (int)(index >>> blockShift);
+                int size = (int)Math.min(1L << blockShift, length - ((long)b << blockShift));
+                ByteBuffer m = ByteBuffer.allocateDirect(size * Character.BYTES).order(ByteOrder.nativeOrder());
+                buffer = m.asCharBuffer();
+                if ((char)0 != filler) {
+                    fillBuffer(buffer, 0, size, filler);
+                }
+                memory[b] = m;
+                buffers[b] = buffer;
+            }
+            return buffer;
+        }
+
+        private static void fillBuffer(CharBuffer buffer, int from, int to, char value) {
+            for (int i = from; i < to; i++) {
+                buffer.put(i, value);
+            }
+        }
+
+        @Override
+        public void read(long index, char[] dest, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long s = index + i;
+                int n = Math.min(remaining(s), length - i);
+                CharBuffer buffer = buffer(s);
+                if (null == buffer) {
+                    Arrays.fill(dest, offset + i, offset + i + n, filler);
+                } else {
+                    CharBuffer view = buffer.duplicate();
+                    view.position(offset(s));
+                    view.get(dest, offset + i, n);
+                }
+                i += n;
+            }
+        }
+
+        @Override
+        public void write(long index, char[] src, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long d = index + i;
+                int n = Math.min(remaining(d), length - i);
+                CharBuffer view = allocateBuffer(d).duplicate();
+                view.position(offset(d));
+                view.put(src, offset + i, n);
+                i += n;
+            }
+        }
+
+        @Override
+        public int blockSize() {
+            return 1 << blockShift;
+        }
+
+        @Override
+        public char[] block(long index) {
+            throw new UnsupportedOperationException("Off-heap array is not backed by array.");
+        }
+
+        @Override
+        public char[] allocate(long index) {
+            throw new UnsupportedOperationException("Off-heap array is not backed by array.");
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index & ((1 << blockShift) - 1);
+        }
+
+        @Override
+        public int remaining(long index) {
+            return (1 << blockShift) - ((int)index & ((1 << blockShift) - 1));
+        }
+
         @Override
-        public int[] getDimensions() {
-            return dimensions;
+        public char filler() {
+            return filler;
         }
 
         @Override
@@ -728,79 +2386,216 @@ public class CharArray extends BigArray implements Iterable<Character>, Cloneabl
         @Override
         public char get(long index) throws IndexOutOfBoundsException {
             Checker.checkIndex(index, length);
-            int x = (int)(index / dimensions[1]);
-            return null == source[x] ? filler : source[x][(int)(index % dimensions[1])];
+            CharBuffer buffer = buffer(index);
+            return null == buffer ? filler : buffer.get((int)index & ((1 << blockShift) - 1));
         }
 
         @Override
         public void set(long index, char value) throws IndexOutOfBoundsException {
             Checker.checkIndex(index, length);
-            int x = (int)(index / dimensions[1]);
-            if (source[x] == null) {
+            CharBuffer buffer = buffer(index);
+            if (null == buffer) {
                 if (value == filler) {
                     return;
-                } else {
-                    source[x] = new char[dimensions[1]];
-                    if (0 != filler) {
-                        Arrays.fill(source[x], filler);
-                    }
                 }
+                buffer = allocateBuffer(index);
             }
-            int y = (int)(index % dimensions[1]);
-            source[x][y] = value;
+            buffer.put((int)index & ((1 << blockShift) - 1), value);
         }
 
         @Override
         public void fill(char value) {
+            CharBuffer[] buffers = buffers();
             this.filler = value;
-            for (int i = 0; i < source.length; i++) {
-                fillBlock(i, value);
+            for (CharBuffer buffer : buffers) {
+                if (null != buffer) {
+                    fillBuffer(buffer, 0, buffer.capacity(), value);
+                }
             }
         }
 
-        private void fillBlock(int block, char value) {
-            if (null == source[block]) {
-                if (this.filler == value) {
-                    return;
+        @Override
+        public void fill(long from, long to, char value) {
+            for (long i = from; i < to;) {
+                int n = (int)Math.min((long)remaining(i), to - i);
+                CharBuffer buffer = buffer(i);
+                if (null == buffer) {
+                    if (value == filler) {
+                        i += n;
+                        continue;
+                    }
+                    buffer = allocateBuffer(i);
                 }
-                source[block] = new char[dimensions[1]];
+                int offset = offset(i);
+                fillBuffer(buffer, offset, offset + n, value);
+                i += n;
+            }
+        }
+
+        @Override
+        public void forEach(long from, long to, IntConsumer action) {
+            for (long i = from; i < to;) {
+                int offset = offset(i);
+                int end = offset + (int)Math.min((long)remaining(i), to - i);
+                CharBuffer buffer = buffer(i);
+                if (null == buffer) {
+                    for (int j = offset; j < end; j++) {
+                        action.accept(filler);
+                    }
+                } else {
+                    for (int j = offset; j < end; j++) {
+                        action.accept(buffer.get(j));
+                    }
+                }
+                i += end - offset;
             }
-            Arrays.fill(source[block], value);
         }
 
         @Override
         public void copy(long srcPos, Data dest, long destPos, long length)
                 throws NullPointerException, IndexOutOfBoundsException {
-            if (dest instanceof OfTwoDimensions) {
-                if (length == 0) {
-                    return;
+            if (length == 0) {
+                return;
+            }
+            Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+            Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+            if (dest == this && srcPos < destPos + length && destPos < srcPos + length) {
+                // Overlapped, copies through a temporary array.
+                char[] temp = new char[(int)Math.min(length, (long)BigArrayUtil.COPY_BUFFER_SIZE)];
+                if (srcPos < destPos) {
+                    for (long i = length; i > 0;) {
+                        int n = (int)Math.min((long)temp.length, i);
+                        i -= n;
+                        read(srcPos + i, temp, 0, n);
+                        write(destPos + i, temp, 0, n);
+                    }
+                } else {
+                    for (long i = 0; i < length;) {
+                        int n = (int)Math.min((long)temp.length, length - i);
+                        read(srcPos + i, temp, 0, n);
+                        write(destPos + i, temp, 0, n);
+                        i += n;
+                    }
                 }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
-                OfTwoDimensions d = (OfTwoDimensions)dest;
-                for (long i = 0; i < length;) {
-                    int xs = (int)((srcPos + i) / dimensions[1]);
-                    int ys = (int)((srcPos + i) % dimensions[1]);
-                    int xd = (int)((destPos + i) / d.dimensions[1]);
-                    int yd = (int)((destPos + i) % d.dimensions[1]);
-                    int copyLength = Math.min(dimensions[1] - ys, d.dimensions[1] - yd);
-                    copyLength = (int)Math.min((long)copyLength, length - i);
-                    if (source[xs] != null) {
-                        if (d.source[xd] == null) {
-                            d.source[xd] = new char[d.dimensions[1]];
+                return;
+            }
+            for (long i = 0; i < length;) {
+                long s = srcPos + i;
+                long d = destPos + i;
+                int n = (int)Math.min((long)Math.min(remaining(s), dest.remaining(d)), length - i);
+                CharBuffer buffer = buffer(s);
+                if (null == buffer) {
+                    dest.fill(d, d + n, filler);
+                } else if (dest instanceof OfBuffers) {
+                    CharBuffer view = buffer.duplicate();
+                    view.position(offset(s));
+                    view.limit(offset(s) + n);
+                    CharBuffer to = ((OfBuffers)dest).allocateBuffer(d).duplicate();
+                    to.position(dest.offset(d));
+                    to.put(view);
+                } else if (dest instanceof OfSparse) {
+                    // Sparse array counts elements when they are written.
+                    char[] temp = new char[Math.min(n, BigArrayUtil.COPY_BUFFER_SIZE)];
+                    for (int j = 0; j < n;) {
+                        int m = Math.min(temp.length, n - j);
+                        read(s + j, temp, 0, m);
+                        dest.write(d + j, temp, 0, m);
+                        j += m;
+                    }
+                } else {
+                    read(s, dest.allocate(d), dest.offset(d), n);
+                }
+                i += n;
+            }
+        }
+
+        @Override
+        public boolean isOffHeap() {
+            return true;
+        }
+
+        @Override
+        public void forEachNonDefault(EachIntConsumer action) {
+            for (long i = 0; i < length;) {
+                int n = (int)Math.min((long)remaining(i), length - i);
+                CharBuffer buffer = buffer(i);
+                if (null != buffer) {
+                    int offset = offset(i);
+                    for (int j = 0; j < n; j++) {
+                        char value = buffer.get(offset + j);
+                        if (value != filler) {
+                            action.accept(i + j, value);
                         }
-                        System.arraycopy(source[xs], ys, d.source[xd], yd, copyLength);
                     }
-                    i += copyLength;
                 }
-            } else {
-                super.copy(srcPos, dest, destPos, length);
+                i += n;
+            }
+        }
+
+        @Override
+        public boolean allocated(long index) {
+            return null != buffer(index);
+        }
+
+        @Override
+        public long allocatedBytes() {
+            ByteBuffer[] memory = this.memory;
+            long bytes = 0;
+            if (null != memory) {
+                for (ByteBuffer m : memory) {
+                    if (null != m) {
+                        bytes += m.capacity();
+                    }
+                }
+            }
+            return bytes;
+        }
+
+        @Override
+        public void close() {
+            ByteBuffer[] memory = this.memory;
+            if (null == memory) {
+                return;
+            }
+            this.buffers = null;
+            this.memory = null;
+            for (ByteBuffer m : memory) {
+                if (null != m) {
+                    BigArrayUtil.free(m);
+                }
+            }
+        }
+
+        @Override
+        public void force() {
+            ByteBuffer[] memory = this.memory;
+            if (null == memory) {
+                throw new IllegalStateException("Off-heap array has been closed.");
+            }
+            for (ByteBuffer m : memory) {
+                if (m instanceof MappedByteBuffer && !m.isReadOnly()) {
+                    ((MappedByteBuffer)m).force();
+                }
             }
         }
 
         @Override
         public Data clone() {
-            return new OfTwoDimensions(this);
+            return new OfBuffers(this);
+        }
+
+        @Override
+        public void fill(char value, Executor executor) {
+            buffers();
+            this.filler = value;
+            super.fill(value, executor);
+        }
+
+        @Override
+        public Data blank() {
+            OfBuffers blank = new OfBuffers(length, 1 << blockShift, filler, true);
+            blank.lazy = lazy;
+            return blank;
         }
 
         @Override
@@ -808,55 +2603,114 @@ public class CharArray extends BigArray implements Iterable<Character>, Cloneabl
             return new OfOneDimension(this).toArray();
         }
 
-        @Override
-        public Object getBackedArray() {
-            return source;
+        private Object writeReplace() {
+            Data data = createData(length, 1 << blockShift, filler, lazy);
+            copy(0, data, 0, length);
+            return data;
         }
     }
 
     /**
      * <p>
-     * Multi-dimensions implementation.
+     * Sparse implementation. Elements are stored in blocks of which size is power of 2, and number of elements which
+     * are not equal to filler is counted for each block. A block is allocated when an element not equal to filler is
+     * written into it, and freed when all of its elements are equal to filler again.
      * </p>
      *
      * @author Fred Suvn
-     * @version 0.0.0, 2016-03-18T15:52:54+08:00
-     * @since 0.0.0, 2016-03-18T15:52:54+08:00
+     * @version 0.0.0, 2026-10-16T14:10:52+08:00
+     * @since 0.0.0, 2026-10-16T14:10:52+08:00
      */
-    private static class OfMultiDimensions extends Data {
+    private static class OfSparse extends Data {
 
         private static final long serialVersionUID = 1L;
 
         private final long length;
 
-        private final int[] dimensions;
+        private final int blockShift;
+
+        private final char[][] source;
 
-        private final Object source;
+        private final int[] counts;
 
         private char filler;
 
-        private boolean lazy;
-
-        public OfMultiDimensions(long length, int[] dimensions, char initial, boolean lazy) {
+        public OfSparse(long length, int blockSize, char filler) {
             this.length = length;
-            this.dimensions = dimensions;
-            this.lazy = lazy;
-            if (lazy) {
-                source = new Object[dimensions[0]];
-            } else {
-                source = Array.newInstance(char.class, dimensions);
+            this.blockShift = BigArrayUtil.blockShift(length, blockSize);
+            int blocks = (int)((length + (1L << blockShift) - 1) >>> blockShift);
+            this.source = new char[blocks][];
+            this.counts = new int[blocks];
+            this.filler = filler;
+        }
+
+        public OfSparse(OfSparse copyFrom) {
+            this.length = copyFrom.length;
+            this.blockShift = copyFrom.blockShift;
+            this.source = new char[copyFrom.source.length][];
+            for (int b = 0; b < source.length; b++) {
+                if (null != copyFrom.source[b]) {
+                    source[b] = copyFrom.source[b].clone();
+                }
             }
-            fill(initial);
+            this.counts = copyFrom.counts.clone();
+            this.filler = copyFrom.filler;
         }
 
-        public OfMultiDimensions(OfMultiDimensions copyFrom) {
-            this(copyFrom.length, copyFrom.dimensions, copyFrom.filler, copyFrom.lazy);
-            copyFrom.copy(0, this, 0, length);
+        private static int count(char[] array, int from, int to, char filler) {
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if (array[i] != filler) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private char[] newBlock(int b) {
+            char[] block = new char[(int)Math.min(1L << blockShift, length - ((long)b << blockShift))];
+            if ((char)0 != filler) {
+                Arrays.fill(block, filler);
+            }
+            source[b] = block;
+            return block;
+        }
+
+        private void updateCount(int b, int count) {
+            counts[b] = count;
+            if (0 == count) {
+                source[b] = null;
+            }
+        }
+
+        @Override
+        public int blockSize() {
+            return 1 << blockShift;
+        }
+
+        @Override
+        public char[] block(long index) {
+            return source[(int)(index >>> blockShift)];
+        }
+
+        @Override
+        public char[] allocate(long index) {
+            throw new UnsupportedOperationException("Sparse array counts elements when they are written.");
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index & ((1 << blockShift) - 1);
+        }
+
+        @Override
+        public int remaining(long index) {
+            return (1 << blockShift) - ((int)index & ((1 << blockShift) - 1));
         }
 
         @Override
-        public int[] getDimensions() {
-            return dimensions;
+        public char filler() {
+            return filler;
         }
 
         @Override
@@ -867,78 +2721,112 @@ public class CharArray extends BigArray implements Iterable<Character>, Cloneabl
         @Override
         public char get(long index) throws IndexOutOfBoundsException {
             Checker.checkIndex(index, length);
-            int[] indexes = new int[dimensions.length];
-            BigArrayUtil.mapMultiIndexes(index, dimensions, indexes);
-            char[] array = (char[])BigArrayUtil.getLastDimension(source, indexes);
-            if (array == null) {
-                return filler;
-            } else {
-                return array[indexes[indexes.length - 1]];
-            }
+            char[] block = block(index);
+            return null == block ? filler : block[(int)index & ((1 << blockShift) - 1)];
         }
 
         @Override
         public void set(long index, char value) throws IndexOutOfBoundsException {
             Checker.checkIndex(index, length);
-            int[] indexes = new int[dimensions.length];
-            BigArrayUtil.mapMultiIndexes(index, dimensions, indexes);
-            char[] array = (char[])BigArrayUtil.getLastDimension(source, indexes);
-            if (array == null) {
+            int b = (int)(index >>> blockShift);
+            char[] block = source[b];
+            if (null == block) {
                 if (value == filler) {
                     return;
-                } else {
-                    array = (char[])BigArrayUtil.alloc(source, char.class, dimensions, indexes);
-                    if (0 != filler) {
-                        Arrays.fill(array, filler);
-                    }
                 }
+                block = newBlock(b);
+            }
+            int offset = (int)index & ((1 << blockShift) - 1);
+            char old = block[offset];
+            block[offset] = value;
+            if (old == filler) {
+                if (value != filler) {
+                    counts[b]++;
+                }
+            } else if (value == filler) {
+                updateCount(b, counts[b] - 1);
             }
-            array[indexes[indexes.length - 1]] = value;
         }
 
         @Override
         public void fill(char value) {
             this.filler = value;
-            fillMultiArray((Object[])source, value, 0);
+            Arrays.fill(source, null);
+            Arrays.fill(counts, 0);
         }
 
-        private void fillMultiArray(Object[] array, char value, int dimension) {
-            if (dimension == dimensions.length - 2) {
-                for (int i = 0; i < array.length; i++) {
-                    if (null == array[i]) {
-                        if (this.filler == value) {
-                            continue;
-                        }
-                        array[i] = new char[dimension + 1];
+        @Override
+        public void fill(char value, Executor executor) {
+            fill(value);
+        }
+
+        @Override
+        public void fill(long from, long to, char value) {
+            for (long i = from; i < to;) {
+                int b = (int)(i >>> blockShift);
+                int offset = offset(i);
+                int n = (int)Math.min((long)remaining(i), to - i);
+                char[] block = source[b];
+                if (null == block) {
+                    if (value == filler) {
+                        i += n;
+                        continue;
                     }
-                    Arrays.fill((char[])array[i], value);
+                    block = newBlock(b);
                 }
-            } else {
-                for (int i = 0; i < array.length; i++) {
-                    if (null == array[i]) {
-                        if (this.filler == value) {
-                            continue;
-                        }
-                        array[i] = new Object[dimension + 1];
+                int count = counts[b] - count(block, offset, offset + n, filler);
+                Arrays.fill(block, offset, offset + n, value);
+                updateCount(b, value == filler ? count : count + n);
+                i += n;
+            }
+        }
+
+        @Override
+        public void write(long index, char[] src, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long d = index + i;
+                int b = (int)(d >>> blockShift);
+                int n = Math.min(remaining(d), length - i);
+                char[] block = source[b];
+                if (null == block) {
+                    if (0 == count(src, offset + i, offset + i + n, filler)) {
+                        i += n;
+                        continue;
                     }
-                    fillMultiArray((Object[])array[i], value, dimension + 1);
+                    block = newBlock(b);
+                }
+                int o = offset(d);
+                int count = counts[b] - count(block, o, o + n, filler);
+                System.arraycopy(src, offset + i, block, o, n);
+                updateCount(b, count + count(block, o, o + n, filler));
+                i += n;
+            }
+        }
+
+        @Override
+        public long allocatedBytes() {
+            long bytes = 0;
+            for (char[] block : source) {
+                if (null != block) {
+                    bytes += block.length;
                 }
             }
+            return bytes * Character.BYTES;
         }
 
         @Override
         public Data clone() {
-            return new OfMultiDimensions(this);
+            return new OfSparse(this);
         }
 
         @Override
-        public char[] toArray() {
-            return new OfOneDimension(this).toArray();
+        public Data blank() {
+            return new OfSparse(length, 1 << blockShift, filler);
         }
 
         @Override
-        public Object getBackedArray() {
-            return source;
+        public char[] toArray() {
+            return new OfOneDimension(this).toArray();
         }
     }
 }
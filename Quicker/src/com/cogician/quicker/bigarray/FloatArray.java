@@ -1,17 +1,45 @@
 package com.cogician.quicker.bigarray;
 
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
 import java.io.Serializable;
+import java.io.StreamCorruptedException;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import javax.annotation.Nullable;
+
 import com.cogician.quicker.Checker;
+import com.cogician.quicker.OutOfBoundsException;
 import com.cogician.quicker.Quicker;
+import com.cogician.quicker.ReadException;
+import com.cogician.quicker.binary.BigArrayBinary;
+import com.cogician.quicker.binary.Binary;
+import com.cogician.quicker.binary.ByteOrderProcessor;
+import com.cogician.quicker.binary.Inputer;
+import com.cogician.quicker.binary.Outputer;
+import com.cogician.quicker.function.EachDoubleConsumer;
 
 /**
  * <p>
@@ -35,13 +63,14 @@ public class FloatArray extends BigArray implements Iterable<Float>, Cloneable {
 
     private static final long serialVersionUID = 1L;
 
-    private static Data createData(long length, int[] dimensions, float initial, boolean lazy) {
+    private static Data createData(long length, int blockSize, float initial, boolean lazy) {
+        int[] dimensions = BigArrayUtil.caculateDimensions(length, blockSize);
         if (1 == dimensions.length) {
             return new OfOneDimension((int)length, initial);
         } else if (2 == dimensions.length) {
             return new OfTwoDimensions(length, dimensions, initial, lazy);
         } else {
-            return new OfMultiDimensions(length, dimensions, initial, lazy);
+            return new OfPages(length, blockSize, initial, lazy);
         }
     }
 
@@ -101,7 +130,7 @@ public class FloatArray extends BigArray implements Iterable<Float>, Cloneable {
     public FloatArray(long length, int blockSize, float initial, boolean lazy) throws IllegalArgumentException {
         Checker.checkLength(length);
         Checker.checkPositive(blockSize);
-        this.data = createData(length, BigArrayUtil.caculateDimensions(length, blockSize), initial, lazy);
+        this.data = createData(length, blockSize, initial, lazy);
     }
 
     /**
@@ -146,6 +175,248 @@ public class FloatArray extends BigArray implements Iterable<Float>, Cloneable {
         this.data = new ArrayWrapper(array, from, to);
     }
 
+    /**
+     * <p>
+     * Returns a new big array with specified length, of which elements are stored off-heap.
+     * </p>
+     * 
+     * @param length
+     *            specified length
+     * @return a new off-heap big array
+     * @throws IllegalArgumentException
+     *             if specified length < 0
+     * @see #offHeap(long, int, float, boolean)
+     * @since 0.0.0
+     */
+    public static FloatArray offHeap(long length) throws IllegalArgumentException {
+        return offHeap(length, BigArray.BLOCK_SIZE, (float)0, true);
+    }
+
+    /**
+     * <p>
+     * Returns a new big array with specified length, specified block size, initial value and whether it is lazy, of
+     * which elements are stored off-heap in direct buffers. Garbage collector neither scans nor copies off-heap
+     * elements, so its pause time does not grow with length of the array. Specified block size is rounded down to power
+     * of 2 and limited so that each block is less than 2GB.
+     * </p>
+     * <p>
+     * Off-heap memory is released by {@linkplain #close()}, or at latest when the array is garbage collected. A closed
+     * array cannot be accessed any more. Clone of an off-heap array is off-heap too, but a serialized one is always
+     * deserialized as an on-heap array.
+     * </p>
+     * 
+     * @param length
+     *            specified length
+     * @param blockSize
+     *            specified block size
+     * @param initial
+     *            initial value
+     * @param lazy
+     *            whether the array is lazy
+     * @return a new off-heap big array
+     * @throws IllegalArgumentException
+     *             if specified length < 0 or specified block size <= 0
+     * @since 0.0.0
+     */
+    public static FloatArray offHeap(long length, int blockSize, float initial, boolean lazy)
+            throws IllegalArgumentException {
+        Checker.checkLength(length);
+        Checker.checkPositive(blockSize);
+        return new FloatArray(new OfBuffers(length, blockSize, initial, lazy));
+    }
+
+    /**
+     * <p>
+     * Returns a new big array with specified length, of which elements are stored in specified file. The file is
+     * created or extended if it is not long enough.
+     * </p>
+     * 
+     * @param file
+     *            specified file
+     * @param length
+     *            specified length
+     * @return a new file-mapped big array
+     * @throws NullPointerException
+     *             if specified file is null
+     * @throws IllegalArgumentException
+     *             if specified length < 0
+     * @throws ReadException
+     *             if file cannot be opened or mapped
+     * @see #map(File, long, int, boolean)
+     * @since 0.0.0
+     */
+    public static FloatArray map(File file, long length)
+            throws NullPointerException, IllegalArgumentException, ReadException {
+        return map(file, length, BigArray.BLOCK_SIZE, false);
+    }
+
+    /**
+     * <p>
+     * Returns a new big array with specified length and specified block size, of which elements are stored in specified
+     * file. Each block of the array is mapped from a region of the file by {@linkplain FileChannel#map}, so the array
+     * can be much larger than physical memory, only accessed regions are loaded by operating system. Elements are
+     * stored in native byte order. Specified block size is rounded down to power of 2 and limited so that each block is
+     * less than 2GB.
+     * </p>
+     * <p>
+     * In read-only mode the file must be long enough and any write operation throws
+     * {@linkplain ReadOnlyBufferException}, or else the file is created or extended if it is not long enough. Changes
+     * are written back to the file by operating system, {@linkplain #force()} ensures that they are written to the
+     * storage device. The mapping is released by {@linkplain #close()}, or when the array is garbage collected. Clone
+     * of the array is an off-heap array not backed by the file.
+     * </p>
+     * 
+     * @param file
+     *            specified file
+     * @param length
+     *            specified length
+     * @param blockSize
+     *            specified block size
+     * @param readOnly
+     *            whether the array is read-only
+     * @return a new file-mapped big array
+     * @throws NullPointerException
+     *             if specified file is null
+     * @throws IllegalArgumentException
+     *             if specified length < 0, specified block size <= 0, or file is not long enough in read-only mode
+     * @throws ReadException
+     *             if file cannot be opened or mapped
+     * @since 0.0.0
+     */
+    public static FloatArray map(File file, long length, int blockSize, boolean readOnly)
+            throws NullPointerException, IllegalArgumentException, ReadException {
+        return map(file, length, blockSize, readOnly, ByteOrder.nativeOrder());
+    }
+
+    /**
+     * <p>
+     * Returns a new big array with specified length and specified block size, of which elements are stored in specified
+     * file in specified byte order. It is same as {@linkplain #map(File, long, int, boolean)} except the byte order, so
+     * that the file can be shared with other programs or with a {@linkplain Binary} of the byte order.
+     * </p>
+     * 
+     * @param file
+     *            specified file
+     * @param length
+     *            specified length
+     * @param blockSize
+     *            specified block size
+     * @param readOnly
+     *            whether the array is read-only
+     * @param order
+     *            specified byte order
+     * @return a new file-mapped big array
+     * @throws NullPointerException
+     *             if specified file or byte order is null
+     * @throws IllegalArgumentException
+     *             if specified length < 0, specified block size <= 0, or file is not long enough in read-only mode
+     * @throws ReadException
+     *             if file cannot be opened or mapped
+     * @since 0.0.0
+     */
+    public static FloatArray map(File file, long length, int blockSize, boolean readOnly, ByteOrder order)
+            throws NullPointerException, IllegalArgumentException, ReadException {
+        Checker.checkNull(file);
+        Checker.checkNull(order);
+        Checker.checkLength(length);
+        Checker.checkPositive(blockSize);
+        int blockShift = BigArrayUtil.offHeapBlockShift(length, blockSize, Float.BYTES);
+        return new FloatArray(new OfBuffers(length, blockShift,
+                BigArrayUtil.map(file, length, blockShift, Float.BYTES, readOnly, order)));
+    }
+
+    /**
+     * <p>
+     * Returns a big array viewing remaining bytes of specified buffer as floats in byte order of the buffer, no element
+     * is copied. Changes of either of them are visible to the other, position and limit of the buffer are not changed.
+     * Length of the array is number of remaining bytes divided by {@linkplain Float#BYTES}, the rest bytes are ignored.
+     * Closing the array does not release the buffer.
+     * </p>
+     * 
+     * @param buffer
+     *            specified buffer
+     * @return a big array viewing specified buffer
+     * @throws NullPointerException
+     *             if specified buffer is null
+     * @since 0.0.0
+     */
+    public static FloatArray wrap(ByteBuffer buffer) throws NullPointerException {
+        Checker.checkNull(buffer);
+        ByteBuffer view = buffer.slice().order(buffer.order());
+        // A single block covers the whole buffer.
+        int blockShift = BigArrayUtil.blockShift(Integer.MAX_VALUE / Float.BYTES) + 1;
+        return new FloatArray(new OfBuffers(view.remaining() / Float.BYTES, blockShift, new ByteBuffer[] { view }));
+    }
+
+    /**
+     * <p>
+     * Returns a big array viewing remaining bytes of specified buffers in order as floats in byte orders of the
+     * buffers, no element is copied. Each buffer is a block of the array, so each buffer except the last one must have
+     * same number of remaining bytes, which is power of 2 and not less than {@linkplain Float#BYTES}, and the last one
+     * must not have more. Changes of either of them are visible to the other, positions and limits of the buffers are
+     * not changed. Length of the array is total number of remaining bytes divided by {@linkplain Float#BYTES}, the rest
+     * bytes are ignored. Closing the array does not release the buffers.
+     * </p>
+     * 
+     * @param buffers
+     *            specified buffers
+     * @return a big array viewing specified buffers
+     * @throws NullPointerException
+     *             if specified buffers or any of them is null
+     * @throws IllegalArgumentException
+     *             if remaining bytes of specified buffers cannot be blocks of the array
+     * @since 0.0.0
+     */
+    public static FloatArray wrap(ByteBuffer[] buffers) throws NullPointerException, IllegalArgumentException {
+        ByteBuffer[] blocks = BigArrayUtil.wrapBlocks(buffers, Float.BYTES);
+        return new FloatArray(new OfBuffers(BigArrayUtil.wrapLength(blocks, Float.BYTES),
+                BigArrayUtil.wrapBlockShift(blocks, Float.BYTES), blocks));
+    }
+
+    /**
+     * <p>
+     * Returns a new sparse big array with specified length, of which default value is 0 and block size is
+     * {@linkplain BigArray#SPARSE_BLOCK_SIZE}.
+     * </p>
+     * 
+     * @param length
+     *            specified length
+     * @return a new sparse big array
+     * @throws IllegalArgumentException
+     *             if specified length < 0
+     * @see #sparse(long, int, float)
+     * @since 0.0.0
+     */
+    public static FloatArray sparse(long length) throws IllegalArgumentException {
+        return sparse(length, BigArray.SPARSE_BLOCK_SIZE, (float)0);
+    }
+
+    /**
+     * <p>
+     * Returns a new sparse big array with specified length, specified block size and default value. Sparse array
+     * counts elements which are not equal to default value in each block. A block is allocated when such an element is
+     * written into it, and freed as soon as all of its elements are equal to default value again, so that memory of
+     * sparse array tracks actual density. Specified block size is rounded down to power of 2, smaller block reclaims
+     * memory more accurately but needs more counters.
+     * </p>
+     * 
+     * @param length
+     *            specified length
+     * @param blockSize
+     *            specified block size
+     * @param defaultValue
+     *            default value
+     * @return a new sparse big array
+     * @throws IllegalArgumentException
+     *             if specified length < 0 or specified block size <= 0
+     * @since 0.0.0
+     */
+    public static FloatArray sparse(long length, int blockSize, float defaultValue) throws IllegalArgumentException {
+        Checker.checkLength(length);
+        Checker.checkPositive(blockSize);
+        return new FloatArray(new OfSparse(length, blockSize, defaultValue));
+    }
+
     private final Data data;
 
     @Override
@@ -219,6 +490,69 @@ public class FloatArray extends BigArray implements Iterable<Float>, Cloneable {
         data.set(index, value);
     }
 
+    /**
+     * <p>
+     * Reads elements of this array from specified index into specified array. Elements are copied in bulk block by
+     * block, so a hot loop can pull a window of this array into a reusable buffer instead of calling
+     * {@linkplain #get(long)} for each element.
+     * </p>
+     * 
+     * @param index
+     *            specified start index of this array
+     * @param dest
+     *            specified destination array, not null
+     * @param offset
+     *            start offset of destination array
+     * @param length
+     *            number of elements, >= 0
+     * @throws NullPointerException
+     *             if destination array is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @since 0.0.0
+     */
+    public void get(long index, float[] dest, int offset, int length)
+            throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException {
+        Checker.checkNull(dest);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(index, index + length, length());
+        Checker.checkRangeIndexes(offset, offset + length, dest.length);
+        data.read(index, dest, offset, length);
+    }
+
+    /**
+     * <p>
+     * Writes elements of specified array into this array from specified index. Elements are copied in bulk block by
+     * block, see {@linkplain #get(long, float[], int, int)}.
+     * </p>
+     * 
+     * @param index
+     *            specified start index of this array
+     * @param src
+     *            specified source array, not null
+     * @param offset
+     *            start offset of source array
+     * @param length
+     *            number of elements, >= 0
+     * @throws NullPointerException
+     *             if source array is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @since 0.0.0
+     */
+    public void set(long index, float[] src, int offset, int length)
+            throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException {
+        Checker.checkNull(src);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(index, index + length, length());
+        Checker.checkRangeIndexes(offset, offset + length, src.length);
+        data.write(index, src, offset, length);
+    }
+
     /**
      * <p>
      * Fills elements of this array with specified value.
@@ -271,453 +605,2413 @@ public class FloatArray extends BigArray implements Iterable<Float>, Cloneable {
      */
     public void copy(long srcPos, FloatArray dest, long destPos, long length)
             throws NullPointerException, IndexOutOfBoundsException {
-        Checker.checkIndex(srcPos, length());
-        Checker.checkIndex(destPos, length());
+        Checker.checkNull(dest);
         Checker.checkLength(length);
+        Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+        Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
         data.copy(srcPos, dest.data, destPos, length);
     }
 
     /**
      * <p>
-     * Clones this array, all settings and options inherited.
+     * Fills elements of this array with specified value in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
      * </p>
      * 
-     * @return duplication of this array
+     * @param value
+     *            specified value
+     * @see #parallelFill(float, Executor)
      * @since 0.0.0
      */
-    @Override
-    public FloatArray clone() {
-        return new FloatArray(data.clone());
+    public void parallelFill(float value) {
+        parallelFill(value, ForkJoinPool.commonPool());
     }
 
     /**
      * <p>
-     * COnverts this array to an object array. If length of this array is greater than {@linkplain Integer#MAX_VALUE},
-     * return first {@linkplain Integer#MAX_VALUE} elements.
+     * Fills elements of this array with specified value in parallel, tasks are executed in specified executor. Elements
+     * are divided into tasks of whole blocks, see {@linkplain BigArray#PARALLEL_TASK_SIZE}. If this array is not large
+     * enough to be divided, it is filled in current thread.
      * </p>
      * 
-     * @return an object array
+     * @param value
+     *            specified value
+     * @param executor
+     *            specified executor, not null
+     * @throws NullPointerException
+     *             if specified executor is null
      * @since 0.0.0
      */
-    public float[] toArray() {
-        return data.toArray();
+    public void parallelFill(float value, Executor executor) throws NullPointerException {
+        Checker.checkNull(executor);
+        data.fill(value, executor);
     }
 
     /**
      * <p>
-     * Returns an iterator to traverse this array.
+     * Copies data of this array into destination array in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
      * </p>
-     * 
-     * @return an iterator to traverse this array
+     *
+     * @param srcPos
+     *            source start index in bounds
+     * @param dest
+     *            destination array, not null
+     * @param destPos
+     *            destination start index in bounds
+     * @param length
+     *            specified length, >= 0
+     * @throws NullPointerException
+     *             if destination array is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @see #parallelCopy(long, FloatArray, long, long, Executor)
      * @since 0.0.0
      */
-    @Override
-    public Iterator<Float> iterator() {
-        return new FloatArrayIterator(this);
+    public void parallelCopy(long srcPos, FloatArray dest, long destPos, long length)
+            throws NullPointerException, IndexOutOfBoundsException {
+        parallelCopy(srcPos, dest, destPos, length, ForkJoinPool.commonPool());
     }
 
     /**
      * <p>
-     * Returns a spliterator to traverse this array.
+     * Copies data of this array into destination array in parallel, tasks are executed in specified executor. Copied
+     * range is divided into tasks of whole blocks of destination array, see {@linkplain BigArray#PARALLEL_TASK_SIZE}.
+     * If the range is not large enough to be divided, or destination array is this array and the source and destination
+     * ranges overlap, it is copied in current thread.
      * </p>
      *
-     * @return a spliterator to traverse this array
+     * @param srcPos
+     *            source start index in bounds
+     * @param dest
+     *            destination array, not null
+     * @param destPos
+     *            destination start index in bounds
+     * @param length
+     *            specified length, >= 0
+     * @param executor
+     *            specified executor, not null
+     * @throws NullPointerException
+     *             if destination array or specified executor is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
      * @since 0.0.0
      */
-    public Spliterator<Float> spliterator() {
-        return new FloatArraySpliterator(this, 0, length());
+    public void parallelCopy(long srcPos, FloatArray dest, long destPos, long length, Executor executor)
+            throws NullPointerException, IndexOutOfBoundsException {
+        Checker.checkNull(dest);
+        Checker.checkNull(executor);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+        Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+        data.copy(srcPos, dest.data, destPos, length, executor);
     }
 
     /**
      * <p>
-     * Returns a stream to traverse this array.
+     * Sorts elements of this array into ascending numerical order.
      * </p>
-     *
-     * @return a stream to traverse this array
+     * <p>
+     * Elements are sorted in runs of whole blocks by {@linkplain Arrays#sort(float[])}, then sorted runs are merged in
+     * pairs. Merging needs a temporary array as long as the sorted range, which is off-heap if this array is off-heap.
+     * Unlike traditional array, more than {@linkplain Integer#MAX_VALUE} elements can be sorted. The order is same as
+     * {@linkplain Arrays#sort(float[])}, that is, {@code -0.0} is less than {@code 0.0} and NaN is greater than any
+     * other value.
+     * </p>
+     * 
      * @since 0.0.0
      */
-    public Stream<Float> stream() {
-        return StreamSupport.stream(spliterator(), false);
+    public void sort() {
+        data.sort(0, length(), null);
     }
 
-    private static class FloatArrayIterator implements Iterator<Float> {
-
-        private FloatArray array;
-
-        private long cur = 0;
+    /**
+     * <p>
+     * Sorts elements of this array from {@code from} inclusive to {@code to} exclusive into ascending numerical order,
+     * see {@linkplain #sort()}.
+     * </p>
+     * 
+     * @param from
+     *            from index inclusive
+     * @param to
+     *            to index exclusive
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @since 0.0.0
+     */
+    public void sort(long from, long to) throws IndexOutOfBoundsException {
+        Checker.checkRangeIndexes(from, to, length());
+        data.sort(from, to, null);
+    }
 
-        public FloatArrayIterator(FloatArray array) {
-            this.array = array;
-        }
+    /**
+     * <p>
+     * Sorts elements of this array into ascending numerical order in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @see #parallelSort(long, long, Executor)
+     * @since 0.0.0
+     */
+    public void parallelSort() {
+        parallelSort(0, length(), ForkJoinPool.commonPool());
+    }
 
-        @Override
-        public boolean hasNext() {
-            return cur < array.length();
-        }
+    /**
+     * <p>
+     * Sorts elements of this array from {@code from} inclusive to {@code to} exclusive into ascending numerical order
+     * in parallel, tasks are executed in {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @param from
+     *            from index inclusive
+     * @param to
+     *            to index exclusive
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @see #parallelSort(long, long, Executor)
+     * @since 0.0.0
+     */
+    public void parallelSort(long from, long to) throws IndexOutOfBoundsException {
+        parallelSort(from, to, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Sorts elements of this array from {@code from} inclusive to {@code to} exclusive into ascending numerical order
+     * in parallel, tasks are executed in specified executor. The range is divided into runs of whole blocks, see
+     * {@linkplain BigArray#PARALLEL_TASK_SIZE}, each run is sorted by a task and then each pair of adjacent sorted runs
+     * is merged by a task, until the whole range is sorted. Result is same as {@linkplain #sort(long, long)}.
+     * </p>
+     * 
+     * @param from
+     *            from index inclusive
+     * @param to
+     *            to index exclusive
+     * @param executor
+     *            specified executor, not null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws NullPointerException
+     *             if specified executor is null
+     * @since 0.0.0
+     */
+    public void parallelSort(long from, long to, Executor executor)
+            throws IndexOutOfBoundsException, NullPointerException {
+        Checker.checkRangeIndexes(from, to, length());
+        Checker.checkNull(executor);
+        data.sort(from, to, executor);
+    }
+
+    /**
+     * <p>
+     * Searches specified value in this array by binary search, see {@linkplain #binarySearch(long, long, float)}.
+     * </p>
+     * 
+     * @param value
+     *            specified value
+     * @return index of specified value if it is found, or else {@code (-(insertion point) - 1)}
+     * @since 0.0.0
+     */
+    public long binarySearch(float value) {
+        return binarySearch(0, length(), value);
+    }
+
+    /**
+     * <p>
+     * Searches specified value in this array from {@code from} inclusive to {@code to} exclusive by binary search. The
+     * range must be sorted such as by {@linkplain #sort(long, long)}, or else the result is undefined. If the range
+     * contains multiple elements equal to specified value, there is no guarantee which one will be found.
+     * </p>
+     * 
+     * @param from
+     *            from index inclusive
+     * @param to
+     *            to index exclusive
+     * @param value
+     *            specified value
+     * @return index of specified value if it is found, or else {@code (-(insertion point) - 1)}, insertion point is
+     *         index of first element greater than specified value, or {@code to} if all elements in the range are less
+     *         than it
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @since 0.0.0
+     */
+    public long binarySearch(long from, long to, float value) throws IndexOutOfBoundsException {
+        Checker.checkRangeIndexes(from, to, length());
+        long low = from;
+        long high = to - 1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            float midValue = data.get(mid);
+            if (midValue < value) {
+                low = mid + 1;
+            } else if (midValue > value) {
+                high = mid - 1;
+            } else {
+                int midBits = Float.floatToIntBits(midValue);
+                int valueBits = Float.floatToIntBits(value);
+                if (midBits == valueBits) {
+                    return mid;
+                } else if (midBits < valueBits) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * <p>
+     * Returns sum of elements of this array, accumulated in double. Elements are summed block by block in tight loops
+     * rather than by {@linkplain #get(long)}.
+     * </p>
+     * 
+     * @return sum of elements of this array
+     * @since 0.0.0
+     */
+    public double sum() {
+        return data.sum(null);
+    }
+
+    /**
+     * <p>
+     * Returns sum of elements of this array in parallel, tasks are executed in {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @return sum of elements of this array
+     * @see #parallelSum(Executor)
+     * @since 0.0.0
+     */
+    public double parallelSum() {
+        return parallelSum(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Returns sum of elements of this array in parallel, tasks are executed in specified executor. Elements are divided
+     * into tasks of whole blocks, see {@linkplain BigArray#PARALLEL_TASK_SIZE}, and sums of tasks are added up in
+     * order. Result may differ slightly from sequential one because of rounding. If this array is not large enough to
+     * be divided, it is summed in current thread.
+     * </p>
+     * 
+     * @param executor
+     *            specified executor, not null
+     * @return sum of elements of this array
+     * @throws NullPointerException
+     *             if specified executor is null
+     * @since 0.0.0
+     */
+    public double parallelSum(Executor executor) throws NullPointerException {
+        Checker.checkNull(executor);
+        return data.sum(executor);
+    }
+
+    /**
+     * <p>
+     * Returns minimum element of this array, compared as {@linkplain Math#min(float, float)}.
+     * </p>
+     * 
+     * @return minimum element of this array
+     * @throws NoSuchElementException
+     *             if this array is empty
+     * @since 0.0.0
+     */
+    public float min() throws NoSuchElementException {
+        return data.min(null);
+    }
+
+    /**
+     * <p>
+     * Returns minimum element of this array in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @return minimum element of this array
+     * @throws NoSuchElementException
+     *             if this array is empty
+     * @see #parallelMin(Executor)
+     * @since 0.0.0
+     */
+    public float parallelMin() throws NoSuchElementException {
+        return parallelMin(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Returns minimum element of this array in parallel, tasks are executed in specified executor, see
+     * {@linkplain #parallelSum(Executor)}.
+     * </p>
+     * 
+     * @param executor
+     *            specified executor, not null
+     * @return minimum element of this array
+     * @throws NullPointerException
+     *             if specified executor is null
+     * @throws NoSuchElementException
+     *             if this array is empty
+     * @since 0.0.0
+     */
+    public float parallelMin(Executor executor) throws NullPointerException, NoSuchElementException {
+        Checker.checkNull(executor);
+        return data.min(executor);
+    }
+
+    /**
+     * <p>
+     * Returns maximum element of this array, compared as {@linkplain Math#max(float, float)}.
+     * </p>
+     * 
+     * @return maximum element of this array
+     * @throws NoSuchElementException
+     *             if this array is empty
+     * @since 0.0.0
+     */
+    public float max() throws NoSuchElementException {
+        return data.max(null);
+    }
+
+    /**
+     * <p>
+     * Returns maximum element of this array in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @return maximum element of this array
+     * @throws NoSuchElementException
+     *             if this array is empty
+     * @see #parallelMax(Executor)
+     * @since 0.0.0
+     */
+    public float parallelMax() throws NoSuchElementException {
+        return parallelMax(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Returns maximum element of this array in parallel, tasks are executed in specified executor, see
+     * {@linkplain #parallelSum(Executor)}.
+     * </p>
+     * 
+     * @param executor
+     *            specified executor, not null
+     * @return maximum element of this array
+     * @throws NullPointerException
+     *             if specified executor is null
+     * @throws NoSuchElementException
+     *             if this array is empty
+     * @since 0.0.0
+     */
+    public float parallelMax(Executor executor) throws NullPointerException, NoSuchElementException {
+        Checker.checkNull(executor);
+        return data.max(executor);
+    }
+
+    /**
+     * <p>
+     * Returns dot product of this array and specified array, accumulated in double, that is, sum of {@code this[i] *
+     * other[i]}.
+     * </p>
+     * 
+     * @param other
+     *            specified array of same length, not null
+     * @return dot product of this array and specified array
+     * @throws NullPointerException
+     *             if specified array is null
+     * @throws IllegalArgumentException
+     *             if length of specified array is different from this array
+     * @since 0.0.0
+     */
+    public double dot(FloatArray other) throws NullPointerException, IllegalArgumentException {
+        checkSameLength(other);
+        return data.dot(other.data, null);
+    }
+
+    /**
+     * <p>
+     * Returns dot product of this array and specified array in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @param other
+     *            specified array of same length, not null
+     * @return dot product of this array and specified array
+     * @throws NullPointerException
+     *             if specified array is null
+     * @throws IllegalArgumentException
+     *             if length of specified array is different from this array
+     * @see #parallelDot(FloatArray, Executor)
+     * @since 0.0.0
+     */
+    public double parallelDot(FloatArray other) throws NullPointerException, IllegalArgumentException {
+        return parallelDot(other, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Returns dot product of this array and specified array in parallel, tasks are executed in specified executor, see
+     * {@linkplain #parallelSum(Executor)}.
+     * </p>
+     * 
+     * @param other
+     *            specified array of same length, not null
+     * @param executor
+     *            specified executor, not null
+     * @return dot product of this array and specified array
+     * @throws NullPointerException
+     *             if specified array or executor is null
+     * @throws IllegalArgumentException
+     *             if length of specified array is different from this array
+     * @since 0.0.0
+     */
+    public double parallelDot(FloatArray other, Executor executor)
+            throws NullPointerException, IllegalArgumentException {
+        checkSameLength(other);
+        Checker.checkNull(executor);
+        return data.dot(other.data, executor);
+    }
+
+    /**
+     * <p>
+     * Sets each element of this array to {@code this[i] * k + other[i]}, where other is specified array.
+     * </p>
+     * 
+     * @param k
+     *            factor of elements of this array
+     * @param other
+     *            specified array of same length, not null, may be this array
+     * @throws NullPointerException
+     *             if specified array is null
+     * @throws IllegalArgumentException
+     *             if length of specified array is different from this array
+     * @since 0.0.0
+     */
+    public void axpy(float k, FloatArray other) throws NullPointerException, IllegalArgumentException {
+        checkSameLength(other);
+        data.axpy(k, other.data, null);
+    }
+
+    /**
+     * <p>
+     * Sets each element of this array to {@code this[i] * k + other[i]} in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @param k
+     *            factor of elements of this array
+     * @param other
+     *            specified array of same length, not null, may be this array
+     * @throws NullPointerException
+     *             if specified array is null
+     * @throws IllegalArgumentException
+     *             if length of specified array is different from this array
+     * @see #parallelAxpy(float, FloatArray, Executor)
+     * @since 0.0.0
+     */
+    public void parallelAxpy(float k, FloatArray other) throws NullPointerException, IllegalArgumentException {
+        parallelAxpy(k, other, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Sets each element of this array to {@code this[i] * k + other[i]} in parallel, tasks are executed in specified
+     * executor. Elements are divided into tasks of whole blocks of this array, see
+     * {@linkplain BigArray#PARALLEL_TASK_SIZE}. If this array is not large enough to be divided, it is computed in
+     * current thread.
+     * </p>
+     * 
+     * @param k
+     *            factor of elements of this array
+     * @param other
+     *            specified array of same length, not null, may be this array
+     * @param executor
+     *            specified executor, not null
+     * @throws NullPointerException
+     *             if specified array or executor is null
+     * @throws IllegalArgumentException
+     *             if length of specified array is different from this array
+     * @since 0.0.0
+     */
+    public void parallelAxpy(float k, FloatArray other, Executor executor)
+            throws NullPointerException, IllegalArgumentException {
+        checkSameLength(other);
+        Checker.checkNull(executor);
+        data.axpy(k, other.data, executor);
+    }
+
+    /**
+     * <p>
+     * Replaces each element of this array with result of specified operator applied to it. Result of the operator is
+     * cast to float.
+     * </p>
+     * 
+     * @param operator
+     *            specified operator, not null
+     * @throws NullPointerException
+     *             if specified operator is null
+     * @since 0.0.0
+     */
+    public void map(DoubleUnaryOperator operator) throws NullPointerException {
+        Checker.checkNull(operator);
+        data.map(operator, null);
+    }
+
+    /**
+     * <p>
+     * Replaces each element of this array with result of specified operator applied to it in parallel, tasks are
+     * executed in {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @param operator
+     *            specified operator, not null, must be thread-safe
+     * @throws NullPointerException
+     *             if specified operator is null
+     * @see #parallelMap(DoubleUnaryOperator, Executor)
+     * @since 0.0.0
+     */
+    public void parallelMap(DoubleUnaryOperator operator) throws NullPointerException {
+        parallelMap(operator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Replaces each element of this array with result of specified operator applied to it in parallel, tasks are
+     * executed in specified executor, see {@linkplain #parallelAxpy(float, FloatArray, Executor)}.
+     * </p>
+     * 
+     * @param operator
+     *            specified operator, not null, must be thread-safe
+     * @param executor
+     *            specified executor, not null
+     * @throws NullPointerException
+     *             if specified operator or executor is null
+     * @since 0.0.0
+     */
+    public void parallelMap(DoubleUnaryOperator operator, Executor executor) throws NullPointerException {
+        Checker.checkNull(operator);
+        Checker.checkNull(executor);
+        data.map(operator, executor);
+    }
+
+    /**
+     * <p>
+     * Replaces each element of this array with result of specified operator applied to it and element of specified
+     * array at same index, that is, {@code this[i] = operator(this[i], other[i])}. Result of the operator is cast to
+     * float.
+     * </p>
+     * 
+     * @param other
+     *            specified array of same length, not null, may be this array
+     * @param operator
+     *            specified operator, not null
+     * @throws NullPointerException
+     *             if specified array or operator is null
+     * @throws IllegalArgumentException
+     *             if length of specified array is different from this array
+     * @since 0.0.0
+     */
+    public void zipWith(FloatArray other, DoubleBinaryOperator operator)
+            throws NullPointerException, IllegalArgumentException {
+        checkSameLength(other);
+        Checker.checkNull(operator);
+        data.zipWith(other.data, operator, null);
+    }
+
+    /**
+     * <p>
+     * Replaces each element of this array with result of specified operator applied to it and element of specified
+     * array at same index in parallel, tasks are executed in {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @param other
+     *            specified array of same length, not null, may be this array
+     * @param operator
+     *            specified operator, not null, must be thread-safe
+     * @throws NullPointerException
+     *             if specified array or operator is null
+     * @throws IllegalArgumentException
+     *             if length of specified array is different from this array
+     * @see #parallelZipWith(FloatArray, DoubleBinaryOperator, Executor)
+     * @since 0.0.0
+     */
+    public void parallelZipWith(FloatArray other, DoubleBinaryOperator operator)
+            throws NullPointerException, IllegalArgumentException {
+        parallelZipWith(other, operator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Replaces each element of this array with result of specified operator applied to it and element of specified
+     * array at same index in parallel, tasks are executed in specified executor, see
+     * {@linkplain #parallelAxpy(float, FloatArray, Executor)}.
+     * </p>
+     * 
+     * @param other
+     *            specified array of same length, not null, may be this array
+     * @param operator
+     *            specified operator, not null, must be thread-safe
+     * @param executor
+     *            specified executor, not null
+     * @throws NullPointerException
+     *             if specified array, operator or executor is null
+     * @throws IllegalArgumentException
+     *             if length of specified array is different from this array
+     * @since 0.0.0
+     */
+    public void parallelZipWith(FloatArray other, DoubleBinaryOperator operator, Executor executor)
+            throws NullPointerException, IllegalArgumentException {
+        checkSameLength(other);
+        Checker.checkNull(operator);
+        Checker.checkNull(executor);
+        data.zipWith(other.data, operator, executor);
+    }
+
+    private void checkSameLength(FloatArray other) throws NullPointerException, IllegalArgumentException {
+        Checker.checkNull(other);
+        Checker.check(other.length() == length(), "Lengths of two arrays are different.");
+    }
+
+    /**
+     * <p>
+     * Returns bytes of memory allocated for elements of this array, not including headers of objects. For a lazy,
+     * sparse or off-heap array, only allocated blocks are counted.
+     * </p>
+     * 
+     * @return bytes of memory allocated for elements of this array
+     * @see #logicalBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long allocatedBytes() {
+        return data.allocatedBytes();
+    }
+
+    /**
+     * <p>
+     * Returns bytes of all elements of this array, that is, length of this array multiplied by bytes of each element.
+     * </p>
+     * 
+     * @return bytes of all elements of this array
+     * @see #allocatedBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long logicalBytes() {
+        return length() * Float.BYTES;
+    }
+
+    /**
+     * <p>
+     * Returns number of blocks allocated for elements of this array. For a lazy or sparse array, blocks which have
+     * never been written are not allocated.
+     * </p>
+     * 
+     * @return number of blocks allocated for elements of this array
+     * @see #allocatedBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long allocatedBlocks() {
+        return data.allocatedBlocks();
+    }
+
+    /**
+     * <p>
+     * Performs given action for each element of this array which is not equal to default value, in order of index.
+     * Default value is value of elements which are not allocated, that is, initial value of this array or value last
+     * filled by {@linkplain #fill(float)}, and it is always 0 for array backed by only one array. Blocks which are not
+     * allocated are skipped without traversing, so that it is fast for sparse array.
+     * </p>
+     * 
+     * @param action
+     *            given action with index and value of each element, not null
+     * @throws NullPointerException
+     *             if given action is null
+     * @since 0.0.0
+     */
+    public void forEachNonDefault(EachDoubleConsumer action) throws NullPointerException {
+        Checker.checkNull(action);
+        data.forEachNonDefault(action);
+    }
+
+    @Override
+    public boolean isOffHeap() {
+        return data.isOffHeap();
+    }
+
+    @Override
+    public void close() {
+        data.close();
+    }
+
+    @Override
+    public void force() {
+        data.force();
+    }
+
+    /**
+     * <p>
+     * Clones this array, all settings and options inherited.
+     * </p>
+     * 
+     * @return duplication of this array
+     * @since 0.0.0
+     */
+    @Override
+    public FloatArray clone() {
+        return new FloatArray(data.clone());
+    }
+
+    /**
+     * <p>
+     * Clones this array in parallel, all settings and options inherited. Tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @return duplication of this array
+     * @see #parallelClone(Executor)
+     * @since 0.0.0
+     */
+    public FloatArray parallelClone() {
+        return parallelClone(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Clones this array in parallel, all settings and options inherited. Tasks are executed in specified executor,
+     * elements are divided into tasks of whole blocks, see {@linkplain BigArray#PARALLEL_TASK_SIZE}.
+     * </p>
+     * 
+     * @param executor
+     *            specified executor, not null
+     * @return duplication of this array
+     * @throws NullPointerException
+     *             if specified executor is null
+     * @since 0.0.0
+     */
+    public FloatArray parallelClone(Executor executor) throws NullPointerException {
+        Checker.checkNull(executor);
+        return new FloatArray(data.clone(executor));
+    }
+
+    /**
+     * <p>
+     * COnverts this array to an object array. If length of this array is greater than {@linkplain Integer#MAX_VALUE},
+     * return first {@linkplain Integer#MAX_VALUE} elements.
+     * </p>
+     * 
+     * @return an object array
+     * @since 0.0.0
+     */
+    public float[] toArray() {
+        return data.toArray();
+    }
+
+    /**
+     * <p>
+     * Returns an iterator to traverse this array.
+     * </p>
+     * 
+     * @return an iterator to traverse this array
+     * @since 0.0.0
+     */
+    @Override
+    public Iterator<Float> iterator() {
+        return new FloatArrayIterator(this);
+    }
+
+    /**
+     * <p>
+     * Returns a spliterator to traverse this array.
+     * </p>
+     *
+     * @return a spliterator to traverse this array
+     * @since 0.0.0
+     */
+    public Spliterator<Float> spliterator() {
+        return new FloatArraySpliterator(this, 0, length());
+    }
+
+    /**
+     * <p>
+     * Returns a stream to traverse this array.
+     * </p>
+     *
+     * @return a stream to traverse this array
+     * @since 0.0.0
+     */
+    public Stream<Float> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * <p>
+     * Returns a double stream to traverse this array, each element of which is widened to double.
+     * </p>
+     *
+     * @return a double stream to traverse this array
+     * @since 0.0.0
+     */
+    public DoubleStream doubleStream() {
+        return StreamSupport.doubleStream(new FloatArrayDoubleSpliterator(this, 0, length()), false);
+    }
+
+    /**
+     * <p>
+     * Returns a binary viewing this array with specified byte order processor, no element is copied. Each element
+     * occupies {@linkplain Float#BYTES} bytes of the binary in the byte order, changes of either of them are visible to
+     * the other. If given byte order processor is null, use default {@linkplain ByteOrderProcessor#BIG_ENDIAN}.
+     * </p>
+     * 
+     * @param orderProcessor
+     *            given byte order processor
+     * @return a binary viewing this array
+     * @throws OutOfBoundsException
+     *             if length of the binary exceeds {@linkplain Long#MAX_VALUE}
+     * @see BigArrayBinary
+     * @since 0.0.0
+     */
+    public Binary asBinary(@Nullable ByteOrderProcessor orderProcessor) throws OutOfBoundsException {
+        return BigArrayBinary.of(this, orderProcessor);
+    }
+
+    /**
+     * <p>
+     * Writes this array into specified outputer in a compact streaming format, in byte order of the outputer. The
+     * format consists of a header of type, byte order, length, block size and filler, followed by blocks of this array.
+     * Each block is written as a flag and its elements in bulk, a block which is not allocated by a lazy array is
+     * written as a flag only. The array can be read back by {@linkplain #readFrom(Inputer)}.
+     * </p>
+     * 
+     * @param out
+     *            specified outputer
+     * @throws NullPointerException
+     *             if specified outputer is null
+     * @throws IOException
+     *             if an I/O error occurs
+     * @since 0.0.0
+     */
+    public void writeTo(Outputer out) throws NullPointerException, IOException {
+        Checker.checkNull(out);
+        ByteOrder order = out.getByteOrderProcessor().getByteOrder();
+        long length = length();
+        int blockSize = Math.max(data.blockSize(), 1);
+        ByteBuffer header = BigArrayUtil.header('F', Float.BYTES, order);
+        header.putLong(length).putInt(blockSize).putFloat(data.filler());
+        out.write(header.array());
+        float[] temp = new float[(int)Math.min(length, (long)BigArrayUtil.COPY_BUFFER_SIZE)];
+        byte[] bytes = new byte[temp.length * Float.BYTES];
+        FloatBuffer view = ByteBuffer.wrap(bytes).order(order).asFloatBuffer();
+        for (long i = 0; i < length;) {
+            int n = (int)Math.min((long)blockSize, length - i);
+            if (!data.allocated(i)) {
+                out.write(0);
+                i += n;
+                continue;
+            }
+            out.write(1);
+            for (int j = 0; j < n;) {
+                int m = Math.min(temp.length, n - j);
+                data.read(i + j, temp, 0, m);
+                view.clear();
+                view.put(temp, 0, m);
+                out.write(bytes, 0, m * Float.BYTES);
+                j += m;
+            }
+            i += n;
+        }
+    }
+
+    /**
+     * <p>
+     * Reads a big array from specified inputer, which is written by {@linkplain #writeTo(Outputer)}. Returned array is
+     * a new lazy array of default block size, blocks which are not written are left unallocated.
+     * </p>
+     * 
+     * @param in
+     *            specified inputer
+     * @return a new big array read from specified inputer
+     * @throws NullPointerException
+     *             if specified inputer is null
+     * @throws StreamCorruptedException
+     *             if data of specified inputer is not a big array of float
+     * @throws EOFException
+     *             if reaches to end of stream before reading the whole array
+     * @throws IOException
+     *             if an I/O error occurs
+     * @since 0.0.0
+     */
+    public static FloatArray readFrom(Inputer in)
+            throws NullPointerException, StreamCorruptedException, EOFException, IOException {
+        Checker.checkNull(in);
+        ByteBuffer header = BigArrayUtil.readHeader(in, 'F', Float.BYTES);
+        long length = header.getLong();
+        int blockSize = header.getInt();
+        float filler = header.getFloat();
+        BigArrayUtil.checkHeader(length, blockSize);
+        FloatArray array = new FloatArray(length, BigArray.BLOCK_SIZE, filler, true);
+        float[] temp = new float[(int)Math.min(length, (long)BigArrayUtil.COPY_BUFFER_SIZE)];
+        byte[] bytes = new byte[temp.length * Float.BYTES];
+        FloatBuffer view = ByteBuffer.wrap(bytes).order(header.order()).asFloatBuffer();
+        for (long i = 0; i < length;) {
+            int n = (int)Math.min((long)blockSize, length - i);
+            if (BigArrayUtil.readFlag(in)) {
+                for (int j = 0; j < n;) {
+                    int m = Math.min(temp.length, n - j);
+                    in.readFully(bytes, 0, m * Float.BYTES);
+                    view.clear();
+                    view.get(temp, 0, m);
+                    array.data.write(i + j, temp, 0, m);
+                    j += m;
+                }
+            }
+            i += n;
+        }
+        return array;
+    }
+
+    private static class FloatArrayIterator implements Iterator<Float> {
+
+        private FloatArray array;
+
+        private long cur = 0;
+
+        public FloatArrayIterator(FloatArray array) {
+            this.array = array;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cur < array.length();
+        }
+
+        @Override
+        public Float next() {
+            if (cur >= array.length()) {
+                throw new NoSuchElementException();
+            }
+            return array.get(cur++);
+        }
+    }
+
+    private static class FloatArraySpliterator implements Spliterator<Float> {
+
+        private FloatArray array;
+
+        private long end;
+
+        private long cur;
+
+        public FloatArraySpliterator(FloatArray array, long start, long end) {
+            this.array = array;
+            this.cur = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Float> action) {
+            if (cur >= end) {
+                return false;
+            }
+            Quicker.require(action).accept(array.get(cur++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Float> action) {
+            Quicker.require(action);
+            if (cur < end) {
+                long from = cur;
+                cur = end;
+                array.data.forEach(from, end, v -> action.accept((float)v));
+            }
+        }
+
+        @Override
+        public Spliterator<Float> trySplit() {
+            long mid = BigArrayUtil.splitIndex(cur, end, array.data.blockSize());
+            if (mid < 0) {
+                return null;
+            }
+            FloatArraySpliterator prefix = new FloatArraySpliterator(array, cur, mid);
+            this.cur = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - cur;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+                    | Spliterator.NONNULL;
+        }
+    }
+
+    private static class FloatArrayDoubleSpliterator implements Spliterator.OfDouble {
+
+        private FloatArray array;
+
+        private long end;
+
+        private long cur;
+
+        public FloatArrayDoubleSpliterator(FloatArray array, long start, long end) {
+            this.array = array;
+            this.cur = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            if (cur >= end) {
+                return false;
+            }
+            Quicker.require(action).accept(array.get(cur++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            Quicker.require(action);
+            if (cur < end) {
+                long from = cur;
+                cur = end;
+                array.data.forEach(from, end, action);
+            }
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            long mid = BigArrayUtil.splitIndex(cur, end, array.data.blockSize());
+            if (mid < 0) {
+                return null;
+            }
+            FloatArrayDoubleSpliterator prefix = new FloatArrayDoubleSpliterator(array, cur, mid);
+            this.cur = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - cur;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+                    | Spliterator.NONNULL;
+        }
+    }
+
+    private static abstract class Data implements Serializable, Cloneable {
+
+        private static final long serialVersionUID = 1L;
+
+        // Compares bits instead of values, so -0.0 is not taken as 0.0 and NaN is taken as itself.
+        static boolean isFiller(float value, float filler) {
+            return Float.floatToRawIntBits(value) == Float.floatToRawIntBits(filler);
+        }
+
+        public abstract int blockSize();
+
+        public abstract float[] block(long index);
+
+        public abstract float[] allocate(long index);
+
+        public abstract int offset(long index);
+
+        public abstract int remaining(long index);
+
+        public abstract float filler();
+
+        public abstract long length();
+
+        public float get(int index) throws IndexOutOfBoundsException {
+            return get((long)index);
+        }
+
+        public void set(int index, float value) throws IndexOutOfBoundsException {
+            set((long)index, value);
+        }
+
+        public abstract float get(long index) throws IndexOutOfBoundsException;
+
+        public abstract void set(long index, float value) throws IndexOutOfBoundsException;
+
+        public abstract void fill(float value);
+
+        public int taskUnit() {
+            return blockSize();
+        }
+
+        public void fill(float value, Executor executor) {
+            BigArrayUtil.parallel(0, length(), taskUnit(), executor, (from, to) -> fill(from, to, value));
+        }
+
+        public void forEach(long from, long to, DoubleConsumer action) {
+            for (long i = from; i < to;) {
+                int offset = offset(i);
+                int end = offset + (int)Math.min((long)remaining(i), to - i);
+                float[] block = block(i);
+                if (null == block) {
+                    float filler = filler();
+                    for (int j = offset; j < end; j++) {
+                        action.accept(filler);
+                    }
+                } else {
+                    for (int j = offset; j < end; j++) {
+                        action.accept(block[j]);
+                    }
+                }
+                i += end - offset;
+            }
+        }
+
+        public void fill(long from, long to, float value) {
+            for (long i = from; i < to;) {
+                int offset = offset(i);
+                int n = (int)Math.min((long)remaining(i), to - i);
+                float[] block = block(i);
+                if (null == block) {
+                    if (isFiller(value, filler())) {
+                        i += n;
+                        continue;
+                    }
+                    block = allocate(i);
+                }
+                Arrays.fill(block, offset, offset + n, value);
+                i += n;
+            }
+        }
+
+        public void copy(long srcPos, Data dest, long destPos, long length)
+                throws NullPointerException, IndexOutOfBoundsException {
+            if (length == 0) {
+                return;
+            }
+            Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+            Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+            if (dest == this && srcPos < destPos && destPos < srcPos + length) {
+                // Overlapped, copies backward.
+                int blockSize = blockSize();
+                for (long i = length; i > 0;) {
+                    long s = srcPos + i - 1;
+                    long d = destPos + i - 1;
+                    int n = (int)Math.min((long)(blockSize - Math.max(remaining(s), remaining(d)) + 1), i);
+                    copyBlock(s - n + 1, dest, d - n + 1, n);
+                    i -= n;
+                }
+            } else {
+                for (long i = 0; i < length;) {
+                    long s = srcPos + i;
+                    long d = destPos + i;
+                    int n = (int)Math.min((long)Math.min(remaining(s), dest.remaining(d)), length - i);
+                    copyBlock(s, dest, d, n);
+                    i += n;
+                }
+            }
+        }
+
+        public void copy(long srcPos, Data dest, long destPos, long length, Executor executor)
+                throws NullPointerException, IndexOutOfBoundsException {
+            if (dest == this && srcPos < destPos + length && destPos < srcPos + length) {
+                // Overlapped, copies in current thread.
+                copy(srcPos, dest, destPos, length);
+                return;
+            }
+            long offset = srcPos - destPos;
+            BigArrayUtil.parallel(destPos, destPos + length, dest.taskUnit(), executor,
+                    (from, to) -> copy(from + offset, dest, from, to - from));
+        }
+
+        private void copyBlock(long srcPos, Data dest, long destPos, int length) {
+            float[] sr = block(srcPos);
+            if (null == sr) {
+                dest.fill(destPos, destPos + length, filler());
+            } else {
+                dest.write(destPos, sr, offset(srcPos), length);
+            }
+        }
+
+        public void read(long index, float[] dest, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long s = index + i;
+                int n = Math.min(remaining(s), length - i);
+                float[] block = block(s);
+                if (null == block) {
+                    Arrays.fill(dest, offset + i, offset + i + n, filler());
+                } else {
+                    System.arraycopy(block, offset(s), dest, offset + i, n);
+                }
+                i += n;
+            }
+        }
+
+        public void sort(long from, long to, @Nullable Executor executor) {
+            long[] bounds = BigArrayUtil.split(from, to,
+                    BigArrayUtil.taskSize(null == executor ? blockSize() : taskUnit()));
+            List<Runnable> tasks = new ArrayList<>(bounds.length);
+            for (int i = 0; i < bounds.length - 1; i++) {
+                long start = bounds[i];
+                long end = bounds[i + 1];
+                tasks.add(() -> sortRun(start, end));
+            }
+            BigArrayUtil.execute(tasks, executor);
+            if (bounds.length <= 2) {
+                return;
+            }
+            // Merges each pair of adjacent runs, between this and temporary array alternately.
+            Data temp = isOffHeap() ? new OfBuffers(to - from, BigArray.BLOCK_SIZE, (float)0, false)
+                    : createData(to - from, BigArray.BLOCK_SIZE, (float)0, false);
+            try {
+                Data src = this;
+                Data dest = temp;
+                long srcShift = 0;
+                long destShift = from;
+                while (bounds.length > 2) {
+                    int runs = bounds.length - 1;
+                    long[] merged = new long[(runs + 1) / 2 + 1];
+                    tasks.clear();
+                    for (int i = 0; i < runs; i += 2) {
+                        Data mergeSrc = src;
+                        Data mergeDest = dest;
+                        long start = bounds[i];
+                        long mid = bounds[Math.min(i + 1, runs)] - srcShift;
+                        long end = bounds[Math.min(i + 2, runs)] - srcShift;
+                        long destPos = start - destShift;
+                        long srcPos = start - srcShift;
+                        tasks.add(() -> merge(mergeSrc, srcPos, mid, end, mergeDest, destPos));
+                        merged[i / 2] = start;
+                    }
+                    merged[merged.length - 1] = to;
+                    BigArrayUtil.execute(tasks, executor);
+                    bounds = merged;
+                    src = dest;
+                    dest = src == temp ? this : temp;
+                    long shift = srcShift;
+                    srcShift = destShift;
+                    destShift = shift;
+                }
+                if (src != this) {
+                    src.copy(0, this, from, to - from, executor);
+                }
+            } finally {
+                temp.close();
+            }
+        }
+
+        private void sortRun(long from, long to) {
+            int length = (int)(to - from);
+            if (!isOffHeap() && length <= remaining(from)) {
+                float[] block = block(from);
+                // Unallocated block is full of filler, it is sorted already.
+                if (null != block) {
+                    int offset = offset(from);
+                    Arrays.sort(block, offset, offset + length);
+                }
+                return;
+            }
+            float[] run = new float[length];
+            read(from, run, 0, length);
+            Arrays.sort(run);
+            write(from, run, 0, length);
+        }
+
+        private static void merge(Data src, long left, long mid, long end, Data dest, long destPos) {
+            long right = mid;
+            float[] leftBuffer = new float[(int)Math.min(mid - left, (long)BigArrayUtil.COPY_BUFFER_SIZE)];
+            float[] rightBuffer = new float[(int)Math.min(end - mid, (long)BigArrayUtil.COPY_BUFFER_SIZE)];
+            float[] merged = new float[BigArrayUtil.COPY_BUFFER_SIZE];
+            int leftIndex = 0;
+            int leftSize = 0;
+            int rightIndex = 0;
+            int rightSize = 0;
+            int size = 0;
+            while (true) {
+                if (leftIndex == leftSize && left < mid) {
+                    leftSize = (int)Math.min(mid - left, (long)leftBuffer.length);
+                    src.read(left, leftBuffer, 0, leftSize);
+                    left += leftSize;
+                    leftIndex = 0;
+                }
+                if (rightIndex == rightSize && right < end) {
+                    rightSize = (int)Math.min(end - right, (long)rightBuffer.length);
+                    src.read(right, rightBuffer, 0, rightSize);
+                    right += rightSize;
+                    rightIndex = 0;
+                }
+                if (leftIndex == leftSize || rightIndex == rightSize) {
+                    break;
+                }
+                if (Float.compare(leftBuffer[leftIndex], rightBuffer[rightIndex]) <= 0) {
+                    merged[size++] = leftBuffer[leftIndex++];
+                } else {
+                    merged[size++] = rightBuffer[rightIndex++];
+                }
+                if (size == merged.length) {
+                    dest.write(destPos, merged, 0, size);
+                    destPos += size;
+                    size = 0;
+                }
+            }
+            // One of runs is exhausted, rest of the other is copied directly.
+            dest.write(destPos, merged, 0, size);
+            destPos += size;
+            dest.write(destPos, leftBuffer, leftIndex, leftSize - leftIndex);
+            destPos += leftSize - leftIndex;
+            src.copy(left, dest, destPos, mid - left);
+            destPos += mid - left;
+            dest.write(destPos, rightBuffer, rightIndex, rightSize - rightIndex);
+            destPos += rightSize - rightIndex;
+            src.copy(right, dest, destPos, end - right);
+        }
+
+        public void write(long index, float[] src, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long d = index + i;
+                int n = Math.min(remaining(d), length - i);
+                System.arraycopy(src, offset + i, allocate(d), offset(d), n);
+                i += n;
+            }
+        }
+
+        public void forEachNonDefault(EachDoubleConsumer action) {
+            float filler = filler();
+            for (long i = 0; i < length();) {
+                int offset = offset(i);
+                int n = (int)Math.min((long)remaining(i), length() - i);
+                float[] block = block(i);
+                if (null != block) {
+                    for (int j = 0; j < n; j++) {
+                        if (!isFiller(block[offset + j], filler)) {
+                            action.accept(i + j, block[offset + j]);
+                        }
+                    }
+                }
+                i += n;
+            }
+        }
+
+        // Returns block of given index which can be read directly, or null if it is not allocated or not on heap.
+        public float[] readable(long index) {
+            return block(index);
+        }
+
+        // Returns block of given index which can be written directly, or null if elements must be written by write().
+        public float[] writable(long index) {
+            return allocate(index);
+        }
+
+        // Returns elements from given index in a block which can be read directly, or read into given temporary array.
+        private float[] load(long index, int length, float[] temp) {
+            float[] block = readable(index);
+            if (null == block) {
+                read(index, temp, 0, length);
+                return temp;
+            }
+            return block;
+        }
+
+        private float[] temp(long from, long to) {
+            return new float[(int)Math.min(to - from, (long)BigArrayUtil.COPY_BUFFER_SIZE)];
+        }
+
+        // Length of chunk from given index, bounded by blocks of this and given data and the temporary array.
+        private int chunk(long index, long to, Data other, float[] temp) {
+            return (int)Math.min((long)Math.min(Math.min(remaining(index), other.remaining(index)), temp.length),
+                    to - index);
+        }
+
+        public double sum(@Nullable Executor executor) {
+            return BigArrayUtil.reduce(0, length(), taskUnit(), executor, this::sum, (a, b) -> a + b);
+        }
+
+        public double sum(long from, long to) {
+            float[] temp = temp(from, to);
+            double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+            for (long i = from; i < to;) {
+                int n = chunk(i, to, this, temp);
+                float[] a = load(i, n, temp);
+                int j = a == temp ? 0 : offset(i);
+                int end = j + n;
+                // Independent accumulators let the loop be pipelined.
+                for (; j < end - 3; j += 4) {
+                    s0 += a[j];
+                    s1 += a[j + 1];
+                    s2 += a[j + 2];
+                    s3 += a[j + 3];
+                }
+                for (; j < end; j++) {
+                    s0 += a[j];
+                }
+                i += n;
+            }
+            return (s0 + s1) + (s2 + s3);
+        }
+
+        public float min(@Nullable Executor executor) throws NoSuchElementException {
+            if (0 == length()) {
+                throw new NoSuchElementException("Array is empty.");
+            }
+            return BigArrayUtil.reduce(0, length(), taskUnit(), executor, this::min, (a, b) -> Math.min(a, b));
+        }
+
+        public float min(long from, long to) {
+            float[] temp = temp(from, to);
+            float min = Float.POSITIVE_INFINITY;
+            for (long i = from; i < to;) {
+                int n = chunk(i, to, this, temp);
+                float[] a = load(i, n, temp);
+                int offset = a == temp ? 0 : offset(i);
+                for (int j = offset; j < offset + n; j++) {
+                    min = Math.min(min, a[j]);
+                }
+                i += n;
+            }
+            return min;
+        }
+
+        public float max(@Nullable Executor executor) throws NoSuchElementException {
+            if (0 == length()) {
+                throw new NoSuchElementException("Array is empty.");
+            }
+            return BigArrayUtil.reduce(0, length(), taskUnit(), executor, this::max, (a, b) -> Math.max(a, b));
+        }
+
+        public float max(long from, long to) {
+            float[] temp = temp(from, to);
+            float max = Float.NEGATIVE_INFINITY;
+            for (long i = from; i < to;) {
+                int n = chunk(i, to, this, temp);
+                float[] a = load(i, n, temp);
+                int offset = a == temp ? 0 : offset(i);
+                for (int j = offset; j < offset + n; j++) {
+                    max = Math.max(max, a[j]);
+                }
+                i += n;
+            }
+            return max;
+        }
+
+        public double dot(Data other, @Nullable Executor executor) {
+            return BigArrayUtil.reduce(0, length(), taskUnit(), executor, (from, to) -> dot(other, from, to),
+                    (a, b) -> a + b);
+        }
+
+        public double dot(Data other, long from, long to) {
+            float[] temp = temp(from, to);
+            float[] otherTemp = temp(from, to);
+            double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+            for (long i = from; i < to;) {
+                int n = chunk(i, to, other, temp);
+                float[] a = load(i, n, temp);
+                float[] b = other.load(i, n, otherTemp);
+                int j = a == temp ? 0 : offset(i);
+                int k = b == otherTemp ? 0 : other.offset(i);
+                int end = j + n;
+                for (; j < end - 3; j += 4, k += 4) {
+                    s0 += (double)a[j] * b[k];
+                    s1 += (double)a[j + 1] * b[k + 1];
+                    s2 += (double)a[j + 2] * b[k + 2];
+                    s3 += (double)a[j + 3] * b[k + 3];
+                }
+                for (; j < end; j++, k++) {
+                    s0 += (double)a[j] * b[k];
+                }
+                i += n;
+            }
+            return (s0 + s1) + (s2 + s3);
+        }
+
+        public void axpy(float k, Data other, @Nullable Executor executor) {
+            BigArrayUtil.parallel(0, length(), taskUnit(), executor, (from, to) -> axpy(k, other, from, to));
+        }
+
+        public void axpy(float k, Data other, long from, long to) {
+            float[] temp = temp(from, to);
+            float[] otherTemp = temp(from, to);
+            for (long i = from; i < to;) {
+                int n = chunk(i, to, other, temp);
+                float[] a = load(i, n, temp);
+                float[] b = other.load(i, n, otherTemp);
+                float[] c = target(i, temp);
+                int aOff = a == temp ? 0 : offset(i);
+                int bOff = b == otherTemp ? 0 : other.offset(i);
+                int cOff = c == temp ? 0 : offset(i);
+                for (int j = 0; j < n; j++) {
+                    c[cOff + j] = a[aOff + j] * k + b[bOff + j];
+                }
+                store(i, c, temp, n);
+                i += n;
+            }
+        }
+
+        public void map(DoubleUnaryOperator operator, @Nullable Executor executor) {
+            BigArrayUtil.parallel(0, length(), taskUnit(), executor, (from, to) -> map(operator, from, to));
+        }
+
+        public void map(DoubleUnaryOperator operator, long from, long to) {
+            float[] temp = temp(from, to);
+            for (long i = from; i < to;) {
+                int n = chunk(i, to, this, temp);
+                float[] a = load(i, n, temp);
+                float[] c = target(i, temp);
+                int aOff = a == temp ? 0 : offset(i);
+                int cOff = c == temp ? 0 : offset(i);
+                for (int j = 0; j < n; j++) {
+                    c[cOff + j] = (float)operator.applyAsDouble(a[aOff + j]);
+                }
+                store(i, c, temp, n);
+                i += n;
+            }
+        }
+
+        public void zipWith(Data other, DoubleBinaryOperator operator, @Nullable Executor executor) {
+            BigArrayUtil.parallel(0, length(), taskUnit(), executor, (from, to) -> zipWith(other, operator, from, to));
+        }
+
+        public void zipWith(Data other, DoubleBinaryOperator operator, long from, long to) {
+            float[] temp = temp(from, to);
+            float[] otherTemp = temp(from, to);
+            for (long i = from; i < to;) {
+                int n = chunk(i, to, other, temp);
+                float[] a = load(i, n, temp);
+                float[] b = other.load(i, n, otherTemp);
+                float[] c = target(i, temp);
+                int aOff = a == temp ? 0 : offset(i);
+                int bOff = b == otherTemp ? 0 : other.offset(i);
+                int cOff = c == temp ? 0 : offset(i);
+                for (int j = 0; j < n; j++) {
+                    c[cOff + j] = (float)operator.applyAsDouble(a[aOff + j], b[bOff + j]);
+                }
+                store(i, c, temp, n);
+                i += n;
+            }
+        }
+
+        // Returns block of given index to write results into, or given temporary array if the block cannot be written
+        // directly.
+        private float[] target(long index, float[] temp) {
+            float[] block = writable(index);
+            return null == block ? temp : block;
+        }
+
+        private void store(long index, float[] target, float[] temp, int length) {
+            if (target == temp) {
+                write(index, temp, 0, length);
+            }
+        }
+
+        public boolean allocated(long index) {
+            return null != block(index);
+        }
+
+        public long allocatedBytes() {
+            long bytes = 0;
+            for (long i = 0; i < length(); i += remaining(i)) {
+                if (allocated(i)) {
+                    bytes += (long)blockSize() * Float.BYTES;
+                }
+            }
+            return bytes;
+        }
+
+        public long allocatedBlocks() {
+            long blocks = 0;
+            for (long i = 0; i < length(); i += remaining(i)) {
+                if (allocated(i)) {
+                    blocks++;
+                }
+            }
+            return blocks;
+        }
+
+        public abstract Data clone();
+
+        public Data clone(Executor executor) {
+            Data clone = blank();
+            copy(0, clone, 0, length(), executor);
+            return clone;
+        }
+
+        public abstract Data blank();
+
+        public abstract float[] toArray();
+
+        public boolean isOffHeap() {
+            return false;
+        }
+
+        public void close() {
+        }
+
+        public void force() {
+        }
+    }
+
+    private static class ArrayWrapper extends Data {
+
+        private static final long serialVersionUID = 1L;
+
+        private final float[] source;
+
+        private int from;
+
+        private int length;
+
+        public ArrayWrapper(float[] source, int from, int to) {
+            this.source = source;
+            this.from = from;
+            this.length = to - from;
+        }
 
         @Override
-        public Float next() {
-            if (cur >= array.length()) {
-                throw new NoSuchElementException();
+        public int blockSize() {
+            return length;
+        }
+
+        @Override
+        public int taskUnit() {
+            return 1;
+        }
+
+        @Override
+        public float[] block(long index) {
+            return source;
+        }
+
+        @Override
+        public float[] allocate(long index) {
+            return source;
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index + from;
+        }
+
+        @Override
+        public int remaining(long index) {
+            return length - (int)index;
+        }
+
+        @Override
+        public float filler() {
+            return (float)0;
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public float get(int index) throws IndexOutOfBoundsException {
+            return source[index + from];
+        }
+
+        @Override
+        public void set(int index, float value) throws IndexOutOfBoundsException {
+            source[index + from] = value;
+        }
+
+        @Override
+        public float get(long index) throws IndexOutOfBoundsException {
+            return source[(int)index + from];
+        }
+
+        @Override
+        public void set(long index, float value) throws IndexOutOfBoundsException {
+            source[(int)index + from] = value;
+        }
+
+        @Override
+        public void fill(float value) {
+            Arrays.fill(source, from, from + length, value);
+        }
+
+        @Override
+        public void copy(long srcPos, Data dest, long destPos, long length)
+                throws NullPointerException, IndexOutOfBoundsException {
+            if (dest instanceof OfOneDimension) {
+                if (length == 0) {
+                    return;
+                }
+                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+                Checker.checkRangeIndexes(destPos, destPos + length, ((OfOneDimension)dest).source.length);
+                System.arraycopy(source, (int)srcPos + from, ((OfOneDimension)dest).source, (int)destPos, (int)length);
+            } else if (dest instanceof ArrayWrapper) {
+                if (length == 0) {
+                    return;
+                }
+                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+                System.arraycopy(source, (int)srcPos + from, ((ArrayWrapper)dest).source,
+                        (int)destPos + ((ArrayWrapper)dest).from, (int)length);
+            } else {
+                super.copy(srcPos, dest, destPos, length);
             }
-            return array.get(cur++);
+        }
+
+        @Override
+        public void forEach(long from, long to, DoubleConsumer action) {
+            for (int i = (int)from + this.from, end = (int)to + this.from; i < end; i++) {
+                action.accept(source[i]);
+            }
+        }
+
+        @Override
+        public Data clone() {
+            return new OfOneDimension(this);
+        }
+
+        @Override
+        public Data blank() {
+            return new OfOneDimension((int)length(), (float)0);
+        }
+
+        @Override
+        public float[] toArray() {
+            float[] ar = (float[])Array.newInstance(float.class, length);
+            System.arraycopy(source, from, ar, 0, length);
+            return ar;
         }
     }
 
-    private static class FloatArraySpliterator implements Spliterator<Float> {
+    /**
+     * <p>
+     * One dimension Implementation.
+     * </p>
+     *
+     * @author Fred Suvn
+     * @version 0.0.0, 2016-03-18T15:52:34+08:00
+     * @since 0.0.0, 2016-03-18T15:52:34+08:00
+     */
+    private static class OfOneDimension extends Data {
 
-        private FloatArray array;
+        private static final long serialVersionUID = 1L;
 
-        private long end;
+        private final float[] source;
+
+        public OfOneDimension(int length, float initial) {
+            source = new float[length];
+            if (0 != initial) {
+                Arrays.fill(source, initial);
+            }
+        }
+
+        public OfOneDimension(OfOneDimension copyFrom) {
+            this.source = copyFrom.source.clone();
+        }
+
+        public OfOneDimension(Data copyFrom) {
+            this((int)copyFrom.length(), (float)0);
+            copyFrom.copy(0, this, 0, (int)copyFrom.length());
+        }
+
+        @Override
+        public int blockSize() {
+            return source.length;
+        }
+
+        @Override
+        public int taskUnit() {
+            return 1;
+        }
+
+        @Override
+        public float[] block(long index) {
+            return source;
+        }
+
+        @Override
+        public float[] allocate(long index) {
+            return source;
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index;
+        }
+
+        @Override
+        public int remaining(long index) {
+            return source.length - (int)index;
+        }
+
+        @Override
+        public float filler() {
+            return (float)0;
+        }
+
+        @Override
+        public long length() {
+            return source.length;
+        }
+
+        @Override
+        public float get(int index) throws IndexOutOfBoundsException {
+            return source[index];
+        }
+
+        @Override
+        public void set(int index, float value) throws IndexOutOfBoundsException {
+            source[index] = value;
+        }
+
+        @Override
+        public float get(long index) throws IndexOutOfBoundsException {
+            return source[(int)index];
+        }
 
-        private long cur;
+        @Override
+        public void set(long index, float value) throws IndexOutOfBoundsException {
+            source[(int)index] = value;
+        }
 
-        public FloatArraySpliterator(FloatArray array, long start, long end) {
-            this.array = array;
-            this.cur = start;
-            this.end = end;
+        @Override
+        public void fill(float value) {
+            Arrays.fill(source, value);
         }
 
         @Override
-        public boolean tryAdvance(Consumer<? super Float> action) {
-            if (cur >= array.length()) {
-                return false;
+        public void copy(long srcPos, Data dest, long destPos, long length)
+                throws NullPointerException, IndexOutOfBoundsException {
+            if (dest instanceof OfOneDimension) {
+                if (length == 0) {
+                    return;
+                }
+                Checker.checkRangeIndexes(srcPos, srcPos + length, source.length);
+                Checker.checkRangeIndexes(destPos, destPos + length, ((OfOneDimension)dest).source.length);
+                System.arraycopy(source, (int)srcPos, ((OfOneDimension)dest).source, (int)destPos, (int)length);
+            } else if (dest instanceof ArrayWrapper) {
+                if (length == 0) {
+                    return;
+                }
+                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+                System.arraycopy(source, (int)srcPos, ((ArrayWrapper)dest).source,
+                        (int)destPos + ((ArrayWrapper)dest).from, (int)length);
+            } else {
+                super.copy(srcPos, dest, destPos, length);
             }
-            Quicker.require(action).accept(array.get(cur++));
-            return true;
         }
 
         @Override
-        public Spliterator<Float> trySplit() {
-            if (end - cur > BigArray.UNSPLITERATED_SIZE) {
-                return null;
+        public void forEach(long from, long to, DoubleConsumer action) {
+            for (int i = (int)from, end = (int)to; i < end; i++) {
+                action.accept(source[i]);
             }
-            long newStart = (end - cur) / 2;
-            this.cur = newStart;
-            return new FloatArraySpliterator(array, cur, newStart);
         }
 
         @Override
-        public long estimateSize() {
-            return end - cur;
+        public Data clone() {
+            return new OfOneDimension(this);
         }
 
         @Override
-        public int characteristics() {
-            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        public Data blank() {
+            return new OfOneDimension((int)length(), (float)0);
         }
 
+        @Override
+        public float[] toArray() {
+            float[] ar = (float[])Array.newInstance(float.class, source.length);
+            System.arraycopy(source, 0, ar, 0, source.length);
+            return ar;
+        }
     }
 
-    private static abstract class Data implements Serializable, Cloneable {
+    /**
+     * <p>
+     * Abstract two dimensions implementation.
+     * </p>
+     *
+     * @author Fred Suvn
+     * @version 0.0.0, 2016-03-22T10:18:37+08:00
+     * @since 0.0.0, 2016-03-22T10:18:37+08:00
+     */
+    private static class OfTwoDimensions extends Data {
 
         private static final long serialVersionUID = 1L;
 
-        public abstract int[] getDimensions();
-
-        public abstract long length();
-
-        public float get(int index) throws IndexOutOfBoundsException {
-            return get((long)index);
-        }
+        private final long length;
 
-        public void set(int index, float value) throws IndexOutOfBoundsException {
-            set((long)index, value);
-        }
+        private final int[] dimensions;
 
-        public abstract float get(long index) throws IndexOutOfBoundsException;
+        private final float[][] source;
 
-        public abstract void set(long index, float value) throws IndexOutOfBoundsException;
+        private float filler;
 
-        public abstract void fill(float value);
+        private boolean lazy;
 
-        public void copy(long srcPos, Data dest, long destPos, long length)
-                throws NullPointerException, IndexOutOfBoundsException {
-            if (length == 0) {
-                return;
-            }
-            Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-            Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
-            int[] dimensions = getDimensions();
-            int[] destDimensions = dest.getDimensions();
-            int[] srcMultiIndexes = new int[dimensions.length];
-            int[] destMultiIndexes = new int[destDimensions.length];
-            int sWide = dimensions[dimensions.length - 1];
-            int dWide = destDimensions[destDimensions.length - 1];
-            for (long i = 0; i < length;) {
-                BigArrayUtil.mapIndexes(srcPos + i, dimensions, srcMultiIndexes);
-                float[] sr = (float[])BigArrayUtil.getLastDimension(getBackedArray(), srcMultiIndexes);
-                int ys = (int)((srcPos + i) % sWide);
-                BigArrayUtil.mapIndexes(destPos + i, destDimensions, destMultiIndexes);
-                float[] dr = (float[])BigArrayUtil.getLastDimension(dest.getBackedArray(), destMultiIndexes);
-                int yd = (int)((destPos + i) % dWide);
-                int copyLength = Math.min(sWide - ys, dWide - yd);
-                copyLength = (int)Math.min((long)copyLength, length - i);
-                if (sr != null) {
-                    if (dr == null) {
-                        // One-dimensional backed array is never null.
-                        dr = (float[])BigArrayUtil.alloc(dest.getBackedArray(), float.class, destDimensions,
-                                destMultiIndexes);
-                    }
-                    System.arraycopy(sr, ys, dr, yd, copyLength);
-                }
-                i += copyLength;
+        public OfTwoDimensions(long length, int[] dimensions, float initial, boolean lazy) {
+            this.length = length;
+            this.dimensions = dimensions;
+            this.lazy = lazy;
+            if (lazy) {
+                source = new float[dimensions[0]][];
+            } else {
+                source = new float[dimensions[0]][dimensions[1]];
             }
+            fill(initial);
         }
 
-        public abstract Data clone();
-
-        public abstract float[] toArray();
-
-        public abstract Object getBackedArray();
-    }
-
-    private static class ArrayWrapper extends Data {
-
-        private static final long serialVersionUID = 1L;
-
-        private final float[] source;
+        public OfTwoDimensions(OfTwoDimensions copyFrom) {
+            this(copyFrom.length, copyFrom.dimensions, copyFrom.filler, copyFrom.lazy);
+            copyFrom.copy(0, this, 0, length);
+        }
 
-        private int from;
+        @Override
+        public int blockSize() {
+            return dimensions[1];
+        }
 
-        private int length;
+        @Override
+        public float[] block(long index) {
+            return source[(int)(index / dimensions[1])];
+        }
 
-        public ArrayWrapper(float[] source, int from, int to) {
-            this.source = source;
-            this.from = from;
-            this.length = to - from;
+        @Override
+        public float[] allocate(long index) {
+            int x = (int)(index / dimensions[1]);
+            if (null == source[x]) {
+                source[x] = new float[dimensions[1]];
+                if (Float.floatToRawIntBits(filler) != 0) {
+                    Arrays.fill(source[x], filler);
+                }
+            }
+            return source[x];
         }
 
         @Override
-        public int[] getDimensions() {
-            return null;
+        public int offset(long index) {
+            return (int)(index % dimensions[1]);
         }
 
         @Override
-        public long length() {
-            return length;
+        public int remaining(long index) {
+            return dimensions[1] - (int)(index % dimensions[1]);
         }
 
         @Override
-        public float get(int index) throws IndexOutOfBoundsException {
-            return source[index + from];
+        public float filler() {
+            return filler;
         }
 
         @Override
-        public void set(int index, float value) throws IndexOutOfBoundsException {
-            source[index + from] = value;
+        public long length() {
+            return length;
         }
 
         @Override
         public float get(long index) throws IndexOutOfBoundsException {
-            return source[(int)index + from];
+            Checker.checkIndex(index, length);
+            int x = (int)(index / dimensions[1]);
+            return null == source[x] ? filler : source[x][(int)(index % dimensions[1])];
         }
 
         @Override
         public void set(long index, float value) throws IndexOutOfBoundsException {
-            source[(int)index + from] = value;
+            Checker.checkIndex(index, length);
+            int x = (int)(index / dimensions[1]);
+            if (source[x] == null) {
+                if (isFiller(value, filler)) {
+                    return;
+                } else {
+                    source[x] = new float[dimensions[1]];
+                    if (Float.floatToRawIntBits(filler) != 0) {
+                        Arrays.fill(source[x], filler);
+                    }
+                }
+            }
+            int y = (int)(index % dimensions[1]);
+            source[x][y] = value;
         }
 
         @Override
         public void fill(float value) {
-            Arrays.fill(source, from, from + length, value);
+            this.filler = value;
+            for (int i = 0; i < source.length; i++) {
+                fillBlock(i, value);
+            }
         }
 
-        @Override
-        public void copy(long srcPos, Data dest, long destPos, long length)
-                throws NullPointerException, IndexOutOfBoundsException {
-            if (dest instanceof OfOneDimension) {
-                if (length == 0) {
+        private void fillBlock(int block, float value) {
+            if (null == source[block]) {
+                if (isFiller(value, this.filler)) {
                     return;
                 }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-                Checker.checkRangeIndexes(destPos, destPos + length, ((OfOneDimension)dest).source.length);
-                System.arraycopy(source, (int)srcPos + from, ((OfOneDimension)dest).source, (int)destPos, (int)length);
-            } else if (dest instanceof ArrayWrapper) {
-                if (length == 0) {
-                    return;
+                source[block] = new float[dimensions[1]];
+            }
+            Arrays.fill(source[block], value);
+        }
+
+        @Override
+        public void forEach(long from, long to, DoubleConsumer action) {
+            for (long i = from; i < to;) {
+                int x = (int)(i / dimensions[1]);
+                int y = (int)(i % dimensions[1]);
+                int end = (int)Math.min((long)dimensions[1], y + (to - i));
+                float[] block = source[x];
+                if (null == block) {
+                    for (int j = y; j < end; j++) {
+                        action.accept(filler);
+                    }
+                } else {
+                    for (int j = y; j < end; j++) {
+                        action.accept(block[j]);
+                    }
                 }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
-                System.arraycopy(source, (int)srcPos + from, ((ArrayWrapper)dest).source,
-                        (int)destPos + ((ArrayWrapper)dest).from, (int)length);
-            } else {
-                super.copy(srcPos, dest, destPos, length);
+                i += end - y;
             }
         }
 
         @Override
         public Data clone() {
-            return new OfOneDimension(this);
+            return new OfTwoDimensions(this);
         }
 
         @Override
-        public float[] toArray() {
-            float[] ar = (float[])Array.newInstance(float.class, length);
-            System.arraycopy(source, from, ar, 0, length);
-            return ar;
+        public void fill(float value, Executor executor) {
+            this.filler = value;
+            super.fill(value, executor);
         }
 
         @Override
-        public Object getBackedArray() {
-            return source;
+        public Data blank() {
+            OfTwoDimensions blank = new OfTwoDimensions(length, dimensions, filler, true);
+            blank.lazy = lazy;
+            return blank;
+        }
+
+        @Override
+        public float[] toArray() {
+            return new OfOneDimension(this).toArray();
         }
     }
 
     /**
      * <p>
-     * One dimension Implementation.
+     * Paged implementation for length which exceeds capacity of two dimensions. Elements are stored in blocks of which
+     * size is power of 2, and blocks are referenced by pages of which size is also power of 2, so any index is mapped
+     * to its page, block and offset by shifting and masking, without allocation or reflection. Specified block size is
+     * rounded down to power of 2.
      * </p>
      *
      * @author Fred Suvn
-     * @version 0.0.0, 2016-03-18T15:52:34+08:00
-     * @since 0.0.0, 2016-03-18T15:52:34+08:00
+     * @version 0.0.0, 2026-10-16T10:12:08+08:00
+     * @since 0.0.0, 2026-10-16T10:12:08+08:00
      */
-    private static class OfOneDimension extends Data {
+    private static class OfPages extends Data {
 
         private static final long serialVersionUID = 1L;
 
-        private final float[] source;
+        private final long length;
 
-        private final int[] dimensions;
+        private final int blockShift;
 
-        public OfOneDimension(int length, float initial) {
-            source = new float[length];
-            if (0 != initial) {
-                Arrays.fill(source, initial);
+        private final int pageShift;
+
+        private final float[][][] source;
+
+        private float filler;
+
+        private boolean lazy;
+
+        public OfPages(long length, int blockSize, float initial, boolean lazy) {
+            this.length = length;
+            this.blockShift = BigArrayUtil.blockShift(blockSize);
+            long blocks = ((length - 1) >>> blockShift) + 1;
+            this.pageShift = BigArrayUtil.pageShift(blocks, blockShift);
+            this.lazy = lazy;
+            source = new float[(int)(((blocks - 1) >>> pageShift) + 1)][][];
+            if (!lazy) {
+                for (long b = 0; b < blocks; b++) {
+                    allocate(b << blockShift);
+                }
             }
-            this.dimensions = new int[]{(int)source.length};
+            fill(initial);
         }
 
-        public OfOneDimension(OfOneDimension copyFrom) {
-            this.source = copyFrom.source.clone();
-            this.dimensions = new int[]{(int)source.length};
+        public OfPages(OfPages copyFrom) {
+            this(copyFrom.length, 1 << copyFrom.blockShift, copyFrom.filler, copyFrom.lazy);
+            copyFrom.copy(0, this, 0, length);
         }
 
-        public OfOneDimension(Data copyFrom) {
-            this((int)copyFrom.length(), (float)0);
-            copyFrom.copy(0, this, 0, (int)copyFrom.length());
+        @Override
+        public int blockSize() {
+            return 1 << blockShift;
         }
 
         @Override
-        public int[] getDimensions() {
-            return dimensions;
+        public long length() {
+            return length;
         }
 
         @Override
-        public long length() {
-            return source.length;
+        public float[] block(long index) {
+            long b = index >>> blockShift;
+            float[][] page = source[(int)(b >>> pageShift)];
+            return null == page ? null : page[(int)b & ((1 << pageShift) - 1)];
         }
 
         @Override
-        public float get(int index) throws IndexOutOfBoundsException {
-            return source[index];
+        public float[] allocate(long index) {
+            long b = index >>> blockShift;
+            int p = (int)(b >>> pageShift);
+            if (null == source[p]) {
+                allocatePage(p);
+            }
+            int x = (int)b & ((1 << pageShift) - 1);
+            if (null == source[p][x]) {
+                source[p][x] = new float[1 << blockShift];
+                if (Float.floatToRawIntBits(filler) != 0) {
+                    Arrays.fill(source[p][x], filler);
+                }
+            }
+            return source[p][x];
+        }
+
+        private synchronized void allocatePage(int page) {
+            // Blocks of a same page may be allocated by concurrent tasks of parallel operations.
+            if (null == source[page]) {
+                source[page] = new float[1 << pageShift][];
+            }
         }
 
         @Override
-        public void set(int index, float value) throws IndexOutOfBoundsException {
-            source[index] = value;
+        public int offset(long index) {
+            return (int)index & ((1 << blockShift) - 1);
         }
 
         @Override
-        public float get(long index) throws IndexOutOfBoundsException {
-            return source[(int)index];
+        public int remaining(long index) {
+            return (1 << blockShift) - ((int)index & ((1 << blockShift) - 1));
         }
 
         @Override
-        public void set(long index, float value) throws IndexOutOfBoundsException {
-            source[(int)index] = value;
+        public float filler() {
+            return filler;
         }
 
         @Override
-        public void fill(float value) {
-            Arrays.fill(source, value);
+        public float get(long index) throws IndexOutOfBoundsException {
+            Checker.checkIndex(index, length);
+            float[] block = block(index);
+            return null == block ? filler : block[(int)index & ((1 << blockShift) - 1)];
+        }
+
+        @Override
+        public void set(long index, float value) throws IndexOutOfBoundsException {
+            Checker.checkIndex(index, length);
+            float[] block = block(index);
+            if (null == block) {
+                if (isFiller(value, filler)) {
+                    return;
+                }
+                block = allocate(index);
+            }
+            block[(int)index & ((1 << blockShift) - 1)] = value;
         }
 
         @Override
-        public void copy(long srcPos, Data dest, long destPos, long length)
-                throws NullPointerException, IndexOutOfBoundsException {
-            if (dest instanceof OfOneDimension) {
-                if (length == 0) {
-                    return;
+        public void fill(float value) {
+            this.filler = value;
+            for (float[][] page : source) {
+                if (null == page) {
+                    continue;
                 }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, source.length);
-                Checker.checkRangeIndexes(destPos, destPos + length, ((OfOneDimension)dest).source.length);
-                System.arraycopy(source, (int)srcPos, ((OfOneDimension)dest).source, (int)destPos, (int)length);
-            } else if (dest instanceof ArrayWrapper) {
-                if (length == 0) {
-                    return;
+                for (float[] block : page) {
+                    if (null != block) {
+                        Arrays.fill(block, value);
+                    }
                 }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
-                System.arraycopy(source, (int)srcPos, ((ArrayWrapper)dest).source,
-                        (int)destPos + ((ArrayWrapper)dest).from, (int)length);
-            } else {
-                super.copy(srcPos, dest, destPos, length);
             }
         }
 
         @Override
         public Data clone() {
-            return new OfOneDimension(this);
+            return new OfPages(this);
         }
 
         @Override
-        public float[] toArray() {
-            float[] ar = (float[])Array.newInstance(float.class, source.length);
-            System.arraycopy(source, 0, ar, 0, source.length);
-            return ar;
+        public void fill(float value, Executor executor) {
+            this.filler = value;
+            super.fill(value, executor);
         }
 
         @Override
-        public Object getBackedArray() {
-            return source;
+        public Data blank() {
+            OfPages blank = new OfPages(length, 1 << blockShift, filler, true);
+            blank.lazy = lazy;
+            return blank;
+        }
+
+        @Override
+        public float[] toArray() {
+            return new OfOneDimension(this).toArray();
         }
     }
 
     /**
      * <p>
-     * Abstract two dimensions implementation.
+     * Off-heap implementation. Elements are stored in direct buffers out of java heap or buffers mapped from a file,
+     * each buffer is a block of which size is power of 2. Buffers are released by {@linkplain #close()}, or when this
+     * instance is garbage collected.
      * </p>
      *
      * @author Fred Suvn
-     * @version 0.0.0, 2016-03-22T10:18:37+08:00
-     * @since 0.0.0, 2016-03-22T10:18:37+08:00
+     * @version 0.0.0, 2026-10-16T11:05:47+08:00
+     * @since 0.0.0, 2026-10-16T11:05:47+08:00
      */
-    private static class OfTwoDimensions extends Data {
+    private static class OfBuffers extends Data {
 
         private static final long serialVersionUID = 1L;
 
         private final long length;
 
-        private final int[] dimensions;
+        private final int blockShift;
 
-        private final float[][] source;
+        private transient ByteBuffer[] memory;
+
+        private transient FloatBuffer[] buffers;
 
         private float filler;
 
         private boolean lazy;
 
-        public OfTwoDimensions(long length, int[] dimensions, float initial, boolean lazy) {
+        public OfBuffers(long length, int blockSize, float initial, boolean lazy) {
             this.length = length;
-            this.dimensions = dimensions;
+            this.blockShift = BigArrayUtil.offHeapBlockShift(length, blockSize, Float.BYTES);
+            int blocks = (int)((length + (1L << blockShift) - 1) >>> blockShift);
+            this.memory = new ByteBuffer[blocks];
+            this.buffers = new FloatBuffer[blocks];
             this.lazy = lazy;
-            if (lazy) {
-                source = new float[dimensions[0]][];
-            } else {
-                source = new float[dimensions[0]][dimensions[1]];
+            if (!lazy) {
+                for (long b = 0; b < blocks; b++) {
+                    allocateBuffer(b << blockShift);
+                }
             }
             fill(initial);
         }
 
-        public OfTwoDimensions(OfTwoDimensions copyFrom) {
-            this(copyFrom.length, copyFrom.dimensions, copyFrom.filler, copyFrom.lazy);
+        public OfBuffers(OfBuffers copyFrom) {
+            this(copyFrom.length, 1 << copyFrom.blockShift, copyFrom.filler, copyFrom.lazy);
             copyFrom.copy(0, this, 0, length);
         }
 
+        public OfBuffers(long length, int blockShift, ByteBuffer[] memory) {
+            this.length = length;
+            this.blockShift = blockShift;
+            this.memory = memory;
+            this.buffers = new FloatBuffer[memory.length];
+            this.lazy = true;
+            for (int b = 0; b < memory.length; b++) {
+                buffers[b] = memory[b].asFloatBuffer();
+            }
+        }
+
+        private FloatBuffer[] buffers() {
+            FloatBuffer[] buffers = this.buffers;
+            if (null == buffers) {
+                throw new IllegalStateException("Off-heap array has been closed.");
+            }
+            return buffers;
+        }
+
+        private FloatBuffer buffer(long index) {
+            return buffers()[(int)(index >>> blockShift)];
+        }
+
+        private FloatBuffer allocateBuffer(long index) {
+            FloatBuffer buffer = buffer(index);
+            if (null == buffer) {
+                int b = (int)(index >>> blockShift);
+                int size = (int)Math.min(1L << blockShift, length - ((long)b << blockShift));
+                ByteBuffer m = ByteBuffer.allocateDirect(size * Float.BYTES).order(ByteOrder.nativeOrder());
+                buffer = m.asFloatBuffer();
+                if (Float.floatToRawIntBits(filler) != 0) {
+                    fillBuffer(buffer, 0, size, filler);
+                }
+                memory[b] = m;
+                buffers[b] = buffer;
+            }
+            return buffer;
+        }
+
+        private static void fillBuffer(FloatBuffer buffer, int from, int to, float value) {
+            for (int i = from; i < to; i++) {
+                buffer.put(i, value);
+            }
+        }
+
         @Override
-        public int[] getDimensions() {
-            return dimensions;
+        public void read(long index, float[] dest, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long s = index + i;
+                int n = Math.min(remaining(s), length - i);
+                FloatBuffer buffer = buffer(s);
+                if (null == buffer) {
+                    Arrays.fill(dest, offset + i, offset + i + n, filler);
+                } else {
+                    FloatBuffer view = buffer.duplicate();
+                    view.position(offset(s));
+                    view.get(dest, offset + i, n);
+                }
+                i += n;
+            }
+        }
+
+        @Override
+        public void write(long index, float[] src, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long d = index + i;
+                int n = Math.min(remaining(d), length - i);
+                FloatBuffer view = allocateBuffer(d).duplicate();
+                view.position(offset(d));
+                view.put(src, offset + i, n);
+                i += n;
+            }
+        }
+
+        @Override
+        public int blockSize() {
+            return 1 << blockShift;
+        }
+
+        @Override
+        public float[] block(long index) {
+            throw new UnsupportedOperationException("Off-heap array is not backed by array.");
+        }
+
+        @Override
+        public float[] allocate(long index) {
+            throw new UnsupportedOperationException("Off-heap array is not backed by array.");
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index & ((1 << blockShift) - 1);
+        }
+
+        @Override
+        public int remaining(long index) {
+            return (1 << blockShift) - ((int)index & ((1 << blockShift) - 1));
+        }
+
+        @Override
+        public float filler() {
+            return filler;
         }
 
         @Override
@@ -728,79 +3022,226 @@ public class FloatArray extends BigArray implements Iterable<Float>, Cloneable {
         @Override
         public float get(long index) throws IndexOutOfBoundsException {
             Checker.checkIndex(index, length);
-            int x = (int)(index / dimensions[1]);
-            return null == source[x] ? filler : source[x][(int)(index % dimensions[1])];
+            FloatBuffer buffer = buffer(index);
+            return null == buffer ? filler : buffer.get((int)index & ((1 << blockShift) - 1));
         }
 
         @Override
         public void set(long index, float value) throws IndexOutOfBoundsException {
             Checker.checkIndex(index, length);
-            int x = (int)(index / dimensions[1]);
-            if (source[x] == null) {
-                if (value == filler) {
+            FloatBuffer buffer = buffer(index);
+            if (null == buffer) {
+                if (isFiller(value, filler)) {
                     return;
-                } else {
-                    source[x] = new float[dimensions[1]];
-                    if (0 != filler) {
-                        Arrays.fill(source[x], filler);
-                    }
                 }
+                buffer = allocateBuffer(index);
             }
-            int y = (int)(index % dimensions[1]);
-            source[x][y] = value;
+            buffer.put((int)index & ((1 << blockShift) - 1), value);
         }
 
         @Override
         public void fill(float value) {
+            FloatBuffer[] buffers = buffers();
             this.filler = value;
-            for (int i = 0; i < source.length; i++) {
-                fillBlock(i, value);
+            for (FloatBuffer buffer : buffers) {
+                if (null != buffer) {
+                    fillBuffer(buffer, 0, buffer.capacity(), value);
+                }
             }
         }
 
-        private void fillBlock(int block, float value) {
-            if (null == source[block]) {
-                if (this.filler == value) {
-                    return;
+        @Override
+        public void fill(long from, long to, float value) {
+            for (long i = from; i < to;) {
+                int n = (int)Math.min((long)remaining(i), to - i);
+                FloatBuffer buffer = buffer(i);
+                if (null == buffer) {
+                    if (isFiller(value, filler)) {
+                        i += n;
+                        continue;
+                    }
+                    buffer = allocateBuffer(i);
                 }
-                source[block] = new float[dimensions[1]];
+                int offset = offset(i);
+                fillBuffer(buffer, offset, offset + n, value);
+                i += n;
+            }
+        }
+
+        @Override
+        public void forEach(long from, long to, DoubleConsumer action) {
+            for (long i = from; i < to;) {
+                int offset = offset(i);
+                int end = offset + (int)Math.min((long)remaining(i), to - i);
+                FloatBuffer buffer = buffer(i);
+                if (null == buffer) {
+                    for (int j = offset; j < end; j++) {
+                        action.accept(filler);
+                    }
+                } else {
+                    for (int j = offset; j < end; j++) {
+                        action.accept(buffer.get(j));
+                    }
+                }
+                i += end - offset;
             }
-            Arrays.fill(source[block], value);
         }
 
         @Override
         public void copy(long srcPos, Data dest, long destPos, long length)
                 throws NullPointerException, IndexOutOfBoundsException {
-            if (dest instanceof OfTwoDimensions) {
-                if (length == 0) {
-                    return;
+            if (length == 0) {
+                return;
+            }
+            Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+            Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+            if (dest == this && srcPos < destPos + length && destPos < srcPos + length) {
+                // Overlapped, copies through a temporary array.
+                float[] temp = new float[(int)Math.min(length, (long)BigArrayUtil.COPY_BUFFER_SIZE)];
+                if (srcPos < destPos) {
+                    for (long i = length; i > 0;) {
+                        int n = (int)Math.min((long)temp.length, i);
+                        i -= n;
+                        read(srcPos + i, temp, 0, n);
+                        write(destPos + i, temp, 0, n);
+                    }
+                } else {
+                    for (long i = 0; i < length;) {
+                        int n = (int)Math.min((long)temp.length, length - i);
+                        read(srcPos + i, temp, 0, n);
+                        write(destPos + i, temp, 0, n);
+                        i += n;
+                    }
                 }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
-                OfTwoDimensions d = (OfTwoDimensions)dest;
-                for (long i = 0; i < length;) {
-                    int xs = (int)((srcPos + i) / dimensions[1]);
-                    int ys = (int)((srcPos + i) % dimensions[1]);
-                    int xd = (int)((destPos + i) / d.dimensions[1]);
-                    int yd = (int)((destPos + i) % d.dimensions[1]);
-                    int copyLength = Math.min(dimensions[1] - ys, d.dimensions[1] - yd);
-                    copyLength = (int)Math.min((long)copyLength, length - i);
-                    if (source[xs] != null) {
-                        if (d.source[xd] == null) {
-                            d.source[xd] = new float[d.dimensions[1]];
+                return;
+            }
+            for (long i = 0; i < length;) {
+                long s = srcPos + i;
+                long d = destPos + i;
+                int n = (int)Math.min((long)Math.min(remaining(s), dest.remaining(d)), length - i);
+                FloatBuffer buffer = buffer(s);
+                if (null == buffer) {
+                    dest.fill(d, d + n, filler);
+                } else if (dest instanceof OfBuffers) {
+                    FloatBuffer view = buffer.duplicate();
+                    view.position(offset(s));
+                    view.limit(offset(s) + n);
+                    FloatBuffer to = ((OfBuffers)dest).allocateBuffer(d).duplicate();
+                    to.position(dest.offset(d));
+                    to.put(view);
+                } else if (dest instanceof OfSparse) {
+                    // Sparse array counts elements when they are written.
+                    float[] temp = new float[Math.min(n, BigArrayUtil.COPY_BUFFER_SIZE)];
+                    for (int j = 0; j < n;) {
+                        int m = Math.min(temp.length, n - j);
+                        read(s + j, temp, 0, m);
+                        dest.write(d + j, temp, 0, m);
+                        j += m;
+                    }
+                } else {
+                    read(s, dest.allocate(d), dest.offset(d), n);
+                }
+                i += n;
+            }
+        }
+
+        @Override
+        public boolean isOffHeap() {
+            return true;
+        }
+
+        @Override
+        public void forEachNonDefault(EachDoubleConsumer action) {
+            for (long i = 0; i < length;) {
+                int n = (int)Math.min((long)remaining(i), length - i);
+                FloatBuffer buffer = buffer(i);
+                if (null != buffer) {
+                    int offset = offset(i);
+                    for (int j = 0; j < n; j++) {
+                        float value = buffer.get(offset + j);
+                        if (!isFiller(value, filler)) {
+                            action.accept(i + j, value);
                         }
-                        System.arraycopy(source[xs], ys, d.source[xd], yd, copyLength);
                     }
-                    i += copyLength;
                 }
-            } else {
-                super.copy(srcPos, dest, destPos, length);
+                i += n;
+            }
+        }
+
+        @Override
+        public boolean allocated(long index) {
+            return null != buffer(index);
+        }
+
+        @Override
+        public float[] readable(long index) {
+            return null;
+        }
+
+        @Override
+        public float[] writable(long index) {
+            return null;
+        }
+
+        @Override
+        public long allocatedBytes() {
+            ByteBuffer[] memory = this.memory;
+            long bytes = 0;
+            if (null != memory) {
+                for (ByteBuffer m : memory) {
+                    if (null != m) {
+                        bytes += m.capacity();
+                    }
+                }
+            }
+            return bytes;
+        }
+
+        @Override
+        public void close() {
+            ByteBuffer[] memory = this.memory;
+            if (null == memory) {
+                return;
+            }
+            this.buffers = null;
+            this.memory = null;
+            for (ByteBuffer m : memory) {
+                if (null != m) {
+                    BigArrayUtil.free(m);
+                }
+            }
+        }
+
+        @Override
+        public void force() {
+            ByteBuffer[] memory = this.memory;
+            if (null == memory) {
+                throw new IllegalStateException("Off-heap array has been closed.");
+            }
+            for (ByteBuffer m : memory) {
+                if (m instanceof MappedByteBuffer && !m.isReadOnly()) {
+                    ((MappedByteBuffer)m).force();
+                }
             }
         }
 
         @Override
         public Data clone() {
-            return new OfTwoDimensions(this);
+            return new OfBuffers(this);
+        }
+
+        @Override
+        public void fill(float value, Executor executor) {
+            buffers();
+            this.filler = value;
+            super.fill(value, executor);
+        }
+
+        @Override
+        public Data blank() {
+            OfBuffers blank = new OfBuffers(length, 1 << blockShift, filler, true);
+            blank.lazy = lazy;
+            return blank;
         }
 
         @Override
@@ -808,55 +3249,119 @@ public class FloatArray extends BigArray implements Iterable<Float>, Cloneable {
             return new OfOneDimension(this).toArray();
         }
 
-        @Override
-        public Object getBackedArray() {
-            return source;
+        private Object writeReplace() {
+            Data data = createData(length, 1 << blockShift, filler, lazy);
+            copy(0, data, 0, length);
+            return data;
         }
     }
 
     /**
      * <p>
-     * Multi-dimensions implementation.
+     * Sparse implementation. Elements are stored in blocks of which size is power of 2, and number of elements which
+     * are not equal to filler is counted for each block. A block is allocated when an element not equal to filler is
+     * written into it, and freed when all of its elements are equal to filler again.
      * </p>
      *
      * @author Fred Suvn
-     * @version 0.0.0, 2016-03-18T15:52:54+08:00
-     * @since 0.0.0, 2016-03-18T15:52:54+08:00
+     * @version 0.0.0, 2026-10-16T14:10:52+08:00
+     * @since 0.0.0, 2026-10-16T14:10:52+08:00
      */
-    private static class OfMultiDimensions extends Data {
+    private static class OfSparse extends Data {
 
         private static final long serialVersionUID = 1L;
 
         private final long length;
 
-        private final int[] dimensions;
+        private final int blockShift;
 
-        private final Object source;
+        private final float[][] source;
 
-        private float filler;
+        private final int[] counts;
 
-        private boolean lazy;
+        private float filler;
 
-        public OfMultiDimensions(long length, int[] dimensions, float initial, boolean lazy) {
+        public OfSparse(long length, int blockSize, float filler) {
             this.length = length;
-            this.dimensions = dimensions;
-            this.lazy = lazy;
-            if (lazy) {
-                source = new Object[dimensions[0]];
-            } else {
-                source = Array.newInstance(float.class, dimensions);
+            this.blockShift = BigArrayUtil.blockShift(length, blockSize);
+            int blocks = (int)((length + (1L << blockShift) - 1) >>> blockShift);
+            this.source = new float[blocks][];
+            this.counts = new int[blocks];
+            this.filler = filler;
+        }
+
+        public OfSparse(OfSparse copyFrom) {
+            this.length = copyFrom.length;
+            this.blockShift = copyFrom.blockShift;
+            this.source = new float[copyFrom.source.length][];
+            for (int b = 0; b < source.length; b++) {
+                if (null != copyFrom.source[b]) {
+                    source[b] = copyFrom.source[b].clone();
+                }
             }
-            fill(initial);
+            this.counts = copyFrom.counts.clone();
+            this.filler = copyFrom.filler;
         }
 
-        public OfMultiDimensions(OfMultiDimensions copyFrom) {
-            this(copyFrom.length, copyFrom.dimensions, copyFrom.filler, copyFrom.lazy);
-            copyFrom.copy(0, this, 0, length);
+        private static int count(float[] array, int from, int to, float filler) {
+            int count = 0;
+            for (int i = from; i < to; i++) {
+                if (!isFiller(array[i], filler)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        private float[] newBlock(int b) {
+            float[] block = new float[(int)Math.min(1L << blockShift, length - ((long)b << blockShift))];
+            if (Float.floatToRawIntBits(filler) != 0) {
+                Arrays.fill(block, filler);
+            }
+            source[b] = block;
+            return block;
+        }
+
+        private void updateCount(int b, int count) {
+            counts[b] = count;
+            if (0 == count) {
+                source[b] = null;
+            }
+        }
+
+        @Override
+        public int blockSize() {
+            return 1 << blockShift;
+        }
+
+        @Override
+        public float[] block(long index) {
+            return source[(int)(index >>> blockShift)];
+        }
+
+        @Override
+        public float[] allocate(long index) {
+            throw new UnsupportedOperationException("Sparse array counts elements when they are written.");
+        }
+
+        @Override
+        public float[] writable(long index) {
+            return null;
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index & ((1 << blockShift) - 1);
+        }
+
+        @Override
+        public int remaining(long index) {
+            return (1 << blockShift) - ((int)index & ((1 << blockShift) - 1));
         }
 
         @Override
-        public int[] getDimensions() {
-            return dimensions;
+        public float filler() {
+            return filler;
         }
 
         @Override
@@ -867,78 +3372,112 @@ public class FloatArray extends BigArray implements Iterable<Float>, Cloneable {
         @Override
         public float get(long index) throws IndexOutOfBoundsException {
             Checker.checkIndex(index, length);
-            int[] indexes = new int[dimensions.length];
-            BigArrayUtil.mapMultiIndexes(index, dimensions, indexes);
-            float[] array = (float[])BigArrayUtil.getLastDimension(source, indexes);
-            if (array == null) {
-                return filler;
-            } else {
-                return array[indexes[indexes.length - 1]];
-            }
+            float[] block = block(index);
+            return null == block ? filler : block[(int)index & ((1 << blockShift) - 1)];
         }
 
         @Override
         public void set(long index, float value) throws IndexOutOfBoundsException {
             Checker.checkIndex(index, length);
-            int[] indexes = new int[dimensions.length];
-            BigArrayUtil.mapMultiIndexes(index, dimensions, indexes);
-            float[] array = (float[])BigArrayUtil.getLastDimension(source, indexes);
-            if (array == null) {
-                if (value == filler) {
+            int b = (int)(index >>> blockShift);
+            float[] block = source[b];
+            if (null == block) {
+                if (isFiller(value, filler)) {
                     return;
-                } else {
-                    array = (float[])BigArrayUtil.alloc(source, float.class, dimensions, indexes);
-                    if (0 != filler) {
-                        Arrays.fill(array, filler);
-                    }
                 }
+                block = newBlock(b);
+            }
+            int offset = (int)index & ((1 << blockShift) - 1);
+            float old = block[offset];
+            block[offset] = value;
+            if (isFiller(old, filler)) {
+                if (!isFiller(value, filler)) {
+                    counts[b]++;
+                }
+            } else if (isFiller(value, filler)) {
+                updateCount(b, counts[b] - 1);
             }
-            array[indexes[indexes.length - 1]] = value;
         }
 
         @Override
         public void fill(float value) {
             this.filler = value;
-            fillMultiArray((Object[])source, value, 0);
+            Arrays.fill(source, null);
+            Arrays.fill(counts, 0);
         }
 
-        private void fillMultiArray(Object[] array, float value, int dimension) {
-            if (dimension == dimensions.length - 2) {
-                for (int i = 0; i < array.length; i++) {
-                    if (null == array[i]) {
-                        if (this.filler == value) {
-                            continue;
-                        }
-                        array[i] = new float[dimension + 1];
+        @Override
+        public void fill(float value, Executor executor) {
+            fill(value);
+        }
+
+        @Override
+        public void fill(long from, long to, float value) {
+            for (long i = from; i < to;) {
+                int b = (int)(i >>> blockShift);
+                int offset = offset(i);
+                int n = (int)Math.min((long)remaining(i), to - i);
+                float[] block = source[b];
+                if (null == block) {
+                    if (isFiller(value, filler)) {
+                        i += n;
+                        continue;
                     }
-                    Arrays.fill((float[])array[i], value);
+                    block = newBlock(b);
                 }
-            } else {
-                for (int i = 0; i < array.length; i++) {
-                    if (null == array[i]) {
-                        if (this.filler == value) {
-                            continue;
-                        }
-                        array[i] = new Object[dimension + 1];
+                int count = counts[b] - count(block, offset, offset + n, filler);
+                Arrays.fill(block, offset, offset + n, value);
+                updateCount(b, isFiller(value, filler) ? count : count + n);
+                i += n;
+            }
+        }
+
+        @Override
+        public void write(long index, float[] src, int offset, int length) {
+            for (int i = 0; i < length;) {
+                long d = index + i;
+                int b = (int)(d >>> blockShift);
+                int n = Math.min(remaining(d), length - i);
+                float[] block = source[b];
+                if (null == block) {
+                    if (0 == count(src, offset + i, offset + i + n, filler)) {
+                        i += n;
+                        continue;
                     }
-                    fillMultiArray((Object[])array[i], value, dimension + 1);
+                    block = newBlock(b);
+                }
+                int o = offset(d);
+                int count = counts[b] - count(block, o, o + n, filler);
+                System.arraycopy(src, offset + i, block, o, n);
+                updateCount(b, count + count(block, o, o + n, filler));
+                i += n;
+            }
+        }
+
+        @Override
+        public long allocatedBytes() {
+            long bytes = 0;
+            for (float[] block : source) {
+                if (null != block) {
+                    bytes += block.length;
                 }
             }
+            return bytes * Float.BYTES;
         }
 
         @Override
         public Data clone() {
-            return new OfMultiDimensions(this);
+            return new OfSparse(this);
         }
 
         @Override
-        public float[] toArray() {
-            return new OfOneDimension(this).toArray();
+        public Data blank() {
+            return new OfSparse(length, 1 << blockShift, filler);
         }
 
         @Override
-        public Object getBackedArray() {
-            return source;
+        public float[] toArray() {
+            return new OfOneDimension(this).toArray();
         }
     }
 }
@@ -0,0 +1,314 @@
+package com.cogician.quicker.bigarray;
+
+import com.cogician.quicker.Checker;
+import com.cogician.quicker.OutOfBoundsException;
+import com.cogician.quicker.function.EachIntConsumer;
+
+/**
+ * <p>
+ * Long-int map is type of {@linkplain BigHashTable} which maps long keys to int values, backed by
+ * {@linkplain LongArray} of keys and {@linkplain IntArray} of values. For example:
+ * 
+ * <pre>
+ * LongIntMap map = new LongIntMap();
+ * map.put(1L, 2);
+ * map.get(1L);
+ * map.forEach((key, value) -&gt; ...);
+ * ...
+ * </pre>
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T17:52:09+08:00
+ * @since 0.0.0, 2026-10-16T17:52:09+08:00
+ * @see BigHashTable
+ */
+public class LongIntMap extends BigHashTable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final float loadFactor;
+
+    private LongArray keys;
+
+    private IntArray values;
+
+    private long mask;
+
+    private long maxFill;
+
+    private long size;
+
+    private boolean hasZeroKey;
+
+    private int zeroValue;
+
+    /**
+     * <p>
+     * Constructs an empty map with default expected size and load factor.
+     * </p>
+     * 
+     * @since 0.0.0
+     */
+    public LongIntMap() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * <p>
+     * Constructs an empty map with specified expected size and default load factor.
+     * </p>
+     * 
+     * @param expected
+     *            expected number of entries
+     * @throws IllegalArgumentException
+     *             if expected number is negative
+     * @throws OutOfBoundsException
+     *             if expected number is too large
+     * @since 0.0.0
+     */
+    public LongIntMap(long expected) throws IllegalArgumentException, OutOfBoundsException {
+        this(expected, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * <p>
+     * Constructs an empty map with specified expected size and load factor. The map is not rehashed until number of
+     * entries exceeds the expected size.
+     * </p>
+     * 
+     * @param expected
+     *            expected number of entries
+     * @param loadFactor
+     *            specified load factor in (0, 1)
+     * @throws IllegalArgumentException
+     *             if expected number is negative or load factor is not in (0, 1)
+     * @throws OutOfBoundsException
+     *             if expected number is too large
+     * @since 0.0.0
+     */
+    public LongIntMap(long expected, float loadFactor) throws IllegalArgumentException, OutOfBoundsException {
+        Checker.checkLength(expected);
+        checkLoadFactor(loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(capacity(expected, loadFactor));
+    }
+
+    private void allocate(long capacity) {
+        this.keys = new LongArray(capacity);
+        this.values = new IntArray(capacity);
+        this.mask = capacity - 1;
+        this.maxFill = maxFill(capacity, loadFactor);
+    }
+
+    // Returns slot of given non-zero key, or -(free slot) - 1 if the key is absent.
+    private long find(long key) {
+        long pos = mix(key) & mask;
+        while (true) {
+            long k = keys.get(pos);
+            if (0 == k) {
+                return -pos - 1;
+            }
+            if (key == k) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public long capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * <p>
+     * Returns whether this map contains specified key.
+     * </p>
+     * 
+     * @param key
+     *            specified key
+     * @return whether this map contains specified key
+     * @since 0.0.0
+     */
+    public boolean containsKey(long key) {
+        return 0 == key ? hasZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * <p>
+     * Returns value of specified key, or {@code 0} if this map does not contain the key.
+     * </p>
+     * 
+     * @param key
+     *            specified key
+     * @return value of specified key, or {@code 0} if this map does not contain the key
+     * @since 0.0.0
+     */
+    public int get(long key) {
+        return getOrDefault(key, 0);
+    }
+
+    /**
+     * <p>
+     * Returns value of specified key, or specified default value if this map does not contain the key.
+     * </p>
+     * 
+     * @param key
+     *            specified key
+     * @param defaultValue
+     *            specified default value
+     * @return value of specified key, or specified default value if this map does not contain the key
+     * @since 0.0.0
+     */
+    public int getOrDefault(long key, int defaultValue) {
+        if (0 == key) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        long pos = find(key);
+        return pos < 0 ? defaultValue : values.get(pos);
+    }
+
+    /**
+     * <p>
+     * Associates specified value with specified key. If slots reach load factor after putting, this map is rehashed
+     * into doubled slots.
+     * </p>
+     * 
+     * @param key
+     *            specified key
+     * @param value
+     *            specified value
+     * @return previous value of specified key, or {@code 0} if this map did not contain the key
+     * @throws OutOfBoundsException
+     *             if this map cannot grow any more
+     * @since 0.0.0
+     */
+    public int put(long key, int value) throws OutOfBoundsException {
+        if (0 == key) {
+            int old = zeroValue;
+            zeroValue = value;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            return old;
+        }
+        long pos = find(key);
+        if (pos >= 0) {
+            int old = values.get(pos);
+            values.set(pos, value);
+            return old;
+        }
+        pos = -pos - 1;
+        keys.set(pos, key);
+        values.set(pos, value);
+        if (++size >= maxFill) {
+            rehash(grow(capacity()));
+        }
+        return 0;
+    }
+
+    /**
+     * <p>
+     * Removes specified key and its value.
+     * </p>
+     * 
+     * @param key
+     *            specified key
+     * @return removed value of specified key, or {@code 0} if this map did not contain the key
+     * @since 0.0.0
+     */
+    public int remove(long key) {
+        if (0 == key) {
+            int old = zeroValue;
+            if (hasZeroKey) {
+                hasZeroKey = false;
+                zeroValue = 0;
+                size--;
+            }
+            return old;
+        }
+        long pos = find(key);
+        if (pos < 0) {
+            return 0;
+        }
+        int old = values.get(pos);
+        shiftKeys(pos);
+        size--;
+        return old;
+    }
+
+    // Removes entry at given slot by shifting following entries of its probe sequence back.
+    private void shiftKeys(long pos) {
+        while (true) {
+            long last = pos;
+            long k;
+            pos = (pos + 1) & mask;
+            while (true) {
+                k = keys.get(pos);
+                if (0 == k) {
+                    keys.set(last, 0L);
+                    values.set(last, 0);
+                    return;
+                }
+                long slot = mix(k) & mask;
+                // The entry can move back to last slot if its home slot is not in (last, pos] cyclically.
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            keys.set(last, k);
+            values.set(last, values.get(pos));
+        }
+    }
+
+    private void rehash(long capacity) {
+        LongArray oldKeys = keys;
+        IntArray oldValues = values;
+        allocate(capacity);
+        oldKeys.forEachNonDefault((slot, key) -> {
+            long pos = mix(key) & mask;
+            while (0 != keys.get(pos)) {
+                pos = (pos + 1) & mask;
+            }
+            keys.set(pos, key);
+            values.set(pos, oldValues.get(slot));
+        });
+    }
+
+    @Override
+    public void clear() {
+        keys.fill(0L);
+        values.fill(0);
+        hasZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+    }
+
+    /**
+     * <p>
+     * Performs specified action for each entry of this map, the first argument of the action is the key and the second
+     * is the value. Entries are traversed in order of slots without creating iterator or entry.
+     * </p>
+     * 
+     * @param action
+     *            specified action
+     * @throws NullPointerException
+     *             if specified action is null
+     * @since 0.0.0
+     */
+    public void forEach(EachIntConsumer action) throws NullPointerException {
+        Checker.checkNull(action);
+        if (hasZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        keys.forEachNonDefault((slot, key) -> action.accept(key, values.get(slot)));
+    }
+}
@@ -0,0 +1,260 @@
+package com.cogician.quicker.bigarray;
+
+import java.util.function.LongConsumer;
+
+import com.cogician.quicker.Checker;
+import com.cogician.quicker.OutOfBoundsException;
+
+/**
+ * <p>
+ * Long set is type of {@linkplain BigHashTable} which holds long keys, backed by {@linkplain LongArray}. For example:
+ *
+ * <pre>
+ * LongSet set = new LongSet();
+ * set.add(1L);
+ * set.contains(1L);
+ * set.forEach(key -&gt; ...);
+ * ...
+ * </pre>
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T17:52:09+08:00
+ * @since 0.0.0, 2026-10-16T17:52:09+08:00
+ * @see BigHashTable
+ */
+public class LongSet extends BigHashTable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final float loadFactor;
+
+    private LongArray keys;
+
+    private long mask;
+
+    private long maxFill;
+
+    private long size;
+
+    private boolean hasZeroKey;
+
+    /**
+     * <p>
+     * Constructs an empty set with default expected size and load factor.
+     * </p>
+     *
+     * @since 0.0.0
+     */
+    public LongSet() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * <p>
+     * Constructs an empty set with specified expected size and default load factor.
+     * </p>
+     *
+     * @param expected
+     *            expected number of keys
+     * @throws IllegalArgumentException
+     *             if expected number is negative
+     * @throws OutOfBoundsException
+     *             if expected number is too large
+     * @since 0.0.0
+     */
+    public LongSet(long expected) throws IllegalArgumentException, OutOfBoundsException {
+        this(expected, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * <p>
+     * Constructs an empty set with specified expected size and load factor. The set is not rehashed until number of
+     * keys exceeds the expected size.
+     * </p>
+     *
+     * @param expected
+     *            expected number of keys
+     * @param loadFactor
+     *            specified load factor in (0, 1)
+     * @throws IllegalArgumentException
+     *             if expected number is negative or load factor is not in (0, 1)
+     * @throws OutOfBoundsException
+     *             if expected number is too large
+     * @since 0.0.0
+     */
+    public LongSet(long expected, float loadFactor) throws IllegalArgumentException, OutOfBoundsException {
+        Checker.checkLength(expected);
+        checkLoadFactor(loadFactor);
+        this.loadFactor = loadFactor;
+        allocate(capacity(expected, loadFactor));
+    }
+
+    private void allocate(long capacity) {
+        this.keys = new LongArray(capacity);
+        this.mask = capacity - 1;
+        this.maxFill = maxFill(capacity, loadFactor);
+    }
+
+    // Returns slot of given non-zero key, or -(free slot) - 1 if the key is absent.
+    private long find(long key) {
+        long pos = mix(key) & mask;
+        while (true) {
+            long k = keys.get(pos);
+            if (0 == k) {
+                return -pos - 1;
+            }
+            if (key == k) {
+                return pos;
+            }
+            pos = (pos + 1) & mask;
+        }
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public long capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * <p>
+     * Returns whether this set contains specified key.
+     * </p>
+     *
+     * @param key
+     *            specified key
+     * @return whether this set contains specified key
+     * @since 0.0.0
+     */
+    public boolean contains(long key) {
+        return 0 == key ? hasZeroKey : find(key) >= 0;
+    }
+
+    /**
+     * <p>
+     * Adds specified key into this set. If slots reach load factor after adding, this set is rehashed into doubled
+     * slots.
+     * </p>
+     *
+     * @param key
+     *            specified key
+     * @return true if this set did not contain the key
+     * @throws OutOfBoundsException
+     *             if this set cannot grow any more
+     * @since 0.0.0
+     */
+    public boolean add(long key) throws OutOfBoundsException {
+        if (0 == key) {
+            if (hasZeroKey) {
+                return false;
+            }
+            hasZeroKey = true;
+            size++;
+            return true;
+        }
+        long pos = find(key);
+        if (pos >= 0) {
+            return false;
+        }
+        keys.set(-pos - 1, key);
+        if (++size >= maxFill) {
+            rehash(grow(capacity()));
+        }
+        return true;
+    }
+
+    /**
+     * <p>
+     * Removes specified key from this set.
+     * </p>
+     *
+     * @param key
+     *            specified key
+     * @return true if this set contained the key
+     * @since 0.0.0
+     */
+    public boolean remove(long key) {
+        if (0 == key) {
+            if (!hasZeroKey) {
+                return false;
+            }
+            hasZeroKey = false;
+            size--;
+            return true;
+        }
+        long pos = find(key);
+        if (pos < 0) {
+            return false;
+        }
+        shiftKeys(pos);
+        size--;
+        return true;
+    }
+
+    // Removes key at given slot by shifting following keys of its probe sequence back.
+    private void shiftKeys(long pos) {
+        while (true) {
+            long last = pos;
+            long k;
+            pos = (pos + 1) & mask;
+            while (true) {
+                k = keys.get(pos);
+                if (0 == k) {
+                    keys.set(last, 0L);
+                    return;
+                }
+                long slot = mix(k) & mask;
+                // The key can move back to last slot if its home slot is not in (last, pos] cyclically.
+                if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            keys.set(last, k);
+        }
+    }
+
+    private void rehash(long capacity) {
+        LongArray oldKeys = keys;
+        allocate(capacity);
+        oldKeys.forEachNonDefault((slot, key) -> {
+            long pos = mix(key) & mask;
+            while (0 != keys.get(pos)) {
+                pos = (pos + 1) & mask;
+            }
+            keys.set(pos, key);
+        });
+    }
+
+    @Override
+    public void clear() {
+        keys.fill(0L);
+        hasZeroKey = false;
+        size = 0;
+    }
+
+    /**
+     * <p>
+     * Performs specified action for each key of this set. Keys are traversed in order of slots without creating
+     * iterator.
+     * </p>
+     *
+     * @param action
+     *            specified action
+     * @throws NullPointerException
+     *             if specified action is null
+     * @since 0.0.0
+     */
+    public void forEach(LongConsumer action) throws NullPointerException {
+        Checker.checkNull(action);
+        if (hasZeroKey) {
+            action.accept(0L);
+        }
+        keys.forEachNonDefault((slot, key) -> action.accept(key));
+    }
+}
@@ -6,6 +6,8 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Spliterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -38,13 +40,14 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
 
     private static final long serialVersionUID = 1L;
 
-    private static <T> Data<T> createData(long length, int[] dimensions, T initial, boolean lazy) {
+    private static <T> Data<T> createData(long length, int blockSize, T initial, boolean lazy) {
+        int[] dimensions = BigArrayUtil.caculateDimensions(length, blockSize);
         if (1 == dimensions.length) {
             return new OfOneDimension<>((int)length, initial);
         } else if (2 == dimensions.length) {
             return new OfTwoDimensions<>(length, dimensions, initial, lazy);
         } else {
-            return new OfMultiDimensions<>(length, dimensions, initial, lazy);
+            return new OfPages<>(length, blockSize, initial, lazy);
         }
     }
 
@@ -108,7 +111,7 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
     public ObjectArray(long length, int blockSize, T initial, boolean lazy) throws IllegalArgumentException {
         Checker.checkLength(length);
         Checker.checkPositive(blockSize);
-        this.data = createData(length, BigArrayUtil.caculateDimensions(length, blockSize), initial, lazy);
+        this.data = createData(length, blockSize, initial, lazy);
     }
 
     /**
@@ -157,6 +160,24 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
         this.data = new ArrayWrapper<T>(array, from, to);
     }
 
+    /**
+     * <p>
+     * Returns a big array viewing given blocks of a {@linkplain ObjectBigList}, elements are not copied.
+     * </p>
+     * 
+     * @param length
+     *            length of the view
+     * @param blockShift
+     *            shift of block, each block except the last one is {@code 1 << blockShift} long
+     * @param blocks
+     *            given blocks
+     * @return a big array viewing given blocks
+     * @since 0.0.0
+     */
+    static <T> ObjectArray<T> ofBlocks(long length, int blockShift, Object[][] blocks) {
+        return new ObjectArray<>(new OfBlocks<>(length, blockShift, blocks));
+    }
+
     private final Data<T> data;
 
     @Override
@@ -292,12 +313,157 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
      */
     public void copy(long srcPos, ObjectArray<T> dest, long destPos, long length)
             throws NullPointerException, IndexOutOfBoundsException {
-        Checker.checkIndex(srcPos, length());
-        Checker.checkIndex(destPos, length());
+        Checker.checkNull(dest);
         Checker.checkLength(length);
+        Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+        Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
         data.copy(srcPos, dest.data, destPos, length);
     }
 
+    /**
+     * <p>
+     * Fills elements of this array with specified value in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @param value
+     *            specified value
+     * @see #parallelFill(Object, Executor)
+     * @since 0.0.0
+     */
+    public void parallelFill(T value) {
+        parallelFill(value, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Fills elements of this array with specified value in parallel, tasks are executed in specified executor. Elements
+     * are divided into tasks of whole blocks, see {@linkplain BigArray#PARALLEL_TASK_SIZE}. If this array is not large
+     * enough to be divided, it is filled in current thread.
+     * </p>
+     * 
+     * @param value
+     *            specified value
+     * @param executor
+     *            specified executor, not null
+     * @throws NullPointerException
+     *             if specified executor is null
+     * @since 0.0.0
+     */
+    public void parallelFill(T value, Executor executor) throws NullPointerException {
+        Checker.checkNull(executor);
+        data.fill(value, executor);
+    }
+
+    /**
+     * <p>
+     * Copies data of this array into destination array in parallel, tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     *
+     * @param srcPos
+     *            source start index in bounds
+     * @param dest
+     *            destination array, not null
+     * @param destPos
+     *            destination start index in bounds
+     * @param length
+     *            specified length, >= 0
+     * @throws NullPointerException
+     *             if destination array is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @see #parallelCopy(long, ObjectArray, long, long, Executor)
+     * @since 0.0.0
+     */
+    public void parallelCopy(long srcPos, ObjectArray<T> dest, long destPos, long length)
+            throws NullPointerException, IndexOutOfBoundsException {
+        parallelCopy(srcPos, dest, destPos, length, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Copies data of this array into destination array in parallel, tasks are executed in specified executor. Copied
+     * range is divided into tasks of whole blocks of destination array, see {@linkplain BigArray#PARALLEL_TASK_SIZE}.
+     * If the range is not large enough to be divided, or destination array is this array and the source and destination
+     * ranges overlap, it is copied in current thread.
+     * </p>
+     *
+     * @param srcPos
+     *            source start index in bounds
+     * @param dest
+     *            destination array, not null
+     * @param destPos
+     *            destination start index in bounds
+     * @param length
+     *            specified length, >= 0
+     * @param executor
+     *            specified executor, not null
+     * @throws NullPointerException
+     *             if destination array or specified executor is null
+     * @throws IndexOutOfBoundsException
+     *             if indexes out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @since 0.0.0
+     */
+    public void parallelCopy(long srcPos, ObjectArray<T> dest, long destPos, long length, Executor executor)
+            throws NullPointerException, IndexOutOfBoundsException {
+        Checker.checkNull(dest);
+        Checker.checkNull(executor);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(srcPos, srcPos + length, length());
+        Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
+        data.copy(srcPos, dest.data, destPos, length, executor);
+    }
+
+    /**
+     * <p>
+     * Returns bytes of memory allocated for references of this array, not including objects referred by elements. For a
+     * lazy array, only allocated blocks are counted.
+     * </p>
+     * 
+     * @return bytes of memory allocated for references of this array
+     * @see #logicalBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long allocatedBytes() {
+        return data.allocatedBytes();
+    }
+
+    /**
+     * <p>
+     * Returns bytes of all references of this array, that is, length of this array multiplied by bytes of each
+     * reference.
+     * </p>
+     * 
+     * @return bytes of all references of this array
+     * @see #allocatedBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long logicalBytes() {
+        return length() * BigArrayUtil.REFERENCE_BYTES;
+    }
+
+    /**
+     * <p>
+     * Returns number of blocks allocated for elements of this array. For a lazy array, blocks which have never been
+     * written are not allocated.
+     * </p>
+     * 
+     * @return number of blocks allocated for elements of this array
+     * @see #allocatedBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long allocatedBlocks() {
+        return data.allocatedBlocks();
+    }
+
     /**
      * <p>
      * Clones this array, all settings and options inherited.
@@ -313,6 +479,38 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
         return new ObjectArray<>(data.clone());
     }
 
+    /**
+     * <p>
+     * Clones this array in parallel, all settings and options inherited. Tasks are executed in
+     * {@linkplain ForkJoinPool#commonPool()}.
+     * </p>
+     * 
+     * @return duplication of this array
+     * @see #parallelClone(Executor)
+     * @since 0.0.0
+     */
+    public ObjectArray<T> parallelClone() {
+        return parallelClone(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * <p>
+     * Clones this array in parallel, all settings and options inherited. Tasks are executed in specified executor,
+     * elements are divided into tasks of whole blocks, see {@linkplain BigArray#PARALLEL_TASK_SIZE}.
+     * </p>
+     * 
+     * @param executor
+     *            specified executor, not null
+     * @return duplication of this array
+     * @throws NullPointerException
+     *             if specified executor is null
+     * @since 0.0.0
+     */
+    public ObjectArray<T> parallelClone(Executor executor) throws NullPointerException {
+        Checker.checkNull(executor);
+        return new ObjectArray<>(data.clone(executor));
+    }
+
     /**
      * <p>
      * Converts this array into a java array with speicifed type. If length of this array is greater than
@@ -429,21 +627,32 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
 
         @Override
         public boolean tryAdvance(Consumer<? super T> action) {
-            if (cur >= array.length()) {
+            if (cur >= end) {
                 return false;
             }
             Quicker.require(action).accept(array.get(cur++));
             return true;
         }
 
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            Quicker.require(action);
+            if (cur < end) {
+                long from = cur;
+                cur = end;
+                array.data.forEach(from, end, action);
+            }
+        }
+
         @Override
         public Spliterator<T> trySplit() {
-            if (end - cur > BigArray.UNSPLITERATED_SIZE) {
+            long mid = BigArrayUtil.splitIndex(cur, end, array.data.blockSize());
+            if (mid < 0) {
                 return null;
             }
-            long newStart = (end - cur) / 2;
-            this.cur = newStart;
-            return new ObjectArraySpliterator<T>(array, cur, newStart);
+            ObjectArraySpliterator<T> prefix = new ObjectArraySpliterator<T>(array, cur, mid);
+            this.cur = mid;
+            return prefix;
         }
 
         @Override
@@ -453,16 +662,25 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
 
         @Override
         public int characteristics() {
-            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
         }
-
     }
 
     private static abstract class Data<T> implements Serializable, Cloneable {
 
         private static final long serialVersionUID = 1L;
 
-        public abstract int[] getDimensions();
+        public abstract int blockSize();
+
+        public abstract Object[] block(long index);
+
+        public abstract Object[] allocate(long index);
+
+        public abstract int offset(long index);
+
+        public abstract int remaining(long index);
+
+        public abstract T filler();
 
         public abstract long length();
 
@@ -480,6 +698,51 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
 
         public abstract void fill(T value);
 
+        public int taskUnit() {
+            return blockSize();
+        }
+
+        public void fill(T value, Executor executor) {
+            BigArrayUtil.parallel(0, length(), taskUnit(), executor, (from, to) -> fill(from, to, value));
+        }
+
+        @SuppressWarnings("unchecked")
+        public void forEach(long from, long to, Consumer<? super T> action) {
+            for (long i = from; i < to;) {
+                int offset = offset(i);
+                int end = offset + (int)Math.min((long)remaining(i), to - i);
+                Object[] block = block(i);
+                if (null == block) {
+                    T filler = filler();
+                    for (int j = offset; j < end; j++) {
+                        action.accept(filler);
+                    }
+                } else {
+                    for (int j = offset; j < end; j++) {
+                        action.accept((T)block[j]);
+                    }
+                }
+                i += end - offset;
+            }
+        }
+
+        public void fill(long from, long to, T value) {
+            for (long i = from; i < to;) {
+                int offset = offset(i);
+                int n = (int)Math.min((long)remaining(i), to - i);
+                Object[] block = block(i);
+                if (null == block) {
+                    if (value == filler()) {
+                        i += n;
+                        continue;
+                    }
+                    block = allocate(i);
+                }
+                Arrays.fill(block, offset, offset + n, value);
+                i += n;
+            }
+        }
+
         public void copy(long srcPos, Data<T> dest, long destPos, long length)
                 throws NullPointerException, IndexOutOfBoundsException {
             if (length == 0) {
@@ -487,38 +750,81 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
             }
             Checker.checkRangeIndexes(srcPos, srcPos + length, length());
             Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
-            int[] dimensions = getDimensions();
-            int[] destDimensions = dest.getDimensions();
-            int[] srcMultiIndexes = new int[dimensions.length];
-            int[] destMultiIndexes = new int[destDimensions.length];
-            int sWide = dimensions[dimensions.length - 1];
-            int dWide = destDimensions[destDimensions.length - 1];
-            for (long i = 0; i < length;) {
-                BigArrayUtil.mapIndexes(srcPos + i, dimensions, srcMultiIndexes);
-                Object[] sr = (Object[])BigArrayUtil.getLastDimension(getBackedArray(), srcMultiIndexes);
-                int ys = (int)((srcPos + i) % sWide);
-                BigArrayUtil.mapIndexes(destPos + i, destDimensions, destMultiIndexes);
-                Object[] dr = (Object[])BigArrayUtil.getLastDimension(dest.getBackedArray(), destMultiIndexes);
-                int yd = (int)((destPos + i) % dWide);
-                int copyLength = Math.min(sWide - ys, dWide - yd);
-                copyLength = (int)Math.min((long)copyLength, length - i);
-                if (sr != null) {
-                    if (dr == null) {
-                        // One-dimensional backed array is never null.
-                        dr = (Object[])BigArrayUtil.alloc(dest.getBackedArray(), Object.class, destDimensions,
-                                destMultiIndexes);
-                    }
-                    System.arraycopy(sr, ys, dr, yd, copyLength);
+            if (dest == this && srcPos < destPos && destPos < srcPos + length) {
+                // Overlapped, copies backward.
+                int blockSize = blockSize();
+                for (long i = length; i > 0;) {
+                    long s = srcPos + i - 1;
+                    long d = destPos + i - 1;
+                    int n = (int)Math.min((long)(blockSize - Math.max(remaining(s), remaining(d)) + 1), i);
+                    copyBlock(s - n + 1, dest, d - n + 1, n);
+                    i -= n;
+                }
+            } else {
+                for (long i = 0; i < length;) {
+                    long s = srcPos + i;
+                    long d = destPos + i;
+                    int n = (int)Math.min((long)Math.min(remaining(s), dest.remaining(d)), length - i);
+                    copyBlock(s, dest, d, n);
+                    i += n;
                 }
-                i += copyLength;
             }
         }
 
+        public void copy(long srcPos, Data<T> dest, long destPos, long length, Executor executor)
+                throws NullPointerException, IndexOutOfBoundsException {
+            if (dest == this && srcPos < destPos + length && destPos < srcPos + length) {
+                // Overlapped, copies in current thread.
+                copy(srcPos, dest, destPos, length);
+                return;
+            }
+            long offset = srcPos - destPos;
+            BigArrayUtil.parallel(destPos, destPos + length, dest.taskUnit(), executor,
+                    (from, to) -> copy(from + offset, dest, from, to - from));
+        }
+
+        private void copyBlock(long srcPos, Data<T> dest, long destPos, int length) {
+            Object[] sr = block(srcPos);
+            if (null == sr) {
+                dest.fill(destPos, destPos + length, filler());
+            } else {
+                Object[] dr = dest.block(destPos);
+                if (null == dr) {
+                    dr = dest.allocate(destPos);
+                }
+                System.arraycopy(sr, offset(srcPos), dr, dest.offset(destPos), length);
+            }
+        }
+
+        public boolean allocated(long index) {
+            return null != block(index);
+        }
+
+        public long allocatedBlocks() {
+            long blocks = 0;
+            for (long i = 0; i < length(); i += remaining(i)) {
+                if (allocated(i)) {
+                    blocks++;
+                }
+            }
+            return blocks;
+        }
+
+        public long allocatedBytes() {
+            return allocatedBlocks() * blockSize() * BigArrayUtil.REFERENCE_BYTES;
+        }
+
         public abstract Data<T> clone();
 
-        public abstract T[] toArray(Class<?> type);
+        public Data<T> clone(Executor executor) {
+            Data<T> clone = blank();
+            copy(0, clone, 0, length(), executor);
+            return clone;
+        }
+
+        public abstract Data<T> blank();
 
-        public abstract Object getBackedArray();
+        public abstract T[] toArray(Class<?> type);
     }
 
     private static class ArrayWrapper<T> extends Data<T> {
@@ -538,7 +844,37 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
         }
 
         @Override
-        public int[] getDimensions() {
+        public int blockSize() {
+            return length;
+        }
+
+        @Override
+        public int taskUnit() {
+            return 1;
+        }
+
+        @Override
+        public Object[] block(long index) {
+            return source;
+        }
+
+        @Override
+        public Object[] allocate(long index) {
+            return source;
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index + from;
+        }
+
+        @Override
+        public int remaining(long index) {
+            return length - (int)index;
+        }
+
+        @Override
+        public T filler() {
             return null;
         }
 
@@ -596,11 +932,23 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
             }
         }
 
+        @Override
+        public void forEach(long from, long to, Consumer<? super T> action) {
+            for (int i = (int)from + this.from, end = (int)to + this.from; i < end; i++) {
+                action.accept(source[i]);
+            }
+        }
+
         @Override
         public Data<T> clone() {
             return new OfOneDimension<T>(this);
         }
 
+        @Override
+        public Data<T> blank() {
+            return new OfOneDimension<>((int)length(), null);
+        }
+
         @Override
         public T[] toArray(Class<?> type) {
             @SuppressWarnings("unchecked")
@@ -608,11 +956,6 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
             System.arraycopy(source, from, ar, 0, length);
             return ar;
         }
-
-        @Override
-        public Object getBackedArray() {
-            return source;
-        }
     }
 
     /**
@@ -630,19 +973,15 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
 
         private final Object[] source;
 
-        private final int[] dimensions;
-
         public OfOneDimension(int length, T initial) {
             source = new Object[length];
             if (initial != null) {
                 Arrays.fill(source, initial);
             }
-            this.dimensions = new int[]{(int)source.length};
         }
 
         public OfOneDimension(OfOneDimension<T> copyFrom) {
             this.source = copyFrom.source.clone();
-            this.dimensions = new int[]{(int)source.length};
         }
 
         public OfOneDimension(Data<T> copyFrom) {
@@ -651,8 +990,38 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
         }
 
         @Override
-        public int[] getDimensions() {
-            return dimensions;
+        public int blockSize() {
+            return source.length;
+        }
+
+        @Override
+        public int taskUnit() {
+            return 1;
+        }
+
+        @Override
+        public Object[] block(long index) {
+            return source;
+        }
+
+        @Override
+        public Object[] allocate(long index) {
+            return source;
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index;
+        }
+
+        @Override
+        public int remaining(long index) {
+            return source.length - (int)index;
+        }
+
+        @Override
+        public T filler() {
+            return null;
         }
 
         @Override
@@ -710,11 +1079,24 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
             }
         }
 
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEach(long from, long to, Consumer<? super T> action) {
+            for (int i = (int)from, end = (int)to; i < end; i++) {
+                action.accept((T)source[i]);
+            }
+        }
+
         @Override
         public Data<T> clone() {
             return new OfOneDimension<T>(this);
         }
 
+        @Override
+        public Data<T> blank() {
+            return new OfOneDimension<>((int)length(), null);
+        }
+
         @Override
         public T[] toArray(Class<?> type) {
             @SuppressWarnings("unchecked")
@@ -722,11 +1104,6 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
             System.arraycopy(source, 0, ar, 0, source.length);
             return ar;
         }
-
-        @Override
-        public Object getBackedArray() {
-            return source;
-        }
     }
 
     /**
@@ -770,8 +1147,40 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
         }
 
         @Override
-        public int[] getDimensions() {
-            return dimensions;
+        public int blockSize() {
+            return dimensions[1];
+        }
+
+        @Override
+        public Object[] block(long index) {
+            return source[(int)(index / dimensions[1])];
+        }
+
+        @Override
+        public Object[] allocate(long index) {
+            int x = (int)(index / dimensions[1]);
+            if (null == source[x]) {
+                source[x] = new Object[dimensions[1]];
+                if (null != filler) {
+                    Arrays.fill(source[x], filler);
+                }
+            }
+            return source[x];
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)(index % dimensions[1]);
+        }
+
+        @Override
+        public int remaining(long index) {
+            return dimensions[1] - (int)(index % dimensions[1]);
+        }
+
+        @Override
+        public T filler() {
+            return filler;
         }
 
         @Override
@@ -824,32 +1233,23 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
         }
 
         @Override
-        public void copy(long srcPos, Data<T> dest, long destPos, long length)
-                throws NullPointerException, IndexOutOfBoundsException {
-            if (dest instanceof OfTwoDimensions) {
-                if (length == 0) {
-                    return;
-                }
-                Checker.checkRangeIndexes(srcPos, srcPos + length, length());
-                Checker.checkRangeIndexes(destPos, destPos + length, dest.length());
-                OfTwoDimensions<T> d = (OfTwoDimensions<T>)dest;
-                for (long i = 0; i < length;) {
-                    int xs = (int)((srcPos + i) / dimensions[1]);
-                    int ys = (int)((srcPos + i) % dimensions[1]);
-                    int xd = (int)((destPos + i) / d.dimensions[1]);
-                    int yd = (int)((destPos + i) % d.dimensions[1]);
-                    int copyLength = Math.min(dimensions[1] - ys, d.dimensions[1] - yd);
-                    copyLength = (int)Math.min((long)copyLength, length - i);
-                    if (source[xs] != null) {
-                        if (d.source[xd] == null) {
-                            d.source[xd] = new Object[d.dimensions[1]];
-                        }
-                        System.arraycopy(source[xs], ys, d.source[xd], yd, copyLength);
+        @SuppressWarnings("unchecked")
+        public void forEach(long from, long to, Consumer<? super T> action) {
+            for (long i = from; i < to;) {
+                int x = (int)(i / dimensions[1]);
+                int y = (int)(i % dimensions[1]);
+                int end = (int)Math.min((long)dimensions[1], y + (to - i));
+                Object[] block = source[x];
+                if (null == block) {
+                    for (int j = y; j < end; j++) {
+                        action.accept(filler);
+                    }
+                } else {
+                    for (int j = y; j < end; j++) {
+                        action.accept((T)block[j]);
                     }
-                    i += copyLength;
                 }
-            } else {
-                super.copy(srcPos, dest, destPos, length);
+                i += end - y;
             }
         }
 
@@ -859,59 +1259,75 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
         }
 
         @Override
-        public T[] toArray(Class<?> type) {
-            return new OfOneDimension<>(this).toArray(type);
+        public void fill(T value, Executor executor) {
+            this.filler = value;
+            super.fill(value, executor);
         }
 
         @Override
-        public Object getBackedArray() {
-            return source;
+        public Data<T> blank() {
+            OfTwoDimensions<T> blank = new OfTwoDimensions<>(length, dimensions, filler, true);
+            blank.lazy = lazy;
+            return blank;
+        }
+
+        @Override
+        public T[] toArray(Class<?> type) {
+            return new OfOneDimension<>(this).toArray(type);
         }
     }
 
     /**
      * <p>
-     * Multi-dimensions implementation.
+     * Paged implementation for length which exceeds capacity of two dimensions. Elements are stored in blocks of which
+     * size is power of 2, and blocks are referenced by pages of which size is also power of 2, so any index is mapped
+     * to its page, block and offset by shifting and masking, without allocation or reflection. Specified block size is
+     * rounded down to power of 2.
      * </p>
      *
      * @author Fred Suvn
-     * @version 0.0.0, 2016-03-18T15:52:54+08:00
-     * @since 0.0.0, 2016-03-18T15:52:54+08:00
+     * @version 0.0.0, 2026-10-16T10:12:08+08:00
+     * @since 0.0.0, 2026-10-16T10:12:08+08:00
      */
-    private static class OfMultiDimensions<T> extends Data<T> {
+    private static class OfPages<T> extends Data<T> {
 
         private static final long serialVersionUID = 1L;
 
         private final long length;
 
-        private final int[] dimensions;
+        private final int blockShift;
+
+        private final int pageShift;
 
-        private final Object source;
+        private final Object[][][] source;
 
         private T filler;
 
         private boolean lazy;
 
-        public OfMultiDimensions(long length, int[] dimensions, T initial, boolean lazy) {
+        public OfPages(long length, int blockSize, T initial, boolean lazy) {
             this.length = length;
-            this.dimensions = dimensions;
+            this.blockShift = BigArrayUtil.blockShift(blockSize);
+            long blocks = ((length - 1) >>> blockShift) + 1;
+            this.pageShift = BigArrayUtil.pageShift(blocks, blockShift);
             this.lazy = lazy;
-            if (lazy) {
-                source = new Object[dimensions[0]];
-            } else {
-                source = Array.newInstance(Object.class, dimensions);
+            source = new Object[(int)(((blocks - 1) >>> pageShift) + 1)][][];
+            if (!lazy) {
+                for (long b = 0; b < blocks; b++) {
+                    allocate(b << blockShift);
+                }
             }
             fill(initial);
         }
 
-        public OfMultiDimensions(OfMultiDimensions<T> copyFrom) {
-            this(copyFrom.length, copyFrom.dimensions, copyFrom.filler, copyFrom.lazy);
+        public OfPages(OfPages<T> copyFrom) {
+            this(copyFrom.length, 1 << copyFrom.blockShift, copyFrom.filler, copyFrom.lazy);
             copyFrom.copy(0, this, 0, length);
         }
 
         @Override
-        public int[] getDimensions() {
-            return dimensions;
+        public int blockSize() {
+            return 1 << blockShift;
         }
 
         @Override
@@ -919,82 +1335,228 @@ public class ObjectArray<T> extends BigArray implements Iterable<T>, Cloneable {
             return length;
         }
 
+        @Override
+        public Object[] block(long index) {
+            long b = index >>> blockShift;
+            Object[][] page = source[(int)(b >>> pageShift)];
+            return null == page ? null : page[(int)b & ((1 << pageShift) - 1)];
+        }
+
+        @Override
+        public Object[] allocate(long index) {
+            long b = index >>> blockShift;
+            int p = (int)(b >>> pageShift);
+            if (null == source[p]) {
+                allocatePage(p);
+            }
+            int x = (int)b & ((1 << pageShift) - 1);
+            if (null == source[p][x]) {
+                source[p][x] = new Object[1 << blockShift];
+                if (null != filler) {
+                    Arrays.fill(source[p][x], filler);
+                }
+            }
+            return source[p][x];
+        }
+
+        private synchronized void allocatePage(int page) {
+            // Blocks of a same page may be allocated by concurrent tasks of parallel operations.
+            if (null == source[page]) {
+                source[page] = new Object[1 << pageShift][];
+            }
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index & ((1 << blockShift) - 1);
+        }
+
+        @Override
+        public int remaining(long index) {
+            return (1 << blockShift) - ((int)index & ((1 << blockShift) - 1));
+        }
+
+        @Override
+        public T filler() {
+            return filler;
+        }
+
         @Override
         @SuppressWarnings("unchecked")
         public T get(long index) throws IndexOutOfBoundsException {
             Checker.checkIndex(index, length);
-            int[] indexes = new int[dimensions.length];
-            BigArrayUtil.mapMultiIndexes(index, dimensions, indexes);
-            Object[] array = (Object[])BigArrayUtil.getLastDimension(source, indexes);
-            if (array == null) {
-                return filler;
-            } else {
-                return (T)array[indexes[indexes.length - 1]];
-            }
+            Object[] block = block(index);
+            return null == block ? filler : (T)block[(int)index & ((1 << blockShift) - 1)];
         }
 
         @Override
         public void set(long index, T value) throws IndexOutOfBoundsException {
             Checker.checkIndex(index, length);
-            int[] indexes = new int[dimensions.length];
-            BigArrayUtil.mapMultiIndexes(index, dimensions, indexes);
-            Object[] array = (Object[])BigArrayUtil.getLastDimension(source, indexes);
-            if (array == null) {
+            Object[] block = block(index);
+            if (null == block) {
                 if (value == filler) {
                     return;
-                } else {
-                    array = (Object[])BigArrayUtil.alloc(source, Object.class, dimensions, indexes);
-                    if (null != filler) {
-                        Arrays.fill(array, filler);
-                    }
                 }
+                block = allocate(index);
             }
-            array[indexes[indexes.length - 1]] = value;
+            block[(int)index & ((1 << blockShift) - 1)] = value;
         }
 
         @Override
         public void fill(T value) {
             this.filler = value;
-            fillMultiArray((Object[])source, value, 0);
-        }
-
-        private void fillMultiArray(Object[] array, T value, int dimension) {
-            if (dimension == dimensions.length - 2) {
-                for (int i = 0; i < array.length; i++) {
-                    if (null == array[i]) {
-                        if (this.filler == value) {
-                            continue;
-                        }
-                        array[i] = new Object[dimension + 1];
-                    }
-                    Arrays.fill((Object[])array[i], value);
+            for (Object[][] page : source) {
+                if (null == page) {
+                    continue;
                 }
-            } else {
-                for (int i = 0; i < array.length; i++) {
-                    if (null == array[i]) {
-                        if (this.filler == value) {
-                            continue;
-                        }
-                        array[i] = new Object[dimension + 1];
+                for (Object[] block : page) {
+                    if (null != block) {
+                        Arrays.fill(block, value);
                     }
-                    fillMultiArray((Object[])array[i], value, dimension + 1);
                 }
             }
         }
 
         @Override
         public Data<T> clone() {
-            return new OfMultiDimensions<T>(this);
+            return new OfPages<T>(this);
+        }
+
+        @Override
+        public void fill(T value, Executor executor) {
+            this.filler = value;
+            super.fill(value, executor);
+        }
+
+        @Override
+        public Data<T> blank() {
+            OfPages<T> blank = new OfPages<>(length, 1 << blockShift, filler, true);
+            blank.lazy = lazy;
+            return blank;
         }
 
         @Override
         public T[] toArray(Class<?> type) {
             return new OfOneDimension<>(this).toArray(type);
         }
+    }
+
+    /**
+     * <p>
+     * Implementation viewing blocks of a {@linkplain ObjectBigList}, no element is copied. Each block is an array of
+     * which length is power of 2, except that the last one may be shorter but still covers the length.
+     * </p>
+     *
+     * @author Fred Suvn
+     * @version 0.0.0, 2026-10-16T14:06:31+08:00
+     * @since 0.0.0, 2026-10-16T14:06:31+08:00
+     */
+    private static class OfBlocks<T> extends Data<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long length;
+
+        private final int blockShift;
+
+        private final Object[][] source;
+
+        public OfBlocks(long length, int blockShift, Object[][] source) {
+            this.length = length;
+            this.blockShift = blockShift;
+            this.source = source;
+        }
 
         @Override
-        public Object getBackedArray() {
-            return source;
+        public int blockSize() {
+            return 1 << blockShift;
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public Object[] block(long index) {
+            return source[(int)(index >>> blockShift)];
+        }
+
+        @Override
+        public Object[] allocate(long index) {
+            return source[(int)(index >>> blockShift)];
+        }
+
+        @Override
+        public int offset(long index) {
+            return (int)index & ((1 << blockShift) - 1);
+        }
+
+        @Override
+        public int remaining(long index) {
+            return (1 << blockShift) - ((int)index & ((1 << blockShift) - 1));
+        }
+
+        @Override
+        public T filler() {
+            return null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(long index) throws IndexOutOfBoundsException {
+            Checker.checkIndex(index, length);
+            return (T)source[(int)(index >>> blockShift)][(int)index & ((1 << blockShift) - 1)];
+        }
+
+        @Override
+        public void set(long index, T value) throws IndexOutOfBoundsException {
+            Checker.checkIndex(index, length);
+            source[(int)(index >>> blockShift)][(int)index & ((1 << blockShift) - 1)] = value;
+        }
+
+        @Override
+        public void fill(T value) {
+            fill(0, length, value);
+        }
+
+        @Override
+        public long allocatedBytes() {
+            long bytes = 0;
+            for (Object[] block : source) {
+                if (null != block) {
+                    bytes += block.length;
+                }
+            }
+            return bytes * BigArrayUtil.REFERENCE_BYTES;
+        }
+
+        @Override
+        public long allocatedBlocks() {
+            long blocks = 0;
+            for (Object[] block : source) {
+                if (null != block) {
+                    blocks++;
+                }
+            }
+            return blocks;
+        }
+
+        @Override
+        public Data<T> clone() {
+            Data<T> clone = createData(length, BigArray.BLOCK_SIZE, null, false);
+            copy(0, clone, 0, length);
+            return clone;
+        }
+
+        @Override
+        public Data<T> blank() {
+            return createData(length, BigArray.BLOCK_SIZE, null, true);
+        }
+
+        @Override
+        public T[] toArray(Class<?> type) {
+            return new OfOneDimension<>(this).toArray(type);
         }
     }
 }
@@ -0,0 +1,395 @@
+package com.cogician.quicker.bigarray;
+
+import java.io.Serializable;
+
+import com.cogician.quicker.function.EachLongConsumer;
+import com.cogician.quicker.util.BitsQuicker;
+
+/**
+ * <p>
+ * Packed data is the storage of {@linkplain PackedIntArray} and {@linkplain PackedLongArray}. Elements are divided
+ * into frames of {@value #FRAME_SIZE} elements, each frame is encoded by frame-of-reference: a base value and offsets
+ * from the base, where the offsets are bit-packed by the least bits number which can hold all of them.
+ * </p>
+ * <p>
+ * In delta mode the base of a frame is its first element and the frame also keeps the least difference between
+ * adjacent elements as its step. The offsets are residuals of elements against the line from the base by the step,
+ * that is, {@code v[i] - (base + i * step)}, which are never negative. Monotonic sequences with steady steps take only
+ * a few bits per element, and an element is still read from its own bits only.
+ * </p>
+ * <p>
+ * Bits are packed from the highest bit of each long word, in the same order as {@linkplain BitsQuicker}.
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T18:20:31+08:00
+ * @since 0.0.0, 2026-10-16T18:20:31+08:00
+ */
+final class PackedData implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * <p>
+     * Number of elements of each frame.
+     * </p>
+     *
+     * @since 0.0.0
+     */
+    static final int FRAME_SIZE = 128;
+
+    private static final int FRAME_SHIFT = 7;
+
+    // Packed words of a frame, plus one word for a frame which does not start at a word boundary.
+    private static final int FRAME_WORDS = FRAME_SIZE + 1;
+
+    private final long length;
+
+    private final boolean delta;
+
+    private final LongArray bases;
+
+    private final LongArray refs;
+
+    private final ByteArray widths;
+
+    private final LongArray offsets;
+
+    private final LongArray words;
+
+    /**
+     * <p>
+     * Source of elements to be packed, it reads elements of specified length from specified index into given buffer.
+     * </p>
+     *
+     * @author Fred Suvn
+     * @version 0.0.0, 2026-10-16T18:20:31+08:00
+     * @since 0.0.0, 2026-10-16T18:20:31+08:00
+     */
+    @FunctionalInterface
+    interface Source {
+
+        void read(long index, long[] buffer, int length);
+    }
+
+    /**
+     * <p>
+     * Packs elements of specified length from specified source. The source is read twice, first for bits numbers of
+     * frames and then for packing.
+     * </p>
+     *
+     * @param length
+     *            specified length
+     * @param delta
+     *            whether packed in delta mode
+     * @param source
+     *            specified source
+     * @since 0.0.0
+     */
+    PackedData(long length, boolean delta, Source source) {
+        this.length = length;
+        this.delta = delta;
+        long frames = (length + FRAME_SIZE - 1) >>> FRAME_SHIFT;
+        this.bases = new LongArray(frames);
+        this.refs = delta ? new LongArray(frames) : null;
+        this.widths = new ByteArray(frames);
+        this.offsets = new LongArray(frames);
+        long[] buffer = new long[FRAME_SIZE];
+        long bits = 0;
+        for (long f = 0; f < frames; f++) {
+            int n = frameLength(f);
+            source.read(f << FRAME_SHIFT, buffer, n);
+            long base;
+            long ref = 0;
+            long or = 0;
+            if (delta) {
+                base = buffer[0];
+                if (n > 1) {
+                    ref = buffer[1] - buffer[0];
+                    for (int i = 2; i < n; i++) {
+                        ref = Math.min(ref, buffer[i] - buffer[i - 1]);
+                    }
+                    for (int i = 1; i < n; i++) {
+                        or |= buffer[i] - base - i * ref;
+                    }
+                }
+                refs.set(f, ref);
+            } else {
+                base = buffer[0];
+                for (int i = 1; i < n; i++) {
+                    base = Math.min(base, buffer[i]);
+                }
+                for (int i = 0; i < n; i++) {
+                    or |= buffer[i] - base;
+                }
+            }
+            int width = 64 - Long.numberOfLeadingZeros(or);
+            bases.set(f, base);
+            widths.set(f, (byte)width);
+            offsets.set(f, bits);
+            bits += (long)width * (delta ? n - 1 : n);
+        }
+        this.words = new LongArray((bits + 63) >>> 6);
+        for (long f = 0; f < frames; f++) {
+            int width = widths.get(f);
+            if (0 == width) {
+                continue;
+            }
+            int n = frameLength(f);
+            source.read(f << FRAME_SHIFT, buffer, n);
+            long position = offsets.get(f);
+            if (delta) {
+                long base = buffer[0];
+                long ref = refs.get(f);
+                for (int i = 1; i < n; i++, position += width) {
+                    pack(position, width, buffer[i] - base - i * ref);
+                }
+            } else {
+                long base = bases.get(f);
+                for (int i = 0; i < n; i++, position += width) {
+                    pack(position, width, buffer[i] - base);
+                }
+            }
+        }
+    }
+
+    private PackedData(PackedData data) {
+        this.length = data.length;
+        this.delta = data.delta;
+        this.bases = data.bases.clone();
+        this.refs = data.delta ? data.refs.clone() : null;
+        this.widths = data.widths.clone();
+        this.offsets = data.offsets.clone();
+        this.words = data.words.clone();
+    }
+
+    private int frameLength(long frame) {
+        return (int)Math.min(FRAME_SIZE, length - (frame << FRAME_SHIFT));
+    }
+
+    // Writes low bits of given width of value at given bit position of words, width in [1, 64].
+    private void pack(long position, int width, long value) {
+        long word = position >>> 6;
+        int bit = (int)(position & 63);
+        int rest = 64 - bit;
+        if (width <= rest) {
+            words.set(word, BitsQuicker.bitsCopy(value, 64 - width, words.get(word), bit, width));
+        } else {
+            int low = width - rest;
+            words.set(word, BitsQuicker.bitsCopy(value, 64 - width, words.get(word), bit, rest));
+            words.set(word + 1, BitsQuicker.bitsCopy(value, 64 - low, words.get(word + 1), 0, low));
+        }
+    }
+
+    // Reads bits of given width at given bit position of words, width in [1, 64].
+    private long unpack(long position, int width) {
+        long word = position >>> 6;
+        int bit = (int)(position & 63);
+        int rest = 64 - bit;
+        if (width <= rest) {
+            return BitsQuicker.getUnsignedBitsOfLong(words.get(word), bit, width);
+        }
+        int low = width - rest;
+        return (BitsQuicker.getUnsignedBitsOfLong(words.get(word), bit, rest) << low)
+                | BitsQuicker.getUnsignedBitsOfLong(words.get(word + 1), 0, low);
+    }
+
+    // Same as unpack(long, int) but reads from local copy of words.
+    private static long unpack(long[] words, int position, int width) {
+        int word = position >>> 6;
+        int bit = position & 63;
+        int rest = 64 - bit;
+        if (width <= rest) {
+            return BitsQuicker.getUnsignedBitsOfLong(words[word], bit, width);
+        }
+        int low = width - rest;
+        return (BitsQuicker.getUnsignedBitsOfLong(words[word], bit, rest) << low)
+                | BitsQuicker.getUnsignedBitsOfLong(words[word + 1], 0, low);
+    }
+
+    /**
+     * <p>
+     * Returns length.
+     * </p>
+     *
+     * @return length
+     * @since 0.0.0
+     */
+    long length() {
+        return length;
+    }
+
+    /**
+     * <p>
+     * Returns whether packed in delta mode.
+     * </p>
+     *
+     * @return whether packed in delta mode
+     * @since 0.0.0
+     */
+    boolean isDelta() {
+        return delta;
+    }
+
+    /**
+     * <p>
+     * Returns element at specified index. Only bits of the element are read, in delta mode too.
+     * </p>
+     *
+     * @param index
+     *            specified index in bounds
+     * @return element at specified index
+     * @since 0.0.0
+     */
+    long get(long index) {
+        long frame = index >>> FRAME_SHIFT;
+        int i = (int)(index & (FRAME_SIZE - 1));
+        long base = bases.get(frame);
+        int width = widths.get(frame);
+        if (!delta) {
+            return 0 == width ? base : base + unpack(offsets.get(frame) + (long)i * width, width);
+        }
+        long value = base + i * refs.get(frame);
+        // Residual of the first element is always 0 and not packed.
+        return 0 == width || 0 == i ? value : value + unpack(offsets.get(frame) + (long)(i - 1) * width, width);
+    }
+
+    /**
+     * <p>
+     * Decodes all elements of specified frame into given buffer, and returns number of elements of the frame. Packed
+     * words of the frame are read in bulk into given scratch of {@value #FRAME_WORDS} length.
+     * </p>
+     *
+     * @param frame
+     *            specified frame
+     * @param buffer
+     *            given buffer of {@value #FRAME_SIZE} length
+     * @param scratch
+     *            given scratch
+     * @return number of elements of the frame
+     * @since 0.0.0
+     */
+    private int decode(long frame, long[] buffer, long[] scratch) {
+        int n = frameLength(frame);
+        long base = bases.get(frame);
+        int width = widths.get(frame);
+        int count = delta ? n - 1 : n;
+        int position = 0;
+        if (0 != width && count > 0) {
+            long start = offsets.get(frame);
+            long from = start >>> 6;
+            long to = (start + (long)width * count + 63) >>> 6;
+            words.get(from, scratch, 0, (int)(to - from));
+            position = (int)(start & 63);
+        }
+        if (delta) {
+            long ref = refs.get(frame);
+            buffer[0] = base;
+            for (int i = 1; i < n; i++) {
+                buffer[i] = base + i * ref;
+                if (0 != width) {
+                    buffer[i] += unpack(scratch, position, width);
+                    position += width;
+                }
+            }
+        } else if (0 == width) {
+            for (int i = 0; i < n; i++) {
+                buffer[i] = base;
+            }
+        } else {
+            for (int i = 0; i < n; i++, position += width) {
+                buffer[i] = base + unpack(scratch, position, width);
+            }
+        }
+        return n;
+    }
+
+    /**
+     * <p>
+     * Reads elements of specified length from specified index into given array from specified offset, frame by frame.
+     * </p>
+     *
+     * @param index
+     *            specified index
+     * @param dest
+     *            given array
+     * @param offset
+     *            specified offset
+     * @param length
+     *            specified length
+     * @since 0.0.0
+     */
+    void read(long index, long[] dest, int offset, int length) {
+        long[] buffer = new long[FRAME_SIZE];
+        long[] scratch = new long[FRAME_WORDS];
+        while (length > 0) {
+            long frame = index >>> FRAME_SHIFT;
+            int i = (int)(index & (FRAME_SIZE - 1));
+            int n = Math.min(decode(frame, buffer, scratch) - i, length);
+            System.arraycopy(buffer, i, dest, offset, n);
+            index += n;
+            offset += n;
+            length -= n;
+        }
+    }
+
+    /**
+     * <p>
+     * Performs given action for each element in order of index, frame by frame.
+     * </p>
+     *
+     * @param action
+     *            given action
+     * @since 0.0.0
+     */
+    void forEach(EachLongConsumer action) {
+        long[] buffer = new long[FRAME_SIZE];
+        long[] scratch = new long[FRAME_WORDS];
+        long frames = bases.length();
+        for (long f = 0; f < frames; f++) {
+            int n = decode(f, buffer, scratch);
+            long index = f << FRAME_SHIFT;
+            for (int i = 0; i < n; i++) {
+                action.accept(index + i, buffer[i]);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Returns bytes of memory allocated for packed words and headers of frames.
+     * </p>
+     *
+     * @return bytes of memory allocated for packed words and headers of frames
+     * @since 0.0.0
+     */
+    long allocatedBytes() {
+        return bases.allocatedBytes() + (delta ? refs.allocatedBytes() : 0) + widths.allocatedBytes()
+                + offsets.allocatedBytes() + words.allocatedBytes();
+    }
+
+    /**
+     * <p>
+     * Returns number of blocks allocated for packed words and headers of frames.
+     * </p>
+     *
+     * @return number of blocks allocated for packed words and headers of frames
+     * @since 0.0.0
+     */
+    long allocatedBlocks() {
+        return bases.allocatedBlocks() + (delta ? refs.allocatedBlocks() : 0) + widths.allocatedBlocks()
+                + offsets.allocatedBlocks() + words.allocatedBlocks();
+    }
+
+    /**
+     * <p>
+     * Returns a deep copy of this data.
+     * </p>
+     *
+     * @return a deep copy of this data
+     * @since 0.0.0
+     */
+    PackedData copy() {
+        return new PackedData(this);
+    }
+}
@@ -0,0 +1,234 @@
+package com.cogician.quicker.bigarray;
+
+import com.cogician.quicker.Checker;
+import com.cogician.quicker.function.EachLongConsumer;
+
+/**
+ * <p>
+ * Packed long array is a read-only {@linkplain BigArray} which is packed from a {@linkplain LongArray}, for columns of
+ * small values, or ids and timestamps increasing steadily. For example:
+ *
+ * <pre>
+ * LongArray ids = ...;
+ * PackedLongArray packed = new PackedLongArray(ids, true);
+ * packed.get(0L);
+ * packed.forEach((index, value) -&gt; ...);
+ * ...
+ * </pre>
+ * </p>
+ * <h2>Frame-of-reference</h2>
+ * <p>
+ * Elements are packed by frames of {@value PackedData#FRAME_SIZE} elements. Each frame keeps its least element and
+ * bit-packs offsets of elements from it, by the least bits number which can hold the largest offset of the frame.
+ * {@linkplain #get(long)} reads only bits of the element.
+ * </p>
+ * <h2>Delta encoding</h2>
+ * <p>
+ * In delta mode, each frame keeps its first element and the least difference between adjacent elements as its step,
+ * and bit-packs residuals of elements against the line from the first element by the step. It suits sorted or
+ * increasing columns with steady steps well, and {@linkplain #get(long)} still reads only bits of the element.
+ * </p>
+ * <h2>Sequential decoding</h2>
+ * <p>
+ * {@linkplain #get(long, long[], int, int)}, {@linkplain #forEach(EachLongConsumer)} and {@linkplain #unpack()} decode
+ * whole frames at a time from packed words read in bulk, they are much faster than getting elements one by one.
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T18:20:31+08:00
+ * @since 0.0.0, 2026-10-16T18:20:31+08:00
+ * @see BigArray
+ */
+public class PackedLongArray extends BigArray {
+
+    private static final long serialVersionUID = 1L;
+
+    private final PackedData data;
+
+    private PackedLongArray(PackedData data) {
+        this.data = data;
+    }
+
+    /**
+     * <p>
+     * Constructs by packing specified array by frame-of-reference.
+     * </p>
+     *
+     * @param source
+     *            specified array
+     * @throws NullPointerException
+     *             if specified array is null
+     * @since 0.0.0
+     */
+    public PackedLongArray(LongArray source) throws NullPointerException {
+        this(source, false);
+    }
+
+    /**
+     * <p>
+     * Constructs by packing specified array, by delta encoding if specified delta is true, or else by
+     * frame-of-reference.
+     * </p>
+     *
+     * @param source
+     *            specified array
+     * @param delta
+     *            whether packed by delta encoding
+     * @throws NullPointerException
+     *             if specified array is null
+     * @since 0.0.0
+     */
+    public PackedLongArray(LongArray source, boolean delta) throws NullPointerException {
+        Checker.checkNull(source);
+        this.data = new PackedData(source.length(), delta,
+                (index, buffer, length) -> source.get(index, buffer, 0, length));
+    }
+
+    @Override
+    public long length() {
+        return data.length();
+    }
+
+    /**
+     * <p>
+     * Returns whether this array is packed by delta encoding.
+     * </p>
+     *
+     * @return whether this array is packed by delta encoding
+     * @since 0.0.0
+     */
+    public boolean isDelta() {
+        return data.isDelta();
+    }
+
+    /**
+     * <p>
+     * Gets value at specified index.
+     * </p>
+     *
+     * @param index
+     *            specified index in bounds
+     * @return value at specified index
+     * @throws IndexOutOfBoundsException
+     *             if out of bounds
+     * @since 0.0.0
+     */
+    public long get(long index) throws IndexOutOfBoundsException {
+        Checker.checkIndex(index, length());
+        return data.get(index);
+    }
+
+    /**
+     * <p>
+     * Reads elements of specified length from specified index of this array into specified array from specified
+     * offset. Elements are decoded frame by frame.
+     * </p>
+     *
+     * @param index
+     *            specified index of this array
+     * @param dest
+     *            specified array
+     * @param offset
+     *            specified offset of specified array
+     * @param length
+     *            specified length
+     * @throws NullPointerException
+     *             if specified array is null
+     * @throws IndexOutOfBoundsException
+     *             if out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @since 0.0.0
+     */
+    public void get(long index, long[] dest, int offset, int length)
+            throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException {
+        Checker.checkNull(dest);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(index, index + length, length());
+        Checker.checkRangeIndexes(offset, offset + length, dest.length);
+        data.read(index, dest, offset, length);
+    }
+
+    /**
+     * <p>
+     * Performs given action for each element of this array in order of index. Elements are decoded frame by frame.
+     * </p>
+     *
+     * @param action
+     *            given action with index and value of each element, not null
+     * @throws NullPointerException
+     *             if given action is null
+     * @since 0.0.0
+     */
+    public void forEach(EachLongConsumer action) throws NullPointerException {
+        Checker.checkNull(action);
+        data.forEach(action);
+    }
+
+    /**
+     * <p>
+     * Unpacks this array into a new {@linkplain LongArray}.
+     * </p>
+     *
+     * @return a new unpacked array
+     * @since 0.0.0
+     */
+    public LongArray unpack() {
+        LongArray array = new LongArray(length());
+        data.forEach((index, value) -> array.set(index, value));
+        return array;
+    }
+
+    /**
+     * <p>
+     * Returns bytes of memory allocated for packed elements and headers of frames, not including headers of objects.
+     * </p>
+     *
+     * @return bytes of memory allocated for packed elements and headers of frames
+     * @see #logicalBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long allocatedBytes() {
+        return data.allocatedBytes();
+    }
+
+    /**
+     * <p>
+     * Returns number of blocks allocated for packed elements and headers of frames.
+     * </p>
+     *
+     * @return number of blocks allocated for packed elements and headers of frames
+     * @see #allocatedBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long allocatedBlocks() {
+        return data.allocatedBlocks();
+    }
+
+    /**
+     * <p>
+     * Returns bytes of all elements of this array before packing, that is, length of this array multiplied by bytes of
+     * each element.
+     * </p>
+     *
+     * @return bytes of all elements of this array before packing
+     * @see #allocatedBytes()
+     * @since 0.0.0
+     */
+    @Override
+    public long logicalBytes() {
+        return length() * Long.BYTES;
+    }
+
+    @Override
+    public PackedLongArray clone() {
+        return new PackedLongArray(data.copy());
+    }
+
+    @Override
+    public String toString() {
+        return "PackedLongArray[" + length() + (isDelta() ? ", delta]" : "]");
+    }
+}
@@ -0,0 +1,731 @@
+package com.cogician.quicker.bigarray;
+
+import java.util.Arrays;
+
+import com.cogician.quicker.Checker;
+
+/**
+ * <p>
+ * Record array is a {@linkplain BigArray} of records, each record consists of fields of byte, int, long or double type.
+ * Records are stored in columns rather than objects: each field has a column of {@linkplain ByteArray},
+ * {@linkplain IntArray}, {@linkplain LongArray} or {@linkplain DoubleArray}, and a record is only an index of the
+ * columns. So that billions of small records can be held without headers and references of objects. Record array is
+ * built by {@linkplain RecordArrayBuilder}, for example:
+ * 
+ * <pre>
+ * RecordArray records = new RecordArrayBuilder().addLongField("id").addDoubleField("price").setLength(n).build();
+ * int id = records.fieldIndex("id");
+ * int price = records.fieldIndex("price");
+ * RecordArray.Cursor cursor = records.cursor();
+ * while (cursor.next()) {
+ *     cursor.setLong(id, cursor.index());
+ *     cursor.setDouble(price, 1.0);
+ * }
+ * ...
+ * </pre>
+ * </p>
+ * <p>
+ * Fields are accessed by their indexes in order of adding, see {@linkplain #fieldIndex(String)}. A
+ * {@linkplain Cursor} is a flyweight of record which can be moved over records and reused.
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T16:48:20+08:00
+ * @since 0.0.0, 2026-10-16T16:48:20+08:00
+ * @see RecordArrayBuilder
+ */
+public class RecordArray extends BigArray {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long length;
+
+    private final String[] names;
+
+    private final BigArray[] columns;
+
+    private final ByteArray[] bytes;
+
+    private final IntArray[] ints;
+
+    private final LongArray[] longs;
+
+    private final DoubleArray[] doubles;
+
+    RecordArray(long length, String[] names, BigArray[] columns) {
+        this.length = length;
+        this.names = names;
+        this.columns = columns;
+        this.bytes = new ByteArray[columns.length];
+        this.ints = new IntArray[columns.length];
+        this.longs = new LongArray[columns.length];
+        this.doubles = new DoubleArray[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            BigArray column = columns[i];
+            if (column instanceof ByteArray) {
+                bytes[i] = (ByteArray)column;
+            } else if (column instanceof IntArray) {
+                ints[i] = (IntArray)column;
+            } else if (column instanceof LongArray) {
+                longs[i] = (LongArray)column;
+            } else {
+                doubles[i] = (DoubleArray)column;
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * Returns number of records of this array.
+     * </p>
+     * 
+     * @return number of records of this array
+     * @since 0.0.0
+     */
+    @Override
+    public long length() {
+        return length;
+    }
+
+    /**
+     * <p>
+     * Returns number of fields of each record.
+     * </p>
+     * 
+     * @return number of fields of each record
+     * @since 0.0.0
+     */
+    public int fieldCount() {
+        return names.length;
+    }
+
+    /**
+     * <p>
+     * Returns name of specified field.
+     * </p>
+     * 
+     * @param field
+     *            index of specified field
+     * @return name of specified field
+     * @throws IndexOutOfBoundsException
+     *             if specified field out of bounds
+     * @since 0.0.0
+     */
+    public String fieldName(int field) throws IndexOutOfBoundsException {
+        return names[field];
+    }
+
+    /**
+     * <p>
+     * Returns type of specified field, one of {@code byte.class}, {@code int.class}, {@code long.class} and
+     * {@code double.class}.
+     * </p>
+     * 
+     * @param field
+     *            index of specified field
+     * @return type of specified field
+     * @throws IndexOutOfBoundsException
+     *             if specified field out of bounds
+     * @since 0.0.0
+     */
+    public Class<?> fieldType(int field) throws IndexOutOfBoundsException {
+        BigArray column = columns[field];
+        if (column instanceof ByteArray) {
+            return byte.class;
+        }
+        if (column instanceof IntArray) {
+            return int.class;
+        }
+        if (column instanceof LongArray) {
+            return long.class;
+        }
+        return double.class;
+    }
+
+    /**
+     * <p>
+     * Returns index of field of specified name, or -1 if there is no such field.
+     * </p>
+     * 
+     * @param name
+     *            specified name
+     * @return index of field of specified name, or -1 if there is no such field
+     * @since 0.0.0
+     */
+    public int fieldIndex(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * <p>
+     * Returns value of specified byte field of record at specified index.
+     * </p>
+     * 
+     * @param index
+     *            specified index in bounds
+     * @param field
+     *            index of specified field
+     * @return value of specified field of record at specified index
+     * @throws IndexOutOfBoundsException
+     *             if specified index or field out of bounds
+     * @throws IllegalArgumentException
+     *             if specified field is not of byte type
+     * @since 0.0.0
+     */
+    public byte getByte(long index, int field) throws IndexOutOfBoundsException, IllegalArgumentException {
+        return byteColumn(field).get(index);
+    }
+
+    /**
+     * <p>
+     * Sets value of specified byte field of record at specified index.
+     * </p>
+     * 
+     * @param index
+     *            specified index in bounds
+     * @param field
+     *            index of specified field
+     * @param value
+     *            value to be set
+     * @throws IndexOutOfBoundsException
+     *             if specified index or field out of bounds
+     * @throws IllegalArgumentException
+     *             if specified field is not of byte type
+     * @since 0.0.0
+     */
+    public void setByte(long index, int field, byte value) throws IndexOutOfBoundsException, IllegalArgumentException {
+        byteColumn(field).set(index, value);
+    }
+
+    /**
+     * <p>
+     * Returns column of specified byte field, which is backed by this array. Bulk operations of the column such as
+     * {@linkplain ByteArray#get(long, byte[], int, int)} work on the field of all records.
+     * </p>
+     * 
+     * @param field
+     *            index of specified field
+     * @return column of specified field
+     * @throws IndexOutOfBoundsException
+     *             if specified field out of bounds
+     * @throws IllegalArgumentException
+     *             if specified field is not of byte type
+     * @since 0.0.0
+     */
+    public ByteArray byteColumn(int field) throws IndexOutOfBoundsException, IllegalArgumentException {
+        ByteArray column = bytes[field];
+        if (null == column) {
+            throw new IllegalArgumentException("Field " + names[field] + " is not of byte type.");
+        }
+        return column;
+    }
+
+    /**
+     * <p>
+     * Returns value of specified int field of record at specified index.
+     * </p>
+     * 
+     * @param index
+     *            specified index in bounds
+     * @param field
+     *            index of specified field
+     * @return value of specified field of record at specified index
+     * @throws IndexOutOfBoundsException
+     *             if specified index or field out of bounds
+     * @throws IllegalArgumentException
+     *             if specified field is not of int type
+     * @since 0.0.0
+     */
+    public int getInt(long index, int field) throws IndexOutOfBoundsException, IllegalArgumentException {
+        return intColumn(field).get(index);
+    }
+
+    /**
+     * <p>
+     * Sets value of specified int field of record at specified index.
+     * </p>
+     * 
+     * @param index
+     *            specified index in bounds
+     * @param field
+     *            index of specified field
+     * @param value
+     *            value to be set
+     * @throws IndexOutOfBoundsException
+     *             if specified index or field out of bounds
+     * @throws IllegalArgumentException
+     *             if specified field is not of int type
+     * @since 0.0.0
+     */
+    public void setInt(long index, int field, int value) throws IndexOutOfBoundsException, IllegalArgumentException {
+        intColumn(field).set(index, value);
+    }
+
+    /**
+     * <p>
+     * Returns column of specified int field, which is backed by this array. Bulk operations of the column such as
+     * {@linkplain IntArray#get(long, int[], int, int)} work on the field of all records.
+     * </p>
+     * 
+     * @param field
+     *            index of specified field
+     * @return column of specified field
+     * @throws IndexOutOfBoundsException
+     *             if specified field out of bounds
+     * @throws IllegalArgumentException
+     *             if specified field is not of int type
+     * @since 0.0.0
+     */
+    public IntArray intColumn(int field) throws IndexOutOfBoundsException, IllegalArgumentException {
+        IntArray column = ints[field];
+        if (null == column) {
+            throw new IllegalArgumentException("Field " + names[field] + " is not of int type.");
+        }
+        return column;
+    }
+
+    /**
+     * <p>
+     * Returns value of specified long field of record at specified index.
+     * </p>
+     * 
+     * @param index
+     *            specified index in bounds
+     * @param field
+     *            index of specified field
+     * @return value of specified field of record at specified index
+     * @throws IndexOutOfBoundsException
+     *             if specified index or field out of bounds
+     * @throws IllegalArgumentException
+     *             if specified field is not of long type
+     * @since 0.0.0
+     */
+    public long getLong(long index, int field) throws IndexOutOfBoundsException, IllegalArgumentException {
+        return longColumn(field).get(index);
+    }
+
+    /**
+     * <p>
+     * Sets value of specified long field of record at specified index.
+     * </p>
+     * 
+     * @param index
+     *            specified index in bounds
+     * @param field
+     *            index of specified field
+     * @param value
+     *            value to be set
+     * @throws IndexOutOfBoundsException
+     *             if specified index or field out of bounds
+     * @throws IllegalArgumentException
+     *             if specified field is not of long type
+     * @since 0.0.0
+     */
+    public void setLong(long index, int field, long value) throws IndexOutOfBoundsException, IllegalArgumentException {
+        longColumn(field).set(index, value);
+    }
+
+    /**
+     * <p>
+     * Returns column of specified long field, which is backed by this array. Bulk operations of the column such as
+     * {@linkplain LongArray#get(long, long[], int, int)} work on the field of all records.
+     * </p>
+     * 
+     * @param field
+     *            index of specified field
+     * @return column of specified field
+     * @throws IndexOutOfBoundsException
+     *             if specified field out of bounds
+     * @throws IllegalArgumentException
+     *             if specified field is not of long type
+     * @since 0.0.0
+     */
+    public LongArray longColumn(int field) throws IndexOutOfBoundsException, IllegalArgumentException {
+        LongArray column = longs[field];
+        if (null == column) {
+            throw new IllegalArgumentException("Field " + names[field] + " is not of long type.");
+        }
+        return column;
+    }
+
+    /**
+     * <p>
+     * Returns value of specified double field of record at specified index.
+     * </p>
+     * 
+     * @param index
+     *            specified index in bounds
+     * @param field
+     *            index of specified field
+     * @return value of specified field of record at specified index
+     * @throws IndexOutOfBoundsException
+     *             if specified index or field out of bounds
+     * @throws IllegalArgumentException
+     *             if specified field is not of double type
+     * @since 0.0.0
+     */
+    public double getDouble(long index, int field) throws IndexOutOfBoundsException, IllegalArgumentException {
+        return doubleColumn(field).get(index);
+    }
+
+    /**
+     * <p>
+     * Sets value of specified double field of record at specified index.
+     * </p>
+     * 
+     * @param index
+     *            specified index in bounds
+     * @param field
+     *            index of specified field
+     * @param value
+     *            value to be set
+     * @throws IndexOutOfBoundsException
+     *             if specified index or field out of bounds
+     * @throws IllegalArgumentException
+     *             if specified field is not of double type
+     * @since 0.0.0
+     */
+    public void setDouble(long index, int field, double value)
+            throws IndexOutOfBoundsException, IllegalArgumentException {
+        doubleColumn(field).set(index, value);
+    }
+
+    /**
+     * <p>
+     * Returns column of specified double field, which is backed by this array. Bulk operations of the column such as
+     * {@linkplain DoubleArray#get(long, double[], int, int)} work on the field of all records.
+     * </p>
+     * 
+     * @param field
+     *            index of specified field
+     * @return column of specified field
+     * @throws IndexOutOfBoundsException
+     *             if specified field out of bounds
+     * @throws IllegalArgumentException
+     *             if specified field is not of double type
+     * @since 0.0.0
+     */
+    public DoubleArray doubleColumn(int field) throws IndexOutOfBoundsException, IllegalArgumentException {
+        DoubleArray column = doubles[field];
+        if (null == column) {
+            throw new IllegalArgumentException("Field " + names[field] + " is not of double type.");
+        }
+        return column;
+    }
+
+    /**
+     * <p>
+     * Returns a new cursor of this array, which is before the first record.
+     * </p>
+     * 
+     * @return a new cursor of this array
+     * @since 0.0.0
+     */
+    public Cursor cursor() {
+        return new Cursor(this);
+    }
+
+    /**
+     * <p>
+     * Returns allocated bytes of all columns, see {@linkplain IntArray#allocatedBytes()}.
+     * </p>
+     * 
+     * @return allocated bytes of all columns
+     * @since 0.0.0
+     */
+    @Override
+    public long allocatedBytes() {
+        long sum = 0;
+        for (BigArray column : columns) {
+            sum += column.allocatedBytes();
+        }
+        return sum;
+    }
+
+    /**
+     * <p>
+     * Returns bytes of all fields of all records, see {@linkplain IntArray#logicalBytes()}.
+     * </p>
+     * 
+     * @return bytes of all fields of all records
+     * @since 0.0.0
+     */
+    @Override
+    public long logicalBytes() {
+        long sum = 0;
+        for (BigArray column : columns) {
+            sum += column.logicalBytes();
+        }
+        return sum;
+    }
+
+    /**
+     * <p>
+     * Returns number of blocks allocated for all columns, see {@linkplain IntArray#allocatedBlocks()}.
+     * </p>
+     * 
+     * @return number of blocks allocated for all columns
+     * @since 0.0.0
+     */
+    @Override
+    public long allocatedBlocks() {
+        long sum = 0;
+        for (BigArray column : columns) {
+            sum += column.allocatedBlocks();
+        }
+        return sum;
+    }
+
+    @Override
+    public RecordArray clone() {
+        BigArray[] columns = new BigArray[this.columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = this.columns[i].clone();
+        }
+        return new RecordArray(length, names, columns);
+    }
+
+    @Override
+    public boolean isOffHeap() {
+        return columns[0].isOffHeap();
+    }
+
+    @Override
+    public void force() throws IllegalStateException {
+        for (BigArray column : columns) {
+            column.force();
+        }
+    }
+
+    @Override
+    public void close() {
+        for (BigArray column : columns) {
+            column.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RecordArray" + Arrays.toString(names) + "[" + length + "]";
+    }
+
+    /**
+     * <p>
+     * Cursor is a flyweight of record of {@linkplain RecordArray}, it points to a record and accesses fields of the
+     * record without creating any object. A cursor can be moved to any record and reused, it is not thread-safe.
+     * </p>
+     *
+     * @author Fred Suvn
+     * @version 0.0.0, 2026-10-16T16:48:20+08:00
+     * @since 0.0.0, 2026-10-16T16:48:20+08:00
+     */
+    public static class Cursor {
+
+        private final RecordArray array;
+
+        private long index = -1;
+
+        private Cursor(RecordArray array) {
+            this.array = array;
+        }
+
+        /**
+         * <p>
+         * Returns index of current record, or -1 if the cursor is before the first record.
+         * </p>
+         * 
+         * @return index of current record
+         * @since 0.0.0
+         */
+        public long index() {
+            return index;
+        }
+
+        /**
+         * <p>
+         * Moves this cursor to record at specified index.
+         * </p>
+         * 
+         * @param index
+         *            specified index in bounds
+         * @return this
+         * @throws IndexOutOfBoundsException
+         *             if specified index out of bounds
+         * @since 0.0.0
+         */
+        public Cursor moveTo(long index) throws IndexOutOfBoundsException {
+            Checker.checkIndex(index, array.length);
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * <p>
+         * Moves this cursor to next record and returns true, or returns false if there is no next record.
+         * </p>
+         * 
+         * @return whether this cursor is moved to next record
+         * @since 0.0.0
+         */
+        public boolean next() {
+            if (index + 1 >= array.length) {
+                return false;
+            }
+            index++;
+            return true;
+        }
+
+        /**
+         * <p>
+         * Returns value of specified byte field of current record.
+         * </p>
+         * 
+         * @param field
+         *            index of specified field
+         * @return value of specified field of current record
+         * @throws IndexOutOfBoundsException
+         *             if specified field out of bounds, or the cursor is not on a record
+         * @throws IllegalArgumentException
+         *             if specified field is not of byte type
+         * @since 0.0.0
+         */
+        public byte getByte(int field) throws IndexOutOfBoundsException, IllegalArgumentException {
+            return array.byteColumn(field).get(index);
+        }
+
+        /**
+         * <p>
+         * Sets value of specified byte field of current record.
+         * </p>
+         * 
+         * @param field
+         *            index of specified field
+         * @param value
+         *            value to be set
+         * @throws IndexOutOfBoundsException
+         *             if specified field out of bounds, or the cursor is not on a record
+         * @throws IllegalArgumentException
+         *             if specified field is not of byte type
+         * @since 0.0.0
+         */
+        public void setByte(int field, byte value) throws IndexOutOfBoundsException, IllegalArgumentException {
+            array.byteColumn(field).set(index, value);
+        }
+
+        /**
+         * <p>
+         * Returns value of specified int field of current record.
+         * </p>
+         * 
+         * @param field
+         *            index of specified field
+         * @return value of specified field of current record
+         * @throws IndexOutOfBoundsException
+         *             if specified field out of bounds, or the cursor is not on a record
+         * @throws IllegalArgumentException
+         *             if specified field is not of int type
+         * @since 0.0.0
+         */
+        public int getInt(int field) throws IndexOutOfBoundsException, IllegalArgumentException {
+            return array.intColumn(field).get(index);
+        }
+
+        /**
+         * <p>
+         * Sets value of specified int field of current record.
+         * </p>
+         * 
+         * @param field
+         *            index of specified field
+         * @param value
+         *            value to be set
+         * @throws IndexOutOfBoundsException
+         *             if specified field out of bounds, or the cursor is not on a record
+         * @throws IllegalArgumentException
+         *             if specified field is not of int type
+         * @since 0.0.0
+         */
+        public void setInt(int field, int value) throws IndexOutOfBoundsException, IllegalArgumentException {
+            array.intColumn(field).set(index, value);
+        }
+
+        /**
+         * <p>
+         * Returns value of specified long field of current record.
+         * </p>
+         * 
+         * @param field
+         *            index of specified field
+         * @return value of specified field of current record
+         * @throws IndexOutOfBoundsException
+         *             if specified field out of bounds, or the cursor is not on a record
+         * @throws IllegalArgumentException
+         *             if specified field is not of long type
+         * @since 0.0.0
+         */
+        public long getLong(int field) throws IndexOutOfBoundsException, IllegalArgumentException {
+            return array.longColumn(field).get(index);
+        }
+
+        /**
+         * <p>
+         * Sets value of specified long field of current record.
+         * </p>
+         * 
+         * @param field
+         *            index of specified field
+         * @param value
+         *            value to be set
+         * @throws IndexOutOfBoundsException
+         *             if specified field out of bounds, or the cursor is not on a record
+         * @throws IllegalArgumentException
+         *             if specified field is not of long type
+         * @since 0.0.0
+         */
+        public void setLong(int field, long value) throws IndexOutOfBoundsException, IllegalArgumentException {
+            array.longColumn(field).set(index, value);
+        }
+
+        /**
+         * <p>
+         * Returns value of specified double field of current record.
+         * </p>
+         * 
+         * @param field
+         *            index of specified field
+         * @return value of specified field of current record
+         * @throws IndexOutOfBoundsException
+         *             if specified field out of bounds, or the cursor is not on a record
+         * @throws IllegalArgumentException
+         *             if specified field is not of double type
+         * @since 0.0.0
+         */
+        public double getDouble(int field) throws IndexOutOfBoundsException, IllegalArgumentException {
+            return array.doubleColumn(field).get(index);
+        }
+
+        /**
+         * <p>
+         * Sets value of specified double field of current record.
+         * </p>
+         * 
+         * @param field
+         *            index of specified field
+         * @param value
+         *            value to be set
+         * @throws IndexOutOfBoundsException
+         *             if specified field out of bounds, or the cursor is not on a record
+         * @throws IllegalArgumentException
+         *             if specified field is not of double type
+         * @since 0.0.0
+         */
+        public void setDouble(int field, double value) throws IndexOutOfBoundsException, IllegalArgumentException {
+            array.doubleColumn(field).set(index, value);
+        }
+    }
+}
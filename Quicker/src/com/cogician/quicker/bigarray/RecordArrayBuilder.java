@@ -0,0 +1,179 @@
+package com.cogician.quicker.bigarray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import com.cogician.quicker.Buildable;
+import com.cogician.quicker.Checker;
+
+/**
+ * <p>
+ * A builder to build {@linkplain RecordArray}. Fields are added in order, each of them becomes a column of the record
+ * array.
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T16:48:20+08:00
+ * @since 0.0.0, 2026-10-16T16:48:20+08:00
+ * @see RecordArray
+ */
+public class RecordArrayBuilder implements Buildable<RecordArray> {
+
+    private final List<String> names = new ArrayList<>();
+
+    private final List<Class<?>> types = new ArrayList<>();
+
+    private long length = 0;
+
+    private boolean offHeap = false;
+
+    /**
+     * <p>
+     * Adds a field of byte type.
+     * </p>
+     *
+     * @param name
+     *            name of the field
+     * @return this
+     * @throws NullPointerException
+     *             if given name is null
+     * @throws IllegalArgumentException
+     *             if there has been a field of given name
+     * @since 0.0.0
+     */
+    public RecordArrayBuilder addByteField(String name) throws NullPointerException, IllegalArgumentException {
+        return addField(name, byte.class);
+    }
+
+    /**
+     * <p>
+     * Adds a field of int type.
+     * </p>
+     *
+     * @param name
+     *            name of the field
+     * @return this
+     * @throws NullPointerException
+     *             if given name is null
+     * @throws IllegalArgumentException
+     *             if there has been a field of given name
+     * @since 0.0.0
+     */
+    public RecordArrayBuilder addIntField(String name) throws NullPointerException, IllegalArgumentException {
+        return addField(name, int.class);
+    }
+
+    /**
+     * <p>
+     * Adds a field of long type.
+     * </p>
+     *
+     * @param name
+     *            name of the field
+     * @return this
+     * @throws NullPointerException
+     *             if given name is null
+     * @throws IllegalArgumentException
+     *             if there has been a field of given name
+     * @since 0.0.0
+     */
+    public RecordArrayBuilder addLongField(String name) throws NullPointerException, IllegalArgumentException {
+        return addField(name, long.class);
+    }
+
+    /**
+     * <p>
+     * Adds a field of double type.
+     * </p>
+     *
+     * @param name
+     *            name of the field
+     * @return this
+     * @throws NullPointerException
+     *             if given name is null
+     * @throws IllegalArgumentException
+     *             if there has been a field of given name
+     * @since 0.0.0
+     */
+    public RecordArrayBuilder addDoubleField(String name) throws NullPointerException, IllegalArgumentException {
+        return addField(name, double.class);
+    }
+
+    private RecordArrayBuilder addField(String name, Class<?> type)
+            throws NullPointerException, IllegalArgumentException {
+        Checker.checkNull(name);
+        Checker.check(!names.contains(name), "Duplicate field: " + name);
+        names.add(name);
+        types.add(type);
+        return this;
+    }
+
+    /**
+     * <p>
+     * Sets number of records, default is 0.
+     * </p>
+     *
+     * @param length
+     *            number of records, >= 0
+     * @return this
+     * @throws IllegalArgumentException
+     *             if given length is negative
+     * @since 0.0.0
+     */
+    public RecordArrayBuilder setLength(long length) throws IllegalArgumentException {
+        Checker.checkLength(length);
+        this.length = length;
+        return this;
+    }
+
+    /**
+     * <p>
+     * Sets whether columns are off-heap, default is false.
+     * </p>
+     *
+     * @param offHeap
+     *            whether columns are off-heap
+     * @return this
+     * @since 0.0.0
+     */
+    public RecordArrayBuilder setOffHeap(boolean offHeap) {
+        this.offHeap = offHeap;
+        return this;
+    }
+
+    /**
+     * <p>
+     * Builds {@linkplain RecordArray} according to given fields and settings. Each field is initialized to zero.
+     * </p>
+     *
+     * @return {@linkplain RecordArray} according to given fields and settings
+     * @throws IllegalStateException
+     *             if no field is added
+     * @since 0.0.0
+     */
+    @Override
+    public RecordArray build() throws IllegalStateException {
+        if (names.isEmpty()) {
+            throw new IllegalStateException("No field is added.");
+        }
+        BigArray[] columns = new BigArray[names.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = column(types.get(i)).apply(length);
+        }
+        return new RecordArray(length, names.toArray(new String[names.size()]), columns);
+    }
+
+    private LongFunction<BigArray> column(Class<?> type) {
+        if (byte.class.equals(type)) {
+            return offHeap ? ByteArray::offHeap : ByteArray::new;
+        }
+        if (int.class.equals(type)) {
+            return offHeap ? IntArray::offHeap : IntArray::new;
+        }
+        if (long.class.equals(type)) {
+            return offHeap ? LongArray::offHeap : LongArray::new;
+        }
+        return offHeap ? DoubleArray::offHeap : DoubleArray::new;
+    }
+}
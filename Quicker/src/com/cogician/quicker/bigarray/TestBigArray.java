@@ -1,6 +1,13 @@
 package com.cogician.quicker.bigarray;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
 import com.cogician.quicker.Quicker;
+import com.cogician.quicker.binary.QuickInputer;
+import com.cogician.quicker.binary.QuickOutputer;
 import com.cogician.quicker.util.RandomQuicker;
 
 /**
@@ -167,4 +174,254 @@ public class TestBigArray {
             System.out.println(str);
         });
     }
+
+    public static void testStream() {
+        IntArray ints = new IntArray(100, 8, 1, true);
+        Quicker.each(10, () -> {
+            ints.set(RandomQuicker.nextInt(0, 99), RandomQuicker.nextInt(0, 100));
+        });
+        long sum = 0;
+        for (int i : ints) {
+            sum += i;
+        }
+        System.out.println("sum= " + sum + ", intStream sum= " + ints.intStream().asLongStream().sum());
+        ShortArray shorts = new ShortArray(100, 8, (short)-1, true);
+        System.out.println("short intStream sum= " + shorts.intStream().sum());
+        FloatArray floats = new FloatArray(100, 8, 0.5f, false);
+        System.out.println("float doubleStream sum= " + floats.doubleStream().sum());
+    }
+
+    public static void testOffHeap() {
+        try (LongArray longs = LongArray.offHeap(100, 8, 1L, true)) {
+            Quicker.each(10, () -> {
+                longs.set(RandomQuicker.nextInt(0, 99), RandomQuicker.nextLong());
+            });
+            LongArray heap = new LongArray(100);
+            longs.copy(heap);
+            System.out.println("off-heap: " + longs.isOffHeap() + ", sum= " + longs.longStream().sum()
+                    + ", copied sum= " + heap.longStream().sum());
+            LongArray clone = longs.clone();
+            System.out.println("clone off-heap: " + clone.isOffHeap() + ", sum= " + clone.longStream().sum());
+            clone.close();
+        }
+    }
+
+    public static void testBits() {
+        BooleanArray bits = BooleanArray.bitPacked(1000, 128, false, true);
+        BooleanArray other = BooleanArray.bitPacked(1000);
+        Quicker.each(100, () -> {
+            bits.set(RandomQuicker.nextInt(0, 999), true);
+            other.set(RandomQuicker.nextInt(0, 999), true);
+        });
+        System.out.println("cardinality= " + bits.cardinality() + ", first= " + bits.nextSetBit(0) + ", first clear= "
+                + bits.nextClearBit(0));
+        bits.or(other);
+        System.out.println("or cardinality= " + bits.cardinality());
+        bits.andNot(other);
+        System.out.println("andNot cardinality= " + bits.cardinality());
+        bits.copy(0, bits, 100, 500);
+        System.out.println("copied cardinality= " + bits.cardinality());
+    }
+
+    public static void testParallel() {
+        IntArray ints = new IntArray(10000, 256, 0, true);
+        ints.parallelFill(1);
+        Quicker.each(100, () -> {
+            ints.set(RandomQuicker.nextInt(0, 9999), RandomQuicker.nextInt(0, 100));
+        });
+        IntArray copy = new IntArray(10000, 128, 0, false);
+        ints.parallelCopy(0, copy, 0, ints.length());
+        System.out.println("sum= " + ints.intStream().asLongStream().sum() + ", copied sum= "
+                + copy.intStream().asLongStream().sum() + ", cloned sum= "
+                + ints.parallelClone().intStream().asLongStream().sum());
+    }
+
+    public static void testSort() {
+        LongArray longs = new LongArray(10000, 256, 0L, true);
+        Quicker.each(1000, () -> {
+            longs.set(RandomQuicker.nextInt(0, 9999), RandomQuicker.nextLong());
+        });
+        long value = longs.get(5000);
+        longs.parallelSort();
+        boolean sorted = true;
+        for (long i = 1; i < longs.length(); i++) {
+            sorted &= longs.get(i - 1) <= longs.get(i);
+        }
+        System.out.println("sorted= " + sorted + ", index of " + value + "= " + longs.binarySearch(value));
+        IntArray empty = new IntArray(0);
+        empty.sort();
+        empty.parallelSort();
+        IntArray emptyLazy = new IntArray(0, 8, 0, true);
+        emptyLazy.sort();
+        emptyLazy.parallelSort();
+        System.out.println("empty sorted length= " + empty.length() + ", lazy= " + emptyLazy.length());
+    }
+
+    public static void testAtomic() {
+        AtomicLongArray histogram = new AtomicLongArray(1000, 64, 0L, true);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    histogram.incrementAndGet(i % 1000);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        System.out.println("count= " + histogram.toLongArray().longStream().sum() + ", expected= " + 4 * 10000);
+    }
+
+    public static void testSparse() {
+        DoubleArray features = DoubleArray.sparse(1L << 32);
+        Quicker.each(100, () -> {
+            features.set(RandomQuicker.nextLong(0, (1L << 32) - 1), RandomQuicker.nextDouble());
+        });
+        System.out.println(
+                "allocated bytes= " + features.allocatedBytes() + ", logical bytes= " + features.logicalBytes());
+        features.forEachNonDefault((i, v) -> features.set(i, 0.0));
+        System.out.println("reset allocated bytes= " + features.allocatedBytes());
+        DoubleArray zeros = DoubleArray.sparse(1000);
+        zeros.set(5, -0.0);
+        zeros.set(500, 1.0);
+        zeros.sort();
+        System.out.println("-0.0 read back= " + zeros.get(0) + ", allocated bytes= " + zeros.allocatedBytes());
+        DoubleArray nans = DoubleArray.sparse(1000, 64, Double.NaN);
+        nans.set(5, 1.0);
+        nans.set(5, Double.NaN);
+        nans.set(6, Double.NaN);
+        long[] nonDefault = {0};
+        nans.forEachNonDefault((i, v) -> nonDefault[0]++);
+        System.out.println("NaN filler allocated bytes= " + nans.allocatedBytes() + ", non-default= " + nonDefault[0]);
+    }
+
+    public static void testBigList() {
+        IntBigList list = new IntBigList(1024);
+        Quicker.each(10000, () -> list.add(list.size() > 0 ? list.get(list.size() - 1) + 1 : 0));
+        list.addAll(new IntArray(new int[] { 10000, 10001, 10002 }));
+        System.out.println("size= " + list.size() + ", capacity= " + list.capacity());
+        list.trimToSize();
+        System.out.println("trimmed capacity= " + list.capacity());
+        IntArray view = list.toIntArray();
+        view.set(5000L, -1);
+        System.out.println("view length= " + view.length() + ", list.get(5000)= " + list.get(5000L));
+    }
+
+    public static void testStreaming() {
+        IntArray array = new IntArray(1000000L, 1024, 0, true);
+        for (long i = 0; i < 100000L; i++) {
+            array.set(i, (int)i);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (QuickOutputer out = new QuickOutputer(bytes)) {
+            array.writeTo(out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        System.out.println("written bytes= " + bytes.size());
+        try (QuickInputer in = new QuickInputer(new ByteArrayInputStream(bytes.toByteArray()))) {
+            IntArray read = IntArray.readFrom(in);
+            System.out.println("read length= " + read.length() + ", read.get(99999)= " + read.get(99999L));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void testKernels() {
+        DoubleArray a = new DoubleArray(3000000L, 1.0);
+        DoubleArray b = new DoubleArray(3000000L, 2.0);
+        a.axpy(3.0, b);
+        System.out.println("sum= " + a.sum() + ", parallelSum= " + a.parallelSum() + ", dot= " + a.dot(b));
+        a.map(v -> -v);
+        a.zipWith(b, Math::max);
+        System.out.println("min= " + a.min() + ", max= " + a.parallelMax());
+    }
+
+    public static void testBulkAccess() {
+        IntArray array = new IntArray(100000L, 1000, 0, true);
+        int[] window = new int[4096];
+        Arrays.fill(window, 7);
+        array.set(998L, window, 0, window.length);
+        array.get(990L, window, 0, 16);
+        System.out.println(Arrays.toString(Arrays.copyOf(window, 16)));
+    }
+
+    public static void testRecords() {
+        RecordArray records = new RecordArrayBuilder().addLongField("id").addDoubleField("price").setLength(1000000L)
+                .build();
+        int id = records.fieldIndex("id");
+        int price = records.fieldIndex("price");
+        RecordArray.Cursor cursor = records.cursor();
+        while (cursor.next()) {
+            cursor.setLong(id, cursor.index());
+            cursor.setDouble(price, cursor.index() * 0.5);
+        }
+        System.out.println(records + ": " + records.getLong(999L, id) + ", " + cursor.moveTo(999L).getDouble(price)
+                + ", total price= " + records.doubleColumn(price).sum());
+    }
+
+    public static void testHashTables() {
+        LongIntMap map = new LongIntMap();
+        LongSet set = new LongSet();
+        for (long i = 0; i < 1000000L; i++) {
+            map.put(i * 7, (int)i);
+            set.add(i * 3);
+        }
+        map.remove(7L);
+        set.remove(0L);
+        long[] hits = new long[1];
+        set.forEach(key -> hits[0] += map.containsKey(key) ? 1 : 0);
+        System.out.println(map.size() + ", " + map.capacity() + ", " + map.get(700L) + ", " + set.size() + ", "
+                + hits[0]);
+    }
+
+    public static void testPacked() {
+        LongArray timestamps = new LongArray(1000000L);
+        long time = System.currentTimeMillis();
+        for (long i = 0; i < timestamps.length(); i++) {
+            time += 1000 + i % 7;
+            timestamps.set(i, time);
+        }
+        PackedLongArray packed = new PackedLongArray(timestamps, true);
+        System.out.println(packed + ": " + packed.logicalBytes() + " -> " + packed.allocatedBytes() + ", "
+                + (packed.get(999999L) == timestamps.get(999999L)));
+        LongArray noise = new LongArray(100000L);
+        noise.parallelFill(0L);
+        Quicker.each(1000, () -> noise.set(RandomQuicker.nextInt(0, 99999), RandomQuicker.nextLong()));
+        PackedLongArray[] arrays = { packed, new PackedLongArray(noise, true), new PackedLongArray(noise, false) };
+        LongArray[] sources = { timestamps, noise, noise };
+        boolean equal = true;
+        for (int a = 0; a < arrays.length; a++) {
+            for (int k = 0; k < 10000; k++) {
+                long index = RandomQuicker.nextLong(0, sources[a].length() - 1);
+                equal &= arrays[a].get(index) == sources[a].get(index);
+            }
+            equal &= Arrays.equals(arrays[a].unpack().toArray(), sources[a].toArray());
+        }
+        System.out.println("random get and unpack equal= " + equal);
+    }
+
+    public static void testMemory() {
+        BigArrayRegistry registry = BigArrayRegistry.getDefault();
+        IntArray lazy = registry.register(new IntArray(1L << 24, 1 << 16, 0, true));
+        LongArray sparse = registry.register(LongArray.sparse(1L << 32));
+        lazy.set(0L, 1);
+        sparse.set(1L << 31, 1L);
+        System.out.println(lazy.allocatedBlocks() + ", " + lazy.allocatedBytes() + " / " + lazy.logicalBytes());
+        System.out.println(registry.getAllocatedBytesByType() + " / " + registry.getLogicalBytesByType());
+        IntBigList small = new IntBigList();
+        Quicker.each(10, () -> small.add((int)small.size()));
+        System.out.println("capacity= " + small.capacity() + ", list view allocated bytes= "
+                + small.toIntArray().allocatedBytes() + ", expected= " + small.capacity() * Integer.BYTES);
+        IntBigList trimmed = new IntBigList(8);
+        Quicker.each(20, () -> trimmed.add((int)trimmed.size()));
+        trimmed.trimToSize();
+        System.out.println("trimmed view allocated bytes= " + trimmed.toIntArray().allocatedBytes() + ", expected= 80");
+    }
 }
@@ -14,18 +14,18 @@
  * <p>
  * The theoretical length of big array can reach to the {@linkplain java.lang.Long#MAX_VALUE}.
  * </p>
- * <h2>Backed by multidimensional array</h2>
+ * <h2>Backed by blocks</h2>
  * <p>
- * Big array is backed by array or multidimensional array. A big array backed by byte[4][5][6] is equivalent to an
- * traditional array byte[120]. The size of each dimension called block size is limited to {@linkplain #BLOCK_SIZE}, and
- * it also can be specified. Actual backed array will be resized according to the length. Note that the max dimensions
- * value of an array is 255 so enough block size specifying is necessary.
+ * Big array stores its elements in blocks, of which size is {@linkplain BigArray#BLOCK_SIZE} by default and also can be
+ * specified. A short big array is backed by a traditional array, a longer one by a two-dimensional array, and one
+ * longer than square of block size by a page table of two levels, of which block size is rounded down to power of 2
+ * so an index is located by shifting and masking only.
  * </p>
  * <h2>Lazy allocating</h2>
  * <p>
- * An one-dimensional backed big array allocates all space when initializes, but multidimensional only allocates its
- * first dimension by default -- it is lazy. It allocates required space when needed. It can also allocate all space
- * like an one-dimensional if specified non-lazy.
+ * A big array backed by a traditional array allocates all space when initializes, but the others only allocate their
+ * first level by default -- they are lazy. Blocks are allocated when they are written first. They can also allocate
+ * all space when initialize if specified non-lazy.
  * </p>
  * <h2>Access by index of int type</h2>
  * <p>
@@ -1,5 +1,8 @@
 package com.cogician.quicker.binary;
 
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+
 import com.cogician.quicker.Checker;
 import com.cogician.quicker.Quicker;
 import com.cogician.quicker.bigarray.BigArray;
@@ -161,6 +164,26 @@ public abstract class AbstractBinary implements Binary {
         return copy;
     }
 
+    @Override
+    public void getBytes(long index, byte[] dest, int offset, int length)
+            throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException, BinaryException {
+        Checker.checkNull(dest);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(offset, offset + length, dest.length);
+        Checker.checkRangeIndexes(index, index + length, length());
+        base._getBytes(index, dest, offset, length);
+    }
+
+    @Override
+    public void getBytes(long index, ByteBuffer dest)
+            throws NullPointerException, IndexOutOfBoundsException, ReadOnlyBufferException, BinaryException {
+        if (dest.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        Checker.checkRangeIndexes(index, index + dest.remaining(), length());
+        base._getBytes(index, dest);
+    }
+
     @Override
     public void setByte(long index, int value) throws IndexOutOfBoundsException, BinaryException {
         Checker.checkRangeIndexes(index, index + 1, length());
@@ -257,4 +280,21 @@ public abstract class AbstractBinary implements Binary {
             }
         }
     }
+
+    @Override
+    public void setBytes(long index, byte[] src, int offset, int length)
+            throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException, BinaryException {
+        Checker.checkNull(src);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(offset, offset + length, src.length);
+        Checker.checkRangeIndexes(index, index + length, length());
+        base._setBytes(index, src, offset, length);
+    }
+
+    @Override
+    public void setBytes(long index, ByteBuffer src)
+            throws NullPointerException, IndexOutOfBoundsException, BinaryException {
+        Checker.checkRangeIndexes(index, index + src.remaining(), length());
+        base._setBytes(index, src);
+    }
 }
@@ -1,5 +1,7 @@
 package com.cogician.quicker.binary;
 
+import java.nio.ByteBuffer;
+
 /**
  * <p>
  * Base binary access, used to implement underline read/writ operation. All read/write operation uses big-endian.
@@ -282,4 +284,123 @@ public interface BaseReadWrite {
     default void _setDouble(long index, double value) throws IndexOutOfBoundsException, BinaryException {
         _setLong(index, Double.doubleToRawLongBits(value));
     }
+
+    /**
+     * <p>
+     * Reads bytes of specified length at specified index into given array from specified offset. Arguments have been
+     * checked by caller.
+     * </p>
+     * 
+     * @param index
+     *            specified index
+     * @param dest
+     *            given array
+     * @param offset
+     *            specified offset of given array
+     * @param length
+     *            specified length
+     * @throws IndexOutOfBoundsException
+     *             if specified index out of bounds or it leads to read out of bounds
+     * @throws BinaryException
+     *             if any problem occurs when getting
+     * @since 0.0.0
+     */
+    default void _getBytes(long index, byte[] dest, int offset, int length)
+            throws IndexOutOfBoundsException, BinaryException {
+        for (int i = 0; i < length; i++) {
+            dest[offset + i] = _getByte(index + i);
+        }
+    }
+
+    /**
+     * <p>
+     * Reads bytes at specified index into given buffer, as many as remaining of the buffer, and increases position of
+     * the buffer. Bytes are moved through a chunk array if the buffer is not backed by array. Arguments have been
+     * checked by caller.
+     * </p>
+     * 
+     * @param index
+     *            specified index
+     * @param dest
+     *            given buffer
+     * @throws IndexOutOfBoundsException
+     *             if specified index out of bounds or it leads to read out of bounds
+     * @throws BinaryException
+     *             if any problem occurs when getting
+     * @since 0.0.0
+     */
+    default void _getBytes(long index, ByteBuffer dest) throws IndexOutOfBoundsException, BinaryException {
+        int position = dest.position();
+        int length = dest.remaining();
+        if (dest.hasArray()) {
+            _getBytes(index, dest.array(), dest.arrayOffset() + position, length);
+            dest.position(position + length);
+            return;
+        }
+        byte[] buffer = new byte[Math.min(length, BytesUtil.BUFFER_SIZE)];
+        for (int i = 0; i < length; i += buffer.length) {
+            int n = Math.min(buffer.length, length - i);
+            _getBytes(index + i, buffer, 0, n);
+            dest.put(buffer, 0, n);
+        }
+    }
+
+    /**
+     * <p>
+     * Writes bytes of specified length from specified offset of given array at specified index. Arguments have been
+     * checked by caller.
+     * </p>
+     * 
+     * @param index
+     *            specified index
+     * @param src
+     *            given array
+     * @param offset
+     *            specified offset of given array
+     * @param length
+     *            specified length
+     * @throws IndexOutOfBoundsException
+     *             if specified index out of bounds or it leads to write out of bounds
+     * @throws BinaryException
+     *             if any problem occurs when putting
+     * @since 0.0.0
+     */
+    default void _setBytes(long index, byte[] src, int offset, int length)
+            throws IndexOutOfBoundsException, BinaryException {
+        for (int i = 0; i < length; i++) {
+            _setByte(index + i, src[offset + i]);
+        }
+    }
+
+    /**
+     * <p>
+     * Writes remaining bytes of given buffer at specified index, and increases position of the buffer. Bytes are moved
+     * through a chunk array if the buffer is not backed by array. Arguments have been checked by caller.
+     * </p>
+     * 
+     * @param index
+     *            specified index
+     * @param src
+     *            given buffer
+     * @throws IndexOutOfBoundsException
+     *             if specified index out of bounds or it leads to write out of bounds
+     * @throws BinaryException
+     *             if any problem occurs when putting
+     * @since 0.0.0
+     */
+    default void _setBytes(long index, ByteBuffer src) throws IndexOutOfBoundsException, BinaryException {
+        int position = src.position();
+        int length = src.remaining();
+        if (src.hasArray()) {
+            _setBytes(index, src.array(), src.arrayOffset() + position, length);
+            src.position(position + length);
+            return;
+        }
+        byte[] buffer = new byte[Math.min(length, BytesUtil.BUFFER_SIZE)];
+        for (int i = 0; i < length; i += buffer.length) {
+            int n = Math.min(buffer.length, length - i);
+            src.get(buffer, 0, n);
+            _setBytes(index + i, buffer, 0, n);
+        }
+    }
 }
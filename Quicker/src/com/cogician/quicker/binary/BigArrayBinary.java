@@ -0,0 +1,485 @@
+package com.cogician.quicker.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.LongUnaryOperator;
+
+import com.cogician.quicker.Checker;
+import com.cogician.quicker.OutOfBoundsException;
+import com.cogician.quicker.Quicker;
+import com.cogician.quicker.bigarray.CharArray;
+import com.cogician.quicker.bigarray.DoubleArray;
+import com.cogician.quicker.bigarray.FloatArray;
+import com.cogician.quicker.bigarray.IntArray;
+import com.cogician.quicker.bigarray.LongArray;
+import com.cogician.quicker.bigarray.ShortArray;
+import com.cogician.quicker.function.EachLongConsumer;
+import com.sun.istack.internal.Nullable;
+
+/**
+ * <p>
+ * A {@linkplain Binary} implementation viewing a numeric big array such as {@linkplain IntArray}, no element is copied.
+ * Each element occupies fixed bytes of the binary in byte order of the binary, changes of either of them are visible
+ * to the other. Access of same type as the element at aligned index, such as {@linkplain #getInt(long)} at index
+ * multiple of 4 of an int array, reads or writes the element directly, other access is composed of bytes. Bulk
+ * access such as {@linkplain #getBytes(long, byte[], int, int)} moves whole elements in chunks through bulk access of
+ * the array.
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T14:41:08+08:00
+ * @since 0.0.0, 2026-10-16T14:41:08+08:00
+ */
+public class BigArrayBinary extends AbstractBinary implements Binary {
+
+    /**
+     * <p>
+     * Returns a binary viewing specified short array with specified byte order processor. If given byte order
+     * processor is null, use default {@linkplain ByteOrderProcessor#BIG_ENDIAN}.
+     * </p>
+     *
+     * @param array
+     *            specified short array
+     * @param orderProcessor
+     *            given byte order processor
+     * @return a binary viewing specified short array
+     * @throws NullPointerException
+     *             if specified array is null
+     * @throws OutOfBoundsException
+     *             if length of the binary exceeds {@linkplain Long#MAX_VALUE}
+     * @since 0.0.0
+     */
+    public static BigArrayBinary of(ShortArray array, @Nullable ByteOrderProcessor orderProcessor)
+            throws NullPointerException, OutOfBoundsException {
+        Checker.checkNull(array);
+        return new BigArrayBinary(array.length(), Short.BYTES, i -> array.get(i),
+                (i, bits) -> array.set(i, (short)bits),
+                (i, buffer, n) -> {
+                    short[] chunk = new short[n];
+                    array.get(i, chunk, 0, n);
+                    buffer.asShortBuffer().put(chunk);
+                }, (i, buffer, n) -> {
+                    short[] chunk = new short[n];
+                    buffer.asShortBuffer().get(chunk);
+                    array.set(i, chunk, 0, n);
+                }, orderProcessor);
+    }
+
+    /**
+     * <p>
+     * Returns a binary viewing specified char array with specified byte order processor. If given byte order processor
+     * is null, use default {@linkplain ByteOrderProcessor#BIG_ENDIAN}.
+     * </p>
+     *
+     * @param array
+     *            specified char array
+     * @param orderProcessor
+     *            given byte order processor
+     * @return a binary viewing specified char array
+     * @throws NullPointerException
+     *             if specified array is null
+     * @throws OutOfBoundsException
+     *             if length of the binary exceeds {@linkplain Long#MAX_VALUE}
+     * @since 0.0.0
+     */
+    public static BigArrayBinary of(CharArray array, @Nullable ByteOrderProcessor orderProcessor)
+            throws NullPointerException, OutOfBoundsException {
+        Checker.checkNull(array);
+        return new BigArrayBinary(array.length(), Character.BYTES, i -> array.get(i),
+                (i, bits) -> array.set(i, (char)bits),
+                (i, buffer, n) -> {
+                    char[] chunk = new char[n];
+                    array.get(i, chunk, 0, n);
+                    buffer.asCharBuffer().put(chunk);
+                }, (i, buffer, n) -> {
+                    char[] chunk = new char[n];
+                    buffer.asCharBuffer().get(chunk);
+                    array.set(i, chunk, 0, n);
+                }, orderProcessor);
+    }
+
+    /**
+     * <p>
+     * Returns a binary viewing specified int array with specified byte order processor. If given byte order processor
+     * is null, use default {@linkplain ByteOrderProcessor#BIG_ENDIAN}.
+     * </p>
+     *
+     * @param array
+     *            specified int array
+     * @param orderProcessor
+     *            given byte order processor
+     * @return a binary viewing specified int array
+     * @throws NullPointerException
+     *             if specified array is null
+     * @throws OutOfBoundsException
+     *             if length of the binary exceeds {@linkplain Long#MAX_VALUE}
+     * @since 0.0.0
+     */
+    public static BigArrayBinary of(IntArray array, @Nullable ByteOrderProcessor orderProcessor)
+            throws NullPointerException, OutOfBoundsException {
+        Checker.checkNull(array);
+        return new BigArrayBinary(array.length(), Integer.BYTES, i -> array.get(i),
+                (i, bits) -> array.set(i, (int)bits),
+                (i, buffer, n) -> {
+                    int[] chunk = new int[n];
+                    array.get(i, chunk, 0, n);
+                    buffer.asIntBuffer().put(chunk);
+                }, (i, buffer, n) -> {
+                    int[] chunk = new int[n];
+                    buffer.asIntBuffer().get(chunk);
+                    array.set(i, chunk, 0, n);
+                }, orderProcessor);
+    }
+
+    /**
+     * <p>
+     * Returns a binary viewing specified long array with specified byte order processor. If given byte order processor
+     * is null, use default {@linkplain ByteOrderProcessor#BIG_ENDIAN}.
+     * </p>
+     *
+     * @param array
+     *            specified long array
+     * @param orderProcessor
+     *            given byte order processor
+     * @return a binary viewing specified long array
+     * @throws NullPointerException
+     *             if specified array is null
+     * @throws OutOfBoundsException
+     *             if length of the binary exceeds {@linkplain Long#MAX_VALUE}
+     * @since 0.0.0
+     */
+    public static BigArrayBinary of(LongArray array, @Nullable ByteOrderProcessor orderProcessor)
+            throws NullPointerException, OutOfBoundsException {
+        Checker.checkNull(array);
+        return new BigArrayBinary(array.length(), Long.BYTES, i -> array.get(i), (i, bits) -> array.set(i, bits),
+                (i, buffer, n) -> {
+                    long[] chunk = new long[n];
+                    array.get(i, chunk, 0, n);
+                    buffer.asLongBuffer().put(chunk);
+                }, (i, buffer, n) -> {
+                    long[] chunk = new long[n];
+                    buffer.asLongBuffer().get(chunk);
+                    array.set(i, chunk, 0, n);
+                }, orderProcessor);
+    }
+
+    /**
+     * <p>
+     * Returns a binary viewing specified float array with specified byte order processor. Each element is stored as
+     * its raw int bits. If given byte order processor is null, use default {@linkplain ByteOrderProcessor#BIG_ENDIAN}.
+     * </p>
+     *
+     * @param array
+     *            specified float array
+     * @param orderProcessor
+     *            given byte order processor
+     * @return a binary viewing specified float array
+     * @throws NullPointerException
+     *             if specified array is null
+     * @throws OutOfBoundsException
+     *             if length of the binary exceeds {@linkplain Long#MAX_VALUE}
+     * @since 0.0.0
+     */
+    public static BigArrayBinary of(FloatArray array, @Nullable ByteOrderProcessor orderProcessor)
+            throws NullPointerException, OutOfBoundsException {
+        Checker.checkNull(array);
+        return new BigArrayBinary(array.length(), Float.BYTES, i -> Float.floatToRawIntBits(array.get(i)),
+                (i, bits) -> array.set(i, Float.intBitsToFloat((int)bits)),
+                (i, buffer, n) -> {
+                    float[] chunk = new float[n];
+                    array.get(i, chunk, 0, n);
+                    buffer.asFloatBuffer().put(chunk);
+                }, (i, buffer, n) -> {
+                    float[] chunk = new float[n];
+                    buffer.asFloatBuffer().get(chunk);
+                    array.set(i, chunk, 0, n);
+                }, orderProcessor);
+    }
+
+    /**
+     * <p>
+     * Returns a binary viewing specified double array with specified byte order processor. Each element is stored as
+     * its raw long bits. If given byte order processor is null, use default {@linkplain ByteOrderProcessor#BIG_ENDIAN}.
+     * </p>
+     *
+     * @param array
+     *            specified double array
+     * @param orderProcessor
+     *            given byte order processor
+     * @return a binary viewing specified double array
+     * @throws NullPointerException
+     *             if specified array is null
+     * @throws OutOfBoundsException
+     *             if length of the binary exceeds {@linkplain Long#MAX_VALUE}
+     * @since 0.0.0
+     */
+    public static BigArrayBinary of(DoubleArray array, @Nullable ByteOrderProcessor orderProcessor)
+            throws NullPointerException, OutOfBoundsException {
+        Checker.checkNull(array);
+        return new BigArrayBinary(array.length(), Double.BYTES, i -> Double.doubleToRawLongBits(array.get(i)),
+                (i, bits) -> array.set(i, Double.longBitsToDouble(bits)),
+                (i, buffer, n) -> {
+                    double[] chunk = new double[n];
+                    array.get(i, chunk, 0, n);
+                    buffer.asDoubleBuffer().put(chunk);
+                }, (i, buffer, n) -> {
+                    double[] chunk = new double[n];
+                    buffer.asDoubleBuffer().get(chunk);
+                    array.set(i, chunk, 0, n);
+                }, orderProcessor);
+    }
+
+    private final long length;
+
+    private BigArrayBinary(long elements, int bytes, LongUnaryOperator getter, EachLongConsumer setter,
+            ElementsTransfer bulkGetter, ElementsTransfer bulkSetter, @Nullable ByteOrderProcessor orderProcessor)
+            throws OutOfBoundsException {
+        super(new ElementReadWrite(bytes, getter, setter, bulkGetter, bulkSetter,
+                null == orderProcessor ? ByteOrderProcessor.BIG_ENDIAN : orderProcessor), orderProcessor);
+        if (elements > Long.MAX_VALUE / bytes) {
+            throw new OutOfBoundsException(elements);
+        }
+        this.length = elements * bytes;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public byte[] wrappedArray() {
+        return null;
+    }
+
+    // Moves given number of elements from given element index between the array and given buffer, from position of
+    // the buffer in its byte order. Position of the buffer is not changed.
+    @FunctionalInterface
+    private interface ElementsTransfer {
+
+        void transfer(long element, ByteBuffer buffer, int count);
+    }
+
+    private static class ElementReadWrite implements BaseReadWrite {
+
+        private final int bytes;
+
+        private final long mask;
+
+        private final LongUnaryOperator getter;
+
+        private final EachLongConsumer setter;
+
+        private final ElementsTransfer bulkGetter;
+
+        private final ElementsTransfer bulkSetter;
+
+        private final ByteOrderProcessor orderProcessor;
+
+        // Max number of elements moved by one bulk transfer.
+        private final int chunk;
+
+        private ElementReadWrite(int bytes, LongUnaryOperator getter, EachLongConsumer setter,
+                ElementsTransfer bulkGetter, ElementsTransfer bulkSetter, ByteOrderProcessor orderProcessor) {
+            this.bytes = bytes;
+            this.mask = Long.BYTES == bytes ? -1L : (1L << (bytes << 3)) - 1;
+            this.getter = Quicker.require(getter);
+            this.setter = Quicker.require(setter);
+            this.bulkGetter = Quicker.require(bulkGetter);
+            this.bulkSetter = Quicker.require(bulkSetter);
+            this.orderProcessor = orderProcessor;
+            this.chunk = Math.max(BytesUtil.BUFFER_SIZE / bytes, 1);
+        }
+
+        // Bits of element at specified element index arranged in byte order of the binary.
+        private long raw(long element) {
+            return orderProcessor.doBytes(getter.applyAsLong(element), bytes) & mask;
+        }
+
+        private void setRaw(long element, long raw) {
+            setter.accept(element, orderProcessor.doBytes(raw, bytes));
+        }
+
+        private boolean aligned(long index, int bytesNum) {
+            return bytesNum == bytes && 0 == index % bytes;
+        }
+
+        @Override
+        public byte _getByte(long index) throws IndexOutOfBoundsException, BinaryException {
+            return (byte)(raw(index / bytes) >>> ((bytes - 1 - (int)(index % bytes)) << 3));
+        }
+
+        @Override
+        public short _getShort(long index) throws IndexOutOfBoundsException, BinaryException {
+            if (aligned(index, Short.BYTES)) {
+                return (short)raw(index / bytes);
+            }
+            return BytesUtil.toShort(_getByte(index), _getByte(index + 1));
+        }
+
+        @Override
+        public char _getChar(long index) throws IndexOutOfBoundsException, BinaryException {
+            if (aligned(index, Character.BYTES)) {
+                return (char)raw(index / bytes);
+            }
+            return BytesUtil.toChar(_getByte(index), _getByte(index + 1));
+        }
+
+        @Override
+        public int _getMedium(long index) throws IndexOutOfBoundsException, BinaryException {
+            return BytesUtil.toMedium(_getByte(index), _getByte(index + 1), _getByte(index + 2));
+        }
+
+        @Override
+        public int _getInt(long index) throws IndexOutOfBoundsException, BinaryException {
+            if (aligned(index, Integer.BYTES)) {
+                return (int)raw(index / bytes);
+            }
+            return BytesUtil.toInt(_getByte(index), _getByte(index + 1), _getByte(index + 2), _getByte(index + 3));
+        }
+
+        @Override
+        public long _getLong(long index) throws IndexOutOfBoundsException, BinaryException {
+            if (aligned(index, Long.BYTES)) {
+                return raw(index / bytes);
+            }
+            return BytesUtil.toLong(_getByte(index), _getByte(index + 1), _getByte(index + 2), _getByte(index + 3),
+                    _getByte(index + 4), _getByte(index + 5), _getByte(index + 6), _getByte(index + 7));
+        }
+
+        @Override
+        public void _setByte(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            long element = index / bytes;
+            int shift = (bytes - 1 - (int)(index % bytes)) << 3;
+            setRaw(element, (raw(element) & ~(0xffL << shift)) | ((value & 0xffL) << shift));
+        }
+
+        @Override
+        public void _setShort(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            if (aligned(index, Short.BYTES)) {
+                setRaw(index / bytes, value & mask);
+                return;
+            }
+            _setByte(index, value >> 8);
+            _setByte(index + 1, value);
+        }
+
+        @Override
+        public void _setChar(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            _setShort(index, value);
+        }
+
+        @Override
+        public void _setMedium(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            _setByte(index, value >> 16);
+            _setByte(index + 1, value >> 8);
+            _setByte(index + 2, value);
+        }
+
+        @Override
+        public void _setInt(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            if (aligned(index, Integer.BYTES)) {
+                setRaw(index / bytes, value & mask);
+                return;
+            }
+            _setByte(index, value >> 24);
+            _setByte(index + 1, value >> 16);
+            _setByte(index + 2, value >> 8);
+            _setByte(index + 3, value);
+        }
+
+        @Override
+        public void _setLong(long index, long value) throws IndexOutOfBoundsException, BinaryException {
+            if (aligned(index, Long.BYTES)) {
+                setRaw(index / bytes, value);
+                return;
+            }
+            for (int i = 0; i < Long.BYTES; i++) {
+                _setByte(index + i, (int)(value >> ((Long.BYTES - 1 - i) << 3)));
+            }
+        }
+
+        // Returns a direct buffer of a chunk in byte order of the binary for given heap buffer of more than a chunk, or
+        // null. Element buffer views of heap buffers move elements one by one, those of direct buffers in bulk.
+        private ByteBuffer scratch(ByteBuffer buffer) {
+            if (buffer.isDirect() || buffer.remaining() < chunk * bytes) {
+                return null;
+            }
+            return ByteBuffer.allocateDirect(chunk * bytes).order(orderProcessor.getByteOrder());
+        }
+
+        // Reads bytes at given index into remaining of given buffer, whole elements are moved in bulk.
+        private void read(long index, ByteBuffer dest) {
+            ByteOrder order = orderProcessor.getByteOrder();
+            while (dest.hasRemaining() && 0 != index % bytes) {
+                dest.put(_getByte(index++));
+            }
+            ByteBuffer scratch = scratch(dest);
+            while (dest.remaining() >= bytes) {
+                int n = Math.min(dest.remaining() / bytes, chunk);
+                if (null == scratch) {
+                    bulkGetter.transfer(index / bytes, dest.duplicate().order(order), n);
+                    dest.position(dest.position() + n * bytes);
+                } else {
+                    scratch.clear();
+                    bulkGetter.transfer(index / bytes, scratch, n);
+                    scratch.limit(n * bytes);
+                    dest.put(scratch);
+                }
+                index += (long)n * bytes;
+            }
+            while (dest.hasRemaining()) {
+                dest.put(_getByte(index++));
+            }
+        }
+
+        // Writes remaining of given buffer at given index, whole elements are moved in bulk.
+        private void write(long index, ByteBuffer src) {
+            ByteOrder order = orderProcessor.getByteOrder();
+            while (src.hasRemaining() && 0 != index % bytes) {
+                _setByte(index++, src.get());
+            }
+            ByteBuffer scratch = scratch(src);
+            while (src.remaining() >= bytes) {
+                int n = Math.min(src.remaining() / bytes, chunk);
+                if (null == scratch) {
+                    bulkSetter.transfer(index / bytes, src.duplicate().order(order), n);
+                } else {
+                    scratch.clear();
+                    ByteBuffer part = src.duplicate();
+                    part.limit(part.position() + n * bytes);
+                    scratch.put(part);
+                    scratch.flip();
+                    bulkSetter.transfer(index / bytes, scratch, n);
+                }
+                src.position(src.position() + n * bytes);
+                index += (long)n * bytes;
+            }
+            while (src.hasRemaining()) {
+                _setByte(index++, src.get());
+            }
+        }
+
+        @Override
+        public void _getBytes(long index, byte[] dest, int offset, int length)
+                throws IndexOutOfBoundsException, BinaryException {
+            read(index, ByteBuffer.wrap(dest, offset, length));
+        }
+
+        @Override
+        public void _getBytes(long index, ByteBuffer dest) throws IndexOutOfBoundsException, BinaryException {
+            read(index, dest);
+        }
+
+        @Override
+        public void _setBytes(long index, byte[] src, int offset, int length)
+                throws IndexOutOfBoundsException, BinaryException {
+            write(index, ByteBuffer.wrap(src, offset, length));
+        }
+
+        @Override
+        public void _setBytes(long index, ByteBuffer src) throws IndexOutOfBoundsException, BinaryException {
+            write(index, src);
+        }
+    }
+}
@@ -2,10 +2,18 @@ package com.cogician.quicker.binary;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 
 import com.cogician.quicker.Checker;
 import com.cogician.quicker.Quicker;
 import com.cogician.quicker.Uniforms;
+import com.cogician.quicker.bigarray.CharArray;
+import com.cogician.quicker.bigarray.DoubleArray;
+import com.cogician.quicker.bigarray.FloatArray;
+import com.cogician.quicker.bigarray.IntArray;
+import com.cogician.quicker.bigarray.LongArray;
+import com.cogician.quicker.bigarray.ShortArray;
 import com.sun.istack.internal.Nullable;
 
 /**
@@ -69,7 +77,8 @@ public interface Binary extends ByteOrderSensitive {
 
     /**
      * <p>
-     * Allocates a binary of specified length, big-endian.
+     * Allocates a binary of specified length, big-endian. It is a {@linkplain DirectBinary} if the length is not less
+     * than {@value DirectBinary#THRESHOLD_KEY} of configuration, else a {@linkplain HeapBinary}.
      * </p>
      * 
      * @param length
@@ -80,13 +89,14 @@ public interface Binary extends ByteOrderSensitive {
      * @since 0.0.0
      */
     public static Binary alloc(long length) throws IllegalArgumentException {
-        return new HeapBinary(length);
+        return alloc(length, null);
     }
 
     /**
      * <p>
      * Allocates a binary of specified length with specified byte order processor. If given byte order processor is
-     * null, use default {@linkplain ByteOrderProcessor#BIG_ENDIAN}.
+     * null, use default {@linkplain ByteOrderProcessor#BIG_ENDIAN}. It is a {@linkplain DirectBinary} if the length is
+     * not less than {@value DirectBinary#THRESHOLD_KEY} of configuration, else a {@linkplain HeapBinary}.
      * </p>
      * 
      * @param length
@@ -99,9 +109,52 @@ public interface Binary extends ByteOrderSensitive {
      * @since 0.0.0
      */
     public static Binary alloc(long length, ByteOrderProcessor orderProcessor) throws IllegalArgumentException {
+        if (DirectBinary.preferred(length)) {
+            return new DirectBinary(length, orderProcessor);
+        }
         return new HeapBinary(length, orderProcessor);
     }
 
+    /**
+     * <p>
+     * Allocates a {@linkplain DirectBinary} of specified length off-heap, big-endian.
+     * </p>
+     * 
+     * @param length
+     *            specified length
+     * @return a {@linkplain DirectBinary} of specified length
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @throws OutOfMemoryError
+     *             if direct memory is not enough
+     * @since 0.0.0
+     */
+    public static DirectBinary allocDirect(long length) throws IllegalArgumentException, OutOfMemoryError {
+        return new DirectBinary(length);
+    }
+
+    /**
+     * <p>
+     * Allocates a {@linkplain DirectBinary} of specified length off-heap with specified byte order processor. If given
+     * byte order processor is null, use default {@linkplain ByteOrderProcessor#BIG_ENDIAN}.
+     * </p>
+     * 
+     * @param length
+     *            specified length
+     * @param orderProcessor
+     *            specified byte order processor
+     * @return a {@linkplain DirectBinary} of specified length with specified byte order processor
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @throws OutOfMemoryError
+     *             if direct memory is not enough
+     * @since 0.0.0
+     */
+    public static DirectBinary allocDirect(long length, ByteOrderProcessor orderProcessor)
+            throws IllegalArgumentException, OutOfMemoryError {
+        return new DirectBinary(length, orderProcessor);
+    }
+
     /**
      * <p>
      * Returns length of this binary.
@@ -413,6 +466,77 @@ public interface Binary extends ByteOrderSensitive {
     public Binary getBinary(long index, long length)
             throws IndexOutOfBoundsException, IllegalArgumentException, BinaryException;
 
+    /**
+     * <p>
+     * Reads bytes of specified length at specified index into given array from specified offset. Implementations
+     * override it with bulk operation of their storage, such as {@linkplain System#arraycopy(Object, int, Object, int,
+     * int)} or bulk get of buffer.
+     * </p>
+     * 
+     * @param index
+     *            specified index
+     * @param dest
+     *            given array
+     * @param offset
+     *            specified offset of given array
+     * @param length
+     *            specified length
+     * @throws NullPointerException
+     *             if given array is null
+     * @throws IndexOutOfBoundsException
+     *             if specified index or offset out of bounds or it leads to read or write out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @throws BinaryException
+     *             if any problem occurs when getting
+     * @since 0.0.0
+     */
+    default void getBytes(long index, byte[] dest, int offset, int length)
+            throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException, BinaryException {
+        Checker.checkNull(dest);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(offset, offset + length, dest.length);
+        Checker.checkRangeIndexes(index, index + length, length());
+        for (int i = 0; i < length; i++) {
+            dest[offset + i] = getByte(index + i);
+        }
+    }
+
+    /**
+     * <p>
+     * Reads bytes at specified index into given buffer, as many as remaining of the buffer. Position of the buffer is
+     * increased by number of read bytes.
+     * </p>
+     * 
+     * @param index
+     *            specified index
+     * @param dest
+     *            given buffer
+     * @throws NullPointerException
+     *             if given buffer is null
+     * @throws IndexOutOfBoundsException
+     *             if specified index out of bounds or it leads to read out of bounds
+     * @throws ReadOnlyBufferException
+     *             if given buffer is read-only
+     * @throws BinaryException
+     *             if any problem occurs when getting
+     * @since 0.0.0
+     */
+    default void getBytes(long index, ByteBuffer dest)
+            throws NullPointerException, IndexOutOfBoundsException, ReadOnlyBufferException, BinaryException {
+        int position = dest.position();
+        int length = dest.remaining();
+        if (dest.hasArray()) {
+            getBytes(index, dest.array(), dest.arrayOffset() + position, length);
+        } else {
+            Checker.checkRangeIndexes(index, index + length, length());
+            for (int i = 0; i < length; i++) {
+                dest.put(position + i, getByte(index + i));
+            }
+        }
+        dest.position(position + length);
+    }
+
     /**
      * <p>
      * Writes low-byte of given value at specified index in current byte order.
@@ -614,6 +738,75 @@ public interface Binary extends ByteOrderSensitive {
         Quicker.require(value).copy(0, this, index, value.length());
     }
 
+    /**
+     * <p>
+     * Writes bytes of specified length from specified offset of given array at specified index. Implementations
+     * override it with bulk operation of their storage, such as {@linkplain System#arraycopy(Object, int, Object, int,
+     * int)} or bulk put of buffer.
+     * </p>
+     * 
+     * @param index
+     *            specified index
+     * @param src
+     *            given array
+     * @param offset
+     *            specified offset of given array
+     * @param length
+     *            specified length
+     * @throws NullPointerException
+     *             if given array is null
+     * @throws IndexOutOfBoundsException
+     *             if specified index or offset out of bounds or it leads to read or write out of bounds
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @throws BinaryException
+     *             if any problem occurs when writing
+     * @since 0.0.0
+     */
+    default void setBytes(long index, byte[] src, int offset, int length)
+            throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException, BinaryException {
+        Checker.checkNull(src);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(offset, offset + length, src.length);
+        Checker.checkRangeIndexes(index, index + length, length());
+        for (int i = 0; i < length; i++) {
+            setByte(index + i, src[offset + i]);
+        }
+    }
+
+    /**
+     * <p>
+     * Writes remaining bytes of given buffer at specified index. Position of the buffer is increased by number of
+     * written bytes.
+     * </p>
+     * 
+     * @param index
+     *            specified index
+     * @param src
+     *            given buffer
+     * @throws NullPointerException
+     *             if given buffer is null
+     * @throws IndexOutOfBoundsException
+     *             if specified index out of bounds or it leads to write out of bounds
+     * @throws BinaryException
+     *             if any problem occurs when writing
+     * @since 0.0.0
+     */
+    default void setBytes(long index, ByteBuffer src)
+            throws NullPointerException, IndexOutOfBoundsException, BinaryException {
+        int position = src.position();
+        int length = src.remaining();
+        if (src.hasArray()) {
+            setBytes(index, src.array(), src.arrayOffset() + position, length);
+        } else {
+            Checker.checkRangeIndexes(index, index + length, length());
+            for (int i = 0; i < length; i++) {
+                setByte(index + i, src.get(position + i));
+            }
+        }
+        src.position(position + length);
+    }
+
     /**
      * <p>
      * Returns an inputer which can input data from specified index inclusive to end of this binary. This binary shares
@@ -725,7 +918,9 @@ public interface Binary extends ByteOrderSensitive {
 
     /**
      * <p>
-     * Copies data from this binary to specified binary.
+     * Copies data from this binary to specified binary. Bytes are read into wrapped array of specified binary directly
+     * if it is a {@linkplain ByteArrayBinary}, else moved in chunks by {@linkplain #getBytes(long, byte[], int, int)}
+     * of this binary and {@linkplain #setBytes(long, byte[], int, int)} of specified binary.
      * </p>
      * 
      * @param srcIndex
@@ -754,9 +949,150 @@ public interface Binary extends ByteOrderSensitive {
         Checker.checkLength(length);
         Checker.checkRangeIndexes(srcIndex, srcIndex + length, length());
         Checker.checkRangeIndexes(destIndex, destIndex + length, dest.length());
-        for (long i = 0; i < length; i++) {
-            dest.setByte(destIndex + i, getByte(srcIndex + i));
+        if (dest instanceof ByteArrayBinary) {
+            // Reads into the wrapped array directly.
+            ((ByteArrayBinary)dest).readFrom(this, srcIndex, destIndex, (int)length);
+            return;
         }
+        byte[] buffer = new byte[(int)Math.min(length, BytesUtil.BUFFER_SIZE)];
+        // Copies backward if destination is after source in this binary, so that overlapped bytes are not overwritten.
+        boolean backward = dest == this && destIndex > srcIndex;
+        long copied = 0;
+        while (copied < length) {
+            int n = (int)Math.min(buffer.length, length - copied);
+            long offset = backward ? length - copied - n : copied;
+            getBytes(srcIndex + offset, buffer, 0, n);
+            dest.setBytes(destIndex + offset, buffer, 0, n);
+            copied += n;
+        }
+    }
+
+    /**
+     * <p>
+     * Returns a big array viewing this binary as shorts in byte order of this binary, no byte is copied. Changes of
+     * either of them are visible to the other. Length of the array is length of this binary divided by
+     * {@linkplain Short#BYTES}, the rest bytes are ignored. It is supported by binaries backed by byte array or mapped
+     * file, such as {@linkplain ByteArrayBinary} and {@linkplain MappedFileBinary}, and by {@linkplain DirectBinary} in
+     * {@linkplain ByteOrderProcessor#BIG_ENDIAN} or {@linkplain ByteOrderProcessor#LITTLE_ENDIAN}.
+     * </p>
+     * 
+     * @return a big array viewing this binary
+     * @throws UnsupportedOperationException
+     *             if this binary cannot be viewed as a big array
+     * @throws BinaryException
+     *             if any problem occurs when viewing
+     * @see ShortArray#asBinary(ByteOrderProcessor)
+     * @since 0.0.0
+     */
+    default ShortArray asShortArray() throws UnsupportedOperationException, BinaryException {
+        throw new UnsupportedOperationException("Cannot view " + getClass().getName() + " as big array.");
+    }
+
+    /**
+     * <p>
+     * Returns a big array viewing this binary as chars in byte order of this binary, no byte is copied. Changes of
+     * either of them are visible to the other. Length of the array is length of this binary divided by
+     * {@linkplain Character#BYTES}, the rest bytes are ignored. It is supported by binaries backed by byte array or
+     * mapped file, such as {@linkplain ByteArrayBinary} and {@linkplain MappedFileBinary}, and by
+     * {@linkplain DirectBinary} in {@linkplain ByteOrderProcessor#BIG_ENDIAN} or
+     * {@linkplain ByteOrderProcessor#LITTLE_ENDIAN}.
+     * </p>
+     * 
+     * @return a big array viewing this binary
+     * @throws UnsupportedOperationException
+     *             if this binary cannot be viewed as a big array
+     * @throws BinaryException
+     *             if any problem occurs when viewing
+     * @see CharArray#asBinary(ByteOrderProcessor)
+     * @since 0.0.0
+     */
+    default CharArray asCharArray() throws UnsupportedOperationException, BinaryException {
+        throw new UnsupportedOperationException("Cannot view " + getClass().getName() + " as big array.");
+    }
+
+    /**
+     * <p>
+     * Returns a big array viewing this binary as ints in byte order of this binary, no byte is copied. Changes of
+     * either of them are visible to the other. Length of the array is length of this binary divided by
+     * {@linkplain Integer#BYTES}, the rest bytes are ignored. It is supported by binaries backed by byte array or
+     * mapped file, such as {@linkplain ByteArrayBinary} and {@linkplain MappedFileBinary}, and by
+     * {@linkplain DirectBinary} in {@linkplain ByteOrderProcessor#BIG_ENDIAN} or
+     * {@linkplain ByteOrderProcessor#LITTLE_ENDIAN}.
+     * </p>
+     * 
+     * @return a big array viewing this binary
+     * @throws UnsupportedOperationException
+     *             if this binary cannot be viewed as a big array
+     * @throws BinaryException
+     *             if any problem occurs when viewing
+     * @see IntArray#asBinary(ByteOrderProcessor)
+     * @since 0.0.0
+     */
+    default IntArray asIntArray() throws UnsupportedOperationException, BinaryException {
+        throw new UnsupportedOperationException("Cannot view " + getClass().getName() + " as big array.");
+    }
+
+    /**
+     * <p>
+     * Returns a big array viewing this binary as longs in byte order of this binary, no byte is copied. Changes of
+     * either of them are visible to the other. Length of the array is length of this binary divided by
+     * {@linkplain Long#BYTES}, the rest bytes are ignored. It is supported by binaries backed by byte array or mapped
+     * file, such as {@linkplain ByteArrayBinary} and {@linkplain MappedFileBinary}, and by {@linkplain DirectBinary} in
+     * {@linkplain ByteOrderProcessor#BIG_ENDIAN} or {@linkplain ByteOrderProcessor#LITTLE_ENDIAN}.
+     * </p>
+     * 
+     * @return a big array viewing this binary
+     * @throws UnsupportedOperationException
+     *             if this binary cannot be viewed as a big array
+     * @throws BinaryException
+     *             if any problem occurs when viewing
+     * @see LongArray#asBinary(ByteOrderProcessor)
+     * @since 0.0.0
+     */
+    default LongArray asLongArray() throws UnsupportedOperationException, BinaryException {
+        throw new UnsupportedOperationException("Cannot view " + getClass().getName() + " as big array.");
+    }
+
+    /**
+     * <p>
+     * Returns a big array viewing this binary as floats in byte order of this binary, no byte is copied. Changes of
+     * either of them are visible to the other. Length of the array is length of this binary divided by
+     * {@linkplain Float#BYTES}, the rest bytes are ignored. It is supported by binaries backed by byte array or mapped
+     * file, such as {@linkplain ByteArrayBinary} and {@linkplain MappedFileBinary}, and by {@linkplain DirectBinary} in
+     * {@linkplain ByteOrderProcessor#BIG_ENDIAN} or {@linkplain ByteOrderProcessor#LITTLE_ENDIAN}.
+     * </p>
+     * 
+     * @return a big array viewing this binary
+     * @throws UnsupportedOperationException
+     *             if this binary cannot be viewed as a big array
+     * @throws BinaryException
+     *             if any problem occurs when viewing
+     * @see FloatArray#asBinary(ByteOrderProcessor)
+     * @since 0.0.0
+     */
+    default FloatArray asFloatArray() throws UnsupportedOperationException, BinaryException {
+        throw new UnsupportedOperationException("Cannot view " + getClass().getName() + " as big array.");
+    }
+
+    /**
+     * <p>
+     * Returns a big array viewing this binary as doubles in byte order of this binary, no byte is copied. Changes of
+     * either of them are visible to the other. Length of the array is length of this binary divided by
+     * {@linkplain Double#BYTES}, the rest bytes are ignored. It is supported by binaries backed by byte array or mapped
+     * file, such as {@linkplain ByteArrayBinary} and {@linkplain MappedFileBinary}, and by {@linkplain DirectBinary} in
+     * {@linkplain ByteOrderProcessor#BIG_ENDIAN} or {@linkplain ByteOrderProcessor#LITTLE_ENDIAN}.
+     * </p>
+     * 
+     * @return a big array viewing this binary
+     * @throws UnsupportedOperationException
+     *             if this binary cannot be viewed as a big array
+     * @throws BinaryException
+     *             if any problem occurs when viewing
+     * @see DoubleArray#asBinary(ByteOrderProcessor)
+     * @since 0.0.0
+     */
+    default DoubleArray asDoubleArray() throws UnsupportedOperationException, BinaryException {
+        throw new UnsupportedOperationException("Cannot view " + getClass().getName() + " as big array.");
     }
 
     /**
@@ -1,7 +1,15 @@
 package com.cogician.quicker.binary;
 
+import java.nio.ByteBuffer;
+
 import com.cogician.quicker.Checker;
 import com.cogician.quicker.Quicker;
+import com.cogician.quicker.bigarray.CharArray;
+import com.cogician.quicker.bigarray.DoubleArray;
+import com.cogician.quicker.bigarray.FloatArray;
+import com.cogician.quicker.bigarray.IntArray;
+import com.cogician.quicker.bigarray.LongArray;
+import com.cogician.quicker.bigarray.ShortArray;
 import com.sun.istack.internal.Nullable;
 
 /**
@@ -76,16 +84,48 @@ public class ByteArrayBinary extends AbstractBinary implements Binary {
     }
 
     @Override
-    public void copy(long srcIndex, Binary dest, long destIndex, long length)
-            throws IndexOutOfBoundsException, IllegalArgumentException, BinaryException, BinaryException {
-        if (dest instanceof ByteArrayBinary) {
-            Checker.checkLength(length);
-            Checker.checkRangeIndexes(srcIndex, srcIndex + length, length());
-            Checker.checkRangeIndexes(destIndex, destIndex + length, dest.length());
-            System.arraycopy(data, (int)srcIndex, ((ByteArrayBinary)dest).data, (int)destIndex, (int)length);
-        } else {
-            Binary.super.copy(srcIndex, dest, destIndex, length);
-        }
+    public void copy(long srcIndex, Binary dest, long destIndex, long length) throws NullPointerException,
+            IndexOutOfBoundsException, IllegalArgumentException, BinaryException, BinaryException {
+        Checker.checkNull(dest);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(srcIndex, srcIndex + length, length());
+        Checker.checkRangeIndexes(destIndex, destIndex + length, dest.length());
+        dest.setBytes(destIndex, data, (int)(startIndex + srcIndex), (int)length);
+    }
+
+    // Reads bytes of given length from given binary into wrapped array at given index of this binary.
+    void readFrom(Binary src, long srcIndex, long destIndex, int length) throws BinaryException {
+        src.getBytes(srcIndex, data, (int)(startIndex + destIndex), length);
+    }
+
+    @Override
+    public ShortArray asShortArray() {
+        return ShortArray.wrap(buffer());
+    }
+
+    @Override
+    public CharArray asCharArray() {
+        return CharArray.wrap(buffer());
+    }
+
+    @Override
+    public IntArray asIntArray() {
+        return IntArray.wrap(buffer());
+    }
+
+    @Override
+    public LongArray asLongArray() {
+        return LongArray.wrap(buffer());
+    }
+
+    @Override
+    public FloatArray asFloatArray() {
+        return FloatArray.wrap(buffer());
+    }
+
+    @Override
+    public DoubleArray asDoubleArray() {
+        return DoubleArray.wrap(buffer());
     }
 
     @Override
@@ -98,6 +138,10 @@ public class ByteArrayBinary extends AbstractBinary implements Binary {
         return endIndex - startIndex;
     }
 
+    private ByteBuffer buffer() {
+        return ByteBuffer.wrap(data, startIndex, endIndex - startIndex).order(getByteOrderProcessor().getByteOrder());
+    }
+
     private static class ByteArrayReadWrite implements BaseReadWrite {
 
         private final byte[] data;
@@ -187,5 +231,27 @@ public class ByteArrayBinary extends AbstractBinary implements Binary {
             data[(int)(offset + index + 6)] = (byte)(value >> 8);
             data[(int)(offset + index + 7)] = (byte)value;
         }
+
+        @Override
+        public void _getBytes(long index, byte[] dest, int offset, int length)
+                throws IndexOutOfBoundsException, BinaryException {
+            System.arraycopy(data, (int)(this.offset + index), dest, offset, length);
+        }
+
+        @Override
+        public void _getBytes(long index, ByteBuffer dest) throws IndexOutOfBoundsException, BinaryException {
+            dest.put(data, (int)(offset + index), dest.remaining());
+        }
+
+        @Override
+        public void _setBytes(long index, byte[] src, int offset, int length)
+                throws IndexOutOfBoundsException, BinaryException {
+            System.arraycopy(src, offset, data, (int)(this.offset + index), length);
+        }
+
+        @Override
+        public void _setBytes(long index, ByteBuffer src) throws IndexOutOfBoundsException, BinaryException {
+            src.get(data, (int)(offset + index), src.remaining());
+        }
     }
 }
@@ -211,7 +211,7 @@ public interface ByteOrderProcessor {
 
         @Override
         public ByteOrder getByteOrder() {
-            return ByteOrder.BIG_ENDIAN;
+            return ByteOrder.LITTLE_ENDIAN;
         }
 
         @Override
@@ -1,5 +1,15 @@
 package com.cogician.quicker.binary;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.NonWritableChannelException;
+
+import com.cogician.quicker.QuickerProperties;
+
 /**
  * <p>
  * Utility for converting bytes to numlti-bytes-value, always in big-endian order.
@@ -11,6 +21,15 @@ package com.cogician.quicker.binary;
  */
 public class BytesUtil {
 
+    /**
+     * <p>
+     * Size of buffer for bulk copy between binaries.
+     * </p>
+     * 
+     * @since 0.0.0
+     */
+    static final int BUFFER_SIZE = QuickerProperties.get("io.buffer.size").asInt();
+
     /**
      * <p>
      * To unsigned byte.
@@ -64,7 +83,7 @@ public class BytesUtil {
      * @since 0.0.0
      */
     public static final long toUnsignedInt(int v) {
-        return v & 0x00000000ffffffff;
+        return v & 0xffffffffL;
     }
 
     /**
@@ -233,4 +252,104 @@ public class BytesUtil {
     public static final double toDouble(byte b1, byte b2, byte b3, byte b4, byte b5, byte b6, byte b7, byte b8) {
         return Double.longBitsToDouble(toLong(b1, b2, b3, b4, b5, b6, b7, b8));
     }
+
+    /**
+     * <p>
+     * Releases memory of given direct or mapped buffer immediately. If it fails, the memory will be released when the
+     * buffer is garbage collected. Given buffer cannot be accessed after calling this method. It does nothing if given
+     * buffer is not direct.
+     * </p>
+     * 
+     * @param buffer
+     *            given buffer, it must not be a view or slice of another buffer
+     * @since 0.0.0
+     */
+    public static void free(ByteBuffer buffer) {
+        if (!buffer.isDirect()) {
+            return;
+        }
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner;
+            try {
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (NoSuchMethodException e) {
+                // Before java 9, direct buffer has a cleaner.
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (null != cleaner) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+                return;
+            }
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (Exception e) {
+            // Left to garbage collector.
+        }
+    }
+
+    /**
+     * <p>
+     * Transfers bytes of specified length from source binary to destination binary by
+     * {@linkplain FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, if both of them are file
+     * binaries whose channels can be used directly, so that bytes are not copied through java heap. Arguments have been
+     * checked by caller.
+     * </p>
+     * 
+     * @param src
+     *            source binary
+     * @param srcIndex
+     *            start index of source binary
+     * @param dest
+     *            destination binary
+     * @param destIndex
+     *            start index of destination binary
+     * @param length
+     *            specified length
+     * @return whether transferred, false if either of binaries cannot be transferred by channel
+     * @throws BinaryException
+     *             if any problem occurs when transferring
+     * @since 0.0.0
+     */
+    static boolean transfer(Binary src, long srcIndex, Binary dest, long destIndex, long length)
+            throws BinaryException {
+        if (src == dest) {
+            return false;
+        }
+        FileChannel in = transferChannel(src, false);
+        if (null == in) {
+            return false;
+        }
+        FileChannel out = transferChannel(dest, true);
+        if (null == out) {
+            return false;
+        }
+        try {
+            while (length > 0) {
+                long n = in.transferTo(srcIndex, length, out.position(destIndex));
+                if (n <= 0) {
+                    throw new EOFException();
+                }
+                srcIndex += n;
+                destIndex += n;
+                length -= n;
+            }
+            return true;
+        } catch (IOException | NonWritableChannelException e) {
+            throw new BinaryException(e);
+        }
+    }
+
+    private static FileChannel transferChannel(Binary binary, boolean write) throws BinaryException {
+        if (binary instanceof RandomFileBinary) {
+            return ((RandomFileBinary)binary).transferChannel();
+        }
+        if (binary instanceof MappedFileBinary) {
+            return ((MappedFileBinary)binary).transferChannel(write);
+        }
+        return null;
+    }
 }
@@ -0,0 +1,528 @@
+package com.cogician.quicker.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.cogician.quicker.Checker;
+import com.cogician.quicker.QuickerProperties;
+import com.cogician.quicker.bigarray.CharArray;
+import com.cogician.quicker.bigarray.DoubleArray;
+import com.cogician.quicker.bigarray.FloatArray;
+import com.cogician.quicker.bigarray.IntArray;
+import com.cogician.quicker.bigarray.LongArray;
+import com.cogician.quicker.bigarray.ShortArray;
+import com.sun.istack.internal.Nullable;
+
+/**
+ * <p>
+ * A {@linkplain Binary} implementation which uses direct {@linkplain ByteBuffer} chunks as backed data storage, so that
+ * its bytes are off-heap and it can be longer than {@linkplain Integer#MAX_VALUE}. This class can be created from
+ * {@linkplain Binary#allocDirect(long)} or {@linkplain Binary#allocDirect(long, ByteOrderProcessor)}, and
+ * {@linkplain Binary#alloc(long)} also returns this class if length is not less than {@value #THRESHOLD_KEY} of
+ * configuration.
+ * </p>
+ * <p>
+ * If byte order processor is {@linkplain ByteOrderProcessor#BIG_ENDIAN} or
+ * {@linkplain ByteOrderProcessor#LITTLE_ENDIAN}, chunks are viewed in that byte order and multi-bytes values in a chunk
+ * are read and written by the chunk directly, which are plain memory access if the order is native. Chunks are of power
+ * of 2 size, so a value at an index aligned to its size is never across chunks. In these orders this binary can also be
+ * viewed as big arrays such as {@linkplain #asIntArray()}, of which each block is a chunk, and the views must not be
+ * accessed after this binary is closed.
+ * </p>
+ * <p>
+ * Memory of this binary is released by {@linkplain #close()} at once, or by garbage collector if it is not closed.
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T19:58:12+08:00
+ * @since 0.0.0, 2026-10-16T19:58:12+08:00
+ */
+public class DirectBinary extends AbstractBinary implements Binary, AutoCloseable {
+
+    /**
+     * <p>
+     * Configuration key of the least length of binary allocated off-heap by {@linkplain Binary#alloc(long)}, 0 means
+     * never.
+     * </p>
+     *
+     * @since 0.0.0
+     */
+    public static final String THRESHOLD_KEY = "io.direct.threshold";
+
+    private static final long THRESHOLD = QuickerProperties.get(THRESHOLD_KEY).asLong();
+
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 30;
+
+    /**
+     * <p>
+     * Returns whether binary of specified length is allocated off-heap by {@linkplain Binary#alloc(long)}.
+     * </p>
+     *
+     * @param length
+     *            specified length
+     * @return whether binary of specified length is allocated off-heap
+     * @since 0.0.0
+     */
+    static boolean preferred(long length) {
+        return THRESHOLD > 0 && length >= THRESHOLD;
+    }
+
+    private final DirectReadWrite base;
+
+    private final long length;
+
+    /**
+     * <p>
+     * Constructs with specified length. This binary is big-endian.
+     * </p>
+     *
+     * @param length
+     *            specified length
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @throws OutOfMemoryError
+     *             if direct memory is not enough
+     * @since 0.0.0
+     */
+    public DirectBinary(long length) throws IllegalArgumentException, OutOfMemoryError {
+        this(length, null);
+    }
+
+    /**
+     * <p>
+     * Constructs with specified length and byte order processor. If given byte order processor is null, use default
+     * {@linkplain ByteOrderProcessor#BIG_ENDIAN}.
+     * </p>
+     *
+     * @param length
+     *            specified length
+     * @param orderProcessor
+     *            specified byte order processor
+     * @throws IllegalArgumentException
+     *             if specified length is negative
+     * @throws OutOfMemoryError
+     *             if direct memory is not enough
+     * @since 0.0.0
+     */
+    public DirectBinary(long length, @Nullable ByteOrderProcessor orderProcessor)
+            throws IllegalArgumentException, OutOfMemoryError {
+        this(length, orderProcessor, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * <p>
+     * Constructs with specified length, byte order processor and chunk size. If given byte order processor is null,
+     * use default {@linkplain ByteOrderProcessor#BIG_ENDIAN}. The chunk size must be power of 2 and not less than 8.
+     * </p>
+     *
+     * @param length
+     *            specified length
+     * @param orderProcessor
+     *            specified byte order processor
+     * @param chunkSize
+     *            specified chunk size
+     * @throws IllegalArgumentException
+     *             if specified length is negative or chunk size is illegal
+     * @throws OutOfMemoryError
+     *             if direct memory is not enough
+     * @since 0.0.0
+     */
+    public DirectBinary(long length, @Nullable ByteOrderProcessor orderProcessor, int chunkSize)
+            throws IllegalArgumentException, OutOfMemoryError {
+        super(new DirectReadWrite(length, chunkSize, orderProcessor), orderProcessor);
+        this.base = (DirectReadWrite)getBaseReadWrite();
+        this.length = length;
+    }
+
+    @Override
+    public short getShort(long index) throws IndexOutOfBoundsException, BinaryException {
+        Checker.checkRangeIndexes(index, index + 2, length);
+        ByteBuffer view = base.view(index, 2);
+        return null == view ? super.getShort(index) : view.getShort(base.offset(index));
+    }
+
+    @Override
+    public char getChar(long index) throws IndexOutOfBoundsException, BinaryException {
+        Checker.checkRangeIndexes(index, index + 2, length);
+        ByteBuffer view = base.view(index, 2);
+        return null == view ? super.getChar(index) : view.getChar(base.offset(index));
+    }
+
+    @Override
+    public int getInt(long index) throws IndexOutOfBoundsException, BinaryException {
+        Checker.checkRangeIndexes(index, index + 4, length);
+        ByteBuffer view = base.view(index, 4);
+        return null == view ? super.getInt(index) : view.getInt(base.offset(index));
+    }
+
+    @Override
+    public long getLong(long index) throws IndexOutOfBoundsException, BinaryException {
+        Checker.checkRangeIndexes(index, index + 8, length);
+        ByteBuffer view = base.view(index, 8);
+        return null == view ? super.getLong(index) : view.getLong(base.offset(index));
+    }
+
+    @Override
+    public void setShort(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+        Checker.checkRangeIndexes(index, index + 2, length);
+        ByteBuffer view = base.view(index, 2);
+        if (null == view) {
+            super.setShort(index, value);
+        } else {
+            view.putShort(base.offset(index), (short)value);
+        }
+    }
+
+    @Override
+    public void setChar(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+        setShort(index, value);
+    }
+
+    @Override
+    public void setInt(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+        Checker.checkRangeIndexes(index, index + 4, length);
+        ByteBuffer view = base.view(index, 4);
+        if (null == view) {
+            super.setInt(index, value);
+        } else {
+            view.putInt(base.offset(index), value);
+        }
+    }
+
+    @Override
+    public void setLong(long index, long value) throws IndexOutOfBoundsException, BinaryException {
+        Checker.checkRangeIndexes(index, index + 8, length);
+        ByteBuffer view = base.view(index, 8);
+        if (null == view) {
+            super.setLong(index, value);
+        } else {
+            view.putLong(base.offset(index), value);
+        }
+    }
+
+    @Override
+    public void setFloat(long index, float value) throws IndexOutOfBoundsException, BinaryException {
+        setInt(index, Float.floatToRawIntBits(value));
+    }
+
+    @Override
+    public void setDouble(long index, double value) throws IndexOutOfBoundsException, BinaryException {
+        setLong(index, Double.doubleToRawLongBits(value));
+    }
+
+    @Override
+    public void copy(long srcIndex, Binary dest, long destIndex, long length) throws NullPointerException,
+            IndexOutOfBoundsException, IllegalArgumentException, BinaryException, BinaryException {
+        Checker.checkNull(dest);
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(srcIndex, srcIndex + length, length());
+        Checker.checkRangeIndexes(destIndex, destIndex + length, dest.length());
+        if (dest == this) {
+            super.copy(srcIndex, dest, destIndex, length);
+            return;
+        }
+        // Passes chunks to destination as buffers, so that bytes are not copied through java heap.
+        long copied = 0;
+        while (copied < length) {
+            ByteBuffer chunk = base.window(srcIndex + copied);
+            int n = (int)Math.min(chunk.remaining(), length - copied);
+            chunk.limit(chunk.position() + n);
+            dest.setBytes(destIndex + copied, chunk);
+            copied += n;
+        }
+    }
+
+    @Override
+    public ShortArray asShortArray() throws UnsupportedOperationException, BinaryException {
+        return ShortArray.wrap(base.views());
+    }
+
+    @Override
+    public CharArray asCharArray() throws UnsupportedOperationException, BinaryException {
+        return CharArray.wrap(base.views());
+    }
+
+    @Override
+    public IntArray asIntArray() throws UnsupportedOperationException, BinaryException {
+        return IntArray.wrap(base.views());
+    }
+
+    @Override
+    public LongArray asLongArray() throws UnsupportedOperationException, BinaryException {
+        return LongArray.wrap(base.views());
+    }
+
+    @Override
+    public FloatArray asFloatArray() throws UnsupportedOperationException, BinaryException {
+        return FloatArray.wrap(base.views());
+    }
+
+    @Override
+    public DoubleArray asDoubleArray() throws UnsupportedOperationException, BinaryException {
+        return DoubleArray.wrap(base.views());
+    }
+
+    @Override
+    public byte[] wrappedArray() {
+        return null;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    /**
+     * <p>
+     * Releases off-heap memory of this binary at once, after that this binary cannot be accessed any more. It does
+     * nothing if this binary has been closed.
+     * </p>
+     *
+     * @since 0.0.0
+     */
+    @Override
+    public void close() {
+        base.close();
+    }
+
+    private static class DirectReadWrite implements BaseReadWrite {
+
+        private final int shift;
+
+        private final int mask;
+
+        // Chunks in big-endian for base read write.
+        private ByteBuffer[] chunks;
+
+        // Chunks in byte order of the binary, or null if the binary is not in a byte order of buffer.
+        private ByteBuffer[] views;
+
+        private DirectReadWrite(long length, int chunkSize, @Nullable ByteOrderProcessor orderProcessor)
+                throws IllegalArgumentException, OutOfMemoryError {
+            Checker.checkLength(length);
+            Checker.check(chunkSize >= 8 && Integer.bitCount(chunkSize) == 1, "Illegal chunk size: " + chunkSize);
+            this.shift = Integer.numberOfTrailingZeros(chunkSize);
+            this.mask = chunkSize - 1;
+            long count = (length + mask) >>> shift;
+            Checker.check(count <= Integer.MAX_VALUE, "Too many chunks for length: " + length);
+            ByteBuffer[] chunks = new ByteBuffer[(int)count];
+            try {
+                for (int i = 0; i < chunks.length; i++) {
+                    chunks[i] = ByteBuffer.allocateDirect((int)Math.min(chunkSize, length - ((long)i << shift)));
+                }
+            } catch (OutOfMemoryError e) {
+                // Releases allocated chunks at once, they are not reachable any more.
+                for (ByteBuffer chunk : chunks) {
+                    if (null != chunk) {
+                        BytesUtil.free(chunk);
+                    }
+                }
+                throw e;
+            }
+            this.chunks = chunks;
+            if (null == orderProcessor || orderProcessor instanceof ByteOrderProcessor.BigEndianProcessor) {
+                this.views = chunks;
+            } else if (orderProcessor instanceof ByteOrderProcessor.LittleEndianProcessor) {
+                ByteBuffer[] views = new ByteBuffer[chunks.length];
+                for (int i = 0; i < views.length; i++) {
+                    views[i] = chunks[i].duplicate().order(ByteOrder.LITTLE_ENDIAN);
+                }
+                this.views = views;
+            }
+        }
+
+        private ByteBuffer chunk(long index) throws BinaryException {
+            ByteBuffer[] chunks = this.chunks;
+            if (null == chunks) {
+                throw new BinaryException("Binary has been closed.");
+            }
+            return chunks[(int)(index >>> shift)];
+        }
+
+        private int offset(long index) {
+            return (int)index & mask;
+        }
+
+        // Returns chunks in byte order of the binary, each chunk is a block of big array viewing the binary.
+        private ByteBuffer[] views() throws UnsupportedOperationException, BinaryException {
+            if (null == chunks) {
+                throw new BinaryException("Binary has been closed.");
+            }
+            ByteBuffer[] views = this.views;
+            if (null == views) {
+                throw new UnsupportedOperationException("Cannot view binary not in byte order of buffer as big array.");
+            }
+            return views;
+        }
+
+        // Returns view of chunk containing given bytes number at given index, or null if not viewed or across chunks.
+        private ByteBuffer view(long index, int bytesNum) {
+            ByteBuffer[] views = this.views;
+            if (null == views || offset(index) + bytesNum > mask + 1) {
+                return null;
+            }
+            return views[(int)(index >>> shift)];
+        }
+
+        // Returns a view of bytes from given index to end of the chunk containing it.
+        private ByteBuffer window(long index) throws BinaryException {
+            ByteBuffer window = chunk(index).duplicate();
+            window.position(offset(index));
+            return window;
+        }
+
+        // Returns whether given bytes number at given index is in one chunk.
+        private boolean inChunk(long index, int bytesNum) {
+            return offset(index) + bytesNum <= mask + 1;
+        }
+
+        private long getBytes(long index, int bytesNum) throws BinaryException {
+            long value = 0;
+            for (int i = 0; i < bytesNum; i++) {
+                value = (value << 8) | (_getByte(index + i) & 0xff);
+            }
+            return value;
+        }
+
+        private void setBytes(long index, long value, int bytesNum) throws BinaryException {
+            for (int i = 0; i < bytesNum; i++) {
+                _setByte(index + i, (int)(value >>> ((bytesNum - 1 - i) * 8)));
+            }
+        }
+
+        @Override
+        public byte _getByte(long index) throws IndexOutOfBoundsException, BinaryException {
+            return chunk(index).get(offset(index));
+        }
+
+        @Override
+        public short _getShort(long index) throws IndexOutOfBoundsException, BinaryException {
+            return inChunk(index, 2) ? chunk(index).getShort(offset(index)) : (short)getBytes(index, 2);
+        }
+
+        @Override
+        public char _getChar(long index) throws IndexOutOfBoundsException, BinaryException {
+            return inChunk(index, 2) ? chunk(index).getChar(offset(index)) : (char)getBytes(index, 2);
+        }
+
+        @Override
+        public int _getMedium(long index) throws IndexOutOfBoundsException, BinaryException {
+            // Sign-extended as reading the highest byte as signed.
+            return ((int)getBytes(index, 3) << 8) >> 8;
+        }
+
+        @Override
+        public int _getInt(long index) throws IndexOutOfBoundsException, BinaryException {
+            return inChunk(index, 4) ? chunk(index).getInt(offset(index)) : (int)getBytes(index, 4);
+        }
+
+        @Override
+        public long _getLong(long index) throws IndexOutOfBoundsException, BinaryException {
+            return inChunk(index, 8) ? chunk(index).getLong(offset(index)) : getBytes(index, 8);
+        }
+
+        @Override
+        public void _setByte(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            chunk(index).put(offset(index), (byte)value);
+        }
+
+        @Override
+        public void _setShort(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            if (inChunk(index, 2)) {
+                chunk(index).putShort(offset(index), (short)value);
+            } else {
+                setBytes(index, value, 2);
+            }
+        }
+
+        @Override
+        public void _setChar(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            _setShort(index, value);
+        }
+
+        @Override
+        public void _setMedium(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            setBytes(index, value, 3);
+        }
+
+        @Override
+        public void _setInt(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            if (inChunk(index, 4)) {
+                chunk(index).putInt(offset(index), value);
+            } else {
+                setBytes(index, value, 4);
+            }
+        }
+
+        @Override
+        public void _setLong(long index, long value) throws IndexOutOfBoundsException, BinaryException {
+            if (inChunk(index, 8)) {
+                chunk(index).putLong(offset(index), value);
+            } else {
+                setBytes(index, value, 8);
+            }
+        }
+
+        @Override
+        public void _getBytes(long index, byte[] dest, int offset, int length)
+                throws IndexOutOfBoundsException, BinaryException {
+            while (length > 0) {
+                ByteBuffer window = window(index);
+                int n = Math.min(window.remaining(), length);
+                window.get(dest, offset, n);
+                index += n;
+                offset += n;
+                length -= n;
+            }
+        }
+
+        @Override
+        public void _getBytes(long index, ByteBuffer dest) throws IndexOutOfBoundsException, BinaryException {
+            while (dest.hasRemaining()) {
+                ByteBuffer window = window(index);
+                int n = Math.min(window.remaining(), dest.remaining());
+                window.limit(window.position() + n);
+                dest.put(window);
+                index += n;
+            }
+        }
+
+        @Override
+        public void _setBytes(long index, byte[] src, int offset, int length)
+                throws IndexOutOfBoundsException, BinaryException {
+            while (length > 0) {
+                ByteBuffer window = window(index);
+                int n = Math.min(window.remaining(), length);
+                window.put(src, offset, n);
+                index += n;
+                offset += n;
+                length -= n;
+            }
+        }
+
+        @Override
+        public void _setBytes(long index, ByteBuffer src) throws IndexOutOfBoundsException, BinaryException {
+            while (src.hasRemaining()) {
+                ByteBuffer window = window(index);
+                int n = Math.min(window.remaining(), src.remaining());
+                ByteBuffer part = src.duplicate();
+                part.limit(part.position() + n);
+                window.put(part);
+                src.position(src.position() + n);
+                index += n;
+            }
+        }
+
+        private void close() {
+            ByteBuffer[] chunks = this.chunks;
+            if (null == chunks) {
+                return;
+            }
+            this.chunks = null;
+            this.views = null;
+            for (ByteBuffer chunk : chunks) {
+                BytesUtil.free(chunk);
+            }
+        }
+    }
+}
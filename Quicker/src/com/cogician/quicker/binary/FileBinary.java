@@ -7,6 +7,8 @@ import java.io.RandomAccessFile;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel.MapMode;
 
+import com.cogician.quicker.Quicker;
+
 /**
  * <p>
  * File binary is a extension of {@linkplain Binary}, used to operate file. A file binary represents a file.
@@ -69,7 +71,8 @@ public interface FileBinary extends Binary, Closeable, Flushable {
     /**
      * <p>
      * Using {@linkplain MappedByteBuffer} to map a file and access. The specified mode is same as mode of
-     * {@linkplain MappedByteBuffer}.
+     * {@linkplain MappedByteBuffer}. In {@linkplain MapMode#READ_ONLY}, the whole file is mapped at once and never
+     * remapped, see {@linkplain MappedFileBinary#mapReadOnly(File)}.
      * </p>
      * 
      * @param fileName
@@ -85,13 +88,14 @@ public interface FileBinary extends Binary, Closeable, Flushable {
      */
     public static FileBinary map(String fileName, MapMode mode)
             throws NullPointerException, IllegalArgumentException, BinaryException {
-        return new MappedFileBinary(fileName, mode);
+        return map(new File(Quicker.require(fileName)), mode);
     }
 
     /**
      * <p>
      * Using {@linkplain MappedByteBuffer} to map a file and access. The specified mode is same as mode of
-     * {@linkplain MappedByteBuffer}.
+     * {@linkplain MappedByteBuffer}. In {@linkplain MapMode#READ_ONLY}, the whole file is mapped at once and never
+     * remapped, see {@linkplain MappedFileBinary#mapReadOnly(File)}.
      * </p>
      * 
      * @param file
@@ -107,7 +111,8 @@ public interface FileBinary extends Binary, Closeable, Flushable {
      */
     public static FileBinary map(File file, MapMode mode)
             throws NullPointerException, IllegalArgumentException, BinaryException {
-        return new MappedFileBinary(file, mode);
+        return MapMode.READ_ONLY == Quicker.require(mode) ? MappedFileBinary.mapReadOnly(file)
+                : new MappedFileBinary(file, mode);
     }
 
     /**
@@ -83,7 +83,7 @@ public class HeapBinary extends AbstractBinary implements Binary {
             Checker.checkRangeIndexes(destIndex, destIndex + length, dest.length());
             base.data.copy(srcIndex, ((HeapBinary)dest).base.data, destIndex, length);
         } else {
-            Binary.super.copy(srcIndex, dest, destIndex, length);
+            super.copy(srcIndex, dest, destIndex, length);
         }
     }
 
@@ -179,5 +179,17 @@ public class HeapBinary extends AbstractBinary implements Binary {
             data.set(index + 6, (byte)(value >> 8));
             data.set(index + 7, (byte)value);
         }
+
+        @Override
+        public void _getBytes(long index, byte[] dest, int offset, int length)
+                throws IndexOutOfBoundsException, BinaryException {
+            data.get(index, dest, offset, length);
+        }
+
+        @Override
+        public void _setBytes(long index, byte[] src, int offset, int length)
+                throws IndexOutOfBoundsException, BinaryException {
+            data.set(index, src, offset, length);
+        }
     }
 }
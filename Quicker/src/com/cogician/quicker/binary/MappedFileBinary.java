@@ -6,19 +6,46 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
+import java.nio.ReadOnlyBufferException;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileChannel.MapMode;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import com.cogician.quicker.Checker;
 import com.cogician.quicker.Quicker;
 import com.cogician.quicker.QuickerProperties;
+import com.cogician.quicker.ReadException;
+import com.cogician.quicker.bigarray.BigArray;
+import com.cogician.quicker.bigarray.CharArray;
+import com.cogician.quicker.bigarray.DoubleArray;
+import com.cogician.quicker.bigarray.FloatArray;
+import com.cogician.quicker.bigarray.IntArray;
+import com.cogician.quicker.bigarray.LongArray;
+import com.cogician.quicker.bigarray.ShortArray;
 
 /**
  * <p>
  * This class uses {@linkplain MappedByteBuffer} to implement {@linkplain FileBinary}. This class is buffered, if buffer
  * size is not specified when constructing, use default.
  * </p>
+ * <p>
+ * Big array views such as {@linkplain #asIntArray()} map the whole file in byte order of this binary, they are
+ * read-only unless the map mode is {@linkplain MapMode#READ_WRITE}.
+ * </p>
+ * <p>
+ * By default only one small buffer is mapped, and the file is remapped once accessing out of the buffer, which suits
+ * sequential access. For random access over a large file, use {@linkplain #mapRegions(File, MapMode)}: the file is
+ * mapped in large regions, and a bounded number of least recently used regions are kept mapped. Only dirty regions are
+ * forced when flushing or unmapping, and values across two regions are read and written byte by byte.
+ * </p>
+ * <p>
+ * A read-only file can be mapped as a whole once by {@linkplain #mapReadOnly(File)}, which is also used by
+ * {@linkplain FileBinary#map(File, MapMode)} in {@linkplain MapMode#READ_ONLY}. It is never remapped, and accessing it
+ * is nearly as cheap as accessing a heap array. Its length is fixed as length of the file when mapping.
+ * </p>
  *
  * @author Fred Suvn
  * @version 0.0.0, 2016-08-31T23:09:28+08:00
@@ -28,6 +55,10 @@ public class MappedFileBinary extends AbstractBinary implements FileBinary {
 
     private static final int DEFAULT_BUFFER_SIZE = QuickerProperties.get("io.buffer.size").asInt();
 
+    private static final long DEFAULT_REGION_SIZE = QuickerProperties.get("io.mapped.region.size").asLong();
+
+    private static final int DEFAULT_REGION_COUNT = QuickerProperties.get("io.mapped.region.count").asInt();
+
     private static RandomAccessFile getRandomAccessFile(File file, String mode)
             throws NullPointerException, IllegalArgumentException, BinaryException {
         try {
@@ -39,7 +70,7 @@ public class MappedFileBinary extends AbstractBinary implements FileBinary {
 
     private final File file;
 
-    private final MappedByteBufferReadWrite base;
+    private final MappedReadWrite base;
 
     /**
      * <p>
@@ -134,14 +165,112 @@ public class MappedFileBinary extends AbstractBinary implements FileBinary {
      */
     public MappedFileBinary(File file, MapMode mode, ByteOrderProcessor orderProcessor, int bufferSize)
             throws NullPointerException, IllegalArgumentException, BinaryException {
-        super(new MappedByteBufferReadWrite(Quicker.require(file), mode, bufferSize), orderProcessor);
-        this.file = file;
-        this.base = (MappedByteBufferReadWrite)getBaseReadWrite();
+        this(new MappedByteBufferReadWrite(Quicker.require(file), mode, bufferSize), orderProcessor);
+    }
+
+    /**
+     * <p>
+     * Constructs with specified file, mode, byte order processor, region size and region count. The file is mapped in
+     * regions of the region size, and at most the region count of least recently used regions are kept mapped. The
+     * mode is same as mode of {@linkplain MappedByteBuffer}. If given byte order processor is null, use default
+     * {@linkplain ByteOrderProcessor#BIG_ENDIAN}.
+     * </p>
+     * 
+     * @param file
+     *            specified file
+     * @param mode
+     *            specified mode
+     * @param orderProcessor
+     *            specified byte order processor
+     * @param regionSize
+     *            specified region size, [8, {@linkplain Integer#MAX_VALUE}]
+     * @param regionCount
+     *            specified region count, positive
+     * @throws NullPointerException
+     *             if specified file or mode is null
+     * @throws IllegalArgumentException
+     *             if region size or region count is illegal
+     * @throws BinaryException
+     *             if file not found and cannot be created, or other IO problem occurs
+     * @since 0.0.0
+     */
+    public MappedFileBinary(File file, MapMode mode, ByteOrderProcessor orderProcessor, long regionSize,
+            int regionCount) throws NullPointerException, IllegalArgumentException, BinaryException {
+        this(new MappedRegionsReadWrite(Quicker.require(file), mode, regionSize, regionCount), orderProcessor);
+    }
+
+    private MappedFileBinary(MappedReadWrite base, ByteOrderProcessor orderProcessor) {
+        super(base, orderProcessor);
+        this.file = base.file;
+        this.base = base;
+    }
+
+    /**
+     * <p>
+     * Returns a new read-only mapped file binary with specified file, big-endian, which maps the whole file at once.
+     * </p>
+     * 
+     * @param file
+     *            specified file
+     * @return a new read-only mapped file binary which maps the whole file
+     * @throws NullPointerException
+     *             if specified file is null
+     * @throws BinaryException
+     *             if file not found, or other IO problem occurs
+     * @see #mapReadOnly(File, ByteOrderProcessor)
+     * @since 0.0.0
+     */
+    public static MappedFileBinary mapReadOnly(File file) throws NullPointerException, BinaryException {
+        return mapReadOnly(file, null);
+    }
+
+    /**
+     * <p>
+     * Returns a new read-only mapped file binary with specified file and byte order processor, which maps the whole
+     * file at once. If given byte order processor is null, use default {@linkplain ByteOrderProcessor#BIG_ENDIAN}.
+     * </p>
+     * 
+     * @param file
+     *            specified file
+     * @param orderProcessor
+     *            specified byte order processor
+     * @return a new read-only mapped file binary which maps the whole file
+     * @throws NullPointerException
+     *             if specified file is null
+     * @throws BinaryException
+     *             if file not found, or other IO problem occurs
+     * @since 0.0.0
+     */
+    public static MappedFileBinary mapReadOnly(File file, ByteOrderProcessor orderProcessor)
+            throws NullPointerException, BinaryException {
+        return new MappedFileBinary(new MappedSegmentsReadWrite(Quicker.require(file)), orderProcessor);
+    }
+
+    /**
+     * <p>
+     * Returns a new mapped file binary with specified file and mode, big-endian, which maps the file in regions of
+     * default region size and keeps default number of regions mapped.
+     * </p>
+     * 
+     * @param file
+     *            specified file
+     * @param mode
+     *            specified mode
+     * @return a new mapped file binary which maps the file in regions
+     * @throws NullPointerException
+     *             if specified file or mode is null
+     * @throws BinaryException
+     *             if file not found and cannot be created, or other IO problem occurs
+     * @see #MappedFileBinary(File, MapMode, ByteOrderProcessor, long, int)
+     * @since 0.0.0
+     */
+    public static MappedFileBinary mapRegions(File file, MapMode mode) throws NullPointerException, BinaryException {
+        return new MappedFileBinary(file, mode, null, DEFAULT_REGION_SIZE, DEFAULT_REGION_COUNT);
     }
 
     @Override
     public long length() {
-        return file.length();
+        return base.length();
     }
 
     @Override
@@ -151,6 +280,7 @@ public class MappedFileBinary extends AbstractBinary implements FileBinary {
         } catch (IOException e) {
             throw new BinaryException(e);
         }
+        base.resized();
     }
 
     @Override
@@ -160,14 +290,76 @@ public class MappedFileBinary extends AbstractBinary implements FileBinary {
         Checker.checkLength(length);
         Checker.checkRangeIndexes(srcIndex, srcIndex + length, length());
         Checker.checkRangeIndexes(destIndex, destIndex + length, dest.length());
-        long offset = 0;
-        long remainder = length;
-        while (remainder > 0) {
-            Binary bin = base.readBuffer(srcIndex + offset);
-            long actual = Math.min(bin.length(), remainder);
-            bin.copy(0, dest, destIndex + offset, actual);
-            offset += actual;
-            remainder -= actual;
+        if (!BytesUtil.transfer(this, srcIndex, dest, destIndex, length)) {
+            super.copy(srcIndex, dest, destIndex, length);
+        }
+    }
+
+    // Returns channel of the file if it can be used directly, mapped bytes of private mode are not in the file.
+    FileChannel transferChannel(boolean write) {
+        if (base.mode == MapMode.PRIVATE || (write && base.mode == MapMode.READ_ONLY)) {
+            return null;
+        }
+        return base.channel;
+    }
+
+    @Override
+    public ShortArray asShortArray() throws BinaryException {
+        try {
+            return ShortArray.map(file, length() / Short.BYTES, BigArray.BLOCK_SIZE, MapMode.READ_WRITE != base.mode,
+                    getByteOrderProcessor().getByteOrder());
+        } catch (ReadException e) {
+            throw new BinaryException(e);
+        }
+    }
+
+    @Override
+    public CharArray asCharArray() throws BinaryException {
+        try {
+            return CharArray.map(file, length() / Character.BYTES, BigArray.BLOCK_SIZE, MapMode.READ_WRITE != base.mode,
+                    getByteOrderProcessor().getByteOrder());
+        } catch (ReadException e) {
+            throw new BinaryException(e);
+        }
+    }
+
+    @Override
+    public IntArray asIntArray() throws BinaryException {
+        try {
+            return IntArray.map(file, length() / Integer.BYTES, BigArray.BLOCK_SIZE, MapMode.READ_WRITE != base.mode,
+                    getByteOrderProcessor().getByteOrder());
+        } catch (ReadException e) {
+            throw new BinaryException(e);
+        }
+    }
+
+    @Override
+    public LongArray asLongArray() throws BinaryException {
+        try {
+            return LongArray.map(file, length() / Long.BYTES, BigArray.BLOCK_SIZE, MapMode.READ_WRITE != base.mode,
+                    getByteOrderProcessor().getByteOrder());
+        } catch (ReadException e) {
+            throw new BinaryException(e);
+        }
+    }
+
+    @Override
+    public FloatArray asFloatArray() throws BinaryException {
+        try {
+            return FloatArray.map(file, length() / Float.BYTES, BigArray.BLOCK_SIZE, MapMode.READ_WRITE != base.mode,
+                    getByteOrderProcessor().getByteOrder());
+        } catch (ReadException e) {
+            throw new BinaryException(e);
+        }
+    }
+
+    @Override
+    public DoubleArray asDoubleArray() throws BinaryException {
+        try {
+            return DoubleArray.map(file, length() / Double.BYTES, BigArray.BLOCK_SIZE, MapMode.READ_WRITE != base.mode,
+                    getByteOrderProcessor().getByteOrder());
+        } catch (ReadException e) {
+            throw new BinaryException(e);
         }
     }
 
@@ -183,7 +375,7 @@ public class MappedFileBinary extends AbstractBinary implements FileBinary {
 
     @Override
     public void close() throws BinaryException {
-        flush();
+        base.close();
     }
 
     @Override
@@ -257,13 +449,93 @@ public class MappedFileBinary extends AbstractBinary implements FileBinary {
         }
     }
 
-    private static class MappedByteBufferReadWrite implements BaseReadWrite {
+    private static abstract class MappedReadWrite implements BaseReadWrite {
+
+        protected final File file;
+
+        protected final FileChannel channel;
+
+        protected final MapMode mode;
+
+        protected MappedReadWrite(File file, MapMode mode) throws NullPointerException, BinaryException {
+            this.file = Quicker.require(file);
+            this.mode = Quicker.require(mode);
+            if (mode == MapMode.READ_ONLY) {
+                this.channel = getRandomAccessFile(file, "r").getChannel();
+            } else {
+                this.channel = getRandomAccessFile(file, "rw").getChannel();
+            }
+        }
+
+        public long length() {
+            return file.length();
+        }
+
+        // Called after the file is resized through the binary.
+        public void resized() {
+        }
+
+        // Returns a view from given index to end of the mapping containing it, the mapping is dirty if for write.
+        protected abstract ByteBuffer window(long index, boolean write) throws BinaryException;
+
+        @Override
+        public void _getBytes(long index, byte[] dest, int offset, int length)
+                throws IndexOutOfBoundsException, BinaryException {
+            while (length > 0) {
+                ByteBuffer window = window(index, false);
+                int n = Math.min(window.remaining(), length);
+                window.get(dest, offset, n);
+                index += n;
+                offset += n;
+                length -= n;
+            }
+        }
+
+        @Override
+        public void _getBytes(long index, ByteBuffer dest) throws IndexOutOfBoundsException, BinaryException {
+            while (dest.hasRemaining()) {
+                ByteBuffer window = window(index, false);
+                int n = Math.min(window.remaining(), dest.remaining());
+                window.limit(window.position() + n);
+                dest.put(window);
+                index += n;
+            }
+        }
+
+        @Override
+        public void _setBytes(long index, byte[] src, int offset, int length)
+                throws IndexOutOfBoundsException, BinaryException {
+            while (length > 0) {
+                ByteBuffer window = window(index, true);
+                int n = Math.min(window.remaining(), length);
+                window.put(src, offset, n);
+                index += n;
+                offset += n;
+                length -= n;
+            }
+        }
+
+        @Override
+        public void _setBytes(long index, ByteBuffer src) throws IndexOutOfBoundsException, BinaryException {
+            while (src.hasRemaining()) {
+                ByteBuffer window = window(index, true);
+                int n = Math.min(window.remaining(), src.remaining());
+                ByteBuffer part = src.duplicate();
+                part.limit(part.position() + n);
+                window.put(part);
+                src.position(src.position() + n);
+                index += n;
+            }
+        }
 
-        private final File file;
+        public abstract void flush() throws BinaryException;
 
-        private final FileChannel channel;
+        public void close() throws BinaryException {
+            flush();
+        }
+    }
 
-        private final MapMode mode;
+    private static class MappedByteBufferReadWrite extends MappedReadWrite {
 
         private final int bufferSize;
 
@@ -277,22 +549,21 @@ public class MappedFileBinary extends AbstractBinary implements FileBinary {
 
         private MappedByteBufferReadWrite(File file, MapMode mode, int bufferSize)
                 throws NullPointerException, IllegalArgumentException, BinaryException {
-            this.file = Quicker.require(file);
-            this.mode = Quicker.require(mode);
+            super(file, mode);
             if (bufferSize < 8) {
                 throw new IllegalArgumentException("Buffer size cannot less than 8.");
             }
             this.bufferSize = bufferSize;
-            if (mode == MapMode.READ_ONLY) {
-                this.channel = getRandomAccessFile(file, "r").getChannel();
-            } else {
-                this.channel = getRandomAccessFile(file, "rw").getChannel();
-            }
         }
 
         private void fillBuffer(long index) throws BinaryException {
             try {
                 flush();
+                if (null != buffer) {
+                    // Unmaps at once instead of leaving it to garbage collector, remapping may be frequent.
+                    BytesUtil.free(buffer);
+                    this.buffer = null;
+                }
                 this.buffer = channel.map(mode, index, Math.min(bufferSize, file.length() - index));
                 this.curPos = index;
                 this.size = buffer.limit();
@@ -302,7 +573,7 @@ public class MappedFileBinary extends AbstractBinary implements FileBinary {
         }
 
         private boolean inBuffer(long index, int bytesNum) {
-            return size > 0 && index >= curPos && index + bytesNum < curPos + size;
+            return size > 0 && index >= curPos && index + bytesNum <= curPos + size;
         }
 
         @Override
@@ -410,13 +681,20 @@ public class MappedFileBinary extends AbstractBinary implements FileBinary {
             bufferChanged = true;
         }
 
-        public Binary readBuffer(long index) {
-            fillBuffer(index);
-            byte[] b = new byte[size];
-            buffer.get(b);
-            return Binary.wrap(b, 0, size, null);
+        @Override
+        protected ByteBuffer window(long index, boolean write) throws BinaryException {
+            if (!inBuffer(index, 1)) {
+                fillBuffer(index);
+            }
+            if (write) {
+                bufferChanged = true;
+            }
+            ByteBuffer window = buffer.duplicate();
+            window.position((int)(index - curPos));
+            return window;
         }
 
+        @Override
         public void flush() {
             if (size > 0 && bufferChanged) {
                 buffer.force();
@@ -425,4 +703,414 @@ public class MappedFileBinary extends AbstractBinary implements FileBinary {
             bufferChanged = false;
         }
     }
+
+    private static class MappedRegionsReadWrite extends MappedReadWrite {
+
+        private final long regionSize;
+
+        private final int regionCount;
+
+        // Mapped regions by start index, in access order, the eldest is forced if dirty and evicted on overflow.
+        private final LinkedHashMap<Long, Region> regions;
+
+        // Region last accessed, so that continuous access in a region skips the lookup.
+        private Region last;
+
+        // Length of file, cached since File.length() is a system call; refreshed when the file is resized or a region
+        // is mapped.
+        private long length;
+
+        private boolean closed;
+
+        private MappedRegionsReadWrite(File file, MapMode mode, long regionSize, int regionCount)
+                throws NullPointerException, IllegalArgumentException, BinaryException {
+            super(file, mode);
+            Checker.check(regionSize >= 8 && regionSize <= Integer.MAX_VALUE, "Illegal region size: " + regionSize);
+            Checker.check(regionCount > 0, "Region count should be positive: " + regionCount);
+            this.regionSize = regionSize;
+            this.regionCount = regionCount;
+            this.length = file.length();
+            this.regions = new LinkedHashMap<Long, Region>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Region> eldest) {
+                    if (size() <= MappedRegionsReadWrite.this.regionCount) {
+                        return false;
+                    }
+                    eldest.getValue().release();
+                    return true;
+                }
+            };
+        }
+
+        private Region map(long start) throws BinaryException {
+            try {
+                length = file.length();
+                Region region = new Region(start, channel.map(mode, start, Math.min(regionSize, length - start)));
+                regions.put(start, region);
+                last = region;
+                return region;
+            } catch (IOException e) {
+                throw new BinaryException(e);
+            }
+        }
+
+        // Returns region containing given index, remapped if the file has grown past the region.
+        private Region region(long index) throws BinaryException {
+            if (closed) {
+                throw new BinaryException("Binary has been closed.");
+            }
+            long start = index - index % regionSize;
+            Region region = last;
+            if (null == region || region.start != start) {
+                region = regions.get(start);
+                if (null == region) {
+                    return map(start);
+                }
+                last = region;
+            }
+            if (index - start >= region.buffer.limit()) {
+                region.release();
+                return map(start);
+            }
+            return region;
+        }
+
+        private long getBytes(long index, int bytesNum) throws BinaryException {
+            long value = 0;
+            for (int i = 0; i < bytesNum; i++) {
+                Region region = region(index + i);
+                value = (value << 8) | (region.buffer.get((int)(index + i - region.start)) & 0xff);
+            }
+            return value;
+        }
+
+        private void setBytes(long index, long value, int bytesNum) throws BinaryException {
+            for (int i = 0; i < bytesNum; i++) {
+                Region region = region(index + i);
+                region.buffer.put((int)(index + i - region.start), (byte)(value >>> ((bytesNum - 1 - i) * 8)));
+                region.dirty = true;
+            }
+        }
+
+        // Returns offset of given index in given region if given bytes number is all in the region, or else -1.
+        private static int offset(Region region, long index, int bytesNum) {
+            int offset = (int)(index - region.start);
+            return offset + bytesNum <= region.buffer.limit() ? offset : -1;
+        }
+
+        @Override
+        public byte _getByte(long index) throws IndexOutOfBoundsException, BinaryException {
+            Region region = region(index);
+            return region.buffer.get((int)(index - region.start));
+        }
+
+        @Override
+        public short _getShort(long index) throws IndexOutOfBoundsException, BinaryException {
+            Region region = region(index);
+            int offset = offset(region, index, 2);
+            return offset < 0 ? (short)getBytes(index, 2) : region.buffer.getShort(offset);
+        }
+
+        @Override
+        public char _getChar(long index) throws IndexOutOfBoundsException, BinaryException {
+            Region region = region(index);
+            int offset = offset(region, index, 2);
+            return offset < 0 ? (char)getBytes(index, 2) : region.buffer.getChar(offset);
+        }
+
+        @Override
+        public int _getMedium(long index) throws IndexOutOfBoundsException, BinaryException {
+            Region region = region(index);
+            int offset = offset(region, index, 3);
+            if (offset < 0) {
+                // Sign-extended as reading the highest byte as signed.
+                return ((int)getBytes(index, 3) << 8) >> 8;
+            }
+            int i1 = region.buffer.get(offset);
+            int i2 = BytesUtil.toUnsignedShort(region.buffer.getShort(offset + 1));
+            return (i1 << 16) | i2;
+        }
+
+        @Override
+        public int _getInt(long index) throws IndexOutOfBoundsException, BinaryException {
+            Region region = region(index);
+            int offset = offset(region, index, 4);
+            return offset < 0 ? (int)getBytes(index, 4) : region.buffer.getInt(offset);
+        }
+
+        @Override
+        public long _getLong(long index) throws IndexOutOfBoundsException, BinaryException {
+            Region region = region(index);
+            int offset = offset(region, index, 8);
+            return offset < 0 ? getBytes(index, 8) : region.buffer.getLong(offset);
+        }
+
+        @Override
+        public void _setByte(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            Region region = region(index);
+            region.buffer.put((int)(index - region.start), (byte)value);
+            region.dirty = true;
+        }
+
+        @Override
+        public void _setShort(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            Region region = region(index);
+            int offset = offset(region, index, 2);
+            if (offset < 0) {
+                setBytes(index, value, 2);
+                return;
+            }
+            region.buffer.putShort(offset, (short)value);
+            region.dirty = true;
+        }
+
+        @Override
+        public void _setChar(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            _setShort(index, value);
+        }
+
+        @Override
+        public void _setMedium(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            Region region = region(index);
+            int offset = offset(region, index, 3);
+            if (offset < 0) {
+                setBytes(index, value, 3);
+                return;
+            }
+            region.buffer.put(offset, (byte)(value >> 16));
+            region.buffer.putShort(offset + 1, (short)value);
+            region.dirty = true;
+        }
+
+        @Override
+        public void _setInt(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            Region region = region(index);
+            int offset = offset(region, index, 4);
+            if (offset < 0) {
+                setBytes(index, value, 4);
+                return;
+            }
+            region.buffer.putInt(offset, value);
+            region.dirty = true;
+        }
+
+        @Override
+        public void _setLong(long index, long value) throws IndexOutOfBoundsException, BinaryException {
+            Region region = region(index);
+            int offset = offset(region, index, 8);
+            if (offset < 0) {
+                setBytes(index, value, 8);
+                return;
+            }
+            region.buffer.putLong(offset, value);
+            region.dirty = true;
+        }
+
+        @Override
+        protected ByteBuffer window(long index, boolean write) throws BinaryException {
+            Region region = region(index);
+            if (write) {
+                region.dirty = true;
+            }
+            ByteBuffer window = region.buffer.duplicate();
+            window.position((int)(index - region.start));
+            return window;
+        }
+
+        @Override
+        public void flush() {
+            for (Region region : regions.values()) {
+                region.force();
+            }
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public void resized() {
+            length = file.length();
+        }
+
+        @Override
+        public void close() throws BinaryException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (Region region : regions.values()) {
+                region.release();
+            }
+            regions.clear();
+            last = null;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new BinaryException(e);
+            }
+        }
+    }
+
+    private static class MappedSegmentsReadWrite extends MappedReadWrite {
+
+        private static final int SEGMENT_SHIFT = 30;
+
+        private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+        // Bytes of a segment overlapping the next, so that a value starting in a segment is entirely in it.
+        private static final int OVERLAP = Long.BYTES - 1;
+
+        private final long length;
+
+        private ByteBuffer[] segments;
+
+        private MappedSegmentsReadWrite(File file) throws NullPointerException, BinaryException {
+            super(file, MapMode.READ_ONLY);
+            try {
+                this.length = channel.size();
+                this.segments = new ByteBuffer[(int)((length + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+                for (int i = 0; i < segments.length; i++) {
+                    long start = (long)i << SEGMENT_SHIFT;
+                    segments[i] = channel.map(MapMode.READ_ONLY, start,
+                            Math.min(SEGMENT_MASK + 1 + OVERLAP, length - start));
+                }
+            } catch (IOException e) {
+                throw new BinaryException(e);
+            }
+        }
+
+        private ByteBuffer segment(long index) throws BinaryException {
+            ByteBuffer[] segments = this.segments;
+            if (null == segments) {
+                throw new BinaryException("Binary has been closed.");
+            }
+            return segments[(int)(index >>> SEGMENT_SHIFT)];
+        }
+
+        @Override
+        public long length() {
+            return length;
+        }
+
+        @Override
+        public byte _getByte(long index) throws IndexOutOfBoundsException, BinaryException {
+            return segment(index).get((int)(index & SEGMENT_MASK));
+        }
+
+        @Override
+        public short _getShort(long index) throws IndexOutOfBoundsException, BinaryException {
+            return segment(index).getShort((int)(index & SEGMENT_MASK));
+        }
+
+        @Override
+        public char _getChar(long index) throws IndexOutOfBoundsException, BinaryException {
+            return segment(index).getChar((int)(index & SEGMENT_MASK));
+        }
+
+        @Override
+        public int _getMedium(long index) throws IndexOutOfBoundsException, BinaryException {
+            ByteBuffer segment = segment(index);
+            int offset = (int)(index & SEGMENT_MASK);
+            int i1 = segment.get(offset);
+            int i2 = BytesUtil.toUnsignedShort(segment.getShort(offset + 1));
+            return (i1 << 16) | i2;
+        }
+
+        @Override
+        public int _getInt(long index) throws IndexOutOfBoundsException, BinaryException {
+            return segment(index).getInt((int)(index & SEGMENT_MASK));
+        }
+
+        @Override
+        public long _getLong(long index) throws IndexOutOfBoundsException, BinaryException {
+            return segment(index).getLong((int)(index & SEGMENT_MASK));
+        }
+
+        @Override
+        public void _setByte(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            throw new ReadOnlyBufferException();
+        }
+
+        @Override
+        public void _setShort(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            throw new ReadOnlyBufferException();
+        }
+
+        @Override
+        public void _setChar(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            throw new ReadOnlyBufferException();
+        }
+
+        @Override
+        public void _setMedium(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            throw new ReadOnlyBufferException();
+        }
+
+        @Override
+        public void _setInt(long index, int value) throws IndexOutOfBoundsException, BinaryException {
+            throw new ReadOnlyBufferException();
+        }
+
+        @Override
+        public void _setLong(long index, long value) throws IndexOutOfBoundsException, BinaryException {
+            throw new ReadOnlyBufferException();
+        }
+
+        @Override
+        protected ByteBuffer window(long index, boolean write) throws BinaryException {
+            if (write) {
+                throw new ReadOnlyBufferException();
+            }
+            ByteBuffer window = segment(index).duplicate();
+            window.position((int)(index & SEGMENT_MASK));
+            return window;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            ByteBuffer[] segments = this.segments;
+            this.segments = null;
+            if (null != segments) {
+                for (ByteBuffer segment : segments) {
+                    BytesUtil.free(segment);
+                }
+            }
+        }
+    }
+
+    private static class Region {
+
+        private final long start;
+
+        private final MappedByteBuffer buffer;
+
+        private boolean dirty;
+
+        private Region(long start, MappedByteBuffer buffer) {
+            this.start = start;
+            this.buffer = buffer;
+        }
+
+        private void force() {
+            if (dirty) {
+                buffer.force();
+                dirty = false;
+            }
+        }
+
+        // Forces if dirty and unmaps, this region cannot be accessed any more.
+        private void release() {
+            force();
+            BytesUtil.free(buffer);
+        }
+    }
 }
@@ -284,6 +284,15 @@ public class QuickInputer extends Inputer {
         return v;
     }
 
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int actual = source.read(b, off, len);
+        if (actual > 0) {
+            pointer.increase(actual);
+        }
+        return actual;
+    }
+
     @Override
     public long length() {
         return pointer.length();
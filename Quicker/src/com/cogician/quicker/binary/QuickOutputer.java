@@ -225,6 +225,12 @@ public class QuickOutputer extends Outputer {
         pointer.increase(1);
     }
 
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        source.write(b, off, len);
+        pointer.increase(len);
+    }
+
     @Override
     protected void _writeShort(int value) throws EOFException, IOException {
         source.writeShort(value);
@@ -1,11 +1,14 @@
 package com.cogician.quicker.binary;
 
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 import com.cogician.quicker.Checker;
 import com.cogician.quicker.Quicker;
@@ -167,17 +170,17 @@ public class RandomFileBinary extends AbstractBinary implements FileBinary {
         Checker.checkLength(length);
         Checker.checkRangeIndexes(srcIndex, srcIndex + length, length());
         Checker.checkRangeIndexes(destIndex, destIndex + length, dest.length());
-        long offset = 0;
-        long remainder = length;
-        while (remainder > 0) {
-            Binary bin = base.readBuffer(srcIndex + offset);
-            long actual = Math.min(bin.length(), remainder);
-            bin.copy(0, dest, destIndex + offset, actual);
-            offset += actual;
-            remainder -= actual;
+        if (!BytesUtil.transfer(this, srcIndex, dest, destIndex, length)) {
+            super.copy(srcIndex, dest, destIndex, length);
         }
     }
 
+    // Returns channel of the file after writing back and dropping buffer, so that the channel can be used directly.
+    FileChannel transferChannel() throws BinaryException {
+        base.flush();
+        return base.getSource().getChannel();
+    }
+
     @Override
     public byte[] wrappedArray() {
         return null;
@@ -416,9 +419,77 @@ public class RandomFileBinary extends AbstractBinary implements FileBinary {
             bufferChanged = true;
         }
 
-        public Binary readBuffer(long index) {
-            fillBuffer(index);
-            return Binary.wrap(bufferData, 0, size, null);
+        @Override
+        public void _getBytes(long index, byte[] dest, int offset, int length)
+                throws IndexOutOfBoundsException, BinaryException {
+            if (inBuffer(index, length)) {
+                System.arraycopy(bufferData, (int)(index - curPos), dest, offset, length);
+                return;
+            }
+            // Writes back changed buffer first so that the file is up to date.
+            flush();
+            try {
+                source.seek(index);
+                source.readFully(dest, offset, length);
+            } catch (IOException e) {
+                throw new BinaryException(e);
+            }
+        }
+
+        @Override
+        public void _getBytes(long index, ByteBuffer dest) throws IndexOutOfBoundsException, BinaryException {
+            if (dest.hasArray()) {
+                BaseReadWrite.super._getBytes(index, dest);
+                return;
+            }
+            flush();
+            try {
+                FileChannel channel = source.getChannel();
+                while (dest.hasRemaining()) {
+                    int n = channel.read(dest, index);
+                    if (n < 0) {
+                        throw new EOFException();
+                    }
+                    index += n;
+                }
+            } catch (IOException e) {
+                throw new BinaryException(e);
+            }
+        }
+
+        @Override
+        public void _setBytes(long index, byte[] src, int offset, int length)
+                throws IndexOutOfBoundsException, BinaryException {
+            if (inBuffer(index, length)) {
+                System.arraycopy(src, offset, bufferData, (int)(index - curPos), length);
+                bufferChanged = true;
+                return;
+            }
+            // Writes back changed buffer first so that it will not overwrite given bytes later.
+            flush();
+            try {
+                source.seek(index);
+                source.write(src, offset, length);
+            } catch (IOException e) {
+                throw new BinaryException(e);
+            }
+        }
+
+        @Override
+        public void _setBytes(long index, ByteBuffer src) throws IndexOutOfBoundsException, BinaryException {
+            if (src.hasArray()) {
+                BaseReadWrite.super._setBytes(index, src);
+                return;
+            }
+            flush();
+            try {
+                FileChannel channel = source.getChannel();
+                while (src.hasRemaining()) {
+                    index += channel.write(src, index);
+                }
+            } catch (IOException e) {
+                throw new BinaryException(e);
+            }
         }
 
         public void flush() {
@@ -1,5 +1,8 @@
 package com.cogician.quicker.binary;
 
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+
 import com.cogician.quicker.Checker;
 import com.cogician.quicker.Quicker;
 
@@ -107,6 +110,20 @@ public class SubBinary implements Binary {
         return source.getBinary(startIndex + index, length);
     }
 
+    @Override
+    public void getBytes(long index, byte[] dest, int offset, int length)
+            throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException, BinaryException {
+        Checker.checkRangeIndexes(index, index + length, length());
+        source.getBytes(startIndex + index, dest, offset, length);
+    }
+
+    @Override
+    public void getBytes(long index, ByteBuffer dest)
+            throws NullPointerException, IndexOutOfBoundsException, ReadOnlyBufferException, BinaryException {
+        Checker.checkRangeIndexes(index, index + dest.remaining(), length());
+        source.getBytes(startIndex + index, dest);
+    }
+
     @Override
     public void setByte(long index, int value) throws IndexOutOfBoundsException, BinaryException {
         source.setByte(startIndex + index, value);
@@ -153,6 +170,34 @@ public class SubBinary implements Binary {
         source.setPrimitive(startIndex + index, value, bytesNum);
     }
 
+    @Override
+    public void setBytes(long index, byte[] src, int offset, int length)
+            throws NullPointerException, IndexOutOfBoundsException, IllegalArgumentException, BinaryException {
+        Checker.checkRangeIndexes(index, index + length, length());
+        source.setBytes(startIndex + index, src, offset, length);
+    }
+
+    @Override
+    public void setBytes(long index, ByteBuffer src)
+            throws NullPointerException, IndexOutOfBoundsException, BinaryException {
+        Checker.checkRangeIndexes(index, index + src.remaining(), length());
+        source.setBytes(startIndex + index, src);
+    }
+
+    @Override
+    public void copy(long srcIndex, Binary dest, long destIndex, long length) throws NullPointerException,
+            IndexOutOfBoundsException, IllegalArgumentException, BinaryException, BinaryException {
+        Checker.checkLength(length);
+        Checker.checkRangeIndexes(srcIndex, srcIndex + length, length());
+        if (dest == this) {
+            // Copied within source so that it sees an overlapping range.
+            Checker.checkRangeIndexes(destIndex, destIndex + length, length());
+            source.copy(startIndex + srcIndex, source, startIndex + destIndex, length);
+            return;
+        }
+        source.copy(startIndex + srcIndex, dest, destIndex, length);
+    }
+
     @Override
     public Binary subBinary(long from, long to) throws IndexOutOfBoundsException, IllegalArgumentException {
         return new SubBinary(this, from, to);
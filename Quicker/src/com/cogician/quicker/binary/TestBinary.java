@@ -3,9 +3,16 @@ package com.cogician.quicker.binary;
 import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
+import java.util.Random;
 
 import com.cogician.quicker.Quicker;
+import com.cogician.quicker.bigarray.IntArray;
+import com.cogician.quicker.bigarray.LongArray;
+import com.cogician.quicker.util.RandomQuicker;
 import com.cogician.quicker.util.ToStringQuicker;
 
 /**
@@ -85,6 +92,43 @@ public class TestBinary {
         System.out.println(bin3.getDouble(100));
     }
 
+    public static void testArrayView() {
+        IntArray ints = new IntArray(new int[] { 1, 2, 0x01020304 });
+        Binary bin = ints.asBinary(ByteOrderProcessor.LITTLE_ENDIAN);
+        System.out.println(bin.getInt(8) + ", " + bin.getByte(8));
+        bin.setInt(4, 7777);
+        System.out.println(ints.get(1L));
+
+        Binary bytes = Binary.wrap(new byte[16], 0, 16, ByteOrderProcessor.LITTLE_ENDIAN);
+        LongArray longs = bytes.asLongArray();
+        longs.set(1L, 12306L);
+        System.out.println(bytes.getLong(8));
+
+        IntArray source = new IntArray(100000L);
+        Quicker.each(1000, () -> source.set(RandomQuicker.nextInt(0, 99999), RandomQuicker.nextInt()));
+        boolean equal = true;
+        for (ByteOrderProcessor order : new ByteOrderProcessor[] { ByteOrderProcessor.BIG_ENDIAN,
+                ByteOrderProcessor.LITTLE_ENDIAN }) {
+            Binary view = source.asBinary(order);
+            byte[] bulk = new byte[100003];
+            view.getBytes(5, bulk, 1, 100001);
+            for (int i = 0; i < 100001; i++) {
+                equal &= bulk[i + 1] == view.getByte(5 + i);
+            }
+            IntArray target = new IntArray(100000L);
+            Binary targetView = target.asBinary(order);
+            targetView.setBytes(5, bulk, 1, 100001);
+            for (int i = 0; i < 100001; i++) {
+                equal &= targetView.getByte(5 + i) == bulk[i + 1];
+            }
+            ByteBuffer direct = ByteBuffer.allocateDirect(400000);
+            view.getBytes(0, direct);
+            direct.flip();
+            equal &= direct.order(order.getByteOrder()).getInt(4 * 77) == source.get(77L);
+        }
+        System.out.println("bulk view equal= " + equal);
+    }
+
     public static void testOutputer() throws EOFException, IOException {
         Outputer out = new QuickOutputer("oooo.txt");
         for (int i = 0; i < 10086; i++) {
@@ -225,4 +269,120 @@ public class TestBinary {
         bq.pollFirst();
         System.out.println(ToStringQuicker.toString(bq.toArray()));
     }
+
+    public static void testMappedRegions() throws IOException {
+        File file = File.createTempFile("regions", ".bin");
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(1024 * 1024);
+        }
+        MappedFileBinary bin = new MappedFileBinary(file, MapMode.READ_WRITE, null, 4096, 4);
+        for (long i = 4090; i < 1024 * 1024 - 8; i += 4096) {
+            bin.setLong(i, i);
+        }
+        bin.flush();
+        System.out.println(bin.getLong(4090) + ", " + bin.getLong(4096 * 100 + 4090) + ", " + bin.getInt(4094));
+        bin.setLength(1024 * 1024 + 4096);
+        bin.setLong(1024 * 1024 + 4088, 12306L);
+        System.out.println("length= " + bin.length() + ", " + bin.getLong(1024 * 1024 + 4088));
+        bin.close();
+        try {
+            bin.getLong(4090);
+            System.out.println("read after close");
+        } catch (BinaryException e) {
+            System.out.println(e.getMessage());
+        }
+        file.delete();
+    }
+
+    public static void testMapReadOnly() throws IOException {
+        File file = File.createTempFile("readonly", ".bin");
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(1024 * 1024);
+            raf.seek(4096);
+            raf.writeLong(12306L);
+        }
+        FileBinary bin = FileBinary.map(file, MapMode.READ_ONLY);
+        System.out.println(bin.length() + ", " + bin.getLong(4096) + ", " + bin.getInt(4100));
+        bin.close();
+        file.delete();
+    }
+
+    public static void testBulkBytes() throws IOException {
+        File file = File.createTempFile("bulk", ".bin");
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(64 * 1024);
+        }
+        byte[] bytes = new byte[40000];
+        new Random(1).nextBytes(bytes);
+        MappedFileBinary mapped = MappedFileBinary.mapRegions(file, MapMode.READ_WRITE);
+        mapped.setBytes(100, bytes, 0, bytes.length);
+        Binary heap = Binary.alloc(bytes.length);
+        mapped.copy(100, heap, 0, bytes.length);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        heap.subBinary(0, bytes.length).getBytes(0, buffer);
+        buffer.flip();
+        System.out.println(buffer.equals(ByteBuffer.wrap(bytes)) + ", " + heap.getInt(39996));
+        mapped.close();
+        file.delete();
+        Binary sub = new HeapBinary(1 << 20).subBinary(0, 1 << 20);
+        byte[] pattern = new byte[100001];
+        new Random(2).nextBytes(pattern);
+        sub.setBytes(0, pattern, 0, pattern.length);
+        sub.copy(0, sub, 1, 100000);
+        byte[] shifted = new byte[100000];
+        sub.getBytes(1, shifted, 0, shifted.length);
+        System.out.println("overlapping sub copy equal= " + Arrays.equals(shifted, Arrays.copyOf(pattern, 100000)));
+    }
+
+    public static void testTransfer() throws IOException {
+        File src = File.createTempFile("transfer", ".src");
+        File dest = File.createTempFile("transfer", ".dest");
+        try (RandomAccessFile raf = new RandomAccessFile(src, "rw")) {
+            raf.setLength(1024 * 1024);
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(dest, "rw")) {
+            raf.setLength(1024 * 1024);
+        }
+        FileBinary in = FileBinary.open(src, "rw");
+        FileBinary out = FileBinary.map(dest, MapMode.READ_WRITE);
+        in.setLong(1024 * 1024 - 8, 12306L);
+        in.copy(1024, out, 0, 1024 * 1023);
+        byte[] array = new byte[16];
+        out.copy(1024 * 1023 - 16, Binary.wrap(array), 0, 16);
+        System.out.println(out.getLong(1024 * 1023 - 8) + ", " + Binary.wrap(array).getLong(8));
+        in.close();
+        out.close();
+        src.delete();
+        dest.delete();
+    }
+
+    public static void testDirectBinary() {
+        try (DirectBinary bin = Binary.allocDirect(1024, ByteOrderProcessor.LITTLE_ENDIAN)) {
+            bin.setLong(8, 12306L);
+            bin.setInt(1020, 10086);
+            byte[] bytes = new byte[16];
+            bin.copy(0, Binary.wrap(bytes), 0, 16);
+            System.out.println(bin.getLong(8) + ", " + bin.getInt(1020) + ", " + bytes[8]);
+        }
+        System.out.println(Binary.alloc(64 * 1024 * 1024).getClass().getSimpleName());
+        // Views of chunks, the last chunk is shorter.
+        DirectBinary chunked = new DirectBinary(100, ByteOrderProcessor.LITTLE_ENDIAN, 16);
+        IntArray ints = chunked.asIntArray();
+        LongArray longs = chunked.asLongArray();
+        for (int i = 0; i < ints.length(); i++) {
+            ints.set(i, i * 10086);
+        }
+        for (int i = 0; i < ints.length(); i++) {
+            assert chunked.getInt(i * 4) == i * 10086;
+        }
+        chunked.setLong(88, 12306L);
+        System.out.println(ints.length() + ", " + longs.length() + ", " + longs.get(11) + ", "
+                + chunked.asDoubleArray().length() + ", " + chunked.asShortArray().get(2));
+        chunked.close();
+        try {
+            chunked.asIntArray();
+        } catch (BinaryException e) {
+            System.out.println(e.getMessage());
+        }
+    }
 }
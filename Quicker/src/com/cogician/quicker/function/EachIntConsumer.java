@@ -0,0 +1,58 @@
+package com.cogician.quicker.function;
+
+import java.util.function.IntConsumer;
+
+import com.cogician.quicker.Checker;
+
+/**
+ * <p>
+ * Specialization of {@linkplain IntConsumer} with 2 arguments: a long and an int.
+ * </p>
+ * <p>
+ * This functional interface is designed to operate in a for-each loop, the long argument as index, the int as each
+ * element. This functional interface is expected to operate via side-effects.
+ * </p>
+ * 
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T14:02:37+08:00
+ * @since 0.0.0, 2026-10-16T14:02:37+08:00
+ */
+@FunctionalInterface
+public interface EachIntConsumer {
+
+    /**
+     * <p>
+     * Functional method of this interface, called in each loop.
+     * </p>
+     * 
+     * @param index
+     *            index of current element start from 0
+     * @param element
+     *            current element
+     * @since 0.0.0
+     */
+    public void accept(long index, int element);
+
+    /**
+     * <p>
+     * Returns a composed EachIntConsumer that performs, in sequence, this operation followed by the {@code after}
+     * operation. If performing either operation throws an exception, it is relayed to the caller of the composed
+     * operation. If performing this operation throws an exception, the {@code after} operation will not be performed.
+     * </p>
+     *
+     * @param after
+     *            the operation to perform after this operation
+     * @return a composed EachIntConsumer that performs in sequence this operation followed by the {@code after}
+     *         operation
+     * @throws NullPointerException
+     *             if {@code after} is null
+     * @since 0.0.0
+     */
+    default EachIntConsumer andThen(EachIntConsumer after) throws NullPointerException {
+        Checker.checkNull(after);
+        return (i, e) -> {
+            accept(i, e);
+            after.accept(i, e);
+        };
+    }
+}
@@ -550,13 +550,14 @@ public class MathQuicker {
         if (now == ints.length) {
             return;
         }
-        long rest = v;
+        long others = 1;
         for (int i = 0; i < ints.length; i++) {
             if (i != now) {
-                rest /= ints[i];
+                others *= ints[i];
             }
         }
-        if (v % rest != 0) {
+        long rest = v / others;
+        if (v % others != 0) {
             rest++;
         }
         if (rest < limit) {
@@ -0,0 +1,164 @@
+package com.cogician.quicker.benchmark;
+
+import java.lang.reflect.Array;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cogician.quicker.bigarray.IntArray;
+import com.cogician.quicker.util.MathQuicker;
+
+/**
+ * <p>
+ * Compares random access of big array layouts: two dimensions, paged blocks and the former reflective
+ * multi-dimensional layout.
+ * </p>
+ * <p>
+ * Length of array is fixed, paged and legacy layouts use {@linkplain #blockSize} which makes the array need more than
+ * two dimensions, two dimensions layout uses the smallest block size which keeps two dimensions.
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T10:40:21+08:00
+ * @since 0.0.0, 2026-10-16T10:40:21+08:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BigArrayLayoutBenchmark {
+
+    private static final long LENGTH = 1L << 24;
+
+    private static final int INDEX_MASK = (1 << 12) - 1;
+
+    @Param({ "256", "1024" })
+    private int blockSize;
+
+    private IntArray twoDimensions;
+
+    private IntArray paged;
+
+    private LegacyMultiDimensions legacy;
+
+    private long[] indexes;
+
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        twoDimensions = new IntArray(LENGTH, (int)Math.sqrt(LENGTH), 0, false);
+        paged = new IntArray(LENGTH, blockSize, 0, false);
+        legacy = new LegacyMultiDimensions(LENGTH, blockSize);
+        Random random = new Random(LENGTH);
+        indexes = new long[INDEX_MASK + 1];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = (random.nextLong() & Long.MAX_VALUE) % LENGTH;
+        }
+    }
+
+    private long nextIndex() {
+        return indexes[cursor++ & INDEX_MASK];
+    }
+
+    @Benchmark
+    public int twoDimensionsGet() {
+        return twoDimensions.get(nextIndex());
+    }
+
+    @Benchmark
+    public int pagedGet() {
+        return paged.get(nextIndex());
+    }
+
+    @Benchmark
+    public int legacyGet() {
+        return legacy.get(nextIndex());
+    }
+
+    @Benchmark
+    public void twoDimensionsSet() {
+        twoDimensions.set(nextIndex(), cursor);
+    }
+
+    @Benchmark
+    public void pagedSet() {
+        paged.set(nextIndex(), cursor);
+    }
+
+    @Benchmark
+    public void legacySet() {
+        legacy.set(nextIndex(), cursor);
+    }
+
+    /**
+     * <p>
+     * Replica of former multi-dimensional layout of big array: nested arrays created by reflection, index mapped to
+     * each dimension by division for every access.
+     * </p>
+     *
+     * @author Fred Suvn
+     * @version 0.0.0, 2026-10-16T10:40:21+08:00
+     * @since 0.0.0, 2026-10-16T10:40:21+08:00
+     */
+    private static class LegacyMultiDimensions {
+
+        private final int[] dimensions;
+
+        private final Object source;
+
+        private LegacyMultiDimensions(long length, int blockSize) {
+            this.dimensions = MathQuicker.minPolynomial(length, blockSize);
+            this.source = Array.newInstance(int.class, dimensions);
+        }
+
+        private int[] mapIndexes(long index) {
+            int[] indexes = new int[dimensions.length];
+            for (int i = 0; i < dimensions.length; i++) {
+                long multiply = multiplyFrom(i + 1);
+                indexes[i] = (int)(index / multiply);
+                index %= multiply;
+            }
+            return indexes;
+        }
+
+        private long multiplyFrom(int from) {
+            long result = 1;
+            for (int i = from; i < dimensions.length; i++) {
+                result *= dimensions[i];
+            }
+            return result;
+        }
+
+        private int[] lastDimension(int[] indexes) {
+            Object array = source;
+            for (int i = 0; i < indexes.length - 1; i++) {
+                array = Array.get(array, indexes[i]);
+            }
+            return (int[])array;
+        }
+
+        private int get(long index) {
+            int[] indexes = mapIndexes(index);
+            return lastDimension(indexes)[indexes[indexes.length - 1]];
+        }
+
+        private void set(long index, int value) {
+            int[] indexes = mapIndexes(index);
+            lastDimension(indexes)[indexes[indexes.length - 1]] = value;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.cogician.quicker.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cogician.quicker.binary.Binary;
+import com.cogician.quicker.binary.ByteArrayBinary;
+import com.cogician.quicker.binary.DirectBinary;
+import com.cogician.quicker.binary.FileBinary;
+import com.cogician.quicker.binary.HeapBinary;
+import com.cogician.quicker.binary.MappedFileBinary;
+import com.cogician.quicker.binary.RandomFileBinary;
+
+/**
+ * <p>
+ * Measures {@linkplain Binary#getInt(long)} and {@linkplain Binary#setLong(long, long)} of each binary implementation
+ * in sequential and random access, and bulk {@linkplain Binary#getBytes(long, byte[], int, int)} and
+ * {@linkplain Binary#setBytes(long, byte[], int, int)}. File binaries are backed by a temporary file of same length as
+ * the others.
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T17:10:44+08:00
+ * @since 0.0.0, 2026-10-16T17:10:44+08:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BinaryBenchmark {
+
+    private static final int LENGTH = 1 << 24;
+
+    private static final int INDEX_MASK = (1 << 12) - 1;
+
+    private static final int BULK_SIZE = 8 * 1024;
+
+    @Param({ "heap", "byteArray", "direct", "mappedFile", "mappedRegions", "randomFile" })
+    private String type;
+
+    private Binary binary;
+
+    private File file;
+
+    private long[] indexes;
+
+    private int cursor;
+
+    private long sequence;
+
+    private byte[] bulk = new byte[BULK_SIZE];
+
+    private long bulkIndex;
+
+    @Setup
+    public void setup() throws IOException {
+        switch (type) {
+            case "heap":
+                binary = new HeapBinary(LENGTH);
+                break;
+            case "byteArray":
+                binary = new ByteArrayBinary(new byte[LENGTH]);
+                break;
+            case "direct":
+                binary = new DirectBinary(LENGTH);
+                break;
+            default:
+                file = File.createTempFile("binary", ".bench");
+                try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                    raf.setLength(LENGTH);
+                }
+                if ("mappedFile".equals(type)) {
+                    binary = new MappedFileBinary(file, MapMode.READ_WRITE);
+                } else if ("mappedRegions".equals(type)) {
+                    binary = MappedFileBinary.mapRegions(file, MapMode.READ_WRITE);
+                } else {
+                    binary = new RandomFileBinary(file, "rw");
+                }
+        }
+        Random random = new Random(LENGTH);
+        indexes = new long[INDEX_MASK + 1];
+        for (int i = 0; i < indexes.length; i++) {
+            // Aligned to long so that both int and long access are in bounds.
+            indexes[i] = random.nextInt(LENGTH / Long.BYTES) * (long)Long.BYTES;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (binary instanceof FileBinary) {
+            ((FileBinary)binary).close();
+        } else if (binary instanceof DirectBinary) {
+            ((DirectBinary)binary).close();
+        }
+        if (null != file) {
+            file.delete();
+        }
+    }
+
+    private long nextIndex() {
+        return indexes[cursor++ & INDEX_MASK];
+    }
+
+    private long nextSequence() {
+        long index = sequence;
+        sequence += Long.BYTES;
+        if (sequence == LENGTH) {
+            sequence = 0;
+        }
+        return index;
+    }
+
+    private long nextBulkIndex() {
+        long index = bulkIndex;
+        bulkIndex += BULK_SIZE;
+        if (bulkIndex == LENGTH) {
+            bulkIndex = 0;
+        }
+        return index;
+    }
+
+    @Benchmark
+    public int randomGetInt() {
+        return binary.getInt(nextIndex());
+    }
+
+    @Benchmark
+    public void randomSetLong() {
+        binary.setLong(nextIndex(), cursor);
+    }
+
+    @Benchmark
+    public int sequentialGetInt() {
+        return binary.getInt(nextSequence());
+    }
+
+    @Benchmark
+    public void sequentialSetLong() {
+        binary.setLong(nextSequence(), cursor++);
+    }
+
+    @Benchmark
+    public byte[] bulkGetBytes() {
+        binary.getBytes(nextBulkIndex(), bulk, 0, BULK_SIZE);
+        return bulk;
+    }
+
+    @Benchmark
+    public void bulkSetBytes() {
+        binary.setBytes(nextBulkIndex(), bulk, 0, BULK_SIZE);
+    }
+}
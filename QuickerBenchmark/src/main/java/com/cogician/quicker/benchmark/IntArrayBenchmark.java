@@ -0,0 +1,135 @@
+package com.cogician.quicker.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cogician.quicker.bigarray.BigArray;
+import com.cogician.quicker.bigarray.IntArray;
+
+/**
+ * <p>
+ * Measures {@linkplain IntArray} on each layout: sequential and random get/set of single element, and fill/copy of the
+ * whole array.
+ * </p>
+ * <p>
+ * Length of array is fixed, layout is chosen by block size: one dimension uses the length itself, two dimensions uses
+ * square root of the length, multi-dimensions uses a block size small enough to need a page table, and off-heap uses
+ * default block size. All arrays are allocated in whole, not lazy, so that fill and copy touch every element.
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T17:10:44+08:00
+ * @since 0.0.0, 2026-10-16T17:10:44+08:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IntArrayBenchmark {
+
+    private static final long LENGTH = 1L << 22;
+
+    private static final int INDEX_MASK = (1 << 12) - 1;
+
+    @Param({ "oneDimension", "twoDimensions", "multiDimensions", "offHeap" })
+    private String layout;
+
+    private IntArray array;
+
+    private IntArray dest;
+
+    private long[] indexes;
+
+    private int cursor;
+
+    private long sequence;
+
+    @Setup
+    public void setup() {
+        array = create(layout);
+        dest = create(layout);
+        Random random = new Random(LENGTH);
+        indexes = new long[INDEX_MASK + 1];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = (random.nextLong() & Long.MAX_VALUE) % LENGTH;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        array.close();
+        dest.close();
+    }
+
+    private static IntArray create(String layout) {
+        switch (layout) {
+            case "oneDimension":
+                return new IntArray(LENGTH, (int)LENGTH, 0, false);
+            case "twoDimensions":
+                return new IntArray(LENGTH, (int)Math.sqrt(LENGTH), 0, false);
+            case "multiDimensions":
+                return new IntArray(LENGTH, 256, 0, false);
+            default:
+                return IntArray.offHeap(LENGTH, BigArray.BLOCK_SIZE, 0, false);
+        }
+    }
+
+    private long nextIndex() {
+        return indexes[cursor++ & INDEX_MASK];
+    }
+
+    private long nextSequence() {
+        long index = sequence++;
+        if (sequence == LENGTH) {
+            sequence = 0;
+        }
+        return index;
+    }
+
+    @Benchmark
+    public int randomGet() {
+        return array.get(nextIndex());
+    }
+
+    @Benchmark
+    public void randomSet() {
+        array.set(nextIndex(), cursor);
+    }
+
+    @Benchmark
+    public int sequentialGet() {
+        return array.get(nextSequence());
+    }
+
+    @Benchmark
+    public void sequentialSet() {
+        array.set(nextSequence(), cursor++);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void fill() {
+        array.fill(cursor++);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void copy() {
+        array.copy(dest);
+    }
+}
@@ -0,0 +1,119 @@
+package com.cogician.quicker.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cogician.quicker.binary.Binary;
+import com.cogician.quicker.binary.ByteArrayBinary;
+import com.cogician.quicker.binary.FileBinary;
+import com.cogician.quicker.binary.HeapBinary;
+
+/**
+ * <p>
+ * Measures {@linkplain Binary#getLong(long)} of a file mapped read-only by {@linkplain FileBinary#map(File, MapMode)}
+ * against in-memory binaries of same length, in sequential and random access. Read-only binary cannot be written, so
+ * it is measured apart from {@linkplain BinaryBenchmark}.
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-17T15:20:08+08:00
+ * @since 0.0.0, 2026-10-17T15:20:08+08:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MappedReadOnlyBenchmark {
+
+    private static final int LENGTH = 1 << 26;
+
+    private static final int INDEX_MASK = (1 << 12) - 1;
+
+    @Param({ "heap", "byteArray", "mappedReadOnly" })
+    private String type;
+
+    private Binary binary;
+
+    private File file;
+
+    private long[] indexes;
+
+    private int cursor;
+
+    private long sequence;
+
+    @Setup
+    public void setup() throws IOException {
+        switch (type) {
+            case "heap":
+                binary = new HeapBinary(LENGTH);
+                break;
+            case "byteArray":
+                binary = new ByteArrayBinary(new byte[LENGTH]);
+                break;
+            default:
+                file = File.createTempFile("binary", ".bench");
+                try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                    raf.setLength(LENGTH);
+                }
+                binary = FileBinary.map(file, MapMode.READ_ONLY);
+        }
+        Random random = new Random(LENGTH);
+        indexes = new long[INDEX_MASK + 1];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = random.nextInt(LENGTH / Long.BYTES) * (long)Long.BYTES;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (binary instanceof FileBinary) {
+            ((FileBinary)binary).close();
+        }
+        if (null != file) {
+            file.delete();
+        }
+    }
+
+    private long nextIndex() {
+        return indexes[cursor++ & INDEX_MASK];
+    }
+
+    private long nextSequence() {
+        long index = sequence;
+        sequence += Long.BYTES;
+        if (sequence == LENGTH) {
+            sequence = 0;
+        }
+        return index;
+    }
+
+    @Benchmark
+    public long randomGetLong() {
+        return binary.getLong(nextIndex());
+    }
+
+    @Benchmark
+    public long sequentialGetLong() {
+        return binary.getLong(nextSequence());
+    }
+}
@@ -0,0 +1,108 @@
+package com.cogician.quicker.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.cogician.quicker.binary.QuickInputer;
+import com.cogician.quicker.binary.QuickOutputer;
+
+/**
+ * <p>
+ * Measures throughput of {@linkplain QuickOutputer} and {@linkplain QuickInputer}, both for single values and bulk
+ * bytes. Streams under them discard written bytes and supply endless zeros, so only overhead of the outputer and
+ * inputer themselves is measured.
+ * </p>
+ *
+ * @author Fred Suvn
+ * @version 0.0.0, 2026-10-16T17:10:44+08:00
+ * @since 0.0.0, 2026-10-16T17:10:44+08:00
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class QuickStreamBenchmark {
+
+    private static final int BULK_SIZE = 8 * 1024;
+
+    private QuickOutputer out;
+
+    private QuickInputer in;
+
+    private byte[] bulk;
+
+    private int cursor;
+
+    @Setup
+    public void setup() throws IOException {
+        out = new QuickOutputer(new OutputStream() {
+
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        });
+        in = new QuickInputer(new InputStream() {
+
+            @Override
+            public int read() {
+                return 0;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return len;
+            }
+        });
+        bulk = new byte[BULK_SIZE];
+    }
+
+    @Benchmark
+    public void writeInt() throws IOException {
+        out.writeInt(cursor++);
+    }
+
+    @Benchmark
+    public void writeLong() throws IOException {
+        out.writeLong(cursor++);
+    }
+
+    @Benchmark
+    public void writeBulk() throws IOException {
+        out.write(bulk, 0, BULK_SIZE);
+    }
+
+    @Benchmark
+    public int readInt() throws IOException {
+        return in.readInt();
+    }
+
+    @Benchmark
+    public long readLong() throws IOException {
+        return in.readLong();
+    }
+
+    @Benchmark
+    public byte[] readBulk() throws IOException {
+        in.readFully(bulk, 0, BULK_SIZE);
+        return bulk;
+    }
+}